@@ -34,6 +34,8 @@ public class IntegerSettingImpl extends AbstractSetting<Integer> implements IInt
 
         this.rangedValue = rangedValue;
         this.range = range;
+
+        this.rangedValue.markInterested ();
     }
 
 
@@ -53,6 +55,14 @@ public class IntegerSettingImpl extends AbstractSetting<Integer> implements IInt
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int get ()
+    {
+        return (int) Math.round (this.rangedValue.getRaw ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void addValueObserver (final IValueObserver<Integer> observer)
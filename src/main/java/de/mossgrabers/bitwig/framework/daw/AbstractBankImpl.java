@@ -54,10 +54,10 @@ public abstract class AbstractBankImpl<B extends Bank<?>, T extends IItem> exten
             }
         });
 
-        this.bank.scrollPosition ().markInterested ();
+        this.bank.scrollPosition ().addValueObserver (value -> this.markChanged ());
         this.bank.canScrollBackwards ().markInterested ();
         this.bank.canScrollForwards ().markInterested ();
-        this.bank.itemCount ().markInterested ();
+        this.bank.itemCount ().addValueObserver (value -> this.markChanged ());
     }
 
 
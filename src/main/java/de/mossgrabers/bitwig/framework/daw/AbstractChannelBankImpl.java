@@ -4,11 +4,13 @@
 
 package de.mossgrabers.bitwig.framework.daw;
 
+import de.mossgrabers.bitwig.framework.daw.data.ChannelImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISceneBank;
+import de.mossgrabers.framework.daw.VuMeterValues;
 import de.mossgrabers.framework.daw.data.IChannel;
 
 import com.bitwig.extension.controller.api.Bank;
@@ -24,10 +26,11 @@ import com.bitwig.extension.controller.api.Bank;
  */
 public abstract class AbstractChannelBankImpl<B extends Bank<?>, T extends IChannel> extends AbstractBankImpl<B, T> implements IChannelBank<T>
 {
-    protected final int  numScenes;
-    protected final int  numSends;
+    protected final int           numScenes;
+    protected final int           numSends;
+    protected final VuMeterValues vuMeters;
 
-    protected ISceneBank sceneBank;
+    protected ISceneBank          sceneBank;
 
 
     /**
@@ -46,6 +49,7 @@ public abstract class AbstractChannelBankImpl<B extends Bank<?>, T extends IChan
 
         this.numScenes = numScenes;
         this.numSends = numSends;
+        this.vuMeters = new VuMeterValues (numTracks, ChannelImpl.MAX_RESOLUTION);
     }
 
 
@@ -76,4 +80,12 @@ public abstract class AbstractChannelBankImpl<B extends Bank<?>, T extends IChan
     {
         return this.sceneBank;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public VuMeterValues getVuMeters ()
+    {
+        return this.vuMeters;
+    }
 }
@@ -117,6 +117,11 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBankImpl<Trac
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new TrackImpl (this.host, this.valueChanger, this.application, this.cursorTrack, this.rootGroup, this.bank.getItemAt (i), i, this.numSends, this.numScenes));
+        {
+            final TrackImpl track = new TrackImpl (this.host, this.valueChanger, this.application, this.cursorTrack, this.rootGroup, this.bank.getItemAt (i), i, this.numSends, this.numScenes);
+            track.setVuMeters (this.vuMeters);
+            track.setChangeObserver (this::markChanged);
+            this.items.add (track);
+        }
     }
 }
\ No newline at end of file
@@ -6,16 +6,19 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.INoteClip;
+import de.mossgrabers.framework.daw.StepData;
 
 import com.bitwig.extension.controller.api.Clip;
 import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.SettableColorValue;
 
-import java.util.Arrays;
-
 
 /**
- * Proxy to the Bitwig Cursor clip.
+ * Proxy to the Bitwig Cursor clip. Optionally, the notes of several step pages are cached by an
+ * additional cursor clip, which is as wide as all pages. It is never scrolled and Bitwig keeps its
+ * notes up to date. While the edit page is inside of the cached pages, the notes are read from the
+ * cache. Therefore, paging shows the notes immediately instead of waiting for the step data of the
+ * scrolled clip. The cache clip is only observed while the clip is used.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -26,11 +29,14 @@ public class CursorClipImpl implements INoteClip
     private int                  numSteps;
     private int                  numRows;
 
-    private final int [] []      launcherData;
-    private final int [] []      arrangerData;
+    private final StepData       launcherData;
+    private final StepData       arrangerData;
+    private final StepData       cacheData;
     private Clip                 launcherClip;
     private Clip                 arrangerClip;
-    private int                  editPage = 0;
+    private final Clip           cacheClip;
+    private int                  editPage        = 0;
+    private boolean              isCacheObserved = true;
     private double               stepLength;
 
 
@@ -41,8 +47,10 @@ public class CursorClipImpl implements INoteClip
      * @param valueChanger The value changer
      * @param numSteps The number of steps of the clip to monitor
      * @param numRows The number of note rows of the clip to monitor
+     * @param hasArrangerClip If false, only the launcher clip is monitored
+     * @param numCachedPages The number of step pages to cache, 0 to disable the cache
      */
-    public CursorClipImpl (final ControllerHost host, final IValueChanger valueChanger, final int numSteps, final int numRows)
+    public CursorClipImpl (final ControllerHost host, final IValueChanger valueChanger, final int numSteps, final int numRows, final boolean hasArrangerClip, final int numCachedPages)
     {
         this.valueChanger = valueChanger;
         this.host = host;
@@ -51,19 +59,8 @@ public class CursorClipImpl implements INoteClip
         this.numRows = numRows;
         this.stepLength = 1.0 / 4.0; // 16th
 
-        this.launcherData = new int [this.numSteps] [];
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            this.launcherData[step] = new int [this.numRows];
-            Arrays.fill (this.launcherData[step], 0);
-        }
-
-        this.arrangerData = new int [this.numSteps] [];
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            this.arrangerData[step] = new int [this.numRows];
-            Arrays.fill (this.arrangerData[step], 0);
-        }
+        this.launcherData = new StepData (this.numSteps, this.numRows);
+        this.arrangerData = hasArrangerClip ? new StepData (this.numSteps, this.numRows) : this.launcherData;
 
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = host.createLauncherCursorClip (this.numSteps, this.numRows);
@@ -83,6 +80,26 @@ public class CursorClipImpl implements INoteClip
         this.launcherClip.canScrollStepsForwards ().markInterested ();
         this.launcherClip.color ().markInterested ();
 
+        if (numCachedPages > 0 && this.numSteps > 0 && this.numRows > 0)
+        {
+            this.cacheData = new StepData (this.numSteps * numCachedPages, this.numRows);
+            this.cacheClip = host.createLauncherCursorClip (this.cacheData.getNumSteps (), this.numRows);
+            this.cacheClip.addStepDataObserver (this::handleCacheData);
+            this.cacheClip.exists ().markInterested ();
+        }
+        else
+        {
+            this.cacheData = null;
+            this.cacheClip = null;
+        }
+
+        if (!hasArrangerClip)
+        {
+            // Use the launcher clip in both cases
+            this.arrangerClip = this.launcherClip;
+            return;
+        }
+
         this.arrangerClip = host.createLauncherCursorClip (this.numSteps, this.numRows);
 
         this.arrangerClip.addStepDataObserver (this::handleStepData);
@@ -106,7 +123,8 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void enableObservers (final boolean enable)
     {
-        this.launcherClip.exists ().setIsSubscribed (enable);
+        // The existence is always monitored, since it is checked by commands independent from the
+        // active view
         this.launcherClip.playingStep ().setIsSubscribed (enable);
         this.launcherClip.getPlayStart ().setIsSubscribed (enable);
         this.launcherClip.getPlayStop ().setIsSubscribed (enable);
@@ -119,7 +137,6 @@ public class CursorClipImpl implements INoteClip
         this.launcherClip.canScrollStepsForwards ().setIsSubscribed (enable);
         this.launcherClip.color ().setIsSubscribed (enable);
 
-        this.arrangerClip.exists ().setIsSubscribed (enable);
         this.arrangerClip.playingStep ().setIsSubscribed (enable);
         this.arrangerClip.getPlayStart ().setIsSubscribed (enable);
         this.arrangerClip.getPlayStop ().setIsSubscribed (enable);
@@ -131,6 +148,15 @@ public class CursorClipImpl implements INoteClip
         this.arrangerClip.canScrollStepsBackwards ().setIsSubscribed (enable);
         this.arrangerClip.canScrollStepsForwards ().setIsSubscribed (enable);
         this.arrangerClip.color ().setIsSubscribed (enable);
+
+        if (this.cacheClip == null || this.isCacheObserved == enable)
+            return;
+        this.isCacheObserved = enable;
+        // All notes are sent again after subscribing, clear the old ones since notes which are
+        // removed in the meantime would stay in the cache
+        if (!enable)
+            this.cacheData.clear ();
+        this.cacheClip.setIsSubscribed (enable);
     }
 
 
@@ -372,7 +398,19 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getStep (final int step, final int row)
     {
-        return row < 0 ? 0 : this.getData ()[step][row];
+        if (this.isCached ())
+            return step < 0 || step >= this.numSteps ? NOTE_OFF : this.cacheData.get (this.getCacheOffset () + step, row);
+        return this.getData ().get (step, row);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnState (final int step)
+    {
+        if (this.isCached ())
+            return step < 0 || step >= this.numSteps ? NOTE_OFF : this.cacheData.getColumnState (this.getCacheOffset () + step);
+        return this.getData ().getColumnState (step);
     }
 
 
@@ -412,13 +450,9 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int row)
     {
-        final int [] [] data = this.getData ();
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            if (data[step][row] > 0)
-                return true;
-        }
-        return false;
+        if (this.isCached ())
+            return this.getNextStepWithData (row, 0) >= 0;
+        return this.getData ().hasRowData (row);
     }
 
 
@@ -426,9 +460,16 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowerRowWithData ()
     {
-        for (int row = 0; row < this.numRows; row++)
+        if (!this.isCached ())
+            return this.getData ().getLowerRowWithData ();
+
+        // The rows of the whole cache limit the search
+        final int upper = this.cacheData.getUpperRowWithData ();
+        for (int row = this.cacheData.getLowerRowWithData (); row >= 0 && row <= upper; row++)
+        {
             if (this.hasRowData (row))
                 return row;
+        }
         return -1;
     }
 
@@ -437,13 +478,50 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getUpperRowWithData ()
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
+        if (!this.isCached ())
+            return this.getData ().getUpperRowWithData ();
+
+        // The rows of the whole cache limit the search
+        final int lower = this.cacheData.getLowerRowWithData ();
+        for (int row = this.cacheData.getUpperRowWithData (); row >= 0 && row >= lower; row--)
+        {
             if (this.hasRowData (row))
                 return row;
+        }
         return -1;
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getNextStepWithData (final int row, final int step)
+    {
+        if (!this.isCached ())
+            return this.getData ().getNextStepWithData (row, step);
+
+        if (step >= this.numSteps)
+            return -1;
+        final int offset = this.getCacheOffset ();
+        final int result = this.cacheData.getNextStepWithData (row, offset + Math.max (0, step));
+        return result < 0 || result >= offset + this.numSteps ? -1 : result - offset;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPreviousStepWithData (final int row, final int step)
+    {
+        if (!this.isCached ())
+            return this.getData ().getPreviousStepWithData (row, step);
+
+        if (step < 0)
+            return -1;
+        final int offset = this.getCacheOffset ();
+        final int result = this.cacheData.getPreviousStepWithData (row, offset + Math.min (this.numSteps - 1, step));
+        return result < offset ? -1 : result - offset;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setStepLength (final double length)
@@ -451,6 +529,8 @@ public class CursorClipImpl implements INoteClip
         this.stepLength = length;
         this.launcherClip.setStepSize (length);
         this.arrangerClip.setStepSize (length);
+        if (this.cacheClip != null)
+            this.cacheClip.setStepSize (length);
     }
 
 
@@ -553,21 +633,48 @@ public class CursorClipImpl implements INoteClip
 
     private void handleStepData (final int col, final int row, final int state)
     {
-        final int [] [] data = this.getData ();
-
-        if (col >= data.length)
+        if (col >= this.numSteps)
         {
             this.host.errorln ("Step data was sent for column " + col + " (zero based) but only " + this.numSteps + " were requested.");
             return;
         }
-        if (row >= data[col].length)
+        if (row >= this.numRows)
         {
             this.host.errorln ("Step data was sent for row " + row + " (zero based) but only " + this.numRows + " were requested.");
             return;
         }
 
         // state: step is empty (0) or a note continues playing (1) or starts playing (2)
-        data[col][row] = state;
+        this.getData ().set (col, row, state);
+    }
+
+
+    private void handleCacheData (final int col, final int row, final int state)
+    {
+        if (col < this.cacheData.getNumSteps () && row < this.numRows)
+            this.cacheData.set (col, row, state);
+    }
+
+
+    /**
+     * Check if the notes of the current edit page can be read from the cache.
+     *
+     * @return True if the cache exists and the page is one of the cached pages
+     */
+    private boolean isCached ()
+    {
+        return this.cacheClip != null && this.isCacheObserved && this.cacheClip.exists ().get () && this.getCacheOffset () + this.numSteps <= this.cacheData.getNumSteps ();
+    }
+
+
+    /**
+     * Get the index of the first step of the edit page in the cache.
+     *
+     * @return The index
+     */
+    private int getCacheOffset ()
+    {
+        return this.editPage * this.numSteps;
     }
 
 
@@ -577,7 +684,7 @@ public class CursorClipImpl implements INoteClip
     }
 
 
-    private int [] [] getData ()
+    private StepData getData ()
     {
         return this.launcherClip.exists ().get () ? this.launcherData : this.arrangerData;
     }
@@ -48,7 +48,11 @@ public class DeviceBankImpl extends AbstractBankImpl<DeviceBank, IDevice> implem
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new DeviceImpl (this.bank.getItemAt (i), i));
+        {
+            final DeviceImpl device = new DeviceImpl (this.bank.getItemAt (i), i);
+            device.setChangeObserver (this::markChanged);
+            this.items.add (device);
+        }
     }
 
 
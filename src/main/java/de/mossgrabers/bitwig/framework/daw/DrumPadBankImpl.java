@@ -53,7 +53,10 @@ public class DrumPadBankImpl extends AbstractChannelBankImpl<DrumPadBank, IDrumP
         for (int i = 0; i < this.pageSize; i++)
         {
             final DrumPad deviceLayer = this.bank.getItemAt (i);
-            this.items.add (new DrumPadImpl (this.host, this.valueChanger, deviceLayer, i, this.numSends, this.numDevices));
+            final DrumPadImpl drumPad = new DrumPadImpl (this.host, this.valueChanger, deviceLayer, i, this.numSends, this.numDevices);
+            drumPad.setVuMeters (this.vuMeters);
+            drumPad.setChangeObserver (this::markChanged);
+            this.items.add (drumPad);
         }
     }
 
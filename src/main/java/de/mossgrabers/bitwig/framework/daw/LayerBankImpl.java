@@ -59,7 +59,10 @@ public class LayerBankImpl extends AbstractChannelBankImpl<DeviceLayerBank, ILay
         for (int i = 0; i < this.pageSize; i++)
         {
             final DeviceLayer deviceLayer = this.bank.getItemAt (i);
-            this.items.add (new LayerImpl (this.host, this.valueChanger, deviceLayer, i, this.numSends, this.numDevices));
+            final LayerImpl layer = new LayerImpl (this.host, this.valueChanger, deviceLayer, i, this.numSends, this.numDevices);
+            layer.setVuMeters (this.vuMeters);
+            layer.setChangeObserver (this::markChanged);
+            this.items.add (layer);
         }
     }
 
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.daw.DataSetup;
 import de.mossgrabers.framework.daw.IClip;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.ISceneBank;
+import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.ModelSetup;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.FrameworkException;
@@ -27,6 +28,7 @@ import com.bitwig.extension.controller.api.Track;
 import com.bitwig.extension.controller.api.TrackBank;
 import com.bitwig.extension.controller.api.UserControlBank;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -38,13 +40,15 @@ import java.util.Map;
  */
 public class ModelImpl extends AbstractModel
 {
-    private static final int               ALL_TRACKS = 1000;
-
     private final ControllerHost           controllerHost;
     private final CursorTrack              cursorTrack;
     private final BooleanValue             masterTrackEqualsValue;
-    private final Map<Integer, ISceneBank> sceneBanks = new HashMap<> (1);
+    private final Map<Integer, ISceneBank> sceneBanks   = new HashMap<> (1);
     private final TrackBank                muteSoloTrackBank;
+    private final BitSet                   soloedTracks = new BitSet ();
+    private final BitSet                   mutedTracks  = new BitSet ();
+    private int                            soloCount;
+    private int                            muteCount;
 
     private Track                          rootTrackGroup;
 
@@ -85,44 +89,67 @@ public class ModelImpl extends AbstractModel
         final MasterTrack master = controllerHost.createMasterTrack (0);
         this.masterTrack = new MasterTrackImpl (this.host, this.valueChanger, master, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application);
 
-        final TrackBank tb;
         final int numTracks = this.modelSetup.getNumTracks ();
         final int numSends = this.modelSetup.getNumSends ();
         final int numScenes = this.modelSetup.getNumScenes ();
+        final TrackBank tb = this.createTrackBank (numTracks, numSends, numScenes);
         if (this.modelSetup.hasFlatTrackList ())
-        {
-            if (this.modelSetup.hasFullFlatTrackList ())
-                tb = controllerHost.createTrackBank (numTracks, numSends, numScenes, true);
-            else
-                tb = controllerHost.createMainTrackBank (numTracks, numSends, numScenes);
             tb.followCursorTrack (this.cursorTrack);
-        }
-        else
-            tb = this.cursorTrack.createSiblingsTrackBank (numTracks, numSends, numScenes, false, false);
 
-        this.trackBank = new TrackBankImpl (this.host, this.valueChanger, tb, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application, numTracks, numScenes, numSends);
+        final TrackBankImpl tbi = new TrackBankImpl (this.host, this.valueChanger, tb, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application, numTracks, numScenes, numSends);
+        if (this.modelSetup.hasPageCache () && numTracks > 0 && numScenes > 0)
+        {
+            // The neighbour pages only need the values which are displayed in the session view
+            final TrackBank [] neighbours = new TrackBank [PagePreview.NUM_PAGES];
+            for (int i = 0; i < neighbours.length; i++)
+                neighbours[i] = this.createTrackBank (numTracks, 0, numScenes);
+            tbi.setPagePreview (new PagePreview (this.host, tb, neighbours, numTracks, numScenes));
+        }
+        this.trackBank = tbi;
         final TrackBank effectTrackBank = controllerHost.createEffectTrackBank (numTracks, numScenes);
         this.effectTrackBank = new EffectTrackBankImpl (this.host, this.valueChanger, effectTrackBank, this.cursorTrack, this.rootTrackGroup, (ApplicationImpl) this.application, numTracks, numScenes, this.trackBank);
 
-        this.muteSoloTrackBank = controllerHost.createTrackBank (ALL_TRACKS, 0, 0, true);
-        for (int i = 0; i < ALL_TRACKS; i++)
-            this.muteSoloTrackBank.getItemAt (i).solo ().markInterested ();
+        // Keep track of the soloed and muted tracks with observers, instead of checking all
+        // tracks every time. The mute states are only monitored if requested.
+        final int numMuteSoloTracks = this.modelSetup.getNumMuteSoloTracks ();
+        if (numMuteSoloTracks > 0)
+        {
+            final boolean hasMuteStates = this.modelSetup.hasMuteStates ();
+            this.muteSoloTrackBank = controllerHost.createTrackBank (numMuteSoloTracks, 0, 0, true);
+            for (int i = 0; i < numMuteSoloTracks; i++)
+            {
+                final int index = i;
+                final Track track = this.muteSoloTrackBank.getItemAt (i);
+                track.solo ().addValueObserver (isSolo -> this.soloCount += updateState (this.soloedTracks, index, isSolo));
+                if (hasMuteStates)
+                    track.mute ().addValueObserver (isMute -> this.muteCount += updateState (this.mutedTracks, index, isMute));
+            }
+        }
+        else
+            this.muteSoloTrackBank = null;
 
         final int numParams = this.modelSetup.getNumParams ();
         final int numDeviceLayers = this.modelSetup.getNumDeviceLayers ();
         final int numDrumPadLayers = this.modelSetup.getNumDrumPadLayers ();
         final int numDevicesInBank = this.modelSetup.getNumDevicesInBank ();
-        this.instrumentDevice = new CursorDeviceImpl (this.host, this.valueChanger, this.cursorTrack.createCursorDevice ("FIRST_INSTRUMENT", "First Instrument", numSends, CursorDeviceFollowMode.FIRST_INSTRUMENT), numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
+        // Bitwig allows to create proxies only during initialisation, therefore the optional
+        // components are either created here or never
+        if (this.modelSetup.hasInstrumentDevice ())
+            this.instrumentDevice = new CursorDeviceImpl (this.host, this.valueChanger, this.cursorTrack.createCursorDevice ("FIRST_INSTRUMENT", "First Instrument", numSends, CursorDeviceFollowMode.FIRST_INSTRUMENT), numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
         PinnableCursorDevice cd = this.cursorTrack.createCursorDevice ("CURSOR_DEVICE", "Cursor device", numSends, CursorDeviceFollowMode.FOLLOW_SELECTION);
         this.cursorDevice = new CursorDeviceImpl (this.host, this.valueChanger, cd, numSends, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
-        if (numDrumPadLayers > 0)
+        if (numDrumPadLayers > 0 && this.modelSetup.hasDrumDevice64 ())
         {
             cd = this.cursorTrack.createCursorDevice ("64_DRUM_PADS", "64 Drum Pads", 0, CursorDeviceFollowMode.FIRST_INSTRUMENT);
             this.drumDevice64 = new CursorDeviceImpl (this.host, this.valueChanger, cd, 0, 0, -1, 64, 64);
         }
 
-        final UserControlBank userControls = this.controllerHost.createUserControls (64);
-        this.userParameterBank = new UserParameterBankImpl (this.host, this.valueChanger, userControls, 64, 8);
+        final int numUserParams = this.modelSetup.getNumUserParams ();
+        if (numUserParams > 0)
+        {
+            final UserControlBank userControls = this.controllerHost.createUserControls (numUserParams);
+            this.userParameterBank = new UserParameterBankImpl (this.host, this.valueChanger, userControls, numUserParams, Math.min (8, numUserParams));
+        }
 
         final int numResults = this.modelSetup.getNumResults ();
         if (numResults > 0)
@@ -135,6 +162,24 @@ public class ModelImpl extends AbstractModel
     }
 
 
+    /**
+     * Create a Bitwig track bank, which type depends on the model setup.
+     *
+     * @param numTracks The number of tracks of a bank page
+     * @param numSends The number of sends of a bank page
+     * @param numScenes The number of scenes of a bank page
+     * @return The track bank
+     */
+    private TrackBank createTrackBank (final int numTracks, final int numSends, final int numScenes)
+    {
+        if (!this.modelSetup.hasFlatTrackList ())
+            return this.cursorTrack.createSiblingsTrackBank (numTracks, numSends, numScenes, false, false);
+        if (this.modelSetup.hasFullFlatTrackList ())
+            return this.controllerHost.createTrackBank (numTracks, numSends, numScenes, true);
+        return this.controllerHost.createMainTrackBank (numTracks, numSends, numScenes);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean isCursorTrackPinned ()
@@ -175,9 +220,30 @@ public class ModelImpl extends AbstractModel
     @Override
     public boolean hasSolo ()
     {
-        for (int i = 0; i < ALL_TRACKS; i++)
+        if (this.muteSoloTrackBank != null)
+            return this.soloCount > 0;
+
+        final ITrackBank tb = this.getCurrentTrackBank ();
+        for (int i = 0; i < tb.getPageSize (); i++)
         {
-            if (this.muteSoloTrackBank.getItemAt (i).solo ().get ())
+            if (tb.getItem (i).isSolo ())
+                return true;
+        }
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasMute ()
+    {
+        if (this.muteSoloTrackBank != null && this.modelSetup.hasMuteStates ())
+            return this.muteCount > 0;
+
+        final ITrackBank tb = this.getCurrentTrackBank ();
+        for (int i = 0; i < tb.getPageSize (); i++)
+        {
+            if (tb.getItem (i).isMute ())
                 return true;
         }
         return false;
@@ -188,7 +254,16 @@ public class ModelImpl extends AbstractModel
     @Override
     public void clearSolo ()
     {
-        for (int i = 0; i < ALL_TRACKS; i++)
+        if (this.muteSoloTrackBank == null)
+        {
+            final ITrackBank tb = this.getCurrentTrackBank ();
+            for (int i = 0; i < tb.getPageSize (); i++)
+                tb.getItem (i).setSolo (false);
+            return;
+        }
+
+        // The bits are cleared by the observers
+        for (int i = this.soloedTracks.nextSetBit (0); i >= 0; i = this.soloedTracks.nextSetBit (i + 1))
             this.muteSoloTrackBank.getItemAt (i).solo ().set (false);
     }
 
@@ -197,16 +272,50 @@ public class ModelImpl extends AbstractModel
     @Override
     public void clearMute ()
     {
-        for (int i = 0; i < ALL_TRACKS; i++)
+        if (this.muteSoloTrackBank == null)
+        {
+            final ITrackBank tb = this.getCurrentTrackBank ();
+            for (int i = 0; i < tb.getPageSize (); i++)
+                tb.getItem (i).setMute (false);
+            return;
+        }
+
+        if (!this.modelSetup.hasMuteStates ())
+        {
+            final int numMuteSoloTracks = this.modelSetup.getNumMuteSoloTracks ();
+            for (int i = 0; i < numMuteSoloTracks; i++)
+                this.muteSoloTrackBank.getItemAt (i).mute ().set (false);
+            return;
+        }
+
+        // The bits are cleared by the observers
+        for (int i = this.mutedTracks.nextSetBit (0); i >= 0; i = this.mutedTracks.nextSetBit (i + 1))
             this.muteSoloTrackBank.getItemAt (i).mute ().set (false);
     }
 
 
+    /**
+     * Update the state of a track in a bit set.
+     *
+     * @param states The bit set with the states of all tracks
+     * @param index The index of the track
+     * @param isSet The new state
+     * @return The change of the number of set states: 1, -1 or 0
+     */
+    private static int updateState (final BitSet states, final int index, final boolean isSet)
+    {
+        if (states.get (index) == isSet)
+            return 0;
+        states.set (index, isSet);
+        return isSet ? 1 : -1;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public INoteClip getNoteClip (final int cols, final int rows)
     {
-        return (INoteClip) this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> new CursorClipImpl (this.controllerHost, this.valueChanger, cols, rows));
+        return (INoteClip) this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> new CursorClipImpl (this.controllerHost, this.valueChanger, cols, rows, this.modelSetup.hasArrangerClip (), this.modelSetup.getNumCachedClipPages ()));
     }
 
 
@@ -216,6 +325,13 @@ public class ModelImpl extends AbstractModel
     {
         if (this.cursorClips.isEmpty ())
             throw new FrameworkException ("No cursor clip created!");
+
+        // Prefer a clip which observers are enabled
+        for (final IClip clip: this.cursorClips.values ())
+        {
+            if (this.observerSubscriptions.isEnabled (clip))
+                return clip;
+        }
         return this.cursorClips.values ().iterator ().next ();
     }
 
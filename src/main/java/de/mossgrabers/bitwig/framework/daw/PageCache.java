@@ -0,0 +1,360 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import com.bitwig.extension.controller.api.ClipLauncherSlot;
+import com.bitwig.extension.controller.api.Scene;
+import com.bitwig.extension.controller.api.SceneBank;
+import com.bitwig.extension.controller.api.Track;
+import com.bitwig.extension.controller.api.TrackBank;
+
+import java.util.Arrays;
+
+
+/**
+ * Caches the names, colors and states of the tracks, scenes and clip slots of a page of a track
+ * bank in compact arrays. The values are kept up to date by observers of the (hidden) track bank.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PageCache
+{
+    /** Flag for an existing track, scene or slot. */
+    public static final int  EXISTS           = 1;
+    /** Flag for a group track. */
+    public static final int  GROUP            = 2;
+    /** Flag for a slot with a clip. */
+    public static final int  HAS_CONTENT      = 2;
+    /** Flag for a playing slot. */
+    public static final int  PLAYING          = 4;
+    /** Flag for a slot which is queued for playback. */
+    public static final int  PLAYBACK_QUEUED  = 8;
+    /** Flag for a recording slot. */
+    public static final int  RECORDING        = 16;
+    /** Flag for a slot which is queued for recording. */
+    public static final int  RECORDING_QUEUED = 32;
+    /** Flag for a slot which is queued for stopping. */
+    public static final int  STOP_QUEUED      = 64;
+
+    private final TrackBank  bank;
+    private final int        numTracks;
+    private final int        numScenes;
+
+    private final byte []    trackFlags;
+    private final String []  trackNames;
+    private final float []   trackColors;
+    private final byte []    sceneFlags;
+    private final String []  sceneNames;
+    private final float []   sceneColors;
+    private final byte []    slotFlags;
+    private final String []  slotNames;
+    private final float []   slotColors;
+
+    private int              trackPosition    = -1;
+    private int              scenePosition    = -1;
+
+
+    /**
+     * Constructor.
+     *
+     * @param bank The track bank which pages are cached, it is scrolled by the cache
+     * @param numTracks The number of tracks of a page
+     * @param numScenes The number of scenes of a page
+     */
+    public PageCache (final TrackBank bank, final int numTracks, final int numScenes)
+    {
+        this.bank = bank;
+        this.numTracks = numTracks;
+        this.numScenes = numScenes;
+
+        this.trackFlags = new byte [numTracks];
+        this.trackNames = new String [numTracks];
+        this.trackColors = new float [3 * numTracks];
+        this.sceneFlags = new byte [numScenes];
+        this.sceneNames = new String [numScenes];
+        this.sceneColors = new float [3 * numScenes];
+        this.slotFlags = new byte [numTracks * numScenes];
+        this.slotNames = new String [numTracks * numScenes];
+        this.slotColors = new float [3 * numTracks * numScenes];
+        Arrays.fill (this.trackNames, "");
+        Arrays.fill (this.sceneNames, "");
+        Arrays.fill (this.slotNames, "");
+
+        bank.scrollPosition ().markInterested ();
+        bank.sceneBank ().scrollPosition ().markInterested ();
+
+        for (int t = 0; t < numTracks; t++)
+        {
+            final int trackIndex = t;
+            final Track track = bank.getItemAt (t);
+            track.exists ().addValueObserver (value -> setFlag (this.trackFlags, trackIndex, EXISTS, value));
+            track.isGroup ().addValueObserver (value -> setFlag (this.trackFlags, trackIndex, GROUP, value));
+            track.name ().addValueObserver (value -> this.trackNames[trackIndex] = value);
+            track.color ().addValueObserver ( (red, green, blue) -> setColor (this.trackColors, trackIndex, red, green, blue));
+
+            for (int s = 0; s < numScenes; s++)
+            {
+                final int slotIndex = t * numScenes + s;
+                final ClipLauncherSlot slot = track.clipLauncherSlotBank ().getItemAt (s);
+                slot.exists ().addValueObserver (value -> setFlag (this.slotFlags, slotIndex, EXISTS, value));
+                slot.hasContent ().addValueObserver (value -> setFlag (this.slotFlags, slotIndex, HAS_CONTENT, value));
+                slot.isPlaying ().addValueObserver (value -> setFlag (this.slotFlags, slotIndex, PLAYING, value));
+                slot.isPlaybackQueued ().addValueObserver (value -> setFlag (this.slotFlags, slotIndex, PLAYBACK_QUEUED, value));
+                slot.isRecording ().addValueObserver (value -> setFlag (this.slotFlags, slotIndex, RECORDING, value));
+                slot.isRecordingQueued ().addValueObserver (value -> setFlag (this.slotFlags, slotIndex, RECORDING_QUEUED, value));
+                slot.isStopQueued ().addValueObserver (value -> setFlag (this.slotFlags, slotIndex, STOP_QUEUED, value));
+                slot.name ().addValueObserver (value -> this.slotNames[slotIndex] = value);
+                slot.color ().addValueObserver ( (red, green, blue) -> setColor (this.slotColors, slotIndex, red, green, blue));
+            }
+        }
+
+        final SceneBank sceneBank = bank.sceneBank ();
+        for (int s = 0; s < numScenes; s++)
+        {
+            final int sceneIndex = s;
+            final Scene scene = sceneBank.getItemAt (s);
+            scene.exists ().addValueObserver (value -> setFlag (this.sceneFlags, sceneIndex, EXISTS, value));
+            scene.name ().addValueObserver (value -> this.sceneNames[sceneIndex] = value);
+            scene.color ().addValueObserver ( (red, green, blue) -> setColor (this.sceneColors, sceneIndex, red, green, blue));
+        }
+    }
+
+
+    /**
+     * Enable or disable the observers of the cached values.
+     *
+     * @param enable True to enable
+     */
+    public void enableObservers (final boolean enable)
+    {
+        this.bank.scrollPosition ().setIsSubscribed (enable);
+        this.bank.sceneBank ().scrollPosition ().setIsSubscribed (enable);
+
+        for (int t = 0; t < this.numTracks; t++)
+        {
+            final Track track = this.bank.getItemAt (t);
+            track.exists ().setIsSubscribed (enable);
+            track.isGroup ().setIsSubscribed (enable);
+            track.name ().setIsSubscribed (enable);
+            track.color ().setIsSubscribed (enable);
+
+            for (int s = 0; s < this.numScenes; s++)
+            {
+                final ClipLauncherSlot slot = track.clipLauncherSlotBank ().getItemAt (s);
+                slot.exists ().setIsSubscribed (enable);
+                slot.hasContent ().setIsSubscribed (enable);
+                slot.isPlaying ().setIsSubscribed (enable);
+                slot.isPlaybackQueued ().setIsSubscribed (enable);
+                slot.isRecording ().setIsSubscribed (enable);
+                slot.isRecordingQueued ().setIsSubscribed (enable);
+                slot.isStopQueued ().setIsSubscribed (enable);
+                slot.name ().setIsSubscribed (enable);
+                slot.color ().setIsSubscribed (enable);
+            }
+        }
+
+        final SceneBank sceneBank = this.bank.sceneBank ();
+        for (int s = 0; s < this.numScenes; s++)
+        {
+            final Scene scene = sceneBank.getItemAt (s);
+            scene.exists ().setIsSubscribed (enable);
+            scene.name ().setIsSubscribed (enable);
+            scene.color ().setIsSubscribed (enable);
+        }
+    }
+
+
+    /**
+     * Scroll the cached page.
+     *
+     * @param trackPosition The position of the first track of the page, a negative value
+     *            invalidates the cache
+     * @param scenePosition The position of the first scene of the page, a negative value
+     *            invalidates the cache
+     */
+    public void scrollTo (final int trackPosition, final int scenePosition)
+    {
+        this.trackPosition = trackPosition;
+        this.scenePosition = scenePosition;
+        if (this.trackPosition < 0 || this.scenePosition < 0)
+            return;
+        this.bank.scrollPosition ().set (trackPosition);
+        this.bank.sceneBank ().scrollPosition ().set (scenePosition);
+    }
+
+
+    /**
+     * Check if the cache contains the values of the requested page.
+     *
+     * @return True if the page was scrolled to the requested position
+     */
+    public boolean isValid ()
+    {
+        return this.trackPosition >= 0 && this.scenePosition >= 0 && this.bank.scrollPosition ().get () == this.trackPosition && this.bank.sceneBank ().scrollPosition ().get () == this.scenePosition;
+    }
+
+
+    /**
+     * Get the position of the first track of the cached page.
+     *
+     * @return The position
+     */
+    public int getTrackPosition ()
+    {
+        return this.trackPosition;
+    }
+
+
+    /**
+     * Get the position of the first scene of the cached page.
+     *
+     * @return The position
+     */
+    public int getScenePosition ()
+    {
+        return this.scenePosition;
+    }
+
+
+    /**
+     * Get the flags of a track.
+     *
+     * @param track The index of the track in the page
+     * @return The flags, see the constants
+     */
+    public int getTrackFlags (final int track)
+    {
+        return this.trackFlags[track];
+    }
+
+
+    /**
+     * Get the name of a track.
+     *
+     * @param track The index of the track in the page
+     * @return The name
+     */
+    public String getTrackName (final int track)
+    {
+        return this.trackNames[track];
+    }
+
+
+    /**
+     * Get the color of a track.
+     *
+     * @param track The index of the track in the page
+     * @return The red, green and blue value
+     */
+    public double [] getTrackColor (final int track)
+    {
+        return getColor (this.trackColors, track);
+    }
+
+
+    /**
+     * Get the flags of a scene.
+     *
+     * @param scene The index of the scene in the page
+     * @return The flags, see the constants
+     */
+    public int getSceneFlags (final int scene)
+    {
+        return this.sceneFlags[scene];
+    }
+
+
+    /**
+     * Get the name of a scene.
+     *
+     * @param scene The index of the scene in the page
+     * @return The name
+     */
+    public String getSceneName (final int scene)
+    {
+        return this.sceneNames[scene];
+    }
+
+
+    /**
+     * Get the color of a scene.
+     *
+     * @param scene The index of the scene in the page
+     * @return The red, green and blue value
+     */
+    public double [] getSceneColor (final int scene)
+    {
+        return getColor (this.sceneColors, scene);
+    }
+
+
+    /**
+     * Get the flags of a slot.
+     *
+     * @param track The index of the track in the page
+     * @param scene The index of the scene in the page
+     * @return The flags, see the constants
+     */
+    public int getSlotFlags (final int track, final int scene)
+    {
+        return this.slotFlags[track * this.numScenes + scene];
+    }
+
+
+    /**
+     * Get the name of a slot.
+     *
+     * @param track The index of the track in the page
+     * @param scene The index of the scene in the page
+     * @return The name
+     */
+    public String getSlotName (final int track, final int scene)
+    {
+        return this.slotNames[track * this.numScenes + scene];
+    }
+
+
+    /**
+     * Get the color of a slot.
+     *
+     * @param track The index of the track in the page
+     * @param scene The index of the scene in the page
+     * @return The red, green and blue value
+     */
+    public double [] getSlotColor (final int track, final int scene)
+    {
+        return getColor (this.slotColors, track * this.numScenes + scene);
+    }
+
+
+    private static void setFlag (final byte [] flags, final int index, final int flag, final boolean isSet)
+    {
+        if (isSet)
+            flags[index] |= flag;
+        else
+            flags[index] &= ~flag;
+    }
+
+
+    private static void setColor (final float [] colors, final int index, final float red, final float green, final float blue)
+    {
+        final int offset = 3 * index;
+        colors[offset] = red;
+        colors[offset + 1] = green;
+        colors[offset + 2] = blue;
+    }
+
+
+    private static double [] getColor (final float [] colors, final int index)
+    {
+        final int offset = 3 * index;
+        return new double []
+        {
+            colors[offset],
+            colors[offset + 1],
+            colors[offset + 2]
+        };
+    }
+}
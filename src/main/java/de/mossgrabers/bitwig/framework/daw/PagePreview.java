@@ -0,0 +1,168 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import com.bitwig.extension.controller.api.TrackBank;
+
+
+/**
+ * Caches the neighbour pages (one page to the left, right, top and bottom) of a track bank with
+ * additional track banks, which follow the scroll position of the track bank. If the track bank is
+ * scrolled by a page, the tracks, scenes and slots display the values of the cached page until
+ * Bitwig has sent the values of the new page.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PagePreview
+{
+    /** The page left of the current page. */
+    public static final int     PREVIOUS_TRACKS = 0;
+    /** The page right of the current page. */
+    public static final int     NEXT_TRACKS     = 1;
+    /** The page above the current page. */
+    public static final int     PREVIOUS_SCENES = 2;
+    /** The page below the current page. */
+    public static final int     NEXT_SCENES     = 3;
+
+    /** The number of track banks required for the neighbour pages. */
+    public static final int     NUM_PAGES       = 4;
+
+    // Time to wait after the scroll position changed for the values of the new page
+    private static final int    UPDATE_DELAY    = 50;
+    // Stop the preview if the scroll position did not change in time
+    private static final int    TIMEOUT         = 1000;
+
+    private final IHost         host;
+    private final TrackBank     bank;
+    private final int           numTracks;
+    private final int           numScenes;
+    private final PageCache []  pages           = new PageCache [NUM_PAGES];
+
+    private PageCache           preview;
+    private int                 previewCounter;
+    private long                generation;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param bank The track bank which neighbour pages to cache
+     * @param neighbours The track banks to use for the cached pages, the track banks must be of the
+     *            same type as the track bank, see NUM_PAGES
+     * @param numTracks The number of tracks of a page
+     * @param numScenes The number of scenes of a page
+     */
+    public PagePreview (final IHost host, final TrackBank bank, final TrackBank [] neighbours, final int numTracks, final int numScenes)
+    {
+        this.host = host;
+        this.bank = bank;
+        this.numTracks = numTracks;
+        this.numScenes = numScenes;
+
+        for (int i = 0; i < NUM_PAGES; i++)
+            this.pages[i] = new PageCache (neighbours[i], numTracks, numScenes);
+
+        bank.scrollPosition ().addValueObserver (position -> this.handleScrollPosition ());
+        bank.sceneBank ().scrollPosition ().addValueObserver (position -> this.handleScrollPosition ());
+    }
+
+
+    /**
+     * Enable or disable the observers of the cached pages.
+     *
+     * @param enable True to enable
+     */
+    public void enableObservers (final boolean enable)
+    {
+        for (final PageCache page: this.pages)
+            page.enableObservers (enable);
+    }
+
+
+    /**
+     * Start to display a neighbour page. Call it before scrolling the track bank.
+     *
+     * @param page The neighbour page, e.g. NEXT_TRACKS
+     */
+    public void startPreview (final int page)
+    {
+        final PageCache cache = this.pages[page];
+        if (!cache.isValid ())
+            return;
+
+        this.preview = cache;
+        this.previewCounter++;
+        this.generation++;
+        this.scheduleStop (TIMEOUT);
+    }
+
+
+    /**
+     * Get the cached page which is currently displayed.
+     *
+     * @return The page or null if the live values are displayed
+     */
+    public PageCache getPreview ()
+    {
+        return this.preview;
+    }
+
+
+    /**
+     * Get the change generation of the preview. It is increased whenever a preview is started or
+     * stopped, since the items switch between the live and the cached values.
+     *
+     * @return The generation
+     */
+    public long getGeneration ()
+    {
+        return this.generation;
+    }
+
+
+    private void handleScrollPosition ()
+    {
+        if (this.preview == null)
+            this.updatePages ();
+        else
+            this.scheduleStop (UPDATE_DELAY);
+    }
+
+
+    private void scheduleStop (final int delay)
+    {
+        final int counter = this.previewCounter;
+        this.host.scheduleTask ( () -> {
+            if (this.preview == null || counter != this.previewCounter)
+                return;
+            this.preview = null;
+            this.generation++;
+            this.updatePages ();
+        }, delay);
+    }
+
+
+    /**
+     * Scroll the cached pages to the neighbours of the current page.
+     */
+    private void updatePages ()
+    {
+        final int trackPosition = this.bank.scrollPosition ().get ();
+        final int scenePosition = this.bank.sceneBank ().scrollPosition ().get ();
+        this.pages[PREVIOUS_TRACKS].scrollTo (getPreviousPosition (trackPosition, this.numTracks), scenePosition);
+        this.pages[NEXT_TRACKS].scrollTo (trackPosition + this.numTracks, scenePosition);
+        this.pages[PREVIOUS_SCENES].scrollTo (trackPosition, getPreviousPosition (scenePosition, this.numScenes));
+        this.pages[NEXT_SCENES].scrollTo (trackPosition, scenePosition + this.numScenes);
+    }
+
+
+    private static int getPreviousPosition (final int position, final int pageSize)
+    {
+        return position <= 0 ? -1 : Math.max (0, position - pageSize);
+    }
+}
@@ -50,7 +50,7 @@ public class ParameterBankImpl extends AbstractBank<IParameter> implements IPara
 
         this.remoteControls.hasPrevious ().markInterested ();
         this.remoteControls.hasNext ().markInterested ();
-        this.remoteControls.selectedPageIndex ().markInterested ();
+        this.remoteControls.selectedPageIndex ().addValueObserver (value -> this.markChanged ());
         this.remoteControls.pageCount ().markInterested ();
     }
 
@@ -60,7 +60,11 @@ public class ParameterBankImpl extends AbstractBank<IParameter> implements IPara
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new ParameterImpl (this.valueChanger, this.remoteControls.getParameter (i), i));
+        {
+            final ParameterImpl parameter = new ParameterImpl (this.valueChanger, this.remoteControls.getParameter (i), i);
+            parameter.setChangeObserver (this::markChanged);
+            this.items.add (parameter);
+        }
     }
 
 
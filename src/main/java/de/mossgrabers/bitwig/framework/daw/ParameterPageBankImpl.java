@@ -26,6 +26,7 @@ public class ParameterPageBankImpl implements IParameterPageBank
     private CursorRemoteControlsPage remoteControls;
     private List<String>             pageNames = new ArrayList<> ();
     private int                      pageSize;
+    private long                     generation;
 
 
     /**
@@ -40,7 +41,7 @@ public class ParameterPageBankImpl implements IParameterPageBank
 
         this.remoteControls = remoteControlsPage;
 
-        this.remoteControls.selectedPageIndex ().markInterested ();
+        this.remoteControls.selectedPageIndex ().addValueObserver (value -> this.generation++);
         this.remoteControls.pageNames ().addValueObserver (this::handlePageNames);
     }
 
@@ -249,6 +250,14 @@ public class ParameterPageBankImpl implements IParameterPageBank
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public long getGeneration ()
+    {
+        return this.generation;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getPositionOfLastItem ()
@@ -261,5 +270,6 @@ public class ParameterPageBankImpl implements IParameterPageBank
     {
         this.pageNames.clear ();
         Collections.addAll (this.pageNames, pageNames);
+        this.generation++;
     }
 }
\ No newline at end of file
@@ -20,6 +20,9 @@ import com.bitwig.extension.controller.api.SceneBank;
  */
 public class SceneBankImpl extends AbstractBankImpl<SceneBank, IScene> implements ISceneBank
 {
+    private PagePreview pagePreview;
+
+
     /**
      * Constructor.
      *
@@ -43,11 +46,57 @@ public class SceneBankImpl extends AbstractBankImpl<SceneBank, IScene> implement
     }
 
 
+    /**
+     * Set the preview, which provides the values of a cached page while the bank is scrolled.
+     *
+     * @param pagePreview The preview
+     */
+    public void setPagePreview (final PagePreview pagePreview)
+    {
+        this.pagePreview = pagePreview;
+        for (final IScene scene: this.items)
+            ((SceneImpl) scene).setPagePreview (pagePreview);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getGeneration ()
+    {
+        final long generation = super.getGeneration ();
+        return this.pagePreview == null ? generation : generation + this.pagePreview.getGeneration ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void scrollPageBackwards ()
+    {
+        if (this.pagePreview != null)
+            this.pagePreview.startPreview (PagePreview.PREVIOUS_SCENES);
+        super.scrollPageBackwards ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void scrollPageForwards ()
+    {
+        if (this.pagePreview != null)
+            this.pagePreview.startPreview (PagePreview.NEXT_SCENES);
+        super.scrollPageForwards ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new SceneImpl (this.bank.getItemAt (i), i));
+        {
+            final SceneImpl scene = new SceneImpl (this.bank.getItemAt (i), i);
+            scene.setChangeObserver (this::markChanged);
+            this.items.add (scene);
+        }
     }
 }
\ No newline at end of file
@@ -40,6 +40,10 @@ public class SendBankImpl extends AbstractBankImpl<SendBank, ISend> implements I
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new SendImpl (this, this.valueChanger, this.bank.getItemAt (i), i));
+        {
+            final SendImpl send = new SendImpl (this, this.valueChanger, this.bank.getItemAt (i), i);
+            send.setChangeObserver (this::markChanged);
+            this.items.add (send);
+        }
     }
 }
\ No newline at end of file
@@ -22,6 +22,7 @@ import com.bitwig.extension.controller.api.ClipLauncherSlotBank;
 public class SlotBankImpl extends AbstractBankImpl<ClipLauncherSlotBank, ISlot> implements ISlotBank
 {
     private final ITrack track;
+    private PagePreview  pagePreview;
 
 
     /**
@@ -57,11 +58,37 @@ public class SlotBankImpl extends AbstractBankImpl<ClipLauncherSlotBank, ISlot>
     }
 
 
+    /**
+     * Set the preview, which provides the values of a cached page while the bank is scrolled.
+     *
+     * @param pagePreview The preview
+     */
+    public void setPagePreview (final PagePreview pagePreview)
+    {
+        this.pagePreview = pagePreview;
+        for (final ISlot slot: this.items)
+            ((SlotImpl) slot).setPagePreview (pagePreview);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getGeneration ()
+    {
+        final long generation = super.getGeneration ();
+        return this.pagePreview == null ? generation : generation + this.pagePreview.getGeneration ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void initItems ()
     {
         for (int i = 0; i < this.pageSize; i++)
-            this.items.add (new SlotImpl (this.track, this.bank, this.bank.getItemAt (i), i));
+        {
+            final SlotImpl slot = new SlotImpl (this.track, this.bank, this.bank.getItemAt (i), i);
+            slot.setChangeObserver (this::markChanged);
+            this.items.add (slot);
+        }
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.bitwig.framework.daw.data.TrackImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.observer.NoteObserver;
 
 import com.bitwig.extension.controller.api.CursorTrack;
@@ -21,6 +22,9 @@ import com.bitwig.extension.controller.api.TrackBank;
  */
 public class TrackBankImpl extends AbstractTrackBankImpl
 {
+    private PagePreview pagePreview;
+
+
     /**
      * Constructor.
      *
@@ -40,6 +44,61 @@ public class TrackBankImpl extends AbstractTrackBankImpl
     }
 
 
+    /**
+     * Set the preview, which provides the values of the neighbour pages while the bank is
+     * scrolled.
+     *
+     * @param pagePreview The preview
+     */
+    public void setPagePreview (final PagePreview pagePreview)
+    {
+        this.pagePreview = pagePreview;
+        for (final ITrack track: this.items)
+            ((TrackImpl) track).setPagePreview (pagePreview);
+        ((SceneBankImpl) this.sceneBank).setPagePreview (pagePreview);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        super.enableObservers (enable);
+
+        if (this.pagePreview != null)
+            this.pagePreview.enableObservers (enable);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getGeneration ()
+    {
+        final long generation = super.getGeneration ();
+        return this.pagePreview == null ? generation : generation + this.pagePreview.getGeneration ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void scrollPageBackwards ()
+    {
+        if (this.pagePreview != null)
+            this.pagePreview.startPreview (PagePreview.PREVIOUS_TRACKS);
+        super.scrollPageBackwards ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void scrollPageForwards ()
+    {
+        if (this.pagePreview != null)
+            this.pagePreview.startPreview (PagePreview.NEXT_TRACKS);
+        super.scrollPageForwards ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void selectParent ()
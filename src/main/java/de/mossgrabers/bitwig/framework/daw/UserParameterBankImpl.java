@@ -33,6 +33,7 @@ public class UserParameterBankImpl implements IParameterBank
     private final List<IParameter> items;
 
     private int                    page = 0;
+    private long                   generation;
 
 
     /**
@@ -54,7 +55,11 @@ public class UserParameterBankImpl implements IParameterBank
 
         this.items = new ArrayList<> (this.itemCount);
         for (int i = 0; i < this.itemCount; i++)
-            this.items.add (new ParameterImpl (this.valueChanger, this.userControlBank.getControl (i), i));
+        {
+            final ParameterImpl parameter = new ParameterImpl (this.valueChanger, this.userControlBank.getControl (i), i);
+            parameter.setChangeObserver ( () -> this.generation++);
+            this.items.add (parameter);
+        }
     }
 
 
@@ -152,7 +157,7 @@ public class UserParameterBankImpl implements IParameterBank
     @Override
     public void scrollBackwards ()
     {
-        this.page = Math.max (0, this.page - 1);
+        this.setPage (Math.max (0, this.page - 1));
     }
 
 
@@ -160,7 +165,7 @@ public class UserParameterBankImpl implements IParameterBank
     @Override
     public void scrollForwards ()
     {
-        this.page = Math.min (this.itemCount / this.pageSize - 1, this.page + 1);
+        this.setPage (Math.min (this.itemCount / this.pageSize - 1, this.page + 1));
     }
 
 
@@ -176,7 +181,7 @@ public class UserParameterBankImpl implements IParameterBank
     @Override
     public void scrollTo (final int position, final boolean adjustPage)
     {
-        this.page = position / this.pageSize;
+        this.setPage (position / this.pageSize);
     }
 
 
@@ -188,6 +193,14 @@ public class UserParameterBankImpl implements IParameterBank
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public long getGeneration ()
+    {
+        return this.generation;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getPositionOfLastItem ()
@@ -234,4 +247,13 @@ public class UserParameterBankImpl implements IParameterBank
     {
         // Intentionally empty
     }
+
+
+    private void setPage (final int page)
+    {
+        if (this.page == page)
+            return;
+        this.page = page;
+        this.generation++;
+    }
 }
\ No newline at end of file
@@ -8,8 +8,8 @@ import de.mossgrabers.bitwig.framework.daw.SendBankImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISendBank;
+import de.mossgrabers.framework.daw.VuMeterValues;
 import de.mossgrabers.framework.daw.data.IChannel;
-import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 
 import com.bitwig.extension.controller.api.Channel;
@@ -25,12 +25,13 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
 {
     protected final IValueChanger valueChanger;
 
-    private static final int      MAX_RESOLUTION = 16384;
+    /** The resolution of the VU meter values. */
+    public static final int       MAX_RESOLUTION = 16384;
 
-    private int                   vuLeft;
-    private int                   vuRight;
-    private IParameter            volumeParameter;
-    private IParameter            panParameter;
+    private VuMeterValues         vuMeters       = new VuMeterValues (1, MAX_RESOLUTION);
+    private int                   vuIndex;
+    private ParameterImpl         volumeParameter;
+    private ParameterImpl         panParameter;
     private ISendBank             sendBank;
 
 
@@ -53,15 +54,17 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
         if (channel == null)
             return;
 
-        channel.exists ().markInterested ();
-        channel.name ().markInterested ();
-        channel.isActivated ().markInterested ();
-        channel.mute ().markInterested ();
-        channel.solo ().markInterested ();
-        channel.color ().markInterested ();
+        channel.exists ().addValueObserver (value -> this.markChanged ());
+        channel.name ().addValueObserver (value -> this.markChanged ());
+        channel.isActivated ().addValueObserver (value -> this.markChanged ());
+        channel.mute ().addValueObserver (value -> this.markChanged ());
+        channel.solo ().addValueObserver (value -> this.markChanged ());
+        channel.color ().addValueObserver ( (red, green, blue) -> this.markChanged ());
 
         this.volumeParameter = new ParameterImpl (valueChanger, channel.volume (), 0);
         this.panParameter = new ParameterImpl (valueChanger, channel.pan (), 0);
+        this.volumeParameter.setChangeObserver (this::markChanged);
+        this.panParameter.setChangeObserver (this::markChanged);
 
         channel.addVuMeterObserver (MAX_RESOLUTION, 0, true, this::handleVULeftMeter);
         channel.addVuMeterObserver (MAX_RESOLUTION, 1, true, this::handleVURightMeter);
@@ -346,7 +349,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVu ()
     {
-        return (this.vuLeft + this.vuRight) * this.valueChanger.getUpperBound () / MAX_RESOLUTION / 2;
+        return this.vuMeters.get (this.vuIndex) * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
     }
 
 
@@ -354,7 +357,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVuLeft ()
     {
-        return this.vuLeft * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
+        return this.vuMeters.getLeft (this.vuIndex) * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
     }
 
 
@@ -362,7 +365,31 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     @Override
     public int getVuRight ()
     {
-        return this.vuRight * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
+        return this.vuMeters.getRight (this.vuIndex) * this.valueChanger.getUpperBound () / MAX_RESOLUTION;
+    }
+
+
+    /**
+     * Get the store to which the values of the VU meters of the channel are written.
+     *
+     * @return The store
+     */
+    public VuMeterValues getVuMeters ()
+    {
+        return this.vuMeters;
+    }
+
+
+    /**
+     * Write the values of the VU meters into the store of the bank. The index of the channel in
+     * the page is used as the index in the store.
+     *
+     * @param vuMeters The store of the bank
+     */
+    public void setVuMeters (final VuMeterValues vuMeters)
+    {
+        this.vuMeters = vuMeters;
+        this.vuIndex = this.getIndex ();
     }
 
 
@@ -414,7 +441,7 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     {
         // Limit value to this.configuration.getMaxParameterValue () due to
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
-        this.vuLeft = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
+        this.vuMeters.setLeft (this.vuIndex, value);
     }
 
 
@@ -422,6 +449,6 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     {
         // Limit value to this.configuration.getMaxParameterValue () due to
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
-        this.vuRight = value >= MAX_RESOLUTION ? MAX_RESOLUTION - 1 : value;
+        this.vuMeters.setRight (this.vuIndex, value);
     }
 }
@@ -33,9 +33,9 @@ public class DeviceImpl extends AbstractItemImpl implements IDevice
 
         this.device = device;
 
-        device.exists ().markInterested ();
-        device.position ().markInterested ();
-        device.name ().markInterested ();
+        device.exists ().addValueObserver (value -> this.markChanged ());
+        device.position ().addValueObserver (value -> this.markChanged ());
+        device.name ().addValueObserver (value -> this.markChanged ());
     }
 
 
@@ -42,7 +42,7 @@ public class LayerImpl extends ChannelImpl implements ILayer
 
         final DeviceBank deviceBank = layer.createDeviceBank (numDevices);
         this.firstItem = deviceBank.getItemAt (0);
-        this.firstItem.exists ().markInterested ();
+        this.firstItem.exists ().addValueObserver (value -> this.markChanged ());
     }
 
 
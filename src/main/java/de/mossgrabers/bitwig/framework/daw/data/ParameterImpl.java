@@ -37,11 +37,11 @@ public class ParameterImpl extends AbstractItemImpl implements IParameter
         this.valueChanger = valueChanger;
         this.parameter = parameter;
 
-        parameter.exists ().markInterested ();
-        parameter.name ().markInterested ();
-        parameter.displayedValue ().markInterested ();
-        parameter.value ().markInterested ();
-        parameter.modulatedValue ().markInterested ();
+        parameter.exists ().addValueObserver (value -> this.markChanged ());
+        parameter.name ().addValueObserver (value -> this.markChanged ());
+        parameter.displayedValue ().addValueObserver (value -> this.markChanged ());
+        parameter.value ().addValueObserver (value -> this.markChanged ());
+        parameter.modulatedValue ().addValueObserver (value -> this.markChanged ());
     }
 
 
@@ -4,9 +4,12 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import de.mossgrabers.bitwig.framework.daw.PageCache;
+import de.mossgrabers.bitwig.framework.daw.PagePreview;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.utils.StringUtils;
 
 import com.bitwig.extension.controller.api.Scene;
 import com.bitwig.extension.controller.api.SettableColorValue;
@@ -20,6 +23,7 @@ import com.bitwig.extension.controller.api.SettableColorValue;
 public class SceneImpl extends AbstractItemImpl implements IScene
 {
     private final Scene scene;
+    private PagePreview pagePreview;
 
 
     /**
@@ -34,10 +38,10 @@ public class SceneImpl extends AbstractItemImpl implements IScene
 
         this.scene = scene;
 
-        scene.exists ().markInterested ();
-        scene.name ().markInterested ();
-        scene.sceneIndex ().markInterested ();
-        scene.color ().markInterested ();
+        scene.exists ().addValueObserver (value -> this.markChanged ());
+        scene.name ().addValueObserver (value -> this.markChanged ());
+        scene.sceneIndex ().addValueObserver (value -> this.markChanged ());
+        scene.color ().addValueObserver ( (red, green, blue) -> this.markChanged ());
         scene.addIsSelectedInEditorObserver (this::setSelected);
     }
 
@@ -53,11 +57,25 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     }
 
 
+    /**
+     * Set the preview, which provides the values of a cached page while the bank is scrolled.
+     *
+     * @param pagePreview The preview
+     */
+    public void setPagePreview (final PagePreview pagePreview)
+    {
+        this.pagePreview = pagePreview;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean doesExist ()
     {
-        return this.scene.exists ().get ();
+        final PageCache preview = this.getPreview ();
+        if (preview == null)
+            return this.scene.exists ().get ();
+        return (preview.getSceneFlags (this.index) & PageCache.EXISTS) > 0;
     }
 
 
@@ -65,7 +83,8 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     @Override
     public String getName ()
     {
-        return this.scene.name ().get ();
+        final PageCache preview = this.getPreview ();
+        return preview == null ? this.scene.name ().get () : preview.getSceneName (this.index);
     }
 
 
@@ -73,7 +92,8 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     @Override
     public String getName (final int limit)
     {
-        return this.scene.name ().getLimited (limit);
+        final PageCache preview = this.getPreview ();
+        return preview == null ? this.scene.name ().getLimited (limit) : StringUtils.optimizeName (preview.getSceneName (this.index), limit);
     }
 
 
@@ -97,6 +117,10 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     @Override
     public double [] getColor ()
     {
+        final PageCache preview = this.getPreview ();
+        if (preview != null)
+            return preview.getSceneColor (this.index);
+
         final SettableColorValue color = this.scene.color ();
         return new double []
         {
@@ -146,4 +170,24 @@ public class SceneImpl extends AbstractItemImpl implements IScene
     {
         this.scene.launch ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getGeneration ()
+    {
+        final long generation = super.getGeneration ();
+        return this.pagePreview == null ? generation : generation + this.pagePreview.getGeneration ();
+    }
+
+
+    /**
+     * Get the cached page, which is displayed while the bank is scrolled.
+     *
+     * @return The page or null if the live values are displayed
+     */
+    private PageCache getPreview ()
+    {
+        return this.pagePreview == null ? null : this.pagePreview.getPreview ();
+    }
 }
@@ -4,10 +4,13 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import de.mossgrabers.bitwig.framework.daw.PageCache;
+import de.mossgrabers.bitwig.framework.daw.PagePreview;
 import de.mossgrabers.framework.daw.data.AbstractItemImpl;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.utils.StringUtils;
 
 import com.bitwig.extension.controller.api.ClipLauncherSlot;
 import com.bitwig.extension.controller.api.ClipLauncherSlotBank;
@@ -24,6 +27,7 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     private final ITrack               track;
     private final ClipLauncherSlot     slot;
     private final ClipLauncherSlotBank csBank;
+    private PagePreview                pagePreview;
 
 
     /**
@@ -43,19 +47,19 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         this.csBank = csBank;
         this.slot = slot;
 
-        slot.exists ().markInterested ();
-        slot.sceneIndex ().markInterested ();
-        slot.name ().markInterested ();
-        slot.hasContent ().markInterested ();
-        slot.color ().markInterested ();
+        slot.exists ().addValueObserver (value -> this.markChanged ());
+        slot.sceneIndex ().addValueObserver (value -> this.markChanged ());
+        slot.name ().addValueObserver (value -> this.markChanged ());
+        slot.hasContent ().addValueObserver (value -> this.markChanged ());
+        slot.color ().addValueObserver ( (red, green, blue) -> this.markChanged ());
 
         // States
-        slot.isPlaying ().markInterested ();
-        slot.isPlaybackQueued ().markInterested ();
-        slot.isRecording ().markInterested ();
-        slot.isRecordingQueued ().markInterested ();
-        slot.isStopQueued ().markInterested ();
-        slot.isSelected ().markInterested ();
+        slot.isPlaying ().addValueObserver (value -> this.markChanged ());
+        slot.isPlaybackQueued ().addValueObserver (value -> this.markChanged ());
+        slot.isRecording ().addValueObserver (value -> this.markChanged ());
+        slot.isRecordingQueued ().addValueObserver (value -> this.markChanged ());
+        slot.isStopQueued ().addValueObserver (value -> this.markChanged ());
+        slot.isSelected ().addValueObserver (value -> this.markChanged ());
     }
 
 
@@ -77,11 +81,23 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     }
 
 
+    /**
+     * Set the preview, which provides the values of a cached page while the bank is scrolled.
+     *
+     * @param pagePreview The preview
+     */
+    public void setPagePreview (final PagePreview pagePreview)
+    {
+        this.pagePreview = pagePreview;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean doesExist ()
     {
-        return this.slot.exists ().get ();
+        final PageCache preview = this.getPreview ();
+        return preview == null ? this.slot.exists ().get () : this.hasFlag (preview, PageCache.EXISTS);
     }
 
 
@@ -97,7 +113,8 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public String getName ()
     {
-        return this.slot.name ().get ();
+        final PageCache preview = this.getPreview ();
+        return preview == null ? this.slot.name ().get () : preview.getSlotName (this.track.getIndex (), this.index);
     }
 
 
@@ -105,7 +122,8 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public String getName (final int limit)
     {
-        return this.slot.name ().getLimited (limit);
+        final PageCache preview = this.getPreview ();
+        return preview == null ? this.slot.name ().getLimited (limit) : StringUtils.optimizeName (preview.getSlotName (this.track.getIndex (), this.index), limit);
     }
 
 
@@ -129,7 +147,8 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public boolean hasContent ()
     {
-        return this.slot.hasContent ().get ();
+        final PageCache preview = this.getPreview ();
+        return preview == null ? this.slot.hasContent ().get () : this.hasFlag (preview, PageCache.HAS_CONTENT);
     }
 
 
@@ -137,7 +156,8 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public boolean isRecording ()
     {
-        return this.slot.isRecording ().get ();
+        final PageCache preview = this.getPreview ();
+        return preview == null ? this.slot.isRecording ().get () : this.hasFlag (preview, PageCache.RECORDING);
     }
 
 
@@ -145,7 +165,8 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public boolean isPlaying ()
     {
-        return this.slot.isPlaying ().get ();
+        final PageCache preview = this.getPreview ();
+        return preview == null ? this.slot.isPlaying ().get () : this.hasFlag (preview, PageCache.PLAYING);
     }
 
 
@@ -153,7 +174,8 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public boolean isPlayingQueued ()
     {
-        return this.slot.isPlaybackQueued ().get () || this.slot.isRecordingQueued ().get ();
+        final PageCache preview = this.getPreview ();
+        return preview == null ? this.slot.isPlaybackQueued ().get () || this.slot.isRecordingQueued ().get () : this.hasFlag (preview, PageCache.PLAYBACK_QUEUED | PageCache.RECORDING_QUEUED);
     }
 
 
@@ -161,7 +183,8 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public boolean isRecordingQueued ()
     {
-        return this.slot.isRecordingQueued ().get ();
+        final PageCache preview = this.getPreview ();
+        return preview == null ? this.slot.isRecordingQueued ().get () : this.hasFlag (preview, PageCache.RECORDING_QUEUED);
     }
 
 
@@ -169,7 +192,8 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     @Override
     public boolean isStopQueued ()
     {
-        return this.slot.isStopQueued ().get ();
+        final PageCache preview = this.getPreview ();
+        return preview == null ? this.slot.isStopQueued ().get () : this.hasFlag (preview, PageCache.STOP_QUEUED);
     }
 
 
@@ -181,6 +205,10 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
         if (this.track.isGroup ())
             return this.track.getColor ();
 
+        final PageCache preview = this.getPreview ();
+        if (preview != null)
+            return preview.getSlotColor (this.track.getIndex (), this.index);
+
         final ColorValue color = this.slot.color ();
         return new double []
         {
@@ -256,4 +284,30 @@ public class SlotImpl extends AbstractItemImpl implements ISlot
     {
         return this.slot;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getGeneration ()
+    {
+        final long generation = super.getGeneration ();
+        return this.pagePreview == null ? generation : generation + this.pagePreview.getGeneration ();
+    }
+
+
+    /**
+     * Get the cached page, which is displayed while the bank is scrolled.
+     *
+     * @return The page or null if the live values are displayed
+     */
+    private PageCache getPreview ()
+    {
+        return this.pagePreview == null ? null : this.pagePreview.getPreview ();
+    }
+
+
+    private boolean hasFlag (final PageCache preview, final int flags)
+    {
+        return (preview.getSlotFlags (this.track.getIndex (), this.index) & flags) > 0;
+    }
 }
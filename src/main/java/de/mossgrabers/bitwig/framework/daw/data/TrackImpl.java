@@ -5,6 +5,8 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.bitwig.framework.daw.ApplicationImpl;
+import de.mossgrabers.bitwig.framework.daw.PageCache;
+import de.mossgrabers.bitwig.framework.daw.PagePreview;
 import de.mossgrabers.bitwig.framework.daw.SlotBankImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
@@ -12,6 +14,7 @@ import de.mossgrabers.framework.daw.ISlotBank;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.observer.NoteObserver;
+import de.mossgrabers.framework.utils.StringUtils;
 
 import com.bitwig.extension.controller.api.CursorTrack;
 import com.bitwig.extension.controller.api.PlayingNote;
@@ -35,11 +38,12 @@ public class TrackImpl extends ChannelImpl implements ITrack
 
     protected final Track           track;
 
-    private final ISlotBank         slotBank;
+    private final SlotBankImpl      slotBank;
     private final int []            noteCache     = new int [128];
     private final Set<NoteObserver> noteObservers = new HashSet<> ();
     private final CursorTrack       cursorTrack;
     private final IHost             host;
+    private PagePreview             pagePreview;
 
 
     private enum CrossfadeSetting
@@ -72,16 +76,16 @@ public class TrackImpl extends ChannelImpl implements ITrack
         this.cursorTrack = cursorTrack;
         this.track = track;
 
-        track.trackType ().markInterested ();
-        track.position ().markInterested ();
-        track.isGroup ().markInterested ();
-        track.arm ().markInterested ();
-        track.monitor ().markInterested ();
-        track.autoMonitor ().markInterested ();
-        track.crossFadeMode ().markInterested ();
-        track.canHoldNoteData ().markInterested ();
-        track.canHoldAudioData ().markInterested ();
-        track.isStopped ().markInterested ();
+        track.trackType ().addValueObserver (value -> this.markChanged ());
+        track.position ().addValueObserver (value -> this.markChanged ());
+        track.isGroup ().addValueObserver (value -> this.markChanged ());
+        track.arm ().addValueObserver (value -> this.markChanged ());
+        track.monitor ().addValueObserver (value -> this.markChanged ());
+        track.autoMonitor ().addValueObserver (value -> this.markChanged ());
+        track.crossFadeMode ().addValueObserver (value -> this.markChanged ());
+        track.canHoldNoteData ().addValueObserver (value -> this.markChanged ());
+        track.canHoldAudioData ().addValueObserver (value -> this.markChanged ());
+        track.isStopped ().addValueObserver (value -> this.markChanged ());
         track.playingNotes ().addValueObserver (this::handleNotes);
 
         this.slotBank = new SlotBankImpl (host, valueChanger, this, track.clipLauncherSlotBank (), numScenes);
@@ -112,6 +116,56 @@ public class TrackImpl extends ChannelImpl implements ITrack
     }
 
 
+    /**
+     * Set the preview, which provides the values of a cached page while the bank is scrolled.
+     *
+     * @param pagePreview The preview
+     */
+    public void setPagePreview (final PagePreview pagePreview)
+    {
+        this.pagePreview = pagePreview;
+        this.slotBank.setPagePreview (pagePreview);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        final PageCache preview = this.getPreview ();
+        if (preview == null)
+            return super.doesExist ();
+        return (preview.getTrackFlags (this.index) & PageCache.EXISTS) > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        final PageCache preview = this.getPreview ();
+        return preview == null ? super.getName () : preview.getTrackName (this.index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName (final int limit)
+    {
+        final PageCache preview = this.getPreview ();
+        return preview == null ? super.getName (limit) : StringUtils.optimizeName (preview.getTrackName (this.index), limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double [] getColor ()
+    {
+        final PageCache preview = this.getPreview ();
+        return preview == null ? super.getColor () : preview.getTrackColor (this.index);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void enter ()
@@ -155,7 +209,10 @@ public class TrackImpl extends ChannelImpl implements ITrack
     @Override
     public boolean isGroup ()
     {
-        return this.track.isGroup ().get ();
+        final PageCache preview = this.getPreview ();
+        if (preview == null)
+            return this.track.isGroup ().get ();
+        return (preview.getTrackFlags (this.index) & PageCache.GROUP) > 0;
     }
 
 
@@ -358,6 +415,26 @@ public class TrackImpl extends ChannelImpl implements ITrack
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public long getGeneration ()
+    {
+        final long generation = super.getGeneration ();
+        return this.pagePreview == null ? generation : generation + this.pagePreview.getGeneration ();
+    }
+
+
+    /**
+     * Get the cached page, which is displayed while the bank is scrolled.
+     *
+     * @return The page or null if the live values are displayed
+     */
+    private PageCache getPreview ()
+    {
+        return this.pagePreview == null ? null : this.pagePreview.getPreview ();
+    }
+
+
     /**
      * Add a note observer.
      *
@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.graphics;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IEncoder;
 import de.mossgrabers.framework.graphics.IRenderer;
+import de.mossgrabers.framework.graphics.TextMeasureCache;
 
 import com.bitwig.extension.api.graphics.Bitmap;
 
@@ -20,7 +21,8 @@ import java.nio.ByteBuffer;
  */
 public class BitmapImpl implements IBitmap
 {
-    private Bitmap bitmap;
+    private final TextMeasureCache textCache = new TextMeasureCache ();
+    private Bitmap                 bitmap;
 
 
     /**
@@ -54,7 +56,7 @@ public class BitmapImpl implements IBitmap
     @Override
     public void render (final IRenderer renderer)
     {
-        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (gc)));
+        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (gc, this.textCache)));
     }
 
 
@@ -8,6 +8,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.graphics.Align;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.graphics.TextMeasureCache;
 
 import com.bitwig.extension.api.graphics.GradientPattern;
 import com.bitwig.extension.api.graphics.GraphicsOutput;
@@ -21,7 +22,8 @@ import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
  */
 public class GraphicsContextImpl implements IGraphicsContext
 {
-    private GraphicsOutput gc;
+    private GraphicsOutput         gc;
+    private final TextMeasureCache textCache;
 
 
     /**
@@ -30,9 +32,22 @@ public class GraphicsContextImpl implements IGraphicsContext
      * @param gc The Bitwig graphics context
      */
     public GraphicsContextImpl (final GraphicsOutput gc)
+    {
+        this (gc, new TextMeasureCache ());
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param gc The Bitwig graphics context
+     * @param textCache The cache for text measurements, which outlives a single rendering pass
+     */
+    public GraphicsContextImpl (final GraphicsOutput gc, final TextMeasureCache textCache)
     {
         gc.setAntialias (AntialiasMode.BEST);
         this.gc = gc;
+        this.textCache = textCache;
     }
 
 
@@ -156,8 +171,8 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
-        final double w = this.gc.getTextExtents (text).getWidth ();
+        final double h = this.getTextHeight (fontSize);
+        final double w = this.getTextWidth (text, fontSize);
         final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
         final double posY = y + (height + h) / 2;
 
@@ -198,12 +213,12 @@ public class GraphicsContextImpl implements IGraphicsContext
 
         // We need to calculate the text height from a character which has no ascent, since showText
         // always draws the text on the baseline of the font!
-        final double h = this.gc.getTextExtents ("T").getHeight ();
+        final double h = this.getTextHeight (fontSize);
         final double posY = y + (height + h) / 2;
 
         if (backgroundColor != null)
         {
-            final double w = this.gc.getTextExtents (text).getWidth ();
+            final double w = this.getTextWidth (text, fontSize);
             final double inset = 12.0;
             this.fillRoundedRectangle (x - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
         }
@@ -233,28 +248,91 @@ public class GraphicsContextImpl implements IGraphicsContext
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void clip (final double left, final double top, final double width, final double height)
+    {
+        this.gc.rectangle (left, top, width, height);
+        this.gc.clip ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetClip ()
+    {
+        this.gc.resetClip ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public double calculateFontSize (final double maxHeight, final double maxWidth)
     {
+        final double cachedSize = this.textCache.getFontSize (maxHeight, maxWidth);
+        if (!Double.isNaN (cachedSize))
+            return cachedSize;
+
         final String maxString = "G#5";
         final double minSize = 12.0;
 
         double size = minSize;
         double fittingSize = -1;
+        this.gc.save ();
         while (size < maxHeight)
         {
             this.gc.setFontSize (size);
-            final double width = this.gc.getTextExtents (maxString).getWidth ();
+            final double width = this.getTextWidth (maxString, size);
             if (width > maxWidth)
                 break;
             fittingSize = size;
             size += 1.0;
         }
+        this.gc.restore ();
+
+        this.textCache.putFontSize (maxHeight, maxWidth, fittingSize);
         return fittingSize;
     }
 
 
+    /**
+     * Get the width of a text. The font size must already be set on the graphics output.
+     *
+     * @param text The text
+     * @param fontSize The current font size
+     * @return The width of the text
+     */
+    private double getTextWidth (final String text, final double fontSize)
+    {
+        double width = this.textCache.getTextWidth (text, fontSize);
+        if (Double.isNaN (width))
+        {
+            width = this.gc.getTextExtents (text).getWidth ();
+            this.textCache.putTextWidth (text, fontSize, width);
+        }
+        return width;
+    }
+
+
+    /**
+     * Get the height of a character which has no descent. The font size must already be set on
+     * the graphics output.
+     *
+     * @param fontSize The current font size
+     * @return The height
+     */
+    private double getTextHeight (final double fontSize)
+    {
+        double height = this.textCache.getTextHeight (fontSize);
+        if (Double.isNaN (height))
+        {
+            height = this.gc.getTextExtents ("T").getHeight ();
+            this.textCache.putTextHeight (fontSize, height);
+        }
+        return height;
+    }
+
+
     protected void setColor (final ColorEx color)
     {
         this.gc.setColor (color.getRed (), color.getGreen (), color.getBlue ());
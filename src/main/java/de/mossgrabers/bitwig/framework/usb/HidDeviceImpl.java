@@ -5,8 +5,11 @@
 package de.mossgrabers.bitwig.framework.usb;
 
 import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.usb.HidInputDecoderCallback;
 import de.mossgrabers.framework.usb.IHidCallback;
 import de.mossgrabers.framework.usb.IHidDevice;
+import de.mossgrabers.framework.usb.IHidInputDecoder;
+import de.mossgrabers.framework.usb.IHidInputHandler;
 import de.mossgrabers.framework.usb.UsbException;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import purejavahidapi.HidDevice;
@@ -26,6 +29,7 @@ public class HidDeviceImpl implements IHidDevice
 {
     private HidDevice hidDevice;
     private boolean   isOpen;
+    private byte []   reportBuffer = new byte [0];
 
 
     /**
@@ -69,21 +73,17 @@ public class HidDeviceImpl implements IHidDevice
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
 
-        // purehid documentation says otherwise but MAC also needs the report ID in
-        // data[0], therefore add it
-        byte [] d = data;
-        int l = data.length;
-        if (OperatingSystem.get () == OperatingSystem.MAC)
+        synchronized (this.hidDevice)
         {
-            l++;
-            d = new byte [l];
-            d[0] = reportID;
-            System.arraycopy (data, 0, d, 1, data.length);
+            // purehid documentation says otherwise but MAC also needs the report ID in
+            // data[0], therefore add it
+            final boolean addReportID = OperatingSystem.get () == OperatingSystem.MAC;
+            final int length = this.fillReportBuffer (memoryBlock, addReportID ? 1 : 0);
+            if (addReportID)
+                this.reportBuffer[0] = reportID;
+            return this.hidDevice.setOutputReport (reportID, this.reportBuffer, length);
         }
-
-        return this.hidDevice.setOutputReport (reportID, d, d.length);
     }
 
 
@@ -93,8 +93,12 @@ public class HidDeviceImpl implements IHidDevice
     {
         if (!this.isOpen)
             return -1;
-        final byte [] data = toBuffer (memoryBlock);
-        return this.hidDevice.setFeatureReport (reportID, data, data.length);
+
+        synchronized (this.hidDevice)
+        {
+            final int length = this.fillReportBuffer (memoryBlock, 0);
+            return this.hidDevice.setFeatureReport (reportID, this.reportBuffer, length);
+        }
     }
 
 
@@ -122,6 +126,14 @@ public class HidDeviceImpl implements IHidDevice
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void setInputDecoder (final IHidInputDecoder decoder, final IHidInputHandler handler)
+    {
+        this.setCallback (new HidInputDecoderCallback (decoder, handler));
+    }
+
+
     private static HidDeviceInfo lookupDevice (final short vendorID, final short productID)
     {
         for (final HidDeviceInfo info: PureJavaHidApi.enumerateDevices ())
@@ -133,13 +145,22 @@ public class HidDeviceImpl implements IHidDevice
     }
 
 
-    private static byte [] toBuffer (final IMemoryBlock memoryBlock)
+    /**
+     * Copy the content of the memory block into the re-used report buffer. The buffer is only
+     * re-allocated if it is too small.
+     *
+     * @param memoryBlock The memory block with the data
+     * @param offset The offset in the report buffer where to start with the data
+     * @return The length of the report (offset + size of the memory block)
+     */
+    private int fillReportBuffer (final IMemoryBlock memoryBlock, final int offset)
     {
         final ByteBuffer buffer = memoryBlock.createByteBuffer ();
-        final int size = buffer.capacity ();
-        final byte [] data = new byte [size];
+        final int length = offset + buffer.capacity ();
+        if (this.reportBuffer.length < length)
+            this.reportBuffer = new byte [length];
         buffer.rewind ();
-        buffer.get (data);
-        return data;
+        buffer.get (this.reportBuffer, offset, buffer.capacity ());
+        return length;
     }
 }
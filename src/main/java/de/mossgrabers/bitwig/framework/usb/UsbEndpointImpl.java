@@ -42,20 +42,22 @@ public class UsbEndpointImpl implements IUsbEndpoint
 
     /** {@inheritDoc} */
     @Override
-    public void send (final IMemoryBlock memoryBlock, final int timeout)
+    public int send (final IMemoryBlock memoryBlock, final int timeout)
     {
         if (this.endpoint.direction () != UsbTransferDirection.OUT)
-            return;
+            return -1;
 
         try
         {
             ((UsbOutputPipe) this.endpoint).write (((MemoryBlockImpl) memoryBlock).getMemoryBlock (), timeout);
+            return memoryBlock.createByteBuffer ().capacity ();
         }
         catch (final RuntimeException ex)
         {
             // Can only catch RuntimeException since it is a Bitwig internal Exception that is
             // thrown
             this.host.error ("Could not send USB memory block.", ex);
+            return -1;
         }
     }
 
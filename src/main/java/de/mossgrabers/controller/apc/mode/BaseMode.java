@@ -72,7 +72,7 @@ public abstract class BaseMode extends AbstractMode<APCControlSurface, APCConfig
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onModeActivate ()
     {
         for (int i = 0; i < 8; i++)
             this.surface.setLED (APCControlSurface.APC_KNOB_TRACK_KNOB_LED_1 + i, this.ledMode);
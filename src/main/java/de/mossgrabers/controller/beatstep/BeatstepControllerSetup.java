@@ -103,6 +103,10 @@ public class BeatstepControllerSetup extends AbstractControllerSetup<BeatstepCon
     protected void createModel ()
     {
         final ModelSetup ms = new ModelSetup ();
+        ms.setHasDrumDevice64 (false);
+        ms.setHasArrangerClip (false);
+        ms.setNumUserParams (0);
+        ms.setNumMuteSoloTracks (0);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
         this.model.getTrackBank ().addSelectionObserver ( (index, value) -> this.handleTrackChange (value));
     }
@@ -74,6 +74,9 @@ public class GenericFlexiControllerSetup extends AbstractControllerSetup<Generic
     {
         final ModelSetup ms = new ModelSetup ();
         ms.setNumMarkers (8);
+        ms.setHasInstrumentDevice (false);
+        ms.setHasDrumDevice64 (false);
+        ms.setNumMuteSoloTracks (0);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
     }
 
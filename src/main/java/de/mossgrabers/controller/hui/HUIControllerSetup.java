@@ -49,6 +49,7 @@ import de.mossgrabers.framework.daw.ISendBank;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.VuMeterReader;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
@@ -72,13 +73,16 @@ import java.util.Arrays;
 public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurface, HUIConfiguration>
 {
     /** State for button LED on. */
-    public static final int HUI_BUTTON_STATE_ON  = 127;
+    public static final int     HUI_BUTTON_STATE_ON  = 127;
     /** State for button LED off. */
-    public static final int HUI_BUTTON_STATE_OFF = 0;
+    public static final int     HUI_BUTTON_STATE_OFF = 0;
 
-    private final int []    vuValuesL            = new int [8];
-    private final int []    vuValuesR            = new int [8];
-    private final int []    faderValues          = new int [36];
+    // The meters of the device have 12 steps and decay by themselves, therefore levels need to be
+    // sent again before the device lets them fall back
+    private static final long   VU_REFRESH_TIME      = 250;
+
+    private final VuMeterReader vuReader             = new VuMeterReader (12, true, VU_REFRESH_TIME);
+    private final int []        faderValues          = new int [36];
 
 
     /**
@@ -93,8 +97,6 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
     {
         super (factory, host, globalSettings, documentSettings);
 
-        Arrays.fill (this.vuValuesL, -1);
-        Arrays.fill (this.vuValuesR, -1);
         Arrays.fill (this.faderValues, -1);
 
         this.colorManager = new ColorManager ();
@@ -465,40 +467,21 @@ public class HUIControllerSetup extends AbstractControllerSetup<HUIControlSurfac
 
     private void updateVUandFaders ()
     {
-        final double upperBound = this.valueChanger.getUpperBound ();
         final boolean enableVUMeters = this.configuration.isEnableVUMeters ();
         final boolean hasMotorFaders = this.configuration.hasMotorFaders ();
 
         final ITrackBank tb = this.model.getCurrentTrackBank ();
-        IMidiOutput output;
-        final HUIControlSurface surface = this.getSurface ();
-        output = surface.getOutput ();
-        for (int channel = 0; channel < 8; channel++)
-        {
-            final ITrack track = tb.getItem (channel);
+        final IMidiOutput output = this.getSurface ().getOutput ();
 
-            // Update VU LEDs of channel
-            if (enableVUMeters)
-            {
-                final int vuLeft = track.getVuLeft ();
-                if (vuLeft != this.vuValuesL[channel])
-                {
-                    this.vuValuesL[channel] = vuLeft;
-                    final int scaledValue = (int) Math.floor (vuLeft * 12 / upperBound);
-                    output.sendPolyphonicAftertouch (channel, scaledValue);
-                }
-                final int vuRight = track.getVuRight ();
-                if (vuRight != this.vuValuesR[channel])
-                {
-                    this.vuValuesR[channel] = vuRight;
-                    final int scaledValue = (int) Math.floor (vuRight * 12 / upperBound);
-                    output.sendPolyphonicAftertouch (0x10 + channel, scaledValue);
-                }
-            }
+        // Update VU LEDs of the channels, the left meter of a channel has an even index
+        if (enableVUMeters)
+            this.vuReader.update (tb.getVuMeters (), System.currentTimeMillis (), (index, value, peak) -> output.sendPolyphonicAftertouch (0x10 * (index % 2) + index / 2, value));
 
-            // Update motor fader of channel
-            if (hasMotorFaders)
-                this.updateFaders (output, channel, track);
+        // Update motor faders of the channels
+        if (hasMotorFaders)
+        {
+            for (int channel = 0; channel < 8; channel++)
+                this.updateFaders (output, channel, tb.getItem (channel));
         }
     }
 
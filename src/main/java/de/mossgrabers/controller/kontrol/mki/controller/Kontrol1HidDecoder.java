@@ -0,0 +1,172 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.kontrol.mki.controller;
+
+import de.mossgrabers.framework.usb.HidInputEvents;
+import de.mossgrabers.framework.usb.IHidInputDecoder;
+
+
+/**
+ * Decodes the UI input reports of the Kontrol 1. The encoders 0-7 are the value knobs, encoder 8
+ * is the main knob. The buttons are indexed by their bit in the first 5 bytes of the report (8 *
+ * byte + bit). Value 0 is the first note of the keyboard.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class Kontrol1HidDecoder implements IHidInputDecoder
+{
+    /** The index of the main encoder. */
+    public static final int       MAIN_ENCODER       = 8;
+    /** The index of the value which contains the first note of the keyboard. */
+    public static final int       VALUE_FIRST_NOTE   = 0;
+
+    private static final byte     REPORT_ID_INPUT_UI = (byte) 1;
+    private static final int      NUM_BUTTON_BYTES   = 5;
+    private static final int      POS_ENCODERS       = 6;
+    private static final int      POS_FIRST_NOTE     = 36;
+
+    private static final int []   BUTTON_IDS         =
+    {
+        // Byte 0
+        Kontrol1ControlSurface.BUTTON_MAIN_ENCODER,
+        Kontrol1ControlSurface.BUTTON_PRESET_UP,
+        Kontrol1ControlSurface.BUTTON_ENTER,
+        Kontrol1ControlSurface.BUTTON_PRESET_DOWN,
+        Kontrol1ControlSurface.BUTTON_BROWSE,
+        Kontrol1ControlSurface.BUTTON_INSTANCE,
+        Kontrol1ControlSurface.BUTTON_OCTAVE_DOWN,
+        Kontrol1ControlSurface.BUTTON_OCTAVE_UP,
+        // Byte 1
+        Kontrol1ControlSurface.BUTTON_STOP,
+        Kontrol1ControlSurface.BUTTON_REC,
+        Kontrol1ControlSurface.BUTTON_PLAY,
+        Kontrol1ControlSurface.BUTTON_NAVIGATE_RIGHT,
+        Kontrol1ControlSurface.BUTTON_NAVIGATE_DOWN,
+        Kontrol1ControlSurface.BUTTON_NAVIGATE_LEFT,
+        Kontrol1ControlSurface.BUTTON_BACK,
+        Kontrol1ControlSurface.BUTTON_NAVIGATE_UP,
+        // Byte 2
+        Kontrol1ControlSurface.BUTTON_SHIFT,
+        Kontrol1ControlSurface.BUTTON_SCALE,
+        Kontrol1ControlSurface.BUTTON_ARP,
+        Kontrol1ControlSurface.BUTTON_LOOP,
+        Kontrol1ControlSurface.BUTTON_PAGE_RIGHT,
+        Kontrol1ControlSurface.BUTTON_PAGE_LEFT,
+        Kontrol1ControlSurface.BUTTON_RWD,
+        Kontrol1ControlSurface.BUTTON_FWD,
+        // Byte 3
+        Kontrol1ControlSurface.TOUCH_ENCODER_1,
+        Kontrol1ControlSurface.TOUCH_ENCODER_2,
+        Kontrol1ControlSurface.TOUCH_ENCODER_3,
+        Kontrol1ControlSurface.TOUCH_ENCODER_4,
+        Kontrol1ControlSurface.TOUCH_ENCODER_5,
+        Kontrol1ControlSurface.TOUCH_ENCODER_6,
+        Kontrol1ControlSurface.TOUCH_ENCODER_7,
+        Kontrol1ControlSurface.TOUCH_ENCODER_8,
+        // Byte 4
+        Kontrol1ControlSurface.TOUCH_ENCODER_MAIN,
+        -1,
+        -1,
+        -1,
+        -1,
+        -1,
+        -1,
+        -1
+    };
+
+    private int                   mainEncoderValue;
+    private final int []          encoderValues      = new int [8];
+    private final int []          buttonStates       = new int [NUM_BUTTON_BYTES];
+    private int                   firstNote          = 48;
+    private boolean               isFirstStateMsg    = true;
+
+
+    /**
+     * Get the ID of a button.
+     *
+     * @param index The index of the button as stored in the events
+     * @return The ID of the button, -1 if there is no button at that index
+     */
+    public static int getButtonID (final int index)
+    {
+        return index >= 0 && index < BUTTON_IDS.length ? BUTTON_IDS[index] : -1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public HidInputEvents createEvents ()
+    {
+        return new HidInputEvents (9, 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void decode (final byte reportID, final byte [] data, final int length, final HidInputEvents events)
+    {
+        if (reportID != REPORT_ID_INPUT_UI || length <= POS_FIRST_NOTE)
+            return;
+
+        boolean encoderChange = false;
+
+        // Decode main knob
+        final int currentEncoderValue = Byte.toUnsignedInt (data[5]);
+        if (currentEncoderValue != this.mainEncoderValue)
+        {
+            final boolean valueIncreased = (this.mainEncoderValue < currentEncoderValue || this.mainEncoderValue == 0x0F && currentEncoderValue == 0) && !(this.mainEncoderValue == 0 && currentEncoderValue == 0x0F);
+            this.mainEncoderValue = currentEncoderValue;
+            if (!this.isFirstStateMsg)
+                events.addEncoderDelta (MAIN_ENCODER, valueIncreased ? 1 : -1);
+            encoderChange = true;
+        }
+
+        // Decode 8 value knobs
+        for (int encIndex = 0; encIndex < 8; encIndex++)
+        {
+            final int pos = POS_ENCODERS + 2 * encIndex;
+
+            final int value = Byte.toUnsignedInt (data[pos]) | Byte.toUnsignedInt (data[pos + 1]) << 8;
+            if (this.encoderValues[encIndex] == value)
+                continue;
+
+            final int hValue = Byte.toUnsignedInt (data[pos + 1]);
+            final int prevHValue = (this.encoderValues[encIndex] & 0xF00) >> 8;
+            final boolean valueIncreased = (this.encoderValues[encIndex] < value || prevHValue == 3 && hValue == 0) && !(prevHValue == 0 && hValue == 3);
+            this.encoderValues[encIndex] = value;
+            if (!this.isFirstStateMsg)
+                events.addEncoderDelta (encIndex, valueIncreased ? 1 : -1);
+            encoderChange = true;
+        }
+
+        this.isFirstStateMsg = false;
+
+        // Test the pressed buttons, don't test touch events on encoder change to prevent
+        // flickering
+        final int numButtonBytes = encoderChange ? 3 : NUM_BUTTON_BYTES;
+        for (int i = 0; i < numButtonBytes; i++)
+        {
+            final int state = Byte.toUnsignedInt (data[i]);
+            final int changed = state ^ this.buttonStates[i];
+            if (changed == 0)
+                continue;
+            this.buttonStates[i] = state;
+
+            for (int bit = 0; bit < 8; bit++)
+            {
+                final int mask = 1 << bit;
+                final int index = i * 8 + bit;
+                if ((changed & mask) != 0 && BUTTON_IDS[index] != -1)
+                    events.setButton (index, (state & mask) != 0);
+            }
+        }
+
+        if (this.firstNote != data[POS_FIRST_NOTE])
+        {
+            this.firstNote = data[POS_FIRST_NOTE];
+            events.setValue (VALUE_FIRST_NOTE, this.firstNote);
+        }
+    }
+}
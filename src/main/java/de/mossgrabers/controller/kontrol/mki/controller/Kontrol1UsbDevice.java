@@ -6,9 +6,11 @@ package de.mossgrabers.controller.kontrol.mki.controller;
 
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.usb.HidInputEvents;
 import de.mossgrabers.framework.usb.IHidDevice;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.usb.UsbTransferQueue;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
@@ -325,71 +327,6 @@ public class Kontrol1UsbDevice
         (byte) 129
     };
 
-    private static final int []                BYTE_0                    =
-    {
-        Kontrol1ControlSurface.BUTTON_MAIN_ENCODER,
-        Kontrol1ControlSurface.BUTTON_PRESET_UP,
-        Kontrol1ControlSurface.BUTTON_ENTER,
-        Kontrol1ControlSurface.BUTTON_PRESET_DOWN,
-        Kontrol1ControlSurface.BUTTON_BROWSE,
-        Kontrol1ControlSurface.BUTTON_INSTANCE,
-        Kontrol1ControlSurface.BUTTON_OCTAVE_DOWN,
-        Kontrol1ControlSurface.BUTTON_OCTAVE_UP
-    };
-
-    private static final int []                BYTE_1                    =
-    {
-        Kontrol1ControlSurface.BUTTON_STOP,
-        Kontrol1ControlSurface.BUTTON_REC,
-        Kontrol1ControlSurface.BUTTON_PLAY,
-        Kontrol1ControlSurface.BUTTON_NAVIGATE_RIGHT,
-        Kontrol1ControlSurface.BUTTON_NAVIGATE_DOWN,
-        Kontrol1ControlSurface.BUTTON_NAVIGATE_LEFT,
-        Kontrol1ControlSurface.BUTTON_BACK,
-        Kontrol1ControlSurface.BUTTON_NAVIGATE_UP
-    };
-
-    private static final int []                BYTE_2                    =
-    {
-        Kontrol1ControlSurface.BUTTON_SHIFT,
-        Kontrol1ControlSurface.BUTTON_SCALE,
-        Kontrol1ControlSurface.BUTTON_ARP,
-        Kontrol1ControlSurface.BUTTON_LOOP,
-        Kontrol1ControlSurface.BUTTON_PAGE_RIGHT,
-        Kontrol1ControlSurface.BUTTON_PAGE_LEFT,
-        Kontrol1ControlSurface.BUTTON_RWD,
-        Kontrol1ControlSurface.BUTTON_FWD
-    };
-
-    private static final int []                BYTE_3                    =
-    {
-        Kontrol1ControlSurface.TOUCH_ENCODER_1,
-        Kontrol1ControlSurface.TOUCH_ENCODER_2,
-        Kontrol1ControlSurface.TOUCH_ENCODER_3,
-        Kontrol1ControlSurface.TOUCH_ENCODER_4,
-        Kontrol1ControlSurface.TOUCH_ENCODER_5,
-        Kontrol1ControlSurface.TOUCH_ENCODER_6,
-        Kontrol1ControlSurface.TOUCH_ENCODER_7,
-        Kontrol1ControlSurface.TOUCH_ENCODER_8
-    };
-
-    private static final int []                BYTE_4                    =
-    {
-        Kontrol1ControlSurface.TOUCH_ENCODER_MAIN
-    };
-
-    private static final int []                TEST_BITS                 =
-    {
-        0x01,
-        0x02,
-        0x04,
-        0x08,
-        0x10,
-        0x20,
-        0x40,
-        0x80
-    };
-
     private static final int []                KEY_SIZES                 =
     {
         25,
@@ -398,7 +335,6 @@ public class Kontrol1UsbDevice
         88
     };
 
-    private static final byte                  REPORT_ID_INPUT_UI        = (byte) 1;
     private static final byte                  REPORT_ID_OUTPUT_LEDS     = (byte) 0x80;
     private static final byte                  REPORT_ID_OUTPUT_KEY_LEDS = (byte) 0x82;
     private static final byte                  REPORT_ID_OUTPUT_INIT     = (byte) 0xA0;
@@ -407,11 +343,15 @@ public class Kontrol1UsbDevice
     private static final int                   SIZE_DISPLAY              = 248;
     private static final int                   SIZE_BUTTON_LEDS          = 25;
 
+    private static final int                   TIMEOUT                   = 1000;
+    private static final int                   MAX_TRANSFERS             = 16;
+
     private final int                          sizeKeyLEDs;
     private final IMemoryBlock                 displayBlock;
     private final IMemoryBlock                 ledBlock;
     private final IMemoryBlock                 keyLedBlock;
     private final IMemoryBlock                 initBlock;
+    private final UsbTransferQueue             transferQueue;
 
     private static final Map<Integer, Integer> LED_MAPPING               = new HashMap<> (21);
 
@@ -422,8 +362,6 @@ public class Kontrol1UsbDevice
 
     private UIChangeCallback                   callback;
 
-    private int                                mainEncoderValue;
-    private int []                             encoderValues             = new int [8];
     private int                                firstNote                 = 48;
 
     private byte []                            buttonStates              = new byte [21];
@@ -439,8 +377,6 @@ public class Kontrol1UsbDevice
 
     private final byte []                      line0                     = new byte [SIZE_DISPLAY];
 
-    private boolean                            isFirstStateMsg           = true;
-
     static
     {
         LED_MAPPING.put (Integer.valueOf (Kontrol1ControlSurface.BUTTON_SHIFT), Integer.valueOf (0));
@@ -483,7 +419,7 @@ public class Kontrol1UsbDevice
             this.usbDevice = host.getUsbDevice (0);
             this.hidDevice = this.usbDevice.getHidDevice ();
             if (this.hidDevice != null)
-                this.hidDevice.setCallback ( (reportID, data, received) -> this.processHIDMessage (reportID, data));
+                this.hidDevice.setInputDecoder (new Kontrol1HidDecoder (), events -> this.host.scheduleTask ( () -> this.processInput (events), 0));
         }
         catch (final UsbException ex)
         {
@@ -498,6 +434,7 @@ public class Kontrol1UsbDevice
         this.ledBlock = host.createMemoryBlock (SIZE_BUTTON_LEDS);
         this.keyLedBlock = host.createMemoryBlock (this.sizeKeyLEDs);
         this.initBlock = host.createMemoryBlock (2);
+        this.transferQueue = new UsbTransferQueue (host, "Kontrol 1", MAX_TRANSFERS, TIMEOUT);
 
         // To send black LEDs on startup
         this.oldKeyColors[0] = -1;
@@ -538,7 +475,7 @@ public class Kontrol1UsbDevice
         {
             final ByteBuffer buffer = this.initBlock.createByteBuffer ();
             padBuffer (buffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_INIT, this.initBlock);
+            this.sendOutputReport (REPORT_ID_OUTPUT_INIT, 0, this.initBlock);
         }
     }
 
@@ -658,7 +595,8 @@ public class Kontrol1UsbDevice
      */
     public void sendDisplayData ()
     {
-        if (this.hidDevice == null)
+        // The display data is compared to the sent data, therefore skipped data is sent later
+        if (this.hidDevice == null || this.transferQueue.skipIfSaturated ())
             return;
 
         synchronized (this.displayBlock)
@@ -693,7 +631,7 @@ public class Kontrol1UsbDevice
             if (!Arrays.equals (this.line0, l0))
             {
                 System.arraycopy (l0, 0, this.line0, 0, this.line0.length);
-                this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
+                this.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, 0, this.displayBlock);
             }
 
             for (int row = 1; row < 3; row++)
@@ -707,7 +645,7 @@ public class Kontrol1UsbDevice
                         displayBuffer.put (this.getCharacter (row - 1, j));
 
                     padBuffer (displayBuffer);
-                    this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, this.displayBlock);
+                    this.sendOutputReport (REPORT_ID_OUTPUT_DISPLAY, row, this.displayBlock);
                 }
             }
         }
@@ -719,10 +657,29 @@ public class Kontrol1UsbDevice
      */
     public void shutdown ()
     {
+        this.transferQueue.shutdown ();
         this.hidDevice = null;
     }
 
 
+    /**
+     * Send an output report asynchronously. The data of the memory block is copied, therefore it
+     * can be modified afterwards. A waiting report with the same ID and row is replaced.
+     *
+     * @param reportID The report (= function/method) number
+     * @param row The display row, 0 for other reports
+     * @param memoryBlock The memory block with the data to send
+     */
+    private void sendOutputReport (final byte reportID, final int row, final IMemoryBlock memoryBlock)
+    {
+        final Integer key = Integer.valueOf (Byte.toUnsignedInt (reportID) << 8 | row);
+        this.transferQueue.submitCopy (key, memoryBlock, data -> {
+            final IHidDevice device = this.hidDevice;
+            return device == null ? -1 : device.sendOutputReport (reportID, data);
+        }, null);
+    }
+
+
     /**
      * Set a button LED.
      *
@@ -760,7 +717,7 @@ public class Kontrol1UsbDevice
             ledBuffer.clear ();
             ledBuffer.put (this.buttonStates);
             padBuffer (ledBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_LEDS, this.ledBlock);
+            this.sendOutputReport (REPORT_ID_OUTPUT_LEDS, 0, this.ledBlock);
         }
     }
 
@@ -806,7 +763,7 @@ public class Kontrol1UsbDevice
             keyLedBuffer.clear ();
             keyLedBuffer.put (this.keyColors, 0, this.sizeKeyLEDs);
             padBuffer (keyLedBuffer);
-            this.hidDevice.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, this.keyLedBlock);
+            this.sendOutputReport (REPORT_ID_OUTPUT_KEY_LEDS, 0, this.keyLedBlock);
         }
     }
 
@@ -832,69 +789,43 @@ public class Kontrol1UsbDevice
 
 
     /**
-     * Process the received HID message.
+     * Process the decoded changes of a received HID message. One call handles all changes of the
+     * message.
      *
-     * @param reportID The report (= function/method) number
-     * @param data The data
+     * @param events The decoded changes
      */
-    private void processHIDMessage (final byte reportID, final byte [] data)
+    private void processInput (final HidInputEvents events)
     {
-        if (reportID != REPORT_ID_INPUT_UI)
-            return;
+        if (events.hasValueChanged (Kontrol1HidDecoder.VALUE_FIRST_NOTE))
+            this.firstNote = events.getValue (Kontrol1HidDecoder.VALUE_FIRST_NOTE);
 
-        boolean encoderChange = false;
-
-        // Decode main knob
-        final int currentEncoderValue = Byte.toUnsignedInt (data[5]);
-        if (currentEncoderValue != this.mainEncoderValue)
-        {
-            final boolean valueIncreased = (this.mainEncoderValue < currentEncoderValue || this.mainEncoderValue == 0x0F && currentEncoderValue == 0) && !(this.mainEncoderValue == 0 && currentEncoderValue == 0x0F);
-            this.mainEncoderValue = currentEncoderValue;
-            if (!this.isFirstStateMsg)
-                this.host.scheduleTask ( () -> this.callback.mainEncoderChanged (valueIncreased), 0);
-            encoderChange = true;
-        }
+        if (this.callback == null)
+            return;
 
-        // Decode 8 value knobs
-        final int start = 6;
+        // Encoders
+        int delta = events.getEncoderDelta (Kontrol1HidDecoder.MAIN_ENCODER);
+        for (int i = Math.abs (delta); i > 0; i--)
+            this.callback.mainEncoderChanged (delta > 0);
         for (int encIndex = 0; encIndex < 8; encIndex++)
         {
-            final int pos = start + 2 * encIndex;
-
-            final int value = Byte.toUnsignedInt (data[pos]) | Byte.toUnsignedInt (data[pos + 1]) << 8;
-            final int hValue = Byte.toUnsignedInt (data[pos + 1]);
-            if (this.encoderValues[encIndex] != value)
-            {
-                final int prevHValue = (this.encoderValues[encIndex] & 0xF00) >> 8;
-                final boolean valueIncreased = (this.encoderValues[encIndex] < value || prevHValue == 3 && hValue == 0) && !(prevHValue == 0 && hValue == 3);
-                this.encoderValues[encIndex] = value;
-                if (!this.isFirstStateMsg)
-                {
-                    final int ei = encIndex;
-                    this.host.scheduleTask ( () -> this.callback.encoderChanged (ei, valueIncreased), 0);
-                }
-                encoderChange = true;
-            }
+            delta = events.getEncoderDelta (encIndex);
+            for (int i = Math.abs (delta); i > 0; i--)
+                this.callback.encoderChanged (encIndex, delta > 0);
         }
 
-        this.isFirstStateMsg = false;
-
-        // Test the pressed buttons
-        this.testByteForButtons (data[0], BYTE_0);
-        this.testByteForButtons (data[1], BYTE_1);
-        this.testByteForButtons (data[2], BYTE_2);
-        // Don't test touch events on encoder change to prevent flickering
-        if (!encoderChange)
+        // Buttons
+        final long pressed = events.getPressedButtons ();
+        long changed = pressed | events.getReleasedButtons ();
+        while (changed != 0)
         {
-            this.testByteForButtons (data[3], BYTE_3);
-            this.testByteForButtons (data[4], BYTE_4);
+            final int index = Long.numberOfTrailingZeros (changed);
+            changed &= changed - 1;
+            this.callback.buttonChange (Kontrol1HidDecoder.getButtonID (index), (pressed & 1L << index) != 0);
         }
 
-        if (this.firstNote != data[36])
-        {
-            this.firstNote = data[36];
-            this.host.scheduleTask ( () -> this.callback.keyboardChanged (this.firstNote), 0);
-        }
+        // Keyboard
+        if (events.hasValueChanged (Kontrol1HidDecoder.VALUE_FIRST_NOTE))
+            this.callback.keyboardChanged (this.firstNote);
     }
 
 
@@ -938,21 +869,6 @@ public class Kontrol1UsbDevice
     }
 
 
-    private void testByteForButtons (final byte b, final int [] buttons)
-    {
-        if (this.callback == null)
-            return;
-
-        final int t = Byte.toUnsignedInt (b);
-        for (int i = 0; i < buttons.length; i++)
-        {
-            final int button = buttons[i];
-            final boolean isPressed = (t & TEST_BITS[i]) > 0;
-            this.host.scheduleTask ( () -> this.callback.buttonChange (button, isPressed), 0);
-        }
-    }
-
-
     /**
      * Turn off all button LEDs.
      */
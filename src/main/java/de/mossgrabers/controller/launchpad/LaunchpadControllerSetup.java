@@ -136,6 +136,8 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
     {
         final ModelSetup ms = new ModelSetup ();
         ms.setHasFullFlatTrackList (true);
+        ms.setHasPageCache (true);
+        ms.setNumCachedClipPages (8);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
         final ITrackBank trackBank = this.model.getTrackBank ();
         trackBank.addSelectionObserver ( (index, isSelected) -> this.handleTrackChange (isSelected));
@@ -139,9 +139,9 @@ public abstract class AbstractFaderView extends SessionView
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onViewActivate ()
     {
-        super.onActivate ();
+        super.onViewActivate ();
 
         this.surface.clearFaders ();
         for (int i = 0; i < 8; i++)
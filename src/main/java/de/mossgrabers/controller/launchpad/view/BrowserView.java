@@ -63,11 +63,11 @@ public class BrowserView extends AbstractView<LaunchpadControlSurface, Launchpad
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onViewActivate ()
     {
         this.surface.setLaunchpadToPrgMode ();
 
-        super.onActivate ();
+        super.onViewActivate ();
 
         this.surface.scheduleTask (this::delayedUpdateArrowButtons, 150);
     }
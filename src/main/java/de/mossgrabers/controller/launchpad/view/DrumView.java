@@ -32,9 +32,9 @@ public class DrumView extends DrumViewBase
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onViewActivate ()
     {
-        super.onActivate ();
+        super.onViewActivate ();
         this.surface.setLaunchpadToPrgMode ();
         this.surface.scheduleTask (this::delayedUpdateArrowButtons, 150);
     }
@@ -57,9 +57,9 @@ public class PlayView extends AbstractPlayView<LaunchpadControlSurface, Launchpa
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onViewActivate ()
     {
-        super.onActivate ();
+        super.onViewActivate ();
         this.initMaxVelocity ();
         this.surface.setLaunchpadToPrgMode ();
         this.surface.scheduleTask (this::delayedUpdateArrowButtons, 150);
@@ -34,9 +34,9 @@ public class RaindropsView extends AbstractRaindropsView<LaunchpadControlSurface
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onViewActivate ()
     {
-        super.onActivate ();
+        super.onViewActivate ();
         this.surface.setLaunchpadToPrgMode ();
         this.surface.scheduleTask (this::delayedUpdateArrowButtons, 150);
     }
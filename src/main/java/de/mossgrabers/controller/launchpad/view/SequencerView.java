@@ -34,9 +34,9 @@ public class SequencerView extends AbstractNoteSequencerView<LaunchpadControlSur
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onViewActivate ()
     {
-        super.onActivate ();
+        super.onViewActivate ();
         this.surface.setLaunchpadToPrgMode ();
         this.surface.scheduleTask (this::delayedUpdateArrowButtons, 150);
     }
@@ -62,11 +62,11 @@ public class SessionView extends AbstractSessionView<LaunchpadControlSurface, La
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onViewActivate ()
     {
         this.switchLaunchpadMode ();
 
-        super.onActivate ();
+        super.onViewActivate ();
 
         this.surface.scheduleTask (this::delayedUpdateArrowButtons, 150);
     }
@@ -41,10 +41,10 @@ public class ShiftView extends AbstractView<LaunchpadControlSurface, LaunchpadCo
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onViewActivate ()
     {
         this.surface.setLaunchpadToPrgMode ();
-        super.onActivate ();
+        super.onViewActivate ();
     }
 
 
@@ -29,6 +29,8 @@ public class UserView extends AbstractFaderView
     public UserView (final LaunchpadControlSurface surface, final IModel model)
     {
         super (surface, model);
+
+        this.addObservedComponent (model.getUserParameterBank ());
     }
 
 
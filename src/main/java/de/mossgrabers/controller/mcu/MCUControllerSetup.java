@@ -76,6 +76,7 @@ import de.mossgrabers.framework.daw.ISendBank;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.VuMeterReader;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ITrack;
@@ -129,11 +130,15 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
     }
 
-    private final int [] masterVuValues   = new int [2];
-    private int          masterFaderValue = -1;
-    private final int [] vuValues         = new int [36];
-    private final int [] faderValues      = new int [36];
-    private final int    numMCUDevices;
+    // The meters of the device have 13 steps and decay by themselves, therefore levels need to be
+    // sent again before the device lets them fall back
+    private static final long   VU_REFRESH_TIME  = 250;
+
+    private final VuMeterReader vuReader         = new VuMeterReader (13, false, VU_REFRESH_TIME);
+    private final VuMeterReader masterVuReader   = new VuMeterReader (13, true, VU_REFRESH_TIME);
+    private int                 masterFaderValue = -1;
+    private final int []        faderValues      = new int [36];
+    private final int           numMCUDevices;
 
 
     /**
@@ -151,9 +156,10 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         this.numMCUDevices = numMCUDevices;
 
-        Arrays.fill (this.vuValues, -1);
+        this.vuReader.setRounded (true);
+        this.masterVuReader.setRounded (true);
+
         Arrays.fill (this.faderValues, -1);
-        Arrays.fill (this.masterVuValues, -1);
 
         this.colorManager = new ColorManager ();
         this.valueChanger = new Relative2ValueChanger (16241 + 1, 100, 10);
@@ -578,62 +584,33 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
     private void updateVUandFaders (final boolean isShiftPressed)
     {
-        final double upperBound = this.valueChanger.getUpperBound ();
         final boolean enableVUMeters = this.configuration.isEnableVUMeters ();
         final boolean hasMotorFaders = this.configuration.hasMotorFaders ();
 
         final ITrackBank tb = this.model.getCurrentTrackBank ();
-        IMidiOutput output;
-        for (int index = 0; index < this.numMCUDevices; index++)
-        {
-            final MCUControlSurface surface = this.getSurface (index);
-            output = surface.getOutput ();
-            final int extenderOffset = surface.getExtenderOffset ();
-            for (int i = 0; i < 8; i++)
-            {
-                final int channel = extenderOffset + i;
-                final ITrack track = tb.getItem (channel);
-
-                // Update VU LEDs of channel
-                if (enableVUMeters)
-                {
-                    final int vu = track.getVu ();
-                    if (vu != this.vuValues[channel])
-                    {
-                        this.vuValues[channel] = vu;
-                        final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                        output.sendChannelAftertouch (0x10 * i + scaledValue, 0);
-                    }
-                }
-
-                // Update motor fader of channel
-                if (hasMotorFaders)
-                    this.updateFaders (output, i, channel, track);
-            }
-        }
-
         final IMasterTrack masterTrack = this.model.getMasterTrack ();
+        final IMidiOutput output = this.getSurface ().getOutput ();
 
-        final MCUControlSurface surface = this.getSurface ();
-        output = surface.getOutput ();
-
-        // Stereo VU of master channel
+        // Update VU LEDs of the channels and the stereo VU of the master channel
         if (enableVUMeters)
         {
-            int vu = masterTrack.getVuLeft ();
-            if (vu != this.masterVuValues[0])
-            {
-                this.masterVuValues[0] = vu;
-                final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                output.sendChannelAftertouch (1, scaledValue, 0);
-            }
+            final long now = System.currentTimeMillis ();
+            this.vuReader.update (tb.getVuMeters (), now, this::sendChannelVu);
+            this.masterVuReader.update (masterTrack.getVuMeters (), now, (index, value, peak) -> output.sendChannelAftertouch (1, 0x10 * index + value, 0));
+        }
 
-            vu = masterTrack.getVuRight ();
-            if (vu != this.masterVuValues[1])
+        // Update motor faders of the channels
+        if (hasMotorFaders)
+        {
+            for (int index = 0; index < this.numMCUDevices; index++)
             {
-                this.masterVuValues[1] = vu;
-                final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                output.sendChannelAftertouch (1, 0x10 + scaledValue, 0);
+                final MCUControlSurface surface = this.getSurface (index);
+                final int extenderOffset = surface.getExtenderOffset ();
+                for (int i = 0; i < 8; i++)
+                {
+                    final int channel = extenderOffset + i;
+                    this.updateFaders (surface.getOutput (), i, channel, tb.getItem (channel));
+                }
             }
         }
 
@@ -650,6 +627,21 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     }
 
 
+    private void sendChannelVu (final int channel, final int value, final int peak)
+    {
+        for (int index = 0; index < this.numMCUDevices; index++)
+        {
+            final MCUControlSurface surface = this.getSurface (index);
+            final int i = channel - surface.getExtenderOffset ();
+            if (i >= 0 && i < 8)
+            {
+                surface.getOutput ().sendChannelAftertouch (0x10 * i + value, 0);
+                return;
+            }
+        }
+    }
+
+
     private void updateFaders (final IMidiOutput output, final int index, final int channel, final ITrack track)
     {
         int value = track.getVolume ();
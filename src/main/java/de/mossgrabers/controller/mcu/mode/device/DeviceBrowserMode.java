@@ -49,7 +49,7 @@ public class DeviceBrowserMode extends BaseMode
 
     /** {@inheritDoc} */
     @Override
-    public void onDeactivate ()
+    protected void onModeDeactivate ()
     {
         this.model.getBrowser ().stopBrowsing (true);
     }
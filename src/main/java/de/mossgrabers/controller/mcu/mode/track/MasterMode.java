@@ -37,7 +37,7 @@ public class MasterMode extends BaseMode
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onModeActivate ()
     {
         this.setActive (true);
     }
@@ -45,7 +45,7 @@ public class MasterMode extends BaseMode
 
     /** {@inheritDoc} */
     @Override
-    public void onDeactivate ()
+    protected void onModeDeactivate ()
     {
         this.setActive (false);
     }
@@ -11,6 +11,7 @@ import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlConfiguration;
+import de.mossgrabers.framework.osc.OpenSoundControlSender;
 
 
 /**
@@ -30,6 +31,27 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     public static final Integer SEND_PORT        = Integer.valueOf (52);
     /** ID for value resolution setting. */
     public static final Integer VALUE_RESOLUTION = Integer.valueOf (53);
+    /** ID for maximum packet size setting. */
+    public static final Integer MAX_PACKET_SIZE  = Integer.valueOf (54);
+    /** ID for packets per second setting. */
+    public static final Integer PACKETS_PER_SEC  = Integer.valueOf (55);
+    /** ID for the further clients setting. */
+    public static final Integer FURTHER_CLIENTS  = Integer.valueOf (56);
+    /** ID for the VU meter stream setting. */
+    public static final Integer VU_STREAM        = Integer.valueOf (57);
+    /** ID for the VU meter stream rate setting. */
+    public static final Integer VU_STREAM_RATE   = Integer.valueOf (58);
+    /** ID for the VU meter peak hold setting. */
+    public static final Integer VU_PEAK_HOLD     = Integer.valueOf (59);
+    /** ID for the number of tracks in a bank setting. */
+    public static final Integer BANK_TRACKS      = Integer.valueOf (61);
+    /** ID for the number of scenes in a bank setting. */
+    public static final Integer BANK_SCENES      = Integer.valueOf (62);
+    /** ID for the number of sends in a bank setting. */
+    public static final Integer BANK_SENDS       = Integer.valueOf (63);
+
+    /** The maximum number of tracks and scenes in a bank. */
+    public static final int     MAX_BANK_SIZE    = 256;
 
 
     /** The resolution for values. */
@@ -44,6 +66,18 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /** How the VU meters are sent. */
+    public enum VuStream
+    {
+        /** Each track sends its' VU meter with its' own message. */
+        OFF,
+        /** All VU meters are sent as one message with an integer value for each meter. */
+        INTEGERS,
+        /** All VU meters are sent as one message with a blob, 2 bytes (big-endian) per meter. */
+        BLOB
+    }
+
+
     private static final String [] VALUE_RESOLUTION_OPTIONS =
     {
         "Low (128)",
@@ -51,10 +85,26 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         "High (16384)"
     };
 
+    private static final String [] VU_STREAM_OPTIONS        =
+    {
+        "Off",
+        "Integers",
+        "Blob"
+    };
+
     private int                    receivePort              = 8000;
     private String                 sendHost                 = DEFAULT_SERVER;
     private int                    sendPort                 = 9000;
     private ValueResolution        valueResolution          = ValueResolution.LOW;
+    private int                    maxPacketSize            = OpenSoundControlSender.DEFAULT_PACKET_SIZE;
+    private int                    packetsPerSecond         = OpenSoundControlSender.DEFAULT_PACKETS_PER_SECOND;
+    private String []              furtherClients           = new String [0];
+    private VuStream               vuStream                 = VuStream.OFF;
+    private int                    vuStreamRate             = 20;
+    private boolean                isVuPeakHold             = false;
+    private int                    bankTracks               = 8;
+    private int                    bankScenes               = 8;
+    private int                    bankSends                = 8;
 
 
     /**
@@ -96,6 +146,13 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         });
         sendPortSetting.setEnabled (false);
 
+        final IStringSetting furtherClientsSetting = globalSettings.getStringSetting ("Further clients (host:port, ...)", CATEGORY_SETUP, 100, "");
+        furtherClientsSetting.addValueObserver (value -> {
+            final String trimmed = value.trim ();
+            this.furtherClients = trimmed.isEmpty () ? new String [0] : trimmed.split ("\\s*[,;]\\s*");
+            this.notifyObservers (FURTHER_CLIENTS);
+        });
+
         final IEnumSetting valueResolutionSetting = globalSettings.getEnumSetting ("Value resolution", CATEGORY_SETUP, VALUE_RESOLUTION_OPTIONS, VALUE_RESOLUTION_OPTIONS[0]);
         valueResolutionSetting.addValueObserver (value -> {
             if (VALUE_RESOLUTION_OPTIONS[0].equals (value))
@@ -108,6 +165,40 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
             this.notifyObservers (VALUE_RESOLUTION);
         });
 
+        final IIntegerSetting maxPacketSizeSetting = globalSettings.getRangeSetting ("Max. packet size (MTU)", CATEGORY_SETUP, 512, 65507, 1, "Bytes", OpenSoundControlSender.DEFAULT_PACKET_SIZE);
+        maxPacketSizeSetting.addValueObserver (value -> {
+            this.maxPacketSize = value.intValue ();
+            this.notifyObservers (MAX_PACKET_SIZE);
+        });
+
+        final IIntegerSetting packetsPerSecondSetting = globalSettings.getRangeSetting ("Max. packets per second", CATEGORY_SETUP, 10, 10000, 1, "", OpenSoundControlSender.DEFAULT_PACKETS_PER_SECOND);
+        packetsPerSecondSetting.addValueObserver (value -> {
+            this.packetsPerSecond = value.intValue ();
+            this.notifyObservers (PACKETS_PER_SEC);
+        });
+
+        // The banks are created on startup, therefore changes require a restart
+        final IIntegerSetting bankTracksSetting = globalSettings.getRangeSetting ("Bank size: tracks (requires restart)", CATEGORY_SETUP, 1, MAX_BANK_SIZE, 1, "", 8);
+        this.bankTracks = bankTracksSetting.get ();
+        bankTracksSetting.addValueObserver (value -> {
+            this.bankTracks = value.intValue ();
+            this.notifyObservers (BANK_TRACKS);
+        });
+
+        final IIntegerSetting bankScenesSetting = globalSettings.getRangeSetting ("Bank size: scenes (requires restart)", CATEGORY_SETUP, 1, MAX_BANK_SIZE, 1, "", 8);
+        this.bankScenes = bankScenesSetting.get ();
+        bankScenesSetting.addValueObserver (value -> {
+            this.bankScenes = value.intValue ();
+            this.notifyObservers (BANK_SCENES);
+        });
+
+        final IIntegerSetting bankSendsSetting = globalSettings.getRangeSetting ("Bank size: sends (requires restart)", CATEGORY_SETUP, 1, 64, 1, "", 8);
+        this.bankSends = bankSendsSetting.get ();
+        bankSendsSetting.addValueObserver (value -> {
+            this.bankSends = value.intValue ();
+            this.notifyObservers (BANK_SENDS);
+        });
+
         ///////////////////////////
         // Transport
 
@@ -124,6 +215,28 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
 
         this.activateEnableVUMetersSetting (globalSettings);
 
+        final IEnumSetting vuStreamSetting = globalSettings.getEnumSetting ("VU meter stream", CATEGORY_WORKFLOW, VU_STREAM_OPTIONS, VU_STREAM_OPTIONS[0]);
+        vuStreamSetting.addValueObserver (value -> {
+            for (int i = 0; i < VU_STREAM_OPTIONS.length; i++)
+            {
+                if (VU_STREAM_OPTIONS[i].equals (value))
+                    this.vuStream = VuStream.values ()[i];
+            }
+            this.notifyObservers (VU_STREAM);
+        });
+
+        final IIntegerSetting vuStreamRateSetting = globalSettings.getRangeSetting ("VU meter stream rate", CATEGORY_WORKFLOW, 1, 60, 1, "Hz", 20);
+        vuStreamRateSetting.addValueObserver (value -> {
+            this.vuStreamRate = value.intValue ();
+            this.notifyObservers (VU_STREAM_RATE);
+        });
+
+        final IEnumSetting vuPeakHoldSetting = globalSettings.getEnumSetting ("VU meter stream peak hold", CATEGORY_WORKFLOW, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        vuPeakHoldSetting.addValueObserver (value -> {
+            this.isVuPeakHold = ON_OFF_OPTIONS[1].equals (value);
+            this.notifyObservers (VU_PEAK_HOLD);
+        });
+
         ///////////////////////////
         // Debug
 
@@ -164,6 +277,85 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /**
+     * Get the further clients to which the extension sends OSC messages as well. Changes require a
+     * restart of the extension.
+     *
+     * @return The clients, formatted as "host:port"
+     */
+    public String [] getFurtherClients ()
+    {
+        return this.furtherClients;
+    }
+
+
+    /**
+     * Get how the VU meters are sent.
+     *
+     * @return The VU meter stream mode
+     */
+    public VuStream getVuStream ()
+    {
+        return this.vuStream;
+    }
+
+
+    /**
+     * Get the rate with which the VU meter stream is sent.
+     *
+     * @return The number of messages per second
+     */
+    public int getVuStreamRate ()
+    {
+        return this.vuStreamRate;
+    }
+
+
+    /**
+     * Should the VU meter stream contain the peak hold values as well?
+     *
+     * @return True if enabled
+     */
+    public boolean isVuPeakHold ()
+    {
+        return this.isVuPeakHold;
+    }
+
+
+    /**
+     * Get the number of tracks in the track banks. Changes require a restart of the extension.
+     *
+     * @return The number of tracks
+     */
+    public int getBankTracks ()
+    {
+        return this.bankTracks;
+    }
+
+
+    /**
+     * Get the number of scenes in the scene and clip banks. Changes require a restart of the
+     * extension.
+     *
+     * @return The number of scenes
+     */
+    public int getBankScenes ()
+    {
+        return this.bankScenes;
+    }
+
+
+    /**
+     * Get the number of sends in the send banks. Changes require a restart of the extension.
+     *
+     * @return The number of sends
+     */
+    public int getBankSends ()
+    {
+        return this.bankSends;
+    }
+
+
     /**
      * Get the selected value resolution.
      *
@@ -173,4 +365,26 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     {
         return this.valueResolution;
     }
+
+
+    /**
+     * Get the maximum size of an UDP packet sent to the OSC client.
+     *
+     * @return The size in bytes
+     */
+    public int getMaxPacketSize ()
+    {
+        return this.maxPacketSize;
+    }
+
+
+    /**
+     * Get the maximum number of UDP packets sent per second to the OSC client.
+     *
+     * @return The number of packets
+     */
+    public int getPacketsPerSecond ()
+    {
+        return this.packetsPerSecond;
+    }
 }
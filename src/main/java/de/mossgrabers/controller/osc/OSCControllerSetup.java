@@ -16,6 +16,7 @@ import de.mossgrabers.controller.osc.module.SceneModule;
 import de.mossgrabers.controller.osc.module.TrackModule;
 import de.mossgrabers.controller.osc.module.TransportModule;
 import de.mossgrabers.controller.osc.module.UserModule;
+import de.mossgrabers.controller.osc.module.VuMeterModule;
 import de.mossgrabers.controller.osc.protocol.OSCParser;
 import de.mossgrabers.controller.osc.protocol.OSCWriter;
 import de.mossgrabers.framework.configuration.ISettingsUI;
@@ -31,11 +32,15 @@ import de.mossgrabers.framework.daw.ModelSetup;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.osc.AbstractOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.osc.OpenSoundControlRecorder;
+import de.mossgrabers.framework.osc.OpenSoundControlSender;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -48,9 +53,12 @@ import java.util.List;
  */
 public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<OSCConfiguration>, OSCConfiguration>
 {
-    private OSCWriter               writer;
-    private KeyManager              keyManager;
-    private IOpenSoundControlServer oscServer;
+    private final List<OpenSoundControlSender> oscSenders = new ArrayList<> ();
+    private OSCWriter                          writer;
+    private OSCParser                          parser;
+    private OpenSoundControlRecorder           recorder;
+    private KeyManager                         keyManager;
+    private IOpenSoundControlServer            oscServer;
 
 
     /**
@@ -75,10 +83,22 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     @Override
     public void flush ()
     {
+        this.parser.executePendingRoutes ();
         this.writer.flush (false);
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        this.oscSenders.forEach (OpenSoundControlSender::shutdown);
+        if (this.recorder != null)
+            this.recorder.stop ();
+        super.exit ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void createScales ()
@@ -95,6 +115,10 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         final ModelSetup ms = new ModelSetup ();
         ms.setHasFlatTrackList (false);
         ms.setNumMarkers (8);
+        ms.setNumTracks (this.configuration.getBankTracks ());
+        ms.setNumScenes (this.configuration.getBankScenes ());
+        ms.setNumSends (this.configuration.getBankSends ());
+        ms.setNumMuteSoloTracks (0);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
     }
 
@@ -116,6 +140,17 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
             }
         });
 
+        this.configuration.addSettingObserver (AbstractOpenSoundControlConfiguration.CAPTURE_FILE, () -> {
+            final String captureFile = this.configuration.getCaptureFile ();
+            if (captureFile.isEmpty ())
+                this.recorder.stop ();
+            else
+                this.recorder.start (new File (captureFile));
+        });
+
+        this.configuration.addSettingObserver (OSCConfiguration.MAX_PACKET_SIZE, () -> this.oscSenders.forEach (sender -> sender.setMaxPacketSize (this.configuration.getMaxPacketSize ())));
+        this.configuration.addSettingObserver (OSCConfiguration.PACKETS_PER_SEC, () -> this.oscSenders.forEach (sender -> sender.setPacketsPerSecond (this.configuration.getPacketsPerSecond ())));
+
         final ITrackBank tb = this.model.getTrackBank ();
         tb.addSelectionObserver ( (final int index, final boolean isSelected) -> this.keyManager.clearPressedKeys ());
         tb.addNoteObserver (this.keyManager);
@@ -157,11 +192,28 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         this.keyManager = new KeyManager (this.model, surface.getPadGrid ());
 
         // Send OSC messages
-        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (this.configuration.getSendHost (), this.configuration.getSendPort ());
-        this.writer = new OSCWriter (this.host, this.model, oscClient, this.configuration);
+        this.writer = new OSCWriter (this.host, this.model, this.connect (this.configuration.getSendHost (), this.configuration.getSendPort ()), this.configuration);
+        for (final String client: this.configuration.getFurtherClients ())
+        {
+            final int pos = client.lastIndexOf (':');
+            try
+            {
+                this.writer.addClient (this.connect (client.substring (0, pos), Integer.parseInt (client.substring (pos + 1))));
+            }
+            catch (final IndexOutOfBoundsException | NumberFormatException ex)
+            {
+                this.host.error ("Client must be formatted as host:port: " + client);
+            }
+        }
+        // The senders are in the same order as the clients of the writer
+        for (int i = 0; i < this.oscSenders.size (); i++)
+        {
+            final int client = i;
+            this.oscSenders.get (i).setOverflowHandler ( () -> this.writer.clearCache (client));
+        }
 
         // Receive OSC messages
-        final OSCParser parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
+        this.parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
 
         final List<IModule> modules = new ArrayList<> ();
         modules.add (new TransportModule (this.host, this.model, surface, this.writer));
@@ -170,6 +222,7 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         modules.add (new MarkerModule (this.host, this.model, this.writer));
         modules.add (new ProjectModule (this.host, this.model, this.writer));
         modules.add (new TrackModule (this.host, this.model, this.writer, this.configuration));
+        modules.add (new VuMeterModule (this.host, this.model, this.writer, this.configuration));
         modules.add (new SceneModule (this.host, this.model, this.writer));
         modules.add (new DeviceModule (this.host, this.model, this.writer, this.configuration));
         modules.add (new BrowserModule (this.host, this.model, this.writer));
@@ -180,10 +233,29 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
 
         modules.forEach (module -> {
             this.writer.registerModule (module);
-            parser.registerModule (module);
+            this.parser.registerModule (module);
         });
 
-        this.oscServer = this.host.createOSCServer (parser);
+        this.recorder = new OpenSoundControlRecorder (this.host);
+        this.writer.setRecorder (this.recorder);
+        this.parser.setRecorder (this.recorder);
+
+        this.oscServer = this.host.createOSCServer (this.parser);
+    }
+
+
+    /**
+     * Connect to an OSC server. The messages are queued and sent spread over time.
+     *
+     * @param serverAddress The host of the server
+     * @param serverPort The port of the server
+     * @return The client for sending to the server
+     */
+    private IOpenSoundControlClient connect (final String serverAddress, final int serverPort)
+    {
+        final OpenSoundControlSender sender = new OpenSoundControlSender (this.host, this.host.connectToOSCServer (serverAddress, serverPort));
+        this.oscSenders.add (sender);
+        return sender;
     }
 
 
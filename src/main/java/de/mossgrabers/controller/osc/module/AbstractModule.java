@@ -6,12 +6,13 @@ package de.mossgrabers.controller.osc.module;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.framework.daw.IBank;
 import de.mossgrabers.framework.daw.IClip;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IParameter;
-import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlRouter;
 
 import java.util.LinkedList;
 
@@ -23,6 +24,29 @@ import java.util.LinkedList;
  */
 public abstract class AbstractModule implements IModule
 {
+    /** The attributes of a parameter. */
+    protected static final String []  PARAM_ATTRIBUTES     =
+    {
+        "name",
+        "valueStr",
+        "value",
+        "modulatedValue"
+    };
+
+    /** The attributes of a send. */
+    protected static final String []  SEND_ATTRIBUTES      =
+    {
+        "name",
+        "volumeStr",
+        "volume",
+        "modulatedValue"
+    };
+
+    protected static final int        PARAM_NAME           = 0;
+    protected static final int        PARAM_VALUE_STR      = 1;
+    protected static final int        PARAM_VALUE          = 2;
+    protected static final int        PARAM_MODULATED      = 3;
+
     protected final IHost             host;
     protected final IModel            model;
     protected IOpenSoundControlWriter writer;
@@ -51,6 +75,14 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerRoutes (final OpenSoundControlRouter<IRouteHandler> router)
+    {
+        // Intentionally empty
+    }
+
+
     /**
      * Get the clip to use.
      *
@@ -138,6 +170,23 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /**
+     * Get the item of a bank page by its number in an OSC address.
+     *
+     * @param bank The bank
+     * @param number The number of the item, starting with 1
+     * @return The item
+     * @param <T> The type of the bank items
+     * @throws IllegalParameterException If the number is outside of the bank page
+     */
+    protected static <T> T getItem (final IBank<T> bank, final int number) throws IllegalParameterException
+    {
+        if (number < 1 || number > bank.getPageSize ())
+            throw new IllegalParameterException ("Number must be in the range of 1 to " + bank.getPageSize () + ": " + number);
+        return bank.getItem (number - 1);
+    }
+
+
     /**
      * Get the next sub-command from the path and removes it from the path.
      *
@@ -157,17 +206,16 @@ public abstract class AbstractModule implements IModule
      * Flush all data of a parameter.
      *
      * @param writer Where to send the messages to
-     * @param fxAddress The start address for the effect
+     * @param slots The slots of the parameter attributes (see {@link #PARAM_ATTRIBUTES} and
+     *            {@link #SEND_ATTRIBUTES})
      * @param fxParam The parameter
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    protected void flushParameterData (final IOpenSoundControlWriter writer, final String fxAddress, final IParameter fxParam, final boolean dump)
+    protected static void flushParameterData (final IOpenSoundControlWriter writer, final int [] slots, final IParameter fxParam, final boolean dump)
     {
-        final boolean isSend = fxParam instanceof ISend;
-
-        writer.sendOSC (fxAddress + "name", fxParam.getName (), dump);
-        writer.sendOSC (fxAddress + (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
-        writer.sendOSC (fxAddress + (isSend ? "volume" : "value"), fxParam.getValue (), dump);
-        writer.sendOSC (fxAddress + "modulatedValue", fxParam.getModulatedValue (), dump);
+        writer.sendOSC (slots[PARAM_NAME], fxParam.getName (), dump);
+        writer.sendOSC (slots[PARAM_VALUE_STR], fxParam.getDisplayedValue (), dump);
+        writer.sendOSC (slots[PARAM_VALUE], fxParam.getValue (), dump);
+        writer.sendOSC (slots[PARAM_MODULATED], fxParam.getModulatedValue (), dump);
     }
 }
@@ -13,7 +13,9 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlSlotTable;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 
 
@@ -24,6 +26,38 @@ import java.util.LinkedList;
  */
 public class BrowserModule extends AbstractModule
 {
+    private static final String []          FILTER_ATTRIBUTES =
+    {
+        "exists",
+        "name",
+        "wildcard"
+    };
+
+    private static final int                FILTER_EXISTS     = 0;
+    private static final int                FILTER_NAME       = 1;
+    private static final int                FILTER_WILDCARD   = 2;
+
+    private static final String []          ITEM_ATTRIBUTES   =
+    {
+        "exists",
+        "name",
+        "hits",
+        "isSelected"
+    };
+
+    private static final int                ITEM_EXISTS       = 0;
+    private static final int                ITEM_NAME         = 1;
+    private static final int                ITEM_HITS         = 2;
+    private static final int                ITEM_IS_SELECTED  = 3;
+
+    private final int                       browserSlot;
+    private final int                       isActiveSlot;
+    private final int                       tabSlot;
+    private final OpenSoundControlSlotTable filterSlots;
+    private OpenSoundControlSlotTable []    filterItemSlots   = new OpenSoundControlSlotTable [0];
+    private final OpenSoundControlSlotTable resultSlots;
+
+
     /**
      * Constructor.
      *
@@ -34,6 +68,12 @@ public class BrowserModule extends AbstractModule
     public BrowserModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        this.browserSlot = writer.getContainerSlot ("/browser");
+        this.isActiveSlot = writer.getSlot ("/browser/isActive");
+        this.tabSlot = writer.getSlot ("/browser/tab");
+        this.filterSlots = new OpenSoundControlSlotTable (writer, "/browser/filter/", FILTER_ATTRIBUTES);
+        this.resultSlots = new OpenSoundControlSlotTable (writer, "/browser/result/", ITEM_ATTRIBUTES);
     }
 
 
@@ -132,40 +172,63 @@ public class BrowserModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        final String browserAddress = "/browser/";
+        if (!this.writer.isSubscribed (this.browserSlot))
+            return;
+
         final IBrowser browser = this.model.getBrowser ();
 
-        this.writer.sendOSC (browserAddress + "isActive", browser.isActive (), dump);
-        this.writer.sendOSC (browserAddress + "tab", browser.getSelectedContentType (), dump);
+        this.writer.sendOSC (this.isActiveSlot, browser.isActive (), dump);
+        this.writer.sendOSC (this.tabSlot, browser.getSelectedContentType (), dump);
 
         IBrowserColumn column;
         // Filter Columns
         for (int i = 0; i < browser.getFilterColumnCount (); i++)
         {
-            final String filterAddress = browserAddress + "filter/" + (i + 1) + "/";
+            final int [] slots = this.filterSlots.getSlots (i);
             column = browser.getFilterColumn (i);
-            this.writer.sendOSC (filterAddress + "exists", column.doesExist (), dump);
-            this.writer.sendOSC (filterAddress + "name", column.getName (), dump);
-            this.writer.sendOSC (filterAddress + "wildcard", column.getWildcard (), dump);
-            final IBrowserColumnItem [] items = column.getItems ();
-            for (int j = 0; j < items.length; j++)
-            {
-                this.writer.sendOSC (filterAddress + "item/" + (j + 1) + "/exists", items[j].doesExist (), dump);
-                this.writer.sendOSC (filterAddress + "item/" + (j + 1) + "/name", items[j].getName (), dump);
-                this.writer.sendOSC (filterAddress + "item/" + (j + 1) + "/hits", items[j].getHitCount (), dump);
-                this.writer.sendOSC (filterAddress + "item/" + (j + 1) + "/isSelected", items[j].isSelected (), dump);
-            }
+            this.writer.sendOSC (slots[FILTER_EXISTS], column.doesExist (), dump);
+            this.writer.sendOSC (slots[FILTER_NAME], column.getName (), dump);
+            this.writer.sendOSC (slots[FILTER_WILDCARD], column.getWildcard (), dump);
+            this.flushItems (this.getFilterItemSlots (i), column.getItems (), dump);
         }
 
         // Presets
-        final String presetAddress = browserAddress + "result/";
-        final IBrowserColumnItem [] items = browser.getResultColumnItems ();
+        this.flushItems (this.resultSlots, browser.getResultColumnItems (), dump);
+    }
+
+
+    /**
+     * Flush the items of a browser column.
+     *
+     * @param itemSlots The slots of the items
+     * @param items The items
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushItems (final OpenSoundControlSlotTable itemSlots, final IBrowserColumnItem [] items, final boolean dump)
+    {
         for (int i = 0; i < items.length; i++)
         {
-            this.writer.sendOSC (presetAddress + (i + 1) + "/exists", items[i].doesExist (), dump);
-            this.writer.sendOSC (presetAddress + (i + 1) + "/name", items[i].getName (), dump);
-            this.writer.sendOSC (presetAddress + (i + 1) + "/hits", items[i].getHitCount (), dump);
-            this.writer.sendOSC (presetAddress + (i + 1) + "/isSelected", items[i].isSelected (), dump);
+            final int [] slots = itemSlots.getSlots (i);
+            this.writer.sendOSC (slots[ITEM_EXISTS], items[i].doesExist (), dump);
+            this.writer.sendOSC (slots[ITEM_NAME], items[i].getName (), dump);
+            this.writer.sendOSC (slots[ITEM_HITS], items[i].getHitCount (), dump);
+            this.writer.sendOSC (slots[ITEM_IS_SELECTED], items[i].isSelected (), dump);
         }
     }
+
+
+    /**
+     * Get the slots of the items of a filter column.
+     *
+     * @param index The index of the filter column
+     * @return The slots
+     */
+    private OpenSoundControlSlotTable getFilterItemSlots (final int index)
+    {
+        if (index >= this.filterItemSlots.length)
+            this.filterItemSlots = Arrays.copyOf (this.filterItemSlots, index + 1);
+        if (this.filterItemSlots[index] == null)
+            this.filterItemSlots[index] = new OpenSoundControlSlotTable (this.writer, "/browser/filter/" + (index + 1) + "/item/", ITEM_ATTRIBUTES);
+        return this.filterItemSlots[index];
+    }
 }
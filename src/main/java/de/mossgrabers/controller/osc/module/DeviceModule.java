@@ -23,7 +23,10 @@ import de.mossgrabers.framework.daw.data.ILayer;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.empty.EmptyLayer;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlRouter;
+import de.mossgrabers.framework.osc.OpenSoundControlSlotTable;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 
 
@@ -34,7 +37,75 @@ import java.util.LinkedList;
  */
 public class DeviceModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private static final String []  DEVICE_ATTRIBUTES  =
+    {
+        "exists",
+        "name",
+        "bypass",
+        "expand",
+        "window",
+        "page/selected/name"
+    };
+
+    private static final int        DEVICE_EXISTS      = 0;
+    private static final int        DEVICE_NAME        = 1;
+    private static final int        DEVICE_BYPASS      = 2;
+    private static final int        DEVICE_EXPAND      = 3;
+    private static final int        DEVICE_WINDOW      = 4;
+    private static final int        DEVICE_PAGE_NAME   = 5;
+
+    private static final String []  SIBLING_ATTRIBUTES =
+    {
+        "name",
+        "selected"
+    };
+
+    private static final String []  PAGE_ATTRIBUTES    =
+    {
+        "",
+        "selected"
+    };
+
+    private static final int        ITEM_NAME          = 0;
+    private static final int        ITEM_SELECTED      = 1;
+
+    private static final String []  LAYER_ATTRIBUTES   =
+    {
+        "exists",
+        "activated",
+        "selected",
+        "name",
+        "volumeStr",
+        "volume",
+        "panStr",
+        "pan",
+        "mute",
+        "solo",
+        "vu",
+        "color"
+    };
+
+    private static final int        LAYER_EXISTS       = 0;
+    private static final int        LAYER_ACTIVATED    = 1;
+    private static final int        LAYER_SELECTED     = 2;
+    private static final int        LAYER_NAME         = 3;
+    private static final int        LAYER_VOLUME_STR   = 4;
+    private static final int        LAYER_VOLUME       = 5;
+    private static final int        LAYER_PAN_STR      = 6;
+    private static final int        LAYER_PAN          = 7;
+    private static final int        LAYER_MUTE         = 8;
+    private static final int        LAYER_SOLO         = 9;
+    private static final int        LAYER_VU           = 10;
+    private static final int        LAYER_COLOR        = 11;
+
+    private final OSCConfiguration  configuration;
+    private final DeviceAddresses   cursorDeviceAddresses;
+    private final DeviceAddresses   primaryDeviceAddresses;
+    private final int               drumPadsSlot;
+    private LayerAddresses []       drumPadAddresses   = new LayerAddresses [0];
+    private final int               layersSlot;
+    private LayerAddresses []       layerAddresses     = new LayerAddresses [0];
+    private final LayerAddresses    selectedLayerAddresses;
 
 
     /**
@@ -50,6 +121,12 @@ public class DeviceModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        this.cursorDeviceAddresses = new DeviceAddresses (writer, "/device/");
+        this.primaryDeviceAddresses = new DeviceAddresses (writer, "/primary/");
+        this.drumPadsSlot = writer.getContainerSlot ("/device/drumpad");
+        this.layersSlot = writer.getContainerSlot ("/device/layer");
+        this.selectedLayerAddresses = new LayerAddresses (writer, "/device/layer/selected/");
     }
 
 
@@ -85,25 +162,83 @@ public class DeviceModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerRoutes (final OpenSoundControlRouter<IRouteHandler> router)
+    {
+        final ICursorDevice cursorDevice = this.model.getCursorDevice ();
+        final ICursorDevice instrumentDevice = this.model.getInstrumentDevice ();
+        router.addRoute ("/device/param/#/value", (numbers, value) -> getItem (cursorDevice.getParameterBank (), numbers[0]).setValue (toInteger (value)));
+        router.addRoute ("/primary/param/#/value", (numbers, value) -> getItem (instrumentDevice.getParameterBank (), numbers[0]).setValue (toInteger (value)));
+
+        final IRouteHandler layerVolume = (numbers, value) -> {
+            final IChannel layer = this.getLayerOrDrumPad (cursorDevice, numbers[0] - 1);
+            if (layer != null)
+                layer.setVolume (toInteger (value));
+        };
+        final IRouteHandler layerPan = (numbers, value) -> {
+            final IChannel layer = this.getLayerOrDrumPad (cursorDevice, numbers[0] - 1);
+            if (layer != null)
+                layer.setPan (toInteger (value));
+        };
+        router.addRoute ("/device/layer/#/volume", layerVolume);
+        router.addRoute ("/device/layer/#/pan", layerPan);
+        router.addRoute ("/device/drumpad/#/volume", (numbers, value) -> {
+            if (cursorDevice.hasDrumPads ())
+                layerVolume.handle (numbers, value);
+        });
+        router.addRoute ("/device/drumpad/#/pan", (numbers, value) -> {
+            if (cursorDevice.hasDrumPads ())
+                layerPan.handle (numbers, value);
+        });
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
     {
         final ICursorDevice cd = this.model.getCursorDevice ();
-        this.flushDevice (this.writer, "/device/", cd, dump);
-        if (cd.hasDrumPads ())
+        flushDevice (this.writer, this.cursorDeviceAddresses, cd, dump);
+        if (cd.hasDrumPads () && this.writer.isSubscribed (this.drumPadsSlot))
         {
             final IDrumPadBank drumPadBank = cd.getDrumPadBank ();
-            for (int i = 0; i < drumPadBank.getPageSize (); i++)
-                this.flushDeviceLayer (this.writer, "/device/drumpad/" + (i + 1) + "/", drumPadBank.getItem (i), dump);
+            final int pageSize = drumPadBank.getPageSize ();
+            if (this.drumPadAddresses.length < pageSize)
+                this.drumPadAddresses = this.createLayerAddresses ("/device/drumpad/", this.drumPadAddresses, pageSize);
+            for (int i = 0; i < pageSize; i++)
+                this.flushDeviceLayer (this.writer, this.drumPadAddresses[i], drumPadBank.getItem (i), dump);
+        }
+        if (this.writer.isSubscribed (this.layersSlot))
+        {
+            final ILayerBank layerBank = cd.getLayerBank ();
+            final int pageSize = layerBank.getPageSize ();
+            if (this.layerAddresses.length < pageSize)
+                this.layerAddresses = this.createLayerAddresses ("/device/layer/", this.layerAddresses, pageSize);
+            for (int i = 0; i < pageSize; i++)
+                this.flushDeviceLayer (this.writer, this.layerAddresses[i], layerBank.getItem (i), dump);
+            final ILayer selectedLayer = layerBank.getSelectedItem ();
+            this.flushDeviceLayer (this.writer, this.selectedLayerAddresses, selectedLayer == null ? EmptyLayer.INSTANCE : selectedLayer, dump);
         }
-        final ILayerBank layerBank = cd.getLayerBank ();
-        for (int i = 0; i < layerBank.getPageSize (); i++)
-            this.flushDeviceLayer (this.writer, "/device/layer/" + (i + 1) + "/", layerBank.getItem (i), dump);
-        final ILayer selectedLayer = layerBank.getSelectedItem ();
-        this.flushDeviceLayer (this.writer, "/device/layer/selected/", selectedLayer == null ? EmptyLayer.INSTANCE : selectedLayer, dump);
 
-        this.flushDevice (this.writer, "/primary/", this.model.getInstrumentDevice (), dump);
+        flushDevice (this.writer, this.primaryDeviceAddresses, this.model.getInstrumentDevice (), dump);
+    }
+
+
+    /**
+     * Extend the given array of layer addresses to the given size.
+     *
+     * @param prefix The start of the addresses, the layer number and a slash get added to it
+     * @param addresses The existing addresses
+     * @param size The new size
+     * @return The extended array
+     */
+    private LayerAddresses [] createLayerAddresses (final String prefix, final LayerAddresses [] addresses, final int size)
+    {
+        final LayerAddresses [] result = Arrays.copyOf (addresses, size);
+        for (int i = addresses.length; i < size; i++)
+            result[i] = new LayerAddresses (this.writer, prefix + (i + 1) + "/");
+        return result;
     }
 
 
@@ -111,42 +246,46 @@ public class DeviceModule extends AbstractModule
      * Flush all data of a device.
      *
      * @param writer Where to send the messages to
-     * @param deviceAddress The start address for the device
+     * @param addresses The addresses of the device
      * @param device The device
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDevice (final IOpenSoundControlWriter writer, final String deviceAddress, final ICursorDevice device, final boolean dump)
+    private static void flushDevice (final IOpenSoundControlWriter writer, final DeviceAddresses addresses, final ICursorDevice device, final boolean dump)
     {
-        writer.sendOSC (deviceAddress + "exists", device.doesExist (), dump);
-        writer.sendOSC (deviceAddress + "name", device.getName (), dump);
-        writer.sendOSC (deviceAddress + "bypass", !device.isEnabled (), dump);
-        writer.sendOSC (deviceAddress + "expand", device.isExpanded (), dump);
-        writer.sendOSC (deviceAddress + "window", device.isWindowOpen (), dump);
+        if (!writer.isSubscribed (addresses.deviceSlot))
+            return;
+
+        final int [] slots = addresses.device;
+        writer.sendOSC (slots[DEVICE_EXISTS], device.doesExist (), dump);
+        writer.sendOSC (slots[DEVICE_NAME], device.getName (), dump);
+        writer.sendOSC (slots[DEVICE_BYPASS], !device.isEnabled (), dump);
+        writer.sendOSC (slots[DEVICE_EXPAND], device.isExpanded (), dump);
+        writer.sendOSC (slots[DEVICE_WINDOW], device.isWindowOpen (), dump);
         final int positionInBank = device.getIndex ();
         final IDeviceBank deviceBank = device.getDeviceBank ();
-        for (int i = 0; i < deviceBank.getPageSize (); i++)
+        final int numSiblings = writer.isSubscribed (addresses.siblingsSlot) ? deviceBank.getPageSize () : 0;
+        for (int i = 0; i < numSiblings; i++)
         {
-            final int oneplus = i + 1;
-            writer.sendOSC (deviceAddress + "sibling/" + oneplus + "/name", deviceBank.getItem (i).getName (), dump);
-            writer.sendOSC (deviceAddress + "sibling/" + oneplus + "/selected", i == positionInBank, dump);
+            final int [] siblingSlots = addresses.siblings.getSlots (i);
+            writer.sendOSC (siblingSlots[ITEM_NAME], deviceBank.getItem (i).getName (), dump);
+            writer.sendOSC (siblingSlots[ITEM_SELECTED], i == positionInBank, dump);
 
         }
         final IParameterBank parameterBank = device.getParameterBank ();
-        for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (writer, deviceAddress + "param/" + oneplus + "/", parameterBank.getItem (i), dump);
-        }
+        final int numParams = writer.isSubscribed (addresses.paramsSlot) ? parameterBank.getPageSize () : 0;
+        for (int i = 0; i < numParams; i++)
+            flushParameterData (writer, addresses.params.getSlots (i), parameterBank.getItem (i), dump);
 
         final IParameterPageBank parameterPageBank = device.getParameterPageBank ();
         final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
-        for (int i = 0; i < parameterPageBank.getPageSize (); i++)
+        final int numPages = writer.isSubscribed (addresses.pagesSlot) ? parameterPageBank.getPageSize () : 0;
+        for (int i = 0; i < numPages; i++)
         {
-            final int oneplus = i + 1;
-            writer.sendOSC (deviceAddress + "page/" + oneplus + "/", parameterPageBank.getItem (i), dump);
-            writer.sendOSC (deviceAddress + "page/" + oneplus + "/selected", selectedParameterPage == i, dump);
+            final int [] pageSlots = addresses.pages.getSlots (i);
+            writer.sendOSC (pageSlots[ITEM_NAME], parameterPageBank.getItem (i), dump);
+            writer.sendOSC (pageSlots[ITEM_SELECTED], selectedParameterPage == i, dump);
         }
-        writer.sendOSC (deviceAddress + "page/selected/name", parameterPageBank.getSelectedItem (), dump);
+        writer.sendOSC (slots[DEVICE_PAGE_NAME], parameterPageBank.getSelectedItem (), dump);
     }
 
 
@@ -154,35 +293,39 @@ public class DeviceModule extends AbstractModule
      * Flush all data of a device layer.
      *
      * @param writer Where to send the messages to
-     * @param deviceAddress The start address for the device
+     * @param addresses The addresses of the layer
      * @param channel The channel of the layer
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final String deviceAddress, final IChannel channel, final boolean dump)
+    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final LayerAddresses addresses, final IChannel channel, final boolean dump)
     {
-        if (channel == null)
+        if (channel == null || !writer.isSubscribed (addresses.layerSlot))
             return;
 
-        writer.sendOSC (deviceAddress + "exists", channel.doesExist (), dump);
-        writer.sendOSC (deviceAddress + "activated", channel.isActivated (), dump);
-        writer.sendOSC (deviceAddress + "selected", channel.isSelected (), dump);
-        writer.sendOSC (deviceAddress + "name", channel.getName (), dump);
-        writer.sendOSC (deviceAddress + "volumeStr", channel.getVolumeStr (), dump);
-        writer.sendOSC (deviceAddress + "volume", channel.getVolume (), dump);
-        writer.sendOSC (deviceAddress + "panStr", channel.getPanStr (), dump);
-        writer.sendOSC (deviceAddress + "pan", channel.getPan (), dump);
-        writer.sendOSC (deviceAddress + "mute", channel.isMute (), dump);
-        writer.sendOSC (deviceAddress + "solo", channel.isSolo (), dump);
-
-        final ISendBank sendBank = channel.getSendBank ();
-        for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, deviceAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+        final int [] slots = addresses.layer;
+        writer.sendOSC (slots[LAYER_EXISTS], channel.doesExist (), dump);
+        writer.sendOSC (slots[LAYER_ACTIVATED], channel.isActivated (), dump);
+        writer.sendOSC (slots[LAYER_SELECTED], channel.isSelected (), dump);
+        writer.sendOSC (slots[LAYER_NAME], channel.getName (), dump);
+        writer.sendOSC (slots[LAYER_VOLUME_STR], channel.getVolumeStr (), dump);
+        writer.sendOSC (slots[LAYER_VOLUME], channel.getVolume (), dump);
+        writer.sendOSC (slots[LAYER_PAN_STR], channel.getPanStr (), dump);
+        writer.sendOSC (slots[LAYER_PAN], channel.getPan (), dump);
+        writer.sendOSC (slots[LAYER_MUTE], channel.isMute (), dump);
+        writer.sendOSC (slots[LAYER_SOLO], channel.isSolo (), dump);
+
+        if (writer.isSubscribed (addresses.sendsSlot))
+        {
+            final ISendBank sendBank = channel.getSendBank ();
+            for (int i = 0; i < sendBank.getPageSize (); i++)
+                flushParameterData (writer, addresses.sends.getSlots (i), sendBank.getItem (i), dump);
+        }
 
         if (this.configuration.isEnableVUMeters ())
-            writer.sendOSC (deviceAddress + "vu", channel.getVu (), dump);
+            writer.sendOSC (slots[LAYER_VU], channel.getVu (), dump);
 
         final double [] color = channel.getColor ();
-        writer.sendOSCColor (deviceAddress + "color", color[0], color[1], color[2], dump);
+        writer.sendOSCColor (slots[LAYER_COLOR], color[0], color[1], color[2], dump);
     }
 
 
@@ -399,22 +542,35 @@ public class DeviceModule extends AbstractModule
     }
 
 
+    /**
+     * Get a layer or drum pad of the current page of the device.
+     *
+     * @param cursorDevice The device
+     * @param layerIndex The index of the layer or drum pad on the page
+     * @return The layer or drum pad, null if the index is larger than the page
+     */
+    private IChannel getLayerOrDrumPad (final ICursorDevice cursorDevice, final int layerIndex)
+    {
+        final IChannelBank<?> layerOrDrumPadBank = cursorDevice.getLayerOrDrumPadBank ();
+        if (layerIndex >= 0 && layerIndex < layerOrDrumPadBank.getPageSize ())
+            return layerOrDrumPadBank.getItem (layerIndex);
+        this.host.println ("Layer or drumpad index larger than page size: " + layerIndex);
+        return null;
+    }
+
+
     private void parseDeviceLayerValue (final ICursorDevice cursorDevice, final int layerIndex, final LinkedList<String> path, final Object value) throws UnknownCommandException, IllegalParameterException, MissingCommandException
     {
         final String command = getSubCommand (path);
-        final IChannelBank<?> layerOrDrumPadBank = cursorDevice.getLayerOrDrumPadBank ();
-        if (layerIndex >= layerOrDrumPadBank.getPageSize ())
-        {
-            this.host.println ("Layer or drumpad index larger than page size: " + layerIndex);
+        final IChannel layer = this.getLayerOrDrumPad (cursorDevice, layerIndex);
+        if (layer == null)
             return;
-        }
 
-        final IChannel layer = layerOrDrumPadBank.getItem (layerIndex);
         switch (command)
         {
             case "select":
             case "selected":
-                layerOrDrumPadBank.getItem (layerIndex).select ();
+                layer.select ();
                 break;
 
             case "volume":
@@ -499,4 +655,62 @@ public class DeviceModule extends AbstractModule
                 throw new UnknownCommandException (command);
         }
     }
+
+
+    /** The slots of the addresses of a device, its siblings, parameters and parameter pages. */
+    private static class DeviceAddresses
+    {
+        private final int                       deviceSlot;
+        private final int []                    device;
+        private final int                       siblingsSlot;
+        private final OpenSoundControlSlotTable siblings;
+        private final int                       paramsSlot;
+        private final OpenSoundControlSlotTable params;
+        private final int                       pagesSlot;
+        private final OpenSoundControlSlotTable pages;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer where to register the addresses
+         * @param deviceAddress The start address of the device, ending with a slash
+         */
+        DeviceAddresses (final IOpenSoundControlWriter writer, final String deviceAddress)
+        {
+            this.deviceSlot = writer.getContainerSlot (deviceAddress.substring (0, deviceAddress.length () - 1));
+            this.device = OpenSoundControlSlotTable.register (writer, deviceAddress, DEVICE_ATTRIBUTES);
+            this.siblingsSlot = writer.getContainerSlot (deviceAddress + "sibling");
+            this.siblings = new OpenSoundControlSlotTable (writer, deviceAddress + "sibling/", SIBLING_ATTRIBUTES);
+            this.paramsSlot = writer.getContainerSlot (deviceAddress + "param");
+            this.params = new OpenSoundControlSlotTable (writer, deviceAddress + "param/", PARAM_ATTRIBUTES);
+            this.pagesSlot = writer.getContainerSlot (deviceAddress + "page");
+            this.pages = new OpenSoundControlSlotTable (writer, deviceAddress + "page/", PAGE_ATTRIBUTES);
+        }
+    }
+
+
+    /** The slots of the addresses of a layer or drum pad and its sends. */
+    private static class LayerAddresses
+    {
+        private final int                       layerSlot;
+        private final int []                    layer;
+        private final int                       sendsSlot;
+        private final OpenSoundControlSlotTable sends;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer where to register the addresses
+         * @param layerAddress The start address of the layer, ending with a slash
+         */
+        LayerAddresses (final IOpenSoundControlWriter writer, final String layerAddress)
+        {
+            this.layerSlot = writer.getContainerSlot (layerAddress.substring (0, layerAddress.length () - 1));
+            this.sendsSlot = writer.getContainerSlot (layerAddress + "send");
+            this.layer = OpenSoundControlSlotTable.register (writer, layerAddress, LAYER_ATTRIBUTES);
+            this.sends = new OpenSoundControlSlotTable (writer, layerAddress + "send/", SEND_ATTRIBUTES);
+        }
+    }
 }
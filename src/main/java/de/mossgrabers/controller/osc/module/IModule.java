@@ -7,6 +7,7 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.framework.osc.OpenSoundControlRouter;
 
 import java.util.LinkedList;
 
@@ -45,4 +46,15 @@ public interface IModule
      * @param dump Ignore cache if true
      */
     void flush (boolean dump);
+
+
+    /**
+     * Register the routes of the commands which are sent frequently (e.g. fader movements). These
+     * are executed without parsing the address into a path. Since only the last received value of
+     * an address is executed once per flush, routes must only be used for continuous values. All
+     * other commands are handed to {@link #execute(String, LinkedList, Object)}.
+     *
+     * @param router The router where to add the routes
+     */
+    void registerRoutes (OpenSoundControlRouter<IRouteHandler> router);
 }
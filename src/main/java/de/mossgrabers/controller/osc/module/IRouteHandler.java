@@ -0,0 +1,31 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.module;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+
+
+/**
+ * Handles an OSC command which was matched by a route.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IRouteHandler
+{
+    /**
+     * Execute the command.
+     *
+     * @param numbers The numbers of the numeric segments of the address in the order of the
+     *            route, e.g. the track and send number of "/track/#/send/#/volume"
+     * @param value A value parameter for the command, may be null
+     * @throws IllegalParameterException Wrong or missing value parameter
+     * @throws UnknownCommandException Unknown command
+     * @throws MissingCommandException Missing sub-command
+     */
+    void handle (int [] numbers, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
+}
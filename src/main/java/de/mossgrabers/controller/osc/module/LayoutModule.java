@@ -13,6 +13,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMixer;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlSlotTable;
 
 import java.util.LinkedList;
 
@@ -24,6 +25,42 @@ import java.util.LinkedList;
  */
 public class LayoutModule extends AbstractModule
 {
+    private static final String [] ADDRESSES                                 =
+    {
+        "/layout",
+        "/arranger/cueMarkerVisibility",
+        "/arranger/playbackFollow",
+        "/arranger/trackRowHeight",
+        "/arranger/clipLauncherSectionVisibility",
+        "/arranger/timeLineVisibility",
+        "/arranger/ioSectionVisibility",
+        "/arranger/effectTracksVisibility",
+        "/mixer/clipLauncherSectionVisibility",
+        "/mixer/crossFadeSectionVisibility",
+        "/mixer/deviceSectionVisibility",
+        "/mixer/sendsSectionVisibility",
+        "/mixer/ioSectionVisibility",
+        "/mixer/meterSectionVisibility"
+    };
+
+    private static final int       LAYOUT                                    = 0;
+    private static final int       ARRANGER_CUE_MARKER_VISIBILITY            = 1;
+    private static final int       ARRANGER_PLAYBACK_FOLLOW                  = 2;
+    private static final int       ARRANGER_TRACK_ROW_HEIGHT                 = 3;
+    private static final int       ARRANGER_CLIP_LAUNCHER_SECTION_VISIBILITY = 4;
+    private static final int       ARRANGER_TIME_LINE_VISIBILITY             = 5;
+    private static final int       ARRANGER_IO_SECTION_VISIBILITY            = 6;
+    private static final int       ARRANGER_EFFECT_TRACKS_VISIBILITY         = 7;
+    private static final int       MIXER_CLIP_LAUNCHER_SECTION_VISIBILITY    = 8;
+    private static final int       MIXER_CROSS_FADE_SECTION_VISIBILITY       = 9;
+    private static final int       MIXER_DEVICE_SECTION_VISIBILITY           = 10;
+    private static final int       MIXER_SENDS_SECTION_VISIBILITY            = 11;
+    private static final int       MIXER_IO_SECTION_VISIBILITY               = 12;
+    private static final int       MIXER_METER_SECTION_VISIBILITY            = 13;
+
+    private final int []           slots;
+
+
     /**
      * Constructor.
      *
@@ -34,6 +71,8 @@ public class LayoutModule extends AbstractModule
     public LayoutModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        this.slots = OpenSoundControlSlotTable.register (writer, "", ADDRESSES);
     }
 
 
@@ -156,23 +195,23 @@ public class LayoutModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final IApplication app = this.model.getApplication ();
-        this.writer.sendOSC ("/layout", app.getPanelLayout ().toLowerCase (), dump);
+        this.writer.sendOSC (this.slots[LAYOUT], app.getPanelLayout ().toLowerCase (), dump);
 
         final IArranger arrange = this.model.getArranger ();
-        this.writer.sendOSC ("/arranger/cueMarkerVisibility", arrange.areCueMarkersVisible (), dump);
-        this.writer.sendOSC ("/arranger/playbackFollow", arrange.isPlaybackFollowEnabled (), dump);
-        this.writer.sendOSC ("/arranger/trackRowHeight", arrange.hasDoubleRowTrackHeight (), dump);
-        this.writer.sendOSC ("/arranger/clipLauncherSectionVisibility", arrange.isClipLauncherVisible (), dump);
-        this.writer.sendOSC ("/arranger/timeLineVisibility", arrange.isTimelineVisible (), dump);
-        this.writer.sendOSC ("/arranger/ioSectionVisibility", arrange.isIoSectionVisible (), dump);
-        this.writer.sendOSC ("/arranger/effectTracksVisibility", arrange.areEffectTracksVisible (), dump);
+        this.writer.sendOSC (this.slots[ARRANGER_CUE_MARKER_VISIBILITY], arrange.areCueMarkersVisible (), dump);
+        this.writer.sendOSC (this.slots[ARRANGER_PLAYBACK_FOLLOW], arrange.isPlaybackFollowEnabled (), dump);
+        this.writer.sendOSC (this.slots[ARRANGER_TRACK_ROW_HEIGHT], arrange.hasDoubleRowTrackHeight (), dump);
+        this.writer.sendOSC (this.slots[ARRANGER_CLIP_LAUNCHER_SECTION_VISIBILITY], arrange.isClipLauncherVisible (), dump);
+        this.writer.sendOSC (this.slots[ARRANGER_TIME_LINE_VISIBILITY], arrange.isTimelineVisible (), dump);
+        this.writer.sendOSC (this.slots[ARRANGER_IO_SECTION_VISIBILITY], arrange.isIoSectionVisible (), dump);
+        this.writer.sendOSC (this.slots[ARRANGER_EFFECT_TRACKS_VISIBILITY], arrange.areEffectTracksVisible (), dump);
 
         final IMixer mix = this.model.getMixer ();
-        this.writer.sendOSC ("/mixer/clipLauncherSectionVisibility", mix.isClipLauncherSectionVisible (), dump);
-        this.writer.sendOSC ("/mixer/crossFadeSectionVisibility", mix.isCrossFadeSectionVisible (), dump);
-        this.writer.sendOSC ("/mixer/deviceSectionVisibility", mix.isDeviceSectionVisible (), dump);
-        this.writer.sendOSC ("/mixer/sendsSectionVisibility", mix.isSendSectionVisible (), dump);
-        this.writer.sendOSC ("/mixer/ioSectionVisibility", mix.isIoSectionVisible (), dump);
-        this.writer.sendOSC ("/mixer/meterSectionVisibility", mix.isMeterSectionVisible (), dump);
+        this.writer.sendOSC (this.slots[MIXER_CLIP_LAUNCHER_SECTION_VISIBILITY], mix.isClipLauncherSectionVisible (), dump);
+        this.writer.sendOSC (this.slots[MIXER_CROSS_FADE_SECTION_VISIBILITY], mix.isCrossFadeSectionVisible (), dump);
+        this.writer.sendOSC (this.slots[MIXER_DEVICE_SECTION_VISIBILITY], mix.isDeviceSectionVisible (), dump);
+        this.writer.sendOSC (this.slots[MIXER_SENDS_SECTION_VISIBILITY], mix.isSendSectionVisible (), dump);
+        this.writer.sendOSC (this.slots[MIXER_IO_SECTION_VISIBILITY], mix.isIoSectionVisible (), dump);
+        this.writer.sendOSC (this.slots[MIXER_METER_SECTION_VISIBILITY], mix.isMeterSectionVisible (), dump);
     }
 }
@@ -12,6 +12,7 @@ import de.mossgrabers.framework.daw.IMarkerBank;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IMarker;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlSlotTable;
 
 import java.util.LinkedList;
 
@@ -23,6 +24,21 @@ import java.util.LinkedList;
  */
 public class MarkerModule extends AbstractModule
 {
+    private static final String []          MARKER_ATTRIBUTES =
+    {
+        "exists",
+        "name",
+        "color"
+    };
+
+    private static final int                MARKER_EXISTS     = 0;
+    private static final int                MARKER_NAME       = 1;
+    private static final int                MARKER_COLOR      = 2;
+
+    private final int                       markerSlot;
+    private final OpenSoundControlSlotTable markerSlots;
+
+
     /**
      * Constructor.
      *
@@ -33,6 +49,9 @@ public class MarkerModule extends AbstractModule
     public MarkerModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        this.markerSlot = writer.getContainerSlot ("/marker");
+        this.markerSlots = new OpenSoundControlSlotTable (writer, "/marker/", MARKER_ATTRIBUTES);
     }
 
 
@@ -98,15 +117,18 @@ public class MarkerModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
+        if (!this.writer.isSubscribed (this.markerSlot))
+            return;
+
         final IMarkerBank markerBank = this.model.getMarkerBank ();
         for (int i = 0; i < markerBank.getPageSize (); i++)
         {
-            final String markerAddress = "/marker/" + (i + 1) + "/";
+            final int [] slots = this.markerSlots.getSlots (i);
             final IMarker marker = markerBank.getItem (i);
-            this.writer.sendOSC (markerAddress + "exists", marker.doesExist (), dump);
-            this.writer.sendOSC (markerAddress + "name", marker.getName (), dump);
+            this.writer.sendOSC (slots[MARKER_EXISTS], marker.doesExist (), dump);
+            this.writer.sendOSC (slots[MARKER_NAME], marker.getName (), dump);
             final double [] color = marker.getColor ();
-            this.writer.sendOSCColor (markerAddress + "color", color[0], color[1], color[2], dump);
+            this.writer.sendOSCColor (slots[MARKER_COLOR], color[0], color[1], color[2], dump);
         }
     }
 }
\ No newline at end of file
@@ -29,6 +29,8 @@ public class MidiModule extends AbstractModule
 {
     private final KeyManager                        keyManager;
     private final IControlSurface<OSCConfiguration> surface;
+    private final int                               midiSlot;
+    private final int []                            noteColorSlots = new int [127];
 
 
     /**
@@ -46,6 +48,10 @@ public class MidiModule extends AbstractModule
 
         this.surface = surface;
         this.keyManager = keyManager;
+
+        this.midiSlot = writer.getContainerSlot ("/vkb_midi");
+        for (int i = 0; i < this.noteColorSlots.length; i++)
+            this.noteColorSlots[i] = writer.getSlot ("/vkb_midi/note/" + i + "/color");
     }
 
 
@@ -80,11 +86,13 @@ public class MidiModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        final String noteAddress = "/vkb_midi/note/";
-        for (int i = 0; i < 127; i++)
+        if (!this.writer.isSubscribed (this.midiSlot))
+            return;
+
+        for (int i = 0; i < this.noteColorSlots.length; i++)
         {
             final double [] color = this.getNoteColor (i);
-            this.writer.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            this.writer.sendOSCColor (this.noteColorSlots[i], color[0], color[1], color[2], dump);
         }
     }
 
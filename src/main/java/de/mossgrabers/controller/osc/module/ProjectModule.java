@@ -11,6 +11,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.IProject;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlSlotTable;
 
 import java.util.LinkedList;
 
@@ -22,6 +23,18 @@ import java.util.LinkedList;
  */
 public class ProjectModule extends AbstractModule
 {
+    private static final String [] ADDRESSES      =
+    {
+        "/project/name",
+        "/project/engine"
+    };
+
+    private static final int       PROJECT_NAME   = 0;
+    private static final int       PROJECT_ENGINE = 1;
+
+    private final int []           slots;
+
+
     /**
      * Constructor.
      *
@@ -32,6 +45,8 @@ public class ProjectModule extends AbstractModule
     public ProjectModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        this.slots = OpenSoundControlSlotTable.register (writer, "", ADDRESSES);
     }
 
 
@@ -91,7 +106,7 @@ public class ProjectModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        this.writer.sendOSC ("/project/name", this.model.getProject ().getName (), dump);
-        this.writer.sendOSC ("/project/engine", this.model.getApplication ().isEngineActive (), dump);
+        this.writer.sendOSC (this.slots[PROJECT_NAME], this.model.getProject ().getName (), dump);
+        this.writer.sendOSC (this.slots[PROJECT_ENGINE], this.model.getApplication ().isEngineActive (), dump);
     }
 }
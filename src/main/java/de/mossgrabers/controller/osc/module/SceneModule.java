@@ -12,6 +12,7 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ISceneBank;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlSlotTable;
 
 import java.util.LinkedList;
 
@@ -23,6 +24,21 @@ import java.util.LinkedList;
  */
 public class SceneModule extends AbstractModule
 {
+    private static final String []          SCENE_ATTRIBUTES =
+    {
+        "exists",
+        "name",
+        "selected"
+    };
+
+    private static final int                SCENE_EXISTS     = 0;
+    private static final int                SCENE_NAME       = 1;
+    private static final int                SCENE_SELECTED   = 2;
+
+    private final int                       sceneSlot;
+    private final OpenSoundControlSlotTable sceneSlots;
+
+
     /**
      * Constructor.
      *
@@ -33,6 +49,9 @@ public class SceneModule extends AbstractModule
     public SceneModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        this.sceneSlot = writer.getContainerSlot ("/scene");
+        this.sceneSlots = new OpenSoundControlSlotTable (writer, "/scene/", SCENE_ATTRIBUTES);
     }
 
 
@@ -115,14 +134,17 @@ public class SceneModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
+        if (!this.writer.isSubscribed (this.sceneSlot))
+            return;
+
         final ISceneBank sceneBank = this.model.getSceneBank ();
         for (int i = 0; i < sceneBank.getPageSize (); i++)
         {
             final IScene scene = sceneBank.getItem (i);
-            final String sceneAddress = "/scene/" + (i + 1) + "/";
-            this.writer.sendOSC (sceneAddress + "exists", scene.doesExist (), dump);
-            this.writer.sendOSC (sceneAddress + "name", scene.getName (), dump);
-            this.writer.sendOSC (sceneAddress + "selected", scene.isSelected (), dump);
+            final int [] slots = this.sceneSlots.getSlots (i);
+            this.writer.sendOSC (slots[SCENE_EXISTS], scene.doesExist (), dump);
+            this.writer.sendOSC (slots[SCENE_NAME], scene.getName (), dump);
+            this.writer.sendOSC (slots[SCENE_SELECTED], scene.isSelected (), dump);
         }
     }
 }
@@ -5,6 +5,7 @@
 package de.mossgrabers.controller.osc.module;
 
 import de.mossgrabers.controller.osc.OSCConfiguration;
+import de.mossgrabers.controller.osc.OSCConfiguration.VuStream;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
@@ -20,8 +21,12 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.data.empty.EmptyTrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlRouter;
+import de.mossgrabers.framework.osc.OpenSoundControlSlotTable;
 
+import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.Objects;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -33,9 +38,95 @@ import java.util.regex.Pattern;
  */
 public class TrackModule extends AbstractModule
 {
-    private static final Pattern   RGB_COLOR_PATTERN = Pattern.compile ("(rgb|RGB)\\((\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?)\\)");
+    private static final Pattern    RGB_COLOR_PATTERN      = Pattern.compile ("(rgb|RGB)\\((\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?)\\)");
 
-    private final OSCConfiguration configuration;
+    private static final String []  TRACK_ATTRIBUTES       =
+    {
+        "exists",
+        "type",
+        "activated",
+        "selected",
+        "isGroup",
+        "name",
+        "volumeStr",
+        "volume",
+        "panStr",
+        "pan",
+        "mute",
+        "solo",
+        "recarm",
+        "monitor",
+        "autoMonitor",
+        "canHoldNotes",
+        "canHoldAudioData",
+        "position",
+        "color",
+        "crossfadeMode/A",
+        "crossfadeMode/B",
+        "crossfadeMode/AB",
+        "vu"
+    };
+
+    private static final int        TRACK_EXISTS           = 0;
+    private static final int        TRACK_TYPE             = 1;
+    private static final int        TRACK_ACTIVATED        = 2;
+    private static final int        TRACK_SELECTED         = 3;
+    private static final int        TRACK_IS_GROUP         = 4;
+    private static final int        TRACK_NAME             = 5;
+    private static final int        TRACK_VOLUME_STR       = 6;
+    private static final int        TRACK_VOLUME           = 7;
+    private static final int        TRACK_PAN_STR          = 8;
+    private static final int        TRACK_PAN              = 9;
+    private static final int        TRACK_MUTE             = 10;
+    private static final int        TRACK_SOLO             = 11;
+    private static final int        TRACK_RECARM           = 12;
+    private static final int        TRACK_MONITOR          = 13;
+    private static final int        TRACK_AUTO_MONITOR     = 14;
+    private static final int        TRACK_CAN_HOLD_NOTES   = 15;
+    private static final int        TRACK_CAN_HOLD_AUDIO   = 16;
+    private static final int        TRACK_POSITION         = 17;
+    private static final int        TRACK_COLOR            = 18;
+    private static final int        TRACK_CROSSFADE_A      = 19;
+    private static final int        TRACK_CROSSFADE_B      = 20;
+    private static final int        TRACK_CROSSFADE_AB     = 21;
+    private static final int        TRACK_VU               = 22;
+
+    private static final String []  CLIP_ATTRIBUTES        =
+    {
+        "name",
+        "isSelected",
+        "hasContent",
+        "isPlaying",
+        "isRecording",
+        "isPlayingQueued",
+        "isRecordingQueued",
+        "isStopQueued",
+        "color"
+    };
+
+    private static final int        CLIP_NAME              = 0;
+    private static final int        CLIP_IS_SELECTED       = 1;
+    private static final int        CLIP_HAS_CONTENT       = 2;
+    private static final int        CLIP_IS_PLAYING        = 3;
+    private static final int        CLIP_IS_RECORDING      = 4;
+    private static final int        CLIP_IS_PLAYING_QUEUED = 5;
+    private static final int        CLIP_IS_REC_QUEUED     = 6;
+    private static final int        CLIP_IS_STOP_QUEUED    = 7;
+    private static final int        CLIP_COLOR             = 8;
+
+    private static final String []  TYPE_NAMES             = new String [ChannelType.values ().length];
+
+    static
+    {
+        for (final ChannelType type: ChannelType.values ())
+            TYPE_NAMES[type.ordinal ()] = type.name ().toLowerCase ();
+    }
+
+    private final OSCConfiguration  configuration;
+    private TrackAddresses []       trackAddresses         = new TrackAddresses [0];
+    private final TrackAddresses    masterAddresses;
+    private final TrackAddresses    selectedAddresses;
+    private final int               toggleBankSlot;
 
 
     /**
@@ -51,6 +142,10 @@ public class TrackModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        this.masterAddresses = new TrackAddresses (writer, "/master/");
+        this.selectedAddresses = new TrackAddresses (writer, "/track/selected/");
+        this.toggleBankSlot = writer.getSlot ("/track/toggleBank");
     }
 
 
@@ -95,17 +190,64 @@ public class TrackModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerRoutes (final OpenSoundControlRouter<IRouteHandler> router)
+    {
+        // The current track bank changes with toggleBank, therefore get it for each message
+        router.addRoute ("/track/#/volume", (numbers, value) -> getItem (this.model.getCurrentTrackBank (), numbers[0]).setVolume (toInteger (value)));
+        router.addRoute ("/track/#/pan", (numbers, value) -> getItem (this.model.getCurrentTrackBank (), numbers[0]).setPan (toInteger (value)));
+        router.addRoute ("/track/#/send/#/volume", (numbers, value) -> setSendValue (getItem (this.model.getCurrentTrackBank (), numbers[0]), numbers[1], value));
+
+        router.addRoute ("/track/selected/volume", (numbers, value) -> {
+            final ITrack track = this.model.getCurrentTrackBank ().getSelectedItem ();
+            if (track != null)
+                track.setVolume (toInteger (value));
+        });
+        router.addRoute ("/track/selected/pan", (numbers, value) -> {
+            final ITrack track = this.model.getCurrentTrackBank ().getSelectedItem ();
+            if (track != null)
+                track.setPan (toInteger (value));
+        });
+        router.addRoute ("/track/selected/send/#/volume", (numbers, value) -> {
+            final ITrack track = this.model.getCurrentTrackBank ().getSelectedItem ();
+            if (track != null)
+                setSendValue (track, numbers[0], value);
+        });
+
+        router.addRoute ("/master/volume", (numbers, value) -> this.model.getMasterTrack ().setVolume (toInteger (value)));
+        router.addRoute ("/master/pan", (numbers, value) -> this.model.getMasterTrack ().setPan (toInteger (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
     {
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
         for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
+            this.flushTrack (this.writer, this.getTrackAddresses (i), trackBank.getItem (i), dump);
+        this.flushTrack (this.writer, this.masterAddresses, this.model.getMasterTrack (), dump);
         final ITrack selectedTrack = trackBank.getSelectedItem ();
-        this.flushTrack (this.writer, "/track/selected/", selectedTrack == null ? EmptyTrack.INSTANCE : selectedTrack, dump);
-        this.writer.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
+        this.flushTrack (this.writer, this.selectedAddresses, selectedTrack == null ? EmptyTrack.INSTANCE : selectedTrack, dump);
+        this.writer.sendOSC (this.toggleBankSlot, this.model.isEffectTrackBankActive () ? 1 : 0, dump);
+    }
+
+
+    /**
+     * Get the addresses of the track at the given index of the track bank. The addresses are
+     * registered when the track is flushed for the first time.
+     *
+     * @param index The index of the track
+     * @return The addresses
+     */
+    private TrackAddresses getTrackAddresses (final int index)
+    {
+        if (index >= this.trackAddresses.length)
+            this.trackAddresses = Arrays.copyOf (this.trackAddresses, index + 1);
+        if (this.trackAddresses[index] == null)
+            this.trackAddresses[index] = new TrackAddresses (this.writer, "/track/" + (index + 1) + "/");
+        return this.trackAddresses[index];
     }
 
 
@@ -113,63 +255,117 @@ public class TrackModule extends AbstractModule
      * Flush all data of a track.
      *
      * @param writer Where to send the messages to
-     * @param trackAddress The start address for the track
+     * @param addresses The addresses of the track
      * @param track The track
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final IOpenSoundControlWriter writer, final TrackAddresses addresses, final ITrack track, final boolean dump)
     {
-        writer.sendOSC (trackAddress + "exists", track.doesExist (), dump);
+        if (!writer.isSubscribed (addresses.trackSlot))
+            return;
+
+        // Values which were skipped below as unchanged need to be sent again, if a client cache
+        // was cleared
+        addresses.checkCacheEpoch (writer.getCacheEpoch ());
+
+        final int [] slots = addresses.track;
+        writer.sendOSC (slots[TRACK_EXISTS], track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (), dump);
-        writer.sendOSC (trackAddress + "activated", track.isActivated (), dump);
-        writer.sendOSC (trackAddress + "selected", track.isSelected (), dump);
-        writer.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        writer.sendOSC (trackAddress + "name", track.getName (), dump);
-        writer.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        writer.sendOSC (trackAddress + "volume", track.getVolume (), dump);
-        writer.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        writer.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        writer.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        writer.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        writer.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        writer.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        writer.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        writer.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        writer.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
-
-        final ISendBank sendBank = track.getSendBank ();
-        for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+        writer.sendOSC (slots[TRACK_TYPE], type == null ? null : TYPE_NAMES[type.ordinal ()], dump);
+        writer.sendOSC (slots[TRACK_NAME], track.getName (), dump);
+        writer.sendOSC (slots[TRACK_VOLUME_STR], track.getVolumeStr (), dump);
+        writer.sendOSC (slots[TRACK_VOLUME], track.getVolume (), dump);
+        writer.sendOSC (slots[TRACK_PAN_STR], track.getPanStr (), dump);
+        writer.sendOSC (slots[TRACK_PAN], track.getPan (), dump);
+        writer.sendOSC (slots[TRACK_POSITION], track.getPosition (), dump);
+
+        // The states and the color of the track change rarely, only send them if the packed
+        // state differs
+        final double [] color = track.getColor ();
+        final String crossfadeMode = track.getCrossfadeMode ();
+        final boolean isCrossfadeA = "A".equals (crossfadeMode);
+        final boolean isCrossfadeB = "B".equals (crossfadeMode);
+        final boolean isCrossfadeAB = "AB".equals (crossfadeMode);
+        final long trackState = pack (color, track.isActivated (), track.isSelected (), track.isGroup (), track.isMute (), track.isSolo (), track.isRecArm (), track.isMonitor (), track.isAutoMonitor (), track.canHoldNotes (), track.canHoldAudioData (), isCrossfadeA, isCrossfadeB, isCrossfadeAB);
+        if (dump || trackState != addresses.trackState)
+        {
+            addresses.trackState = trackState;
+            writer.sendOSC (slots[TRACK_ACTIVATED], track.isActivated (), dump);
+            writer.sendOSC (slots[TRACK_SELECTED], track.isSelected (), dump);
+            writer.sendOSC (slots[TRACK_IS_GROUP], track.isGroup (), dump);
+            writer.sendOSC (slots[TRACK_MUTE], track.isMute (), dump);
+            writer.sendOSC (slots[TRACK_SOLO], track.isSolo (), dump);
+            writer.sendOSC (slots[TRACK_RECARM], track.isRecArm (), dump);
+            writer.sendOSC (slots[TRACK_MONITOR], track.isMonitor (), dump);
+            writer.sendOSC (slots[TRACK_AUTO_MONITOR], track.isAutoMonitor (), dump);
+            writer.sendOSC (slots[TRACK_CAN_HOLD_NOTES], track.canHoldNotes (), dump);
+            writer.sendOSC (slots[TRACK_CAN_HOLD_AUDIO], track.canHoldAudioData (), dump);
+            writer.sendOSCColor (slots[TRACK_COLOR], color[0], color[1], color[2], dump);
+            writer.sendOSC (slots[TRACK_CROSSFADE_A], isCrossfadeA, dump);
+            writer.sendOSC (slots[TRACK_CROSSFADE_B], isCrossfadeB, dump);
+            writer.sendOSC (slots[TRACK_CROSSFADE_AB], isCrossfadeAB, dump);
+        }
+
+        if (writer.isSubscribed (addresses.sendsSlot))
+        {
+            final ISendBank sendBank = track.getSendBank ();
+            for (int i = 0; i < sendBank.getPageSize (); i++)
+                flushParameterData (writer, addresses.sends.getSlots (i), sendBank.getItem (i), dump);
+        }
 
         final ISlotBank slotBank = track.getSlotBank ();
-        for (int i = 0; i < slotBank.getPageSize (); i++)
+        final int numSlots = writer.isSubscribed (addresses.clipsSlot) ? slotBank.getPageSize () : 0;
+        final long [] clipStates = addresses.getClipStates (numSlots);
+        final String [] clipNames = addresses.clipNames;
+        for (int i = 0; i < numSlots; i++)
         {
+            // Large banks contain mostly unchanged slots, skip them by comparing the packed state
             final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            writer.sendOSC (clipAddress + "name", slot.getName (), dump);
-            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
-
-            final double [] color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + "color", color[0], color[1], color[2], dump);
+            final String name = slot.getName ();
+            final double [] clipColor = slot.getColor ();
+            final long clipState = pack (clipColor, slot.isSelected (), slot.hasContent (), slot.isPlaying (), slot.isRecording (), slot.isPlayingQueued (), slot.isRecordingQueued (), slot.isStopQueued ());
+            if (!dump && clipState == clipStates[i] && Objects.equals (name, clipNames[i]))
+                continue;
+            clipStates[i] = clipState;
+            clipNames[i] = name;
+
+            final int [] clipSlots = addresses.clips.getSlots (i);
+            writer.sendOSC (clipSlots[CLIP_NAME], name, dump);
+            writer.sendOSC (clipSlots[CLIP_IS_SELECTED], slot.isSelected (), dump);
+            writer.sendOSC (clipSlots[CLIP_HAS_CONTENT], slot.hasContent (), dump);
+            writer.sendOSC (clipSlots[CLIP_IS_PLAYING], slot.isPlaying (), dump);
+            writer.sendOSC (clipSlots[CLIP_IS_RECORDING], slot.isRecording (), dump);
+            writer.sendOSC (clipSlots[CLIP_IS_PLAYING_QUEUED], slot.isPlayingQueued (), dump);
+            writer.sendOSC (clipSlots[CLIP_IS_REC_QUEUED], slot.isRecordingQueued (), dump);
+            writer.sendOSC (clipSlots[CLIP_IS_STOP_QUEUED], slot.isStopQueued (), dump);
+            writer.sendOSCColor (clipSlots[CLIP_COLOR], clipColor[0], clipColor[1], clipColor[2], dump);
         }
 
-        final double [] color = track.getColor ();
-        writer.sendOSCColor (trackAddress + "color", color[0], color[1], color[2], dump);
+        // The VU meters are sent by the VuMeterModule if the stream is enabled
+        final boolean sendVu = this.configuration.isEnableVUMeters () && this.configuration.getVuStream () == VuStream.OFF;
+        writer.sendOSC (slots[TRACK_VU], sendVu ? track.getVu () : 0, dump);
+    }
 
-        final String crossfadeMode = track.getCrossfadeMode ();
-        writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+    /**
+     * Pack a color and several states into one number. The color is stored with the resolution
+     * in which it is sent (8 bit per channel) in the lower 24 bits, the states in the bits above.
+     *
+     * @param color The red, green and blue values of the color in the range of 0..1
+     * @param states The states
+     * @return The packed value, never negative
+     */
+    private static long pack (final double [] color, final boolean... states)
+    {
+        long packed = 0;
+        for (int i = 0; i < 3; i++)
+            packed = packed << 8 | Math.round (color[i] * 255.0) & 0xFF;
+        for (int i = 0; i < states.length; i++)
+        {
+            if (states[i])
+                packed |= 1L << 24 + i;
+        }
+        return packed;
     }
 
 
@@ -483,6 +679,12 @@ public class TrackModule extends AbstractModule
     }
 
 
+    private static void setSendValue (final ITrack track, final int sendNumber, final Object value) throws IllegalParameterException
+    {
+        getItem (track.getSendBank (), sendNumber).setValue (toInteger (value));
+    }
+
+
     private static void parseSendValue (final ITrack track, final int sendIndex, final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final String command = getSubCommand (path);
@@ -505,4 +707,78 @@ public class TrackModule extends AbstractModule
                 throw new UnknownCommandException (command);
         }
     }
+
+
+    /**
+     * The slots of the addresses of a track, its sends and clips. Additionally, stores the last
+     * sent state of the track and its clips in packed form to skip unchanged clips quickly.
+     */
+    private static class TrackAddresses
+    {
+        /** Marks a state, which is not known and therefore needs to be sent. */
+        private static final long               UNKNOWN    = -1;
+
+        private final int                       trackSlot;
+        private final int []                    track;
+        private final int                       sendsSlot;
+        private final OpenSoundControlSlotTable sends;
+        private final int                       clipsSlot;
+        private final OpenSoundControlSlotTable clips;
+
+        private int                             cacheEpoch = -1;
+        private long                            trackState = UNKNOWN;
+        private long []                         clipStates = new long [0];
+        private String []                       clipNames  = new String [0];
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer where to register the addresses
+         * @param trackAddress The start address of the track, ending with a slash
+         */
+        TrackAddresses (final IOpenSoundControlWriter writer, final String trackAddress)
+        {
+            this.trackSlot = writer.getContainerSlot (trackAddress.substring (0, trackAddress.length () - 1));
+            this.track = OpenSoundControlSlotTable.register (writer, trackAddress, TRACK_ATTRIBUTES);
+            this.sendsSlot = writer.getContainerSlot (trackAddress + "send");
+            this.sends = new OpenSoundControlSlotTable (writer, trackAddress + "send/", SEND_ATTRIBUTES);
+            this.clipsSlot = writer.getContainerSlot (trackAddress + "clip");
+            this.clips = new OpenSoundControlSlotTable (writer, trackAddress + "clip/", CLIP_ATTRIBUTES);
+        }
+
+
+        /**
+         * Forget all stored states, if the cache epoch of the writer changed.
+         *
+         * @param epoch The current cache epoch of the writer
+         */
+        void checkCacheEpoch (final int epoch)
+        {
+            if (epoch == this.cacheEpoch)
+                return;
+            this.cacheEpoch = epoch;
+            this.trackState = UNKNOWN;
+            Arrays.fill (this.clipStates, UNKNOWN);
+        }
+
+
+        /**
+         * Get the packed states of the clips. The array is enlarged if required.
+         *
+         * @param numSlots The number of clip slots
+         * @return The packed states, one per clip slot
+         */
+        long [] getClipStates (final int numSlots)
+        {
+            if (this.clipStates.length < numSlots)
+            {
+                final int oldLength = this.clipStates.length;
+                this.clipStates = Arrays.copyOf (this.clipStates, numSlots);
+                this.clipNames = Arrays.copyOf (this.clipNames, numSlots);
+                Arrays.fill (this.clipStates, oldLength, numSlots, UNKNOWN);
+            }
+            return this.clipStates;
+        }
+    }
 }
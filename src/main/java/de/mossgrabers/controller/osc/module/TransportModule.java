@@ -15,6 +15,8 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlRouter;
+import de.mossgrabers.framework.osc.OpenSoundControlSlotTable;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 import java.util.LinkedList;
@@ -27,8 +29,56 @@ import java.util.LinkedList;
  */
 public class TransportModule extends AbstractModule
 {
+    private static final String []                                 ADDRESSES             =
+    {
+        "/play",
+        "/record",
+        "/overdub",
+        "/overdub/launcher",
+        "/repeat",
+        "/punchIn",
+        "/punchOut",
+        "/click",
+        "/click/ticks",
+        "/click/volume",
+        "/click/volumeStr",
+        "/click/preroll",
+        "/preroll",
+        "/tempo/raw",
+        "/crossfade",
+        "/autowrite",
+        "/autowrite/launcher",
+        "/automationWriteMode",
+        "/time/str",
+        "/time/signature",
+        "/beat/str"
+    };
+
+    private static final int                                       PLAY                  = 0;
+    private static final int                                       RECORD                = 1;
+    private static final int                                       OVERDUB               = 2;
+    private static final int                                       OVERDUB_LAUNCHER      = 3;
+    private static final int                                       REPEAT                = 4;
+    private static final int                                       PUNCH_IN              = 5;
+    private static final int                                       PUNCH_OUT             = 6;
+    private static final int                                       CLICK                 = 7;
+    private static final int                                       CLICK_TICKS           = 8;
+    private static final int                                       CLICK_VOLUME          = 9;
+    private static final int                                       CLICK_VOLUME_STR      = 10;
+    private static final int                                       CLICK_PREROLL         = 11;
+    private static final int                                       PREROLL               = 12;
+    private static final int                                       TEMPO_RAW             = 13;
+    private static final int                                       CROSSFADE             = 14;
+    private static final int                                       AUTOWRITE             = 15;
+    private static final int                                       AUTOWRITE_LAUNCHER    = 16;
+    private static final int                                       AUTOMATION_WRITE_MODE = 17;
+    private static final int                                       TIME_STR              = 18;
+    private static final int                                       TIME_SIGNATURE        = 19;
+    private static final int                                       BEAT_STR              = 20;
+
     private final ITransport                                       transport;
     private final PlayCommand<OSCControlSurface, OSCConfiguration> playCommand;
+    private final int []                                           slots;
 
 
     /**
@@ -45,6 +95,7 @@ public class TransportModule extends AbstractModule
 
         this.transport = model.getTransport ();
         this.playCommand = new PlayCommand<> (model, surface);
+        this.slots = OpenSoundControlSlotTable.register (writer, "", ADDRESSES);
     }
 
 
@@ -257,30 +308,39 @@ public class TransportModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerRoutes (final OpenSoundControlRouter<IRouteHandler> router)
+    {
+        router.addRoute ("/tempo/raw", (numbers, value) -> this.transport.setTempo (toNumber (value)));
+        router.addRoute ("/crossfade", (numbers, value) -> this.transport.setCrossfade (toInteger (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
     {
-        this.writer.sendOSC ("/play", this.transport.isPlaying (), dump);
-        this.writer.sendOSC ("/record", this.transport.isRecording (), dump);
-        this.writer.sendOSC ("/overdub", this.transport.isArrangerOverdub (), dump);
-        this.writer.sendOSC ("/overdub/launcher", this.transport.isLauncherOverdub (), dump);
-        this.writer.sendOSC ("/repeat", this.transport.isLoop (), dump);
-        this.writer.sendOSC ("/punchIn", this.transport.isPunchInEnabled (), dump);
-        this.writer.sendOSC ("/punchOut", this.transport.isPunchOutEnabled (), dump);
-        this.writer.sendOSC ("/click", this.transport.isMetronomeOn (), dump);
-        this.writer.sendOSC ("/click/ticks", this.transport.isMetronomeTicksOn (), dump);
-        this.writer.sendOSC ("/click/volume", this.transport.getMetronomeVolume (), dump);
-        this.writer.sendOSC ("/click/volumeStr", this.transport.getMetronomeVolumeStr (), dump);
-        this.writer.sendOSC ("/click/preroll", this.transport.isPrerollMetronomeEnabled (), dump);
-        this.writer.sendOSC ("/preroll", this.transport.getPrerollAsBars (), dump);
-        this.writer.sendOSC ("/tempo/raw", this.transport.getTempo (), dump);
-        this.writer.sendOSC ("/crossfade", this.transport.getCrossfade (), dump);
-        this.writer.sendOSC ("/autowrite", this.transport.isWritingArrangerAutomation (), dump);
-        this.writer.sendOSC ("/autowrite/launcher", this.transport.isWritingClipLauncherAutomation (), dump);
-        this.writer.sendOSC ("/automationWriteMode", this.transport.getAutomationWriteMode (), dump);
-        this.writer.sendOSC ("/time/str", this.transport.getPositionText (), dump);
-        this.writer.sendOSC ("/time/signature", this.transport.getNumerator () + " / " + this.transport.getDenominator (), dump);
-        this.writer.sendOSC ("/beat/str", this.transport.getBeatText (), dump);
+        this.writer.sendOSC (this.slots[PLAY], this.transport.isPlaying (), dump);
+        this.writer.sendOSC (this.slots[RECORD], this.transport.isRecording (), dump);
+        this.writer.sendOSC (this.slots[OVERDUB], this.transport.isArrangerOverdub (), dump);
+        this.writer.sendOSC (this.slots[OVERDUB_LAUNCHER], this.transport.isLauncherOverdub (), dump);
+        this.writer.sendOSC (this.slots[REPEAT], this.transport.isLoop (), dump);
+        this.writer.sendOSC (this.slots[PUNCH_IN], this.transport.isPunchInEnabled (), dump);
+        this.writer.sendOSC (this.slots[PUNCH_OUT], this.transport.isPunchOutEnabled (), dump);
+        this.writer.sendOSC (this.slots[CLICK], this.transport.isMetronomeOn (), dump);
+        this.writer.sendOSC (this.slots[CLICK_TICKS], this.transport.isMetronomeTicksOn (), dump);
+        this.writer.sendOSC (this.slots[CLICK_VOLUME], this.transport.getMetronomeVolume (), dump);
+        this.writer.sendOSC (this.slots[CLICK_VOLUME_STR], this.transport.getMetronomeVolumeStr (), dump);
+        this.writer.sendOSC (this.slots[CLICK_PREROLL], this.transport.isPrerollMetronomeEnabled (), dump);
+        this.writer.sendOSC (this.slots[PREROLL], this.transport.getPrerollAsBars (), dump);
+        this.writer.sendOSC (this.slots[TEMPO_RAW], this.transport.getTempo (), dump);
+        this.writer.sendOSC (this.slots[CROSSFADE], this.transport.getCrossfade (), dump);
+        this.writer.sendOSC (this.slots[AUTOWRITE], this.transport.isWritingArrangerAutomation (), dump);
+        this.writer.sendOSC (this.slots[AUTOWRITE_LAUNCHER], this.transport.isWritingClipLauncherAutomation (), dump);
+        this.writer.sendOSC (this.slots[AUTOMATION_WRITE_MODE], this.transport.getAutomationWriteMode (), dump);
+        this.writer.sendOSC (this.slots[TIME_STR], this.transport.getPositionText (), dump);
+        this.writer.sendOSC (this.slots[TIME_SIGNATURE], this.transport.getNumerator () + " / " + this.transport.getDenominator (), dump);
+        this.writer.sendOSC (this.slots[BEAT_STR], this.transport.getBeatText (), dump);
     }
 }
@@ -12,7 +12,10 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.IParameterBank;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlRouter;
+import de.mossgrabers.framework.osc.OpenSoundControlSlotTable;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 
 
@@ -23,6 +26,22 @@ import java.util.LinkedList;
  */
 public class UserModule extends AbstractModule
 {
+    private static final String []          PAGE_ATTRIBUTES =
+    {
+        "",
+        "selected"
+    };
+
+    private static final int                PAGE_NAME       = 0;
+    private static final int                PAGE_SELECTED   = 1;
+
+    private final int                       userSlot;
+    private final OpenSoundControlSlotTable paramSlots;
+    private final OpenSoundControlSlotTable pageSlots;
+    private final int                       selectedPageNameSlot;
+    private String []                       pageNames       = new String [0];
+
+
     /**
      * Constructor.
      *
@@ -33,6 +52,11 @@ public class UserModule extends AbstractModule
     public UserModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        this.userSlot = writer.getContainerSlot ("/user");
+        this.paramSlots = new OpenSoundControlSlotTable (writer, "/user/", PARAM_ATTRIBUTES);
+        this.pageSlots = new OpenSoundControlSlotTable (writer, "/user/page/", PAGE_ATTRIBUTES);
+        this.selectedPageNameSlot = writer.getSlot ("/user/page/selected/name");
     }
 
 
@@ -65,37 +89,65 @@ public class UserModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void flush (final boolean dump)
+    public void registerRoutes (final OpenSoundControlRouter<IRouteHandler> router)
     {
-        final String userAddress = "/user/";
+        final IParameterBank parameterBank = this.model.getUserParameterBank ();
+        if (parameterBank != null)
+            router.addRoute ("/user/#/value", (numbers, value) -> getItem (parameterBank, numbers[0]).setValue (toInteger (value)));
+    }
+
 
+    /** {@inheritDoc} */
+    @Override
+    public void flush (final boolean dump)
+    {
         final IParameterBank parameterBank = this.model.getUserParameterBank ();
+        if (parameterBank == null || !this.writer.isSubscribed (this.userSlot))
+            return;
+
         for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (this.writer, userAddress + oneplus + "/", parameterBank.getItem (i), dump);
-        }
+            flushParameterData (this.writer, this.paramSlots.getSlots (i), parameterBank.getItem (i), dump);
 
         final int numPages = parameterBank.getItemCount () / parameterBank.getPageSize ();
         final int selectedPage = parameterBank.getScrollPosition () / parameterBank.getPageSize ();
         for (int i = 0; i < numPages; i++)
         {
-            final int oneplus = i + 1;
-            this.writer.sendOSC (userAddress + "page/" + oneplus + "/", "Page " + (i + 1), dump);
-            this.writer.sendOSC (userAddress + "page/" + oneplus + "/selected", selectedPage == i, dump);
+            final int [] slots = this.pageSlots.getSlots (i);
+            this.writer.sendOSC (slots[PAGE_NAME], this.getPageName (i), dump);
+            this.writer.sendOSC (slots[PAGE_SELECTED], selectedPage == i, dump);
         }
-        this.writer.sendOSC (userAddress + "page/selected/name", "Page " + (selectedPage + 1), dump);
+        this.writer.sendOSC (this.selectedPageNameSlot, this.getPageName (selectedPage), dump);
+    }
+
+
+    /**
+     * Get the name of a user parameter page.
+     *
+     * @param index The index of the page
+     * @return The name
+     */
+    private String getPageName (final int index)
+    {
+        if (index >= this.pageNames.length)
+            this.pageNames = Arrays.copyOf (this.pageNames, index + 1);
+        if (this.pageNames[index] == null)
+            this.pageNames[index] = "Page " + (index + 1);
+        return this.pageNames[index];
     }
 
 
     private void parseUserValue (final LinkedList<String> path, final Object value) throws UnknownCommandException, MissingCommandException, IllegalParameterException
     {
         final IParameterBank parameterBank = this.model.getUserParameterBank ();
+        // The user parameters are disabled in the model setup
+        if (parameterBank == null)
+            throw new UnknownCommandException ("user");
+
         final String subCommand = getSubCommand (path);
         try
         {
-            final int paramNo = Integer.parseInt (subCommand) - 1;
-            parseFXParamValue (parameterBank.getItem (paramNo), path, value);
+            final int paramNo = Integer.parseInt (subCommand);
+            parseFXParamValue (getItem (parameterBank, paramNo), path, value);
         }
         catch (final NumberFormatException ex)
         {
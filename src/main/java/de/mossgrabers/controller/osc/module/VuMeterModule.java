@@ -0,0 +1,169 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.module;
+
+import de.mossgrabers.controller.osc.OSCConfiguration;
+import de.mossgrabers.controller.osc.OSCConfiguration.VuStream;
+import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.VuMeterReader;
+import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Sends the VU meters of all tracks of the current track bank page and of the master track as one
+ * message with a fixed rate, if the VU meter stream is enabled. The message is sent to "/vu", the
+ * last value is the master track. If peak hold is enabled, the peak values are sent in the same
+ * format to "/vu/peak". The meters of the individual tracks are not sent in this mode.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VuMeterModule extends AbstractModule
+{
+    private static final long      PEAK_HOLD_TIME = 1500;
+
+    private final OSCConfiguration configuration;
+    private final int              vuSlot;
+    private final int              peakSlot;
+    private final VuMeterReader    trackReader;
+    private final VuMeterReader    masterReader;
+    private int []                 vus            = new int [0];
+    private int []                 peaks          = new int [0];
+    private boolean                hasVuChanged;
+    private boolean                hasPeakChanged;
+    private long                   nextSendTime;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param model The model
+     * @param writer The writer
+     * @param configuration The configuration
+     */
+    public VuMeterModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer, final OSCConfiguration configuration)
+    {
+        super (host, model, writer);
+
+        this.configuration = configuration;
+        this.vuSlot = writer.getSlot ("/vu");
+        this.peakSlot = writer.getSlot ("/vu/peak");
+
+        // Without decay, the peak follows the meter after the hold time
+        final int resolution = model.getValueChanger ().getUpperBound ();
+        this.trackReader = new VuMeterReader (resolution, false, PEAK_HOLD_TIME, 0);
+        this.masterReader = new VuMeterReader (resolution, false, PEAK_HOLD_TIME, 0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String [] getSupportedCommands ()
+    {
+        return new String [0];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute (final String command, final LinkedList<String> path, final Object value) throws UnknownCommandException
+    {
+        throw new UnknownCommandException (command);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush (final boolean dump)
+    {
+        final VuStream mode = this.configuration.getVuStream ();
+        if (mode == VuStream.OFF || !this.configuration.isEnableVUMeters () || !this.writer.isSubscribed (this.vuSlot) && !this.writer.isSubscribed (this.peakSlot))
+            return;
+
+        final long now = System.nanoTime ();
+        if (!dump && now < this.nextSendTime)
+            return;
+        // Keep the average rate but do not catch up after a pause
+        final long interval = TimeUnit.SECONDS.toNanos (1) / this.configuration.getVuStreamRate ();
+        this.nextSendTime = Math.max (this.nextSendTime, now - interval) + interval;
+
+        this.updateMeters (TimeUnit.NANOSECONDS.toMillis (now));
+
+        // Nothing to send if the meters are not moving
+        if (dump || this.hasVuChanged)
+            this.send (mode, this.vuSlot, this.vus);
+
+        if (this.configuration.isVuPeakHold () && (dump || this.hasPeakChanged))
+            this.send (mode, this.peakSlot, this.peaks);
+
+        this.hasVuChanged = false;
+        this.hasPeakChanged = false;
+    }
+
+
+    /**
+     * Read the VU meters of all tracks and the master. Only the values which changed in the
+     * resolution of the value changer are updated.
+     *
+     * @param now The current time in milliseconds
+     */
+    private void updateMeters (final long now)
+    {
+        final ITrackBank trackBank = this.model.getCurrentTrackBank ();
+        final int pageSize = trackBank.getPageSize ();
+        if (this.vus.length != pageSize + 1)
+        {
+            this.vus = new int [pageSize + 1];
+            this.peaks = new int [pageSize + 1];
+            this.trackReader.reset ();
+            this.masterReader.reset ();
+        }
+
+        this.trackReader.update (trackBank.getVuMeters (), now, this::setMeter);
+        this.masterReader.update (this.model.getMasterTrack ().getVuMeters (), now, (index, value, peak) -> this.setMeter (pageSize + index, value, peak));
+    }
+
+
+    private void setMeter (final int index, final int value, final int peak)
+    {
+        if (index >= this.vus.length)
+            return;
+        this.hasVuChanged |= this.vus[index] != value;
+        this.hasPeakChanged |= this.peaks[index] != peak;
+        this.vus[index] = value;
+        this.peaks[index] = peak;
+    }
+
+
+    /**
+     * Send the meter values.
+     *
+     * @param mode The format of the message
+     * @param slot The slot of the address
+     * @param values The values to send
+     */
+    private void send (final VuStream mode, final int slot, final int [] values)
+    {
+        if (mode == VuStream.INTEGERS)
+        {
+            this.writer.sendOSCValues (slot, values);
+            return;
+        }
+
+        final byte [] data = new byte [2 * values.length];
+        for (int i = 0; i < values.length; i++)
+        {
+            data[2 * i] = (byte) (values[i] >> 8 & 0xFF);
+            data[2 * i + 1] = (byte) (values[i] & 0xFF);
+        }
+        this.writer.sendOSCBlob (slot, data);
+    }
+}
@@ -9,6 +9,7 @@ import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
 import de.mossgrabers.controller.osc.module.IModule;
+import de.mossgrabers.controller.osc.module.IRouteHandler;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
@@ -16,12 +17,15 @@ import de.mossgrabers.framework.osc.AbstractOpenSoundControlParser;
 import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlRouter;
 import de.mossgrabers.framework.utils.KeyManager;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 
 
@@ -32,8 +36,14 @@ import java.util.Map;
  */
 public class OSCParser extends AbstractOpenSoundControlParser
 {
-    private final OSCControlSurface    surface;
-    private final Map<String, IModule> modules = new HashMap<> ();
+    private static final int                            MAX_PENDING_ADDRESSES = 1024;
+
+    private final OSCControlSurface                     surface;
+    private final Map<String, IModule>                  modules               = new HashMap<> ();
+    private final OpenSoundControlRouter<IRouteHandler> router                = new OpenSoundControlRouter<> ();
+    private final int []                                numbers               = new int [OpenSoundControlRouter.MAX_CAPTURES];
+    private final Map<String, PendingRoute>             pendingRoutes         = new HashMap<> ();
+    private final List<PendingRoute>                    changedRoutes         = new ArrayList<> ();
 
 
     /**
@@ -64,21 +74,72 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
-        final LinkedList<String> oscParts = parseAddress (message);
-        if (oscParts.isEmpty ())
-            return;
-
-        final String command = oscParts.removeFirst ();
-        if ("refresh".equals (command))
-        {
-            this.writer.flush (true);
-            return;
-        }
-
         final Object [] values = message.getValues ();
         final Object value = values == null || values.length == 0 ? null : values[0];
         try
         {
+            // Frequently sent commands are routed directly to their handler. Only the last value
+            // of each address is executed with the next flush
+            final String address = message.getAddress ();
+            final IRouteHandler handler = this.router.match (address, this.numbers);
+            if (handler != null)
+            {
+                this.setPendingRoute (address, handler, value);
+                return;
+            }
+
+            // Execute all pending values first to keep the order of the commands
+            this.executePendingRoutes ();
+
+            final LinkedList<String> oscParts = parseAddress (message);
+            if (oscParts.isEmpty ())
+                return;
+
+            final String command = oscParts.removeFirst ();
+            switch (command)
+            {
+                case "refresh":
+                    if (value == null)
+                        this.writer.flush (true);
+                    else
+                    {
+                        if (!(value instanceof Number))
+                            throw new IllegalParameterException ("Parameter is not a Number");
+                        // Only send the changes after the version, which the client received last
+                        this.writer.resync (this.getClientIndex (oscParts), ((Number) value).intValue ());
+                        this.writer.flush (false);
+                    }
+                    return;
+
+                case "subscribe":
+                    final int subscribeClient = this.getClientIndex (oscParts);
+                    if (values == null || values.length == 0)
+                        this.writer.subscribe (subscribeClient, "/");
+                    else
+                    {
+                        for (final Object pattern: values)
+                            this.writer.subscribe (subscribeClient, pattern.toString ());
+                    }
+                    // Send the current state of the new subscriptions
+                    this.writer.flush (false);
+                    return;
+
+                case "unsubscribe":
+                    final int unsubscribeClient = this.getClientIndex (oscParts);
+                    if (values == null || values.length == 0)
+                        this.writer.unsubscribe (unsubscribeClient, null);
+                    else
+                    {
+                        for (final Object pattern: values)
+                            this.writer.unsubscribe (unsubscribeClient, pattern.toString ());
+                    }
+                    return;
+
+                default:
+                    // Handled by the modules
+                    break;
+            }
+
             final IModule module = this.modules.get (command);
             if (module == null)
                 throw new UnknownCommandException (command);
@@ -99,6 +160,80 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
+    /**
+     * Executes the last received value of all routed addresses. Call this once for each flush of
+     * the host.
+     */
+    public void executePendingRoutes ()
+    {
+        if (this.changedRoutes.isEmpty ())
+            return;
+
+        // Copy since a handler might trigger further commands. Reset all routes before executing
+        // any handler, otherwise a failing handler would prevent that the remaining routes are
+        // ever queued again
+        final PendingRoute [] routes = this.changedRoutes.toArray (new PendingRoute [this.changedRoutes.size ()]);
+        this.changedRoutes.clear ();
+        for (final PendingRoute route: routes)
+            route.isChanged = false;
+
+        for (final PendingRoute route: routes)
+        {
+            try
+            {
+                route.handler.handle (route.numbers, route.value);
+            }
+            catch (final IllegalParameterException ex)
+            {
+                this.host.println ("Illegal parameter: " + route.address + " " + ex.getMessage ());
+            }
+            catch (final UnknownCommandException ex)
+            {
+                this.host.println ("Unknown OSC command: " + route.address + " " + ex.getMessage ());
+            }
+            catch (final MissingCommandException ex)
+            {
+                this.host.println ("Missing command: " + route.address);
+            }
+            catch (final RuntimeException ex)
+            {
+                this.host.error ("Could not execute OSC command: " + route.address, ex);
+            }
+        }
+    }
+
+
+    /**
+     * Store the value of a routed address. A value, which was received for the address before and
+     * was not executed yet, is replaced.
+     *
+     * @param address The address
+     * @param handler The handler of the address
+     * @param value The value
+     */
+    private void setPendingRoute (final String address, final IRouteHandler handler, final Object value)
+    {
+        PendingRoute route = this.pendingRoutes.get (address);
+        if (route == null)
+        {
+            // Prevent that a client fills the memory with different addresses
+            if (this.pendingRoutes.size () >= MAX_PENDING_ADDRESSES && this.changedRoutes.isEmpty ())
+                this.pendingRoutes.clear ();
+            route = new PendingRoute (address);
+            this.pendingRoutes.put (address, route);
+        }
+
+        route.handler = handler;
+        System.arraycopy (this.numbers, 0, route.numbers, 0, this.numbers.length);
+        route.value = value;
+        if (!route.isChanged)
+        {
+            route.isChanged = true;
+            this.changedRoutes.add (route);
+        }
+    }
+
+
     /**
      * Parses the OSC message into seprate parts.
      *
@@ -116,6 +251,34 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
+    /**
+     * Get the index of the client to which a (un-)subscription applies, e.g. "/subscribe/2".
+     *
+     * @param path The rest of the address
+     * @return The index of the client, all clients if the address contains no number
+     * @throws IllegalParameterException The client number is not a number or there is no such
+     *             client
+     */
+    private int getClientIndex (final LinkedList<String> path) throws IllegalParameterException
+    {
+        if (path.isEmpty ())
+            return IOpenSoundControlWriter.ALL_CLIENTS;
+
+        final String clientNo = path.removeFirst ();
+        try
+        {
+            final int index = Integer.parseInt (clientNo) - 1;
+            if (index >= 0 && index < this.writer.getClientCount ())
+                return index;
+        }
+        catch (final NumberFormatException ex)
+        {
+            // Handled below
+        }
+        throw new IllegalParameterException ("No client " + clientNo);
+    }
+
+
     /**
      * Register a command module.
      *
@@ -124,5 +287,28 @@ public class OSCParser extends AbstractOpenSoundControlParser
     public void registerModule (final IModule module)
     {
         Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.modules.put (command, module));
+        module.registerRoutes (this.router);
+    }
+
+
+    /** The last received value of a routed address. */
+    private static class PendingRoute
+    {
+        private final String  address;
+        private final int []  numbers = new int [OpenSoundControlRouter.MAX_CAPTURES];
+        private IRouteHandler handler;
+        private Object        value;
+        private boolean       isChanged;
+
+
+        /**
+         * Constructor.
+         *
+         * @param address The address
+         */
+        PendingRoute (final String address)
+        {
+            this.address = address;
+        }
     }
 }
\ No newline at end of file
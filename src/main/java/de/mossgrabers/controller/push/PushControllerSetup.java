@@ -204,6 +204,8 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         }
         ms.setNumMarkers (8);
         ms.setHasFlatTrackList (false);
+        ms.setHasPageCache (true);
+        ms.setNumCachedClipPages (8);
         this.model = this.factory.createModel (this.colorManager, this.valueChanger, this.scales, ms);
 
         final ITrackBank trackBank = this.model.getTrackBank ();
@@ -10,9 +10,9 @@ import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.usb.UsbTransferQueue;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -23,11 +23,14 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public class PushUsbDisplay
 {
     /** The size of the display content. */
-    private static final int     DATA_SZ        = 20 * 0x4000;
+    private static final int       DATA_SZ        = 20 * 0x4000;
 
-    private static final int     TIMEOUT        = 1000;
+    private static final int       TIMEOUT        = 1000;
 
-    private static final byte [] DISPLAY_HEADER =
+    /** A waiting frame is replaced by a newer one. */
+    private static final Object    FRAME_KEY      = new Object ();
+
+    private static final byte []   DISPLAY_HEADER =
     {
         (byte) 0xef,
         (byte) 0xcd,
@@ -47,11 +50,10 @@ public class PushUsbDisplay
         0
     };
 
-    private IUsbDevice           usbDevice;
-    private IUsbEndpoint         usbEndpoint;
-    private final IMemoryBlock   headerBlock;
-    private final IMemoryBlock   imageBlock;
-    private AtomicBoolean        isSending      = new AtomicBoolean (false);
+    private IUsbDevice             usbDevice;
+    private IUsbEndpoint           usbEndpoint;
+    private final IMemoryBlock     headerBlock;
+    private final UsbTransferQueue transferQueue;
 
 
     /**
@@ -75,7 +77,9 @@ public class PushUsbDisplay
 
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+
+        // One frame is sent, a second one waits and is replaced by newer frames
+        this.transferQueue = new UsbTransferQueue (host, "Push 2 Display", 2, TIMEOUT);
     }
 
 
@@ -86,45 +90,41 @@ public class PushUsbDisplay
      */
     public void send (final IBitmap image)
     {
-        synchronized (this.isSending)
-        {
-            if (this.usbDevice == null || this.usbEndpoint == null || this.isSending.get ())
-                return;
-
-            this.isSending.set (true);
+        // Drop the frame if the previous ones are not sent yet, the next one contains the latest
+        // image anyway
+        if (this.usbEndpoint == null || this.transferQueue.skipIfSaturated ())
+            return;
 
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
+        final IMemoryBlock imageBlock = this.transferQueue.acquireBuffer (DATA_SZ);
+        final ByteBuffer buffer = imageBlock.createByteBuffer ();
 
-            image.encode ( (imageBuffer, width, height) -> {
-                buffer.clear ();
+        image.encode ( (imageBuffer, width, height) -> {
+            buffer.clear ();
 
-                final int padding = (buffer.capacity () - height * width * 2) / height;
+            final int padding = (buffer.capacity () - height * width * 2) / height;
 
-                for (int y = 0; y < height; y++)
+            for (int y = 0; y < height; y++)
+            {
+                for (int x = 0; x < width; x++)
                 {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
-
-                        final int pixel = sPixelFromRGB (red, green, blue);
-                        buffer.put ((byte) (pixel & 0x00FF));
-                        buffer.put ((byte) ((pixel & 0xFF00) >> 8));
-                    }
-
-                    for (int x = 0; x < padding; x++)
-                        buffer.put ((byte) 0x00);
+                    final int blue = imageBuffer.get ();
+                    final int green = imageBuffer.get ();
+                    final int red = imageBuffer.get ();
+                    imageBuffer.get (); // Drop unused Alpha
+
+                    final int pixel = sPixelFromRGB (red, green, blue);
+                    buffer.put ((byte) (pixel & 0x00FF));
+                    buffer.put ((byte) ((pixel & 0xFF00) >> 8));
                 }
 
-                imageBuffer.rewind ();
-            });
+                for (int x = 0; x < padding; x++)
+                    buffer.put ((byte) 0x00);
+            }
 
-            this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
-            this.isSending.set (false);
-        }
+            imageBuffer.rewind ();
+        });
+
+        this.transferQueue.submit (FRAME_KEY, imageBlock, this::sendFrame, null);
     }
 
 
@@ -133,11 +133,18 @@ public class PushUsbDisplay
      */
     public void shutdown ()
     {
-        synchronized (this.isSending)
-        {
-            this.usbDevice = null;
-            this.usbEndpoint = null;
-        }
+        this.transferQueue.shutdown ();
+        this.usbDevice = null;
+        this.usbEndpoint = null;
+    }
+
+
+    private int sendFrame (final IMemoryBlock imageBlock)
+    {
+        final IUsbEndpoint endpoint = this.usbEndpoint;
+        if (endpoint == null || endpoint.send (this.headerBlock, TIMEOUT) < 0)
+            return -1;
+        return endpoint.send (imageBlock, TIMEOUT);
     }
 
 
@@ -107,22 +107,9 @@ public class FrameMode extends BaseMode
     public FrameMode (final PushControlSurface surface, final IModel model)
     {
         super ("Frame", surface, model);
-    }
-
 
-    /** {@inheritDoc} */
-    @Override
-    public void onActivate ()
-    {
-        this.setActive (true);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onDeactivate ()
-    {
-        this.setActive (false);
+        this.addObservedComponent (model.getArranger ());
+        this.addObservedComponent (model.getMixer ());
     }
 
 
@@ -350,11 +337,4 @@ public class FrameMode extends BaseMode
 
         return -1;
     }
-
-
-    private void setActive (final boolean enable)
-    {
-        this.model.getArranger ().enableObservers (enable);
-        this.model.getMixer ().enableObservers (enable);
-    }
 }
@@ -9,7 +9,6 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
-import de.mossgrabers.framework.daw.IGroove;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IParameter;
 
@@ -30,22 +29,26 @@ public class GrooveMode extends BaseMode
     public GrooveMode (final PushControlSurface surface, final IModel model)
     {
         super ("Groove", surface, model);
+
+        this.addObservedComponent (model.getGroove ());
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onModeActivate ()
     {
-        this.setActive (true);
+        super.onModeActivate ();
+        this.model.getGroove ().setIndication (true);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void onDeactivate ()
+    protected void onModeDeactivate ()
     {
-        this.setActive (false);
+        super.onModeDeactivate ();
+        this.model.getGroove ().setIndication (false);
     }
 
 
@@ -104,12 +107,4 @@ public class GrooveMode extends BaseMode
         for (int i = parameters.length; i < 6; i++)
             display.addEmptyElement ();
     }
-
-
-    private void setActive (final boolean enable)
-    {
-        final IGroove groove = this.model.getGroove ();
-        groove.enableObservers (enable);
-        groove.setIndication (enable);
-    }
 }
\ No newline at end of file
@@ -41,6 +41,8 @@ public class UserParamsMode extends BaseMode
         super ("User Controls", surface, model);
 
         this.isTemporary = false;
+
+        this.addObservedComponent (model.getUserParameterBank ());
     }
 
 
@@ -43,6 +43,8 @@ public class ClipMode extends AbstractTrackMode
     public ClipMode (final PushControlSurface surface, final IModel model)
     {
         super ("Clip", surface, model);
+
+        this.addObservedComponent (model.getNoteClip (8, 128));
     }
 
 
@@ -48,7 +48,7 @@ public class MasterMode extends BaseMode
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onModeActivate ()
     {
         this.setActive (true);
     }
@@ -56,7 +56,7 @@ public class MasterMode extends BaseMode
 
     /** {@inheritDoc} */
     @Override
-    public void onDeactivate ()
+    protected void onModeDeactivate ()
     {
         this.setActive (false);
     }
@@ -153,9 +153,10 @@ public class PolySequencerView extends AbstractSequencerView<PushControlSurface,
 
         final INoteClip clip = this.getClip ();
         final int col = GRID_COLUMNS * (NUM_LINES - 1 - y) + x;
-        if (getStep (clip, col) > 0)
+        if (clip.getColumnState (col) > 0)
         {
-            for (int row = 0; row < 128; row++)
+            final int upperRow = clip.getUpperRowWithData ();
+            for (int row = clip.getLowerRowWithData (); row >= 0 && row <= upperRow; row++)
             {
                 if (clip.getStep (col, row) > 0)
                     clip.clearStep (col, row);
@@ -225,7 +226,7 @@ public class PolySequencerView extends AbstractSequencerView<PushControlSurface,
         final int hiStep = this.isInXRange (step) ? step % this.sequencerSteps : -1;
         for (int col = 0; col < this.sequencerSteps; col++)
         {
-            final int isSet = getStep (clip, col);
+            final int isSet = clip.getColumnState (col);
             final boolean hilite = col == hiStep;
             final int x = col % GRID_COLUMNS;
             final int y = col / GRID_COLUMNS;
@@ -253,29 +254,6 @@ public class PolySequencerView extends AbstractSequencerView<PushControlSurface,
     }
 
 
-    /**
-     * Check if any note is set at the current step.
-     *
-     * @param clip The clip which contains the notes
-     * @param col The column/step to check
-     * @return 0: All notes are off, 1: at least 1 note continues playing, 2: at least 1 note starts
-     *         at this step, see the defined constants
-     */
-    private static int getStep (final INoteClip clip, final int col)
-    {
-        int result = INoteClip.NOTE_OFF;
-        for (int row = 0; row < 128; row++)
-        {
-            result = clip.getStep (col, row);
-            if (result == INoteClip.NOTE_START)
-                return result;
-            if (result == INoteClip.NOTE_CONTINUE)
-                result = INoteClip.NOTE_CONTINUE;
-        }
-        return result;
-    }
-
-
     /**
      * Get the step color.
      *
@@ -41,7 +41,7 @@ public abstract class BaseMode extends AbstractMode<SLMkIIIControlSurface, SLMkI
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onModeActivate ()
     {
         this.surface.getDisplay ().setDisplayLayout (SLMkIIIDisplay.SCREEN_LAYOUT_KNOB);
         this.surface.clearKnobCache ();
@@ -17,4 +17,13 @@ public interface IIntegerSetting extends ISetting<Integer>
      * @param value The new value
      */
     void set (int value);
+
+
+    /**
+     * Get the current value. The value of a global setting can already be read during the
+     * initialisation of the extension, before the observers are notified.
+     *
+     * @return The value
+     */
+    int get ();
 }
@@ -22,6 +22,7 @@ import de.mossgrabers.framework.graphics.canvas.component.ChannelComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ChannelSelectComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ClipListComponent;
 import de.mossgrabers.framework.graphics.canvas.component.IComponent;
+import de.mossgrabers.framework.graphics.canvas.component.IMeterComponent;
 import de.mossgrabers.framework.graphics.canvas.component.LabelComponent.LabelLayout;
 import de.mossgrabers.framework.graphics.canvas.component.ListComponent;
 import de.mossgrabers.framework.graphics.canvas.component.MidiClipComponent;
@@ -31,6 +32,7 @@ import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
 import de.mossgrabers.framework.graphics.display.ModelInfo;
+import de.mossgrabers.framework.graphics.display.VuMeterOverlay;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
@@ -91,6 +93,8 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     protected final IGraphicsDimensions    dimensions;
     protected final IBitmap                image;
 
+    private final VuMeterOverlay           vuMeterOverlay;
+
 
     /**
      * Constructor.
@@ -105,6 +109,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
         this.host = host;
         this.configuration = configuration;
         this.dimensions = dimensions;
+        this.vuMeterOverlay = new VuMeterOverlay (dimensions.getParameterUpperBound ());
 
         ResourceHandler.init (host);
 
@@ -146,12 +151,20 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             return;
 
         final ModelInfo newInfo = new ModelInfo (this.notificationMessage.get (), this.columns);
+        final boolean isMeterChanged = this.vuMeterOverlay.update (newInfo.getComponents (), System.currentTimeMillis ());
 
-        // Only render image if there is a change in the data
-        if (!this.info.equals (newInfo))
-        {
-            this.info = newInfo;
+        // Only render image if there is a change in the data, if only the VU meters or play
+        // cursors have changed draw them on top of the already rendered image
+        final ModelInfo oldInfo = this.info;
+        this.info = newInfo;
+        if (!oldInfo.equals (newInfo))
             this.renderImage ();
+        else if (isMeterChanged || hasPlayCursorChanged (oldInfo, newInfo))
+        {
+            if (this.canRenderOverlaysOnly ())
+                this.renderOverlays (oldInfo);
+            else
+                this.renderImage ();
         }
 
         this.columns.clear ();
@@ -374,6 +387,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
             for (int i = 0; i < size; i++)
                 elements.get (i).draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
+            this.vuMeterOverlay.markDrawn ();
 
             final String notification = this.info.getNotification ();
             if (notification == null)
@@ -383,4 +397,78 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
             gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, colorText, colorBorder, height / 4.0);
         });
     }
+
+
+    /**
+     * Check if the VU meters and play cursors can be drawn on top of the current image without
+     * rendering the rest.
+     *
+     * @return True if there is neither a notification nor any content on top of a meter
+     */
+    private boolean canRenderOverlaysOnly ()
+    {
+        if (this.info.getNotification () != null)
+            return false;
+        for (final IComponent component: this.info.getComponents ())
+        {
+            if (component instanceof IMeterComponent && ((IMeterComponent) component).isMeterCovered ())
+                return false;
+        }
+        return true;
+    }
+
+
+    private static boolean hasPlayCursorChanged (final ModelInfo oldInfo, final ModelInfo newInfo)
+    {
+        final List<IComponent> oldElements = oldInfo.getComponents ();
+        final List<IComponent> newElements = newInfo.getComponents ();
+        for (int i = 0; i < newElements.size (); i++)
+        {
+            final IComponent component = newElements.get (i);
+            if (component instanceof MidiClipComponent && ((MidiClipComponent) component).hasPlayCursorChanged ((MidiClipComponent) oldElements.get (i)))
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Draws the VU meters and play cursors on top of the current image.
+     *
+     * @param oldInfo The previously drawn model, which must be equal to the current one
+     */
+    private void renderOverlays (final ModelInfo oldInfo)
+    {
+        this.image.render (gc -> {
+            final List<IComponent> oldElements = oldInfo.getComponents ();
+            final List<IComponent> elements = this.info.getComponents ();
+            final int size = elements.size ();
+            if (size == 0)
+                return;
+            final int gridWidth = this.dimensions.getWidth () / size;
+            final double separatorSize = this.dimensions.getSeparatorSize ();
+            final double paintWidth = gridWidth - separatorSize;
+            final double offsetX = separatorSize / 2.0;
+
+            final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
+            for (int i = 0; i < size; i++)
+            {
+                final IComponent component = elements.get (i);
+                if (component instanceof IMeterComponent)
+                {
+                    final IMeterComponent meter = (IMeterComponent) component;
+                    this.vuMeterOverlay.apply (i, meter);
+                    meter.drawMeter (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, this.dimensions.getHeight ()));
+                }
+                else if (component instanceof MidiClipComponent)
+                {
+                    final MidiClipComponent clipComponent = (MidiClipComponent) component;
+                    final MidiClipComponent oldClipComponent = (MidiClipComponent) oldElements.get (i);
+                    if (clipComponent.hasPlayCursorChanged (oldClipComponent))
+                        clipComponent.drawPlayCursor (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, this.dimensions.getHeight ()), oldClipComponent);
+                }
+            }
+            this.vuMeterOverlay.markDrawn ();
+        });
+    }
 }
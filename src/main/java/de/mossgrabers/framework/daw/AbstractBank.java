@@ -27,6 +27,8 @@ public abstract class AbstractBank<T extends IItem> implements IBank<T>
     protected final Set<ItemSelectionObserver> observers = new HashSet<> ();
     protected int                              pageSize;
 
+    private long                               generation;
+
 
     /**
      * Constructor.
@@ -63,6 +65,24 @@ public abstract class AbstractBank<T extends IItem> implements IBank<T>
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public long getGeneration ()
+    {
+        return this.generation;
+    }
+
+
+    /**
+     * Increase the change generation of the bank. Called if the bank was scrolled or if a value
+     * of one of its items has changed.
+     */
+    protected void markChanged ()
+    {
+        this.generation++;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public T getItem (final int index)
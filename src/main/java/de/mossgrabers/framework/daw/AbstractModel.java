@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.ObserverSubscriptions;
 import de.mossgrabers.framework.scale.Scales;
 
 import java.util.HashMap;
@@ -23,31 +24,32 @@ import java.util.Map;
  */
 public abstract class AbstractModel implements IModel
 {
-    protected final IHost         host;
-    protected final Scales        scales;
-    protected final ColorManager  colorManager;
-    protected final IValueChanger valueChanger;
-    protected final ModelSetup    modelSetup;
-
-    protected IApplication        application;
-    protected IMixer              mixer;
-    protected ITransport          transport;
-    protected IGroove             groove;
-    protected IProject            project;
-    protected IBrowser            browser;
-    protected IArranger           arranger;
-    protected IMarkerBank         markerBank;
-    protected ITrackBank          currentTrackBank;
-    protected ITrackBank          trackBank;
-    protected ITrackBank          effectTrackBank;
-    protected IMasterTrack        masterTrack;
-    protected ICursorDevice       instrumentDevice;
-    protected ICursorDevice       cursorDevice;
-    protected ICursorDevice       drumDevice64;
-    protected IParameterBank      userParameterBank;
-    protected Map<String, IClip>  cursorClips = new HashMap<> ();
-
-    private int                   lastSelection;
+    protected final IHost                 host;
+    protected final Scales                scales;
+    protected final ColorManager          colorManager;
+    protected final IValueChanger         valueChanger;
+    protected final ModelSetup            modelSetup;
+    protected final ObserverSubscriptions observerSubscriptions = new ObserverSubscriptions ();
+
+    protected IApplication                application;
+    protected IMixer                      mixer;
+    protected ITransport                  transport;
+    protected IGroove                     groove;
+    protected IProject                    project;
+    protected IBrowser                    browser;
+    protected IArranger                   arranger;
+    protected IMarkerBank                 markerBank;
+    protected ITrackBank                  currentTrackBank;
+    protected ITrackBank                  trackBank;
+    protected ITrackBank                  effectTrackBank;
+    protected IMasterTrack                masterTrack;
+    protected ICursorDevice               instrumentDevice;
+    protected ICursorDevice               cursorDevice;
+    protected ICursorDevice               drumDevice64;
+    protected IParameterBank              userParameterBank;
+    protected Map<String, IClip>          cursorClips           = new HashMap<> ();
+
+    private int                           lastSelection;
 
 
     /**
@@ -83,6 +85,14 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ObserverSubscriptions getObserverSubscriptions ()
+    {
+        return this.observerSubscriptions;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IArranger getArranger ()
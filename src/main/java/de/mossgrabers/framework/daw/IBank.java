@@ -185,4 +185,13 @@ public interface IBank<T> extends ObserverManagement
      * new page.
      */
     void selectPreviousPage ();
+
+
+    /**
+     * Get the change generation of the bank. The generation is increased whenever the bank is
+     * scrolled or the generation of one of its items is increased.
+     *
+     * @return The generation
+     */
+    long getGeneration ();
 }
@@ -38,6 +38,15 @@ public interface IChannelBank<T extends IChannel> extends IBank<T>
     ISceneBank getSceneBank ();
 
 
+    /**
+     * Get the raw values of the VU meters of the channels of the current page. The index of a
+     * channel in the page is the index in the store.
+     *
+     * @return The VU meter values
+     */
+    VuMeterValues getVuMeters ();
+
+
     /**
      * Set indication for all clips of the size of the number of tracks and scenes.
      *
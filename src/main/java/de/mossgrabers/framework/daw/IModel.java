@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.ObserverSubscriptions;
 import de.mossgrabers.framework.scale.Scales;
 
 
@@ -35,6 +36,15 @@ public interface IModel
     IValueChanger getValueChanger ();
 
 
+    /**
+     * Get the subscriptions, which enable the observers of model components only while they are
+     * used by a view or mode.
+     *
+     * @return The subscriptions
+     */
+    ObserverSubscriptions getObserverSubscriptions ();
+
+
     /**
      * Get the project.
      *
@@ -54,7 +64,7 @@ public interface IModel
     /**
      * Get the marker bank.
      *
-     * @return The marker bank
+     * @return The marker bank or null if no markers are monitored (see ModelSetup#setNumMarkers)
      */
     IMarkerBank getMarkerBank ();
 
@@ -126,7 +136,7 @@ public interface IModel
     /**
      * Get the first instrument device of the track.
      *
-     * @return The device
+     * @return The device or null if it is disabled (see ModelSetup#setHasInstrumentDevice)
      */
     ICursorDevice getInstrumentDevice ();
 
@@ -134,7 +144,7 @@ public interface IModel
     /**
      * Get the drum device. This is the first instrument of the track and monitors 64 layers.
      *
-     * @return The device
+     * @return The device or null if it is disabled (see ModelSetup#setHasDrumDevice64)
      */
     ICursorDevice getDrumDevice64 ();
 
@@ -142,7 +152,7 @@ public interface IModel
     /**
      * Get the user parameter bank if any.
      *
-     * @return The user parameter bank or null if none exists
+     * @return The user parameter bank or null if it is disabled (see ModelSetup#setNumUserParams)
      */
     IParameterBank getUserParameterBank ();
 
@@ -204,7 +214,8 @@ public interface IModel
     /**
      * Get the browser.
      *
-     * @return The browser
+     * @return The browser or null if there are no results to monitor (see
+     *         ModelSetup#setNumResults)
      */
     IBrowser getBrowser ();
 
@@ -219,7 +230,9 @@ public interface IModel
 
 
     /**
-     * Check if any of the tracks is soloed.
+     * Check if any of the tracks is soloed. If the solo and mute states are not monitored (see
+     * ModelSetup#setNumMuteSoloTracks), only the tracks of the current track bank page are
+     * checked.
      *
      * @return True if there is at least one soloed track
      */
@@ -227,13 +240,26 @@ public interface IModel
 
 
     /**
-     * Deactivate all solo states of all tracks.
+     * Check if any of the tracks is muted. If the mute states are not monitored (see
+     * ModelSetup#setHasMuteStates), only the tracks of the current track bank page are checked.
+     *
+     * @return True if there is at least one muted track
+     */
+    boolean hasMute ();
+
+
+    /**
+     * Deactivate all solo states of all tracks. If the solo and mute states are not monitored (see
+     * ModelSetup#setNumMuteSoloTracks), only the tracks of the current track bank page are
+     * changed.
      */
     void clearSolo ();
 
 
     /**
-     * Deactivate all mute states of all tracks.
+     * Deactivate all mute states of all tracks. If the solo and mute states are not monitored (see
+     * ModelSetup#setNumMuteSoloTracks), only the tracks of the current track bank page are
+     * changed. If only the mute states are not monitored, the mute of all tracks is set.
      */
     void clearMute ();
 
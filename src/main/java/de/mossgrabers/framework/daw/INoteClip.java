@@ -61,6 +61,16 @@ public interface INoteClip extends IClip
     int getStep (int step, int row);
 
 
+    /**
+     * Get the combined state of all notes at a step.
+     *
+     * @param step The step
+     * @return 0: no note is set, 1: at least 1 note continues playing, 2: at least 1 note starts at
+     *         this step, see the defined constants
+     */
+    int getColumnState (int step);
+
+
     /**
      * Toggle a note at a step.
      *
@@ -124,6 +134,27 @@ public interface INoteClip extends IClip
     int getUpperRowWithData ();
 
 
+    /**
+     * Get the first step of a row (note) which contains data, starting at the given step.
+     *
+     * @param row The row
+     * @param step The step to start the search (inclusive)
+     * @return The step or -1 if there is no note at or after the given step
+     */
+    int getNextStepWithData (int row, int step);
+
+
+    /**
+     * Get the last step of a row (note) which contains data, searching backwards from the given
+     * step.
+     *
+     * @param row The row
+     * @param step The step to start the search (inclusive)
+     * @return The step or -1 if there is no note at or before the given step
+     */
+    int getPreviousStepWithData (int row, int step);
+
+
     /**
      * Scroll the clip view to the given page. Depends on the number of the steps of a page.
      *
@@ -23,6 +23,14 @@ public class ModelSetup
     private boolean hasFlatTrackList       = true;
     private boolean hasFullFlatTrackList   = false;
     private int     numMarkers             = 0;
+    private int     numMuteSoloTracks      = 1000;
+    private boolean hasMuteStates          = false;
+    private int     numUserParams          = 64;
+    private boolean hasInstrumentDevice    = true;
+    private boolean hasDrumDevice64        = true;
+    private boolean hasArrangerClip        = true;
+    private int     numCachedClipPages     = 0;
+    private boolean hasPageCache           = false;
 
 
     /**
@@ -297,4 +305,194 @@ public class ModelSetup
     {
         this.numMarkers = numMarkers;
     }
+
+
+    /**
+     * Get the number of tracks which are monitored for their solo and mute states (see
+     * IModel#hasSolo).
+     *
+     * @return The number of tracks, 0 if the states are not monitored
+     */
+    public int getNumMuteSoloTracks ()
+    {
+        return this.numMuteSoloTracks;
+    }
+
+
+    /**
+     * Set the number of tracks which are monitored for their solo and mute states. Set it to 0 if
+     * the controller does not need these states to save the required resources.
+     *
+     * @param numMuteSoloTracks The number of tracks, 0 if the states are not monitored
+     */
+    public void setNumMuteSoloTracks (final int numMuteSoloTracks)
+    {
+        this.numMuteSoloTracks = numMuteSoloTracks;
+    }
+
+
+    /**
+     * Are the mute states of the tracks monitored as well (see IModel#hasMute)?
+     *
+     * @return True if monitored
+     */
+    public boolean hasMuteStates ()
+    {
+        return this.hasMuteStates;
+    }
+
+
+    /**
+     * Set if the mute states of the tracks are monitored in addition to the solo states. The
+     * number of monitored tracks is set with {@link #setNumMuteSoloTracks(int)}. Only enable it if
+     * the controller needs to know if any track is muted, since it adds an observer to each of the
+     * tracks.
+     *
+     * @param hasMuteStates True to monitor the mute states
+     */
+    public void setHasMuteStates (final boolean hasMuteStates)
+    {
+        this.hasMuteStates = hasMuteStates;
+    }
+
+
+    /**
+     * Get the number of user parameters.
+     *
+     * @return The number of user parameters, 0 if there is no user parameter bank
+     */
+    public int getNumUserParams ()
+    {
+        return this.numUserParams;
+    }
+
+
+    /**
+     * Set the number of user parameters.
+     *
+     * @param numUserParams The number of user parameters, 0 if the controller does not use the
+     *            user parameter bank
+     */
+    public void setNumUserParams (final int numUserParams)
+    {
+        this.numUserParams = numUserParams;
+    }
+
+
+    /**
+     * Is the device which follows the first instrument of the selected track monitored?
+     *
+     * @return True if monitored
+     */
+    public boolean hasInstrumentDevice ()
+    {
+        return this.hasInstrumentDevice;
+    }
+
+
+    /**
+     * Set if the device which follows the first instrument of the selected track is monitored.
+     *
+     * @param hasInstrumentDevice False if the controller does not use the instrument device
+     */
+    public void setHasInstrumentDevice (final boolean hasInstrumentDevice)
+    {
+        this.hasInstrumentDevice = hasInstrumentDevice;
+    }
+
+
+    /**
+     * Is the drum device with 64 pads monitored? It requires drum pad layers as well.
+     *
+     * @return True if monitored
+     */
+    public boolean hasDrumDevice64 ()
+    {
+        return this.hasDrumDevice64;
+    }
+
+
+    /**
+     * Set if the drum device with 64 pads is monitored.
+     *
+     * @param hasDrumDevice64 False if the controller does not use the drum device with 64 pads
+     */
+    public void setHasDrumDevice64 (final boolean hasDrumDevice64)
+    {
+        this.hasDrumDevice64 = hasDrumDevice64;
+    }
+
+
+    /**
+     * Does each cursor clip monitor a second clip, which is used if the launcher clip does not
+     * exist?
+     *
+     * @return True if monitored
+     */
+    public boolean hasArrangerClip ()
+    {
+        return this.hasArrangerClip;
+    }
+
+
+    /**
+     * Set if each cursor clip monitors a second clip, which is used if the launcher clip does not
+     * exist.
+     *
+     * @param hasArrangerClip False to only monitor the launcher clip
+     */
+    public void setHasArrangerClip (final boolean hasArrangerClip)
+    {
+        this.hasArrangerClip = hasArrangerClip;
+    }
+
+
+    /**
+     * Get the number of step pages of a cursor clip, which are kept in a cache.
+     *
+     * @return The number of pages, 0 if there is no cache
+     */
+    public int getNumCachedClipPages ()
+    {
+        return this.numCachedClipPages;
+    }
+
+
+    /**
+     * Set the number of step pages of a cursor clip, which are kept in a cache. The notes of these
+     * pages are monitored with an additional clip, which is as wide as all pages. Therefore, paging
+     * through the cached pages shows the notes immediately. Only enable it for controllers which
+     * page through the steps of a clip, since the additional clip streams the notes of all pages.
+     *
+     * @param numCachedClipPages The number of pages, 0 to disable the cache
+     */
+    public void setNumCachedClipPages (final int numCachedClipPages)
+    {
+        this.numCachedClipPages = numCachedClipPages;
+    }
+
+
+    /**
+     * Are the neighbour pages of the track bank cached?
+     *
+     * @return True if cached
+     */
+    public boolean hasPageCache ()
+    {
+        return this.hasPageCache;
+    }
+
+
+    /**
+     * Set if the neighbour pages (one page of tracks to the left and right and one page of scenes
+     * above and below) of the track bank are cached. Each page requires an additional track bank.
+     * While the track or scene bank is scrolled by a page, the tracks, scenes and slots show the
+     * cached values until the values of the new page are received.
+     *
+     * @param hasPageCache True to cache the neighbour pages
+     */
+    public void setHasPageCache (final boolean hasPageCache)
+    {
+        this.hasPageCache = hasPageCache;
+    }
 }
@@ -0,0 +1,276 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.Arrays;
+
+
+/**
+ * Stores the states of the steps of a note clip as bitsets. Each step (column) has a bitset of the
+ * rows in which a note starts and one of the rows in which a note continues playing. Each row has
+ * a bitset of the steps which are not empty and there is a bitset of all rows which are not empty.
+ * Therefore, queries like the state of a column, the next note in a row or the lowest row with
+ * notes only need a few bit operations instead of scanning all steps and rows.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StepData
+{
+    private final int     numSteps;
+    private final int     numRows;
+    private final int     rowWords;
+    private final int     stepWords;
+
+    private final long [] columnStarts;
+    private final long [] columnContinues;
+    private final long [] rowSteps;
+    private final long [] usedRows;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps
+     * @param numRows The number of rows
+     */
+    public StepData (final int numSteps, final int numRows)
+    {
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+        this.rowWords = (numRows + 63) >> 6;
+        this.stepWords = (numSteps + 63) >> 6;
+
+        this.columnStarts = new long [numSteps * this.rowWords];
+        this.columnContinues = new long [numSteps * this.rowWords];
+        this.rowSteps = new long [numRows * this.stepWords];
+        this.usedRows = new long [this.rowWords];
+    }
+
+
+    /**
+     * Get the number of steps.
+     *
+     * @return The number of steps
+     */
+    public int getNumSteps ()
+    {
+        return this.numSteps;
+    }
+
+
+    /**
+     * Get the number of rows.
+     *
+     * @return The number of rows
+     */
+    public int getNumRows ()
+    {
+        return this.numRows;
+    }
+
+
+    /**
+     * Removes all notes.
+     */
+    public void clear ()
+    {
+        Arrays.fill (this.columnStarts, 0);
+        Arrays.fill (this.columnContinues, 0);
+        Arrays.fill (this.rowSteps, 0);
+        Arrays.fill (this.usedRows, 0);
+    }
+
+
+    /**
+     * Set the state of a step.
+     *
+     * @param step The step, must be in the range of the steps
+     * @param row The row, must be in the range of the rows
+     * @param state The state, see the constants in {@link INoteClip}
+     */
+    public void set (final int step, final int row, final int state)
+    {
+        final int columnIndex = step * this.rowWords + (row >> 6);
+        final long rowBit = 1L << row;
+        final int rowIndex = row * this.stepWords + (step >> 6);
+        final long stepBit = 1L << step;
+
+        switch (state)
+        {
+            case INoteClip.NOTE_START:
+                this.columnStarts[columnIndex] |= rowBit;
+                this.columnContinues[columnIndex] &= ~rowBit;
+                break;
+            case INoteClip.NOTE_CONTINUE:
+                this.columnStarts[columnIndex] &= ~rowBit;
+                this.columnContinues[columnIndex] |= rowBit;
+                break;
+            default:
+                this.columnStarts[columnIndex] &= ~rowBit;
+                this.columnContinues[columnIndex] &= ~rowBit;
+                break;
+        }
+
+        if (state == INoteClip.NOTE_OFF)
+        {
+            this.rowSteps[rowIndex] &= ~stepBit;
+            if (!this.hasRowData (row))
+                this.usedRows[row >> 6] &= ~rowBit;
+        }
+        else
+        {
+            this.rowSteps[rowIndex] |= stepBit;
+            this.usedRows[row >> 6] |= rowBit;
+        }
+    }
+
+
+    /**
+     * Get the state of a step.
+     *
+     * @param step The step
+     * @param row The row
+     * @return The state, see the constants in {@link INoteClip}
+     */
+    public int get (final int step, final int row)
+    {
+        if (step < 0 || step >= this.numSteps || row < 0 || row >= this.numRows)
+            return INoteClip.NOTE_OFF;
+        final int index = step * this.rowWords + (row >> 6);
+        final long rowBit = 1L << row;
+        if ((this.columnStarts[index] & rowBit) != 0)
+            return INoteClip.NOTE_START;
+        return (this.columnContinues[index] & rowBit) == 0 ? INoteClip.NOTE_OFF : INoteClip.NOTE_CONTINUE;
+    }
+
+
+    /**
+     * Get the combined state of all rows of a step.
+     *
+     * @param step The step
+     * @return NOTE_START if at least one note starts at the step, NOTE_CONTINUE if at least one
+     *         note continues playing, otherwise NOTE_OFF
+     */
+    public int getColumnState (final int step)
+    {
+        if (step < 0 || step >= this.numSteps)
+            return INoteClip.NOTE_OFF;
+        final int offset = step * this.rowWords;
+        boolean isContinuing = false;
+        for (int i = 0; i < this.rowWords; i++)
+        {
+            if (this.columnStarts[offset + i] != 0)
+                return INoteClip.NOTE_START;
+            isContinuing |= this.columnContinues[offset + i] != 0;
+        }
+        return isContinuing ? INoteClip.NOTE_CONTINUE : INoteClip.NOTE_OFF;
+    }
+
+
+    /**
+     * Does the row contain any notes?
+     *
+     * @param row The row
+     * @return True if it contains at least one note
+     */
+    public boolean hasRowData (final int row)
+    {
+        if (row < 0 || row >= this.numRows)
+            return false;
+        final int offset = row * this.stepWords;
+        for (int i = 0; i < this.stepWords; i++)
+        {
+            if (this.rowSteps[offset + i] != 0)
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Get the lowest row which contains notes.
+     *
+     * @return The lowest row or -1 if all rows are empty
+     */
+    public int getLowerRowWithData ()
+    {
+        for (int i = 0; i < this.rowWords; i++)
+        {
+            if (this.usedRows[i] != 0)
+                return (i << 6) + Long.numberOfTrailingZeros (this.usedRows[i]);
+        }
+        return -1;
+    }
+
+
+    /**
+     * Get the highest row which contains notes.
+     *
+     * @return The highest row or -1 if all rows are empty
+     */
+    public int getUpperRowWithData ()
+    {
+        for (int i = this.rowWords - 1; i >= 0; i--)
+        {
+            if (this.usedRows[i] != 0)
+                return (i << 6) + 63 - Long.numberOfLeadingZeros (this.usedRows[i]);
+        }
+        return -1;
+    }
+
+
+    /**
+     * Get the first step of a row, which is not empty, starting at the given step.
+     *
+     * @param row The row
+     * @param step The step to start the search (inclusive)
+     * @return The step or -1 if there is no note at or after the given step
+     */
+    public int getNextStepWithData (final int row, final int step)
+    {
+        if (row < 0 || row >= this.numRows || step >= this.numSteps)
+            return -1;
+        final int start = Math.max (0, step);
+        final int offset = row * this.stepWords;
+        int i = start >> 6;
+        long word = this.rowSteps[offset + i] & -1L << start;
+        while (true)
+        {
+            if (word != 0)
+                return (i << 6) + Long.numberOfTrailingZeros (word);
+            i++;
+            if (i >= this.stepWords)
+                return -1;
+            word = this.rowSteps[offset + i];
+        }
+    }
+
+
+    /**
+     * Get the last step of a row, which is not empty, starting backwards at the given step.
+     *
+     * @param row The row
+     * @param step The step to start the search (inclusive)
+     * @return The step or -1 if there is no note at or before the given step
+     */
+    public int getPreviousStepWithData (final int row, final int step)
+    {
+        final int start = Math.min (this.numSteps - 1, step);
+        if (row < 0 || row >= this.numRows || start < 0)
+            return -1;
+        final int offset = row * this.stepWords;
+        int i = start >> 6;
+        long word = this.rowSteps[offset + i] & -1L >>> 63 - (start & 63);
+        while (true)
+        {
+            if (word != 0)
+                return (i << 6) + 63 - Long.numberOfLeadingZeros (word);
+            i--;
+            if (i < 0)
+                return -1;
+            word = this.rowSteps[offset + i];
+        }
+    }
+}
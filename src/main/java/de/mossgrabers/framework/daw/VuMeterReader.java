@@ -0,0 +1,188 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import de.mossgrabers.framework.observer.IVuMeterObserver;
+
+import java.util.Arrays;
+
+
+/**
+ * Reads the raw values of a VU meter store with the resolution of a controller. The level falls
+ * back with a decay rate, the peak is held for some time and then decays as well. Level and peak
+ * are quantized to the resolution and the observer is only notified if one of the quantized values
+ * has changed. Therefore, a controller only needs to send the values which are notified.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VuMeterReader
+{
+    private final int     resolution;
+    private final boolean isStereo;
+    private final long    peakHoldTime;
+    private final double  decayPerMillisecond;
+    private final long    refreshTime;
+
+    private boolean       isRounded;
+    private double []     levels      = new double [0];
+    private double []     peaks       = new double [0];
+    private long []       peakTimes   = new long [0];
+    private int []        sentLevels  = new int [0];
+    private int []        sentPeaks   = new int [0];
+    private long []       sentTimes   = new long [0];
+    private long          lastUpdate  = -1;
+
+
+    /**
+     * Constructor for a reader without peak hold and decay for devices which decay the meters
+     * themselves. Since the meter of such a device falls back if it does not receive a new value,
+     * levels above zero are notified again after the refresh time, even if they did not change.
+     *
+     * @param resolution The number of steps of a meter, the notified values are in the range of 0
+     *            to resolution - 1
+     * @param isStereo True to read the left and right meters, false to read the average of both
+     * @param refreshTime The time in milliseconds after which an unchanged level above zero is
+     *            notified again
+     */
+    public VuMeterReader (final int resolution, final boolean isStereo, final long refreshTime)
+    {
+        this (resolution, isStereo, 0, 0, refreshTime);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param resolution The number of steps of a meter, the notified values are in the range of 0
+     *            to resolution - 1
+     * @param isStereo True to read the left and right meters, false to read the average of both
+     * @param peakHoldTime The time in milliseconds to hold a peak
+     * @param decayTime The time in milliseconds in which a level falls from the maximum to zero,
+     *            0 disables the decay
+     */
+    public VuMeterReader (final int resolution, final boolean isStereo, final long peakHoldTime, final long decayTime)
+    {
+        this (resolution, isStereo, peakHoldTime, decayTime, 0);
+    }
+
+
+    private VuMeterReader (final int resolution, final boolean isStereo, final long peakHoldTime, final long decayTime, final long refreshTime)
+    {
+        this.resolution = resolution;
+        this.isStereo = isStereo;
+        this.peakHoldTime = peakHoldTime;
+        this.decayPerMillisecond = decayTime <= 0 ? 1 : 1.0 / decayTime;
+        this.refreshTime = refreshTime;
+    }
+
+
+    /**
+     * Round the levels to the nearest step instead of truncating them. With rounding, only the
+     * maximum level reaches the highest step.
+     *
+     * @param isRounded True to round
+     */
+    public void setRounded (final boolean isRounded)
+    {
+        this.isRounded = isRounded;
+    }
+
+
+    /**
+     * Update the levels and peaks from the values of the meter store. The observer is notified for
+     * all meters which quantized level or peak has changed since the last notification.
+     *
+     * @param meters The meter store
+     * @param now The current time in milliseconds
+     * @param observer The observer to notify
+     */
+    public void update (final VuMeterValues meters, final long now, final IVuMeterObserver observer)
+    {
+        final int numChannels = meters.getNumChannels ();
+        this.ensureCapacity (this.isStereo ? 2 * numChannels : numChannels);
+
+        final long elapsed = this.lastUpdate < 0 ? 0 : Math.max (0, now - this.lastUpdate);
+        this.lastUpdate = now;
+        final double decay = elapsed * this.decayPerMillisecond;
+
+        final double max = meters.getMaxValue ();
+        for (int i = 0; i < numChannels; i++)
+        {
+            if (this.isStereo)
+            {
+                this.updateMeter (2 * i, meters.getLeft (i) / max, decay, now, observer);
+                this.updateMeter (2 * i + 1, meters.getRight (i) / max, decay, now, observer);
+            }
+            else
+                this.updateMeter (i, meters.get (i) / max, decay, now, observer);
+        }
+    }
+
+
+    /**
+     * Forget the sent values. All values are notified on the next update, e.g. after the
+     * controller display was cleared.
+     */
+    public void reset ()
+    {
+        Arrays.fill (this.sentLevels, -1);
+        Arrays.fill (this.sentPeaks, -1);
+    }
+
+
+    private void updateMeter (final int index, final double value, final double decay, final long now, final IVuMeterObserver observer)
+    {
+        // Level falls back with the decay rate
+        this.levels[index] = Math.max (value, this.levels[index] - decay);
+
+        // Hold the peak, afterwards let it decay
+        if (value >= this.peaks[index])
+        {
+            this.peaks[index] = value;
+            this.peakTimes[index] = now;
+        }
+        else if (now - this.peakTimes[index] > this.peakHoldTime)
+            this.peaks[index] = Math.max (this.levels[index], this.peaks[index] - decay);
+
+        final int level = this.quantize (this.levels[index]);
+        final int peak = this.quantize (this.peaks[index]);
+        if (level == this.sentLevels[index] && peak == this.sentPeaks[index] && !this.needsRefresh (index, level, now))
+            return;
+        this.sentLevels[index] = level;
+        this.sentPeaks[index] = peak;
+        this.sentTimes[index] = now;
+        observer.update (index, level, peak);
+    }
+
+
+    private boolean needsRefresh (final int index, final int level, final long now)
+    {
+        return this.refreshTime > 0 && level > 0 && now - this.sentTimes[index] >= this.refreshTime;
+    }
+
+
+    private int quantize (final double value)
+    {
+        if (this.isRounded)
+            return (int) Math.round (value * (this.resolution - 1));
+        return Math.min (this.resolution - 1, (int) (value * this.resolution));
+    }
+
+
+    private void ensureCapacity (final int count)
+    {
+        final int size = this.levels.length;
+        if (size >= count)
+            return;
+        this.levels = Arrays.copyOf (this.levels, count);
+        this.peaks = Arrays.copyOf (this.peaks, count);
+        this.peakTimes = Arrays.copyOf (this.peakTimes, count);
+        this.sentLevels = Arrays.copyOf (this.sentLevels, count);
+        this.sentPeaks = Arrays.copyOf (this.sentPeaks, count);
+        this.sentTimes = Arrays.copyOf (this.sentTimes, count);
+        Arrays.fill (this.sentLevels, size, count, -1);
+        Arrays.fill (this.sentPeaks, size, count, -1);
+    }
+}
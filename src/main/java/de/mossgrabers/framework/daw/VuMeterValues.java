@@ -0,0 +1,123 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Stores the raw values of the left and right VU meters of all channels of a bank page in
+ * primitive arrays. The values are written by the DAW observers and read by the VU meter readers
+ * of the controllers.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VuMeterValues
+{
+    private final int     maxValue;
+    private final int []  left;
+    private final int []  right;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numChannels The number of channels
+     * @param maxValue The maximum raw value of a meter (exclusive)
+     */
+    public VuMeterValues (final int numChannels, final int maxValue)
+    {
+        this.maxValue = maxValue;
+        this.left = new int [numChannels];
+        this.right = new int [numChannels];
+    }
+
+
+    /**
+     * Get the number of channels.
+     *
+     * @return The number of channels
+     */
+    public int getNumChannels ()
+    {
+        return this.left.length;
+    }
+
+
+    /**
+     * Get the maximum raw value of a meter.
+     *
+     * @return The maximum value (exclusive)
+     */
+    public int getMaxValue ()
+    {
+        return this.maxValue;
+    }
+
+
+    /**
+     * Set the raw value of the left meter of a channel. The value is limited to the maximum value.
+     *
+     * @param channel The index of the channel
+     * @param value The raw value
+     */
+    public void setLeft (final int channel, final int value)
+    {
+        this.left[channel] = this.limit (value);
+    }
+
+
+    /**
+     * Set the raw value of the right meter of a channel. The value is limited to the maximum value.
+     *
+     * @param channel The index of the channel
+     * @param value The raw value
+     */
+    public void setRight (final int channel, final int value)
+    {
+        this.right[channel] = this.limit (value);
+    }
+
+
+    /**
+     * Get the raw value of the left meter of a channel.
+     *
+     * @param channel The index of the channel
+     * @return The raw value
+     */
+    public int getLeft (final int channel)
+    {
+        return this.left[channel];
+    }
+
+
+    /**
+     * Get the raw value of the right meter of a channel.
+     *
+     * @param channel The index of the channel
+     * @return The raw value
+     */
+    public int getRight (final int channel)
+    {
+        return this.right[channel];
+    }
+
+
+    /**
+     * Get the average raw value of the left and right meter of a channel.
+     *
+     * @param channel The index of the channel
+     * @return The raw value
+     */
+    public int get (final int channel)
+    {
+        return (this.left[channel] + this.right[channel]) / 2;
+    }
+
+
+    private int limit (final int value)
+    {
+        if (value < 0)
+            return 0;
+        return value >= this.maxValue ? this.maxValue - 1 : value;
+    }
+}
@@ -13,6 +13,8 @@ public abstract class AbstractItemImpl implements IItem
 {
     protected final int index;
     private boolean     selected;
+    private long        generation;
+    private Runnable    changeObserver;
 
 
     /**
@@ -54,7 +56,10 @@ public abstract class AbstractItemImpl implements IItem
     @Override
     public void setSelected (final boolean isSelected)
     {
+        if (this.selected == isSelected)
+            return;
         this.selected = isSelected;
+        this.markChanged ();
     }
 
 
@@ -72,4 +77,36 @@ public abstract class AbstractItemImpl implements IItem
     {
         // Not supported
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getGeneration ()
+    {
+        return this.generation;
+    }
+
+
+    /**
+     * Set an observer which is notified whenever the generation of the item is increased, e.g.
+     * to increase the generation of the bank which contains the item.
+     *
+     * @param changeObserver The observer
+     */
+    public void setChangeObserver (final Runnable changeObserver)
+    {
+        this.changeObserver = changeObserver;
+    }
+
+
+    /**
+     * Increase the change generation of the item. Call it from the observers of the values of the
+     * item.
+     */
+    protected void markChanged ()
+    {
+        this.generation++;
+        if (this.changeObserver != null)
+            this.changeObserver.run ();
+    }
 }
@@ -85,4 +85,15 @@ public interface IItem extends ObserverManagement
      * @param observer The observer to notify on a name change
      */
     void addNameObserver (final IValueObserver<String> observer);
+
+
+    /**
+     * Get the change generation of the item. The generation is increased whenever one of the
+     * observed values of the item changes. Therefore, a consumer only needs to compare the
+     * generation with the one of its last update to detect changes. Continuously changing values
+     * like the VU meters do not increase the generation.
+     *
+     * @return The generation
+     */
+    long getGeneration ();
 }
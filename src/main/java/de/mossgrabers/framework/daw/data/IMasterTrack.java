@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.daw.data;
 
+import de.mossgrabers.framework.daw.VuMeterValues;
 import de.mossgrabers.framework.observer.ItemSelectionObserver;
 
 
@@ -20,4 +21,12 @@ public interface IMasterTrack extends ITrack
      * @param observer The observer to register
      */
     void addSelectionObserver (ItemSelectionObserver observer);
+
+
+    /**
+     * Get the raw values of the VU meters of the master track. The store contains one channel.
+     *
+     * @return The VU meter values
+     */
+    VuMeterValues getVuMeters ();
 }
\ No newline at end of file
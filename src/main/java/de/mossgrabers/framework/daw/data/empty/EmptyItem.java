@@ -101,4 +101,12 @@ public class EmptyItem implements IItem
     {
         // Intentionally empty
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getGeneration ()
+    {
+        return 0;
+    }
 }
@@ -7,18 +7,19 @@ package de.mossgrabers.framework.daw.resource;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.graphics.IImage;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
- * Get and cache some resources like SVG images.
+ * Get and cache some resources like SVG images. The images are loaded on first use and cached per
+ * scale, so that icons which are never displayed are never loaded.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public final class ResourceHandler
 {
-    private static final Map<String, IImage> CACHE = new HashMap<> ();
+    private static final Map<String, IImage> CACHE = new ConcurrentHashMap<> ();
     private static IHost                     theHost;
 
 
@@ -30,58 +31,48 @@ public final class ResourceHandler
     public static void init (final IHost host)
     {
         theHost = host;
-
-        addSVGImage ("channel/mute.svg");
-        addSVGImage ("channel/record_arm.svg");
-        addSVGImage ("channel/solo.svg");
-        addSVGImage ("channel/solo.svg");
-
-        addSVGImage ("track/audio_track.svg");
-        addSVGImage ("track/crossfade_a.svg");
-        addSVGImage ("track/crossfade_ab.svg");
-        addSVGImage ("track/crossfade_b.svg");
-        addSVGImage ("track/group_track.svg");
-        addSVGImage ("track/hybrid_track.svg");
-        addSVGImage ("track/instrument_track.svg");
-        addSVGImage ("track/master_track.svg");
-        addSVGImage ("track/multi_layer.svg");
-        addSVGImage ("track/return_track.svg");
-
-        addSVGImage ("device/device_analysis.svg");
-        addSVGImage ("device/device_audio.svg");
-        addSVGImage ("device/device_container.svg");
-        addSVGImage ("device/device_drum_machine.svg");
-        addSVGImage ("device/device_drum_module.svg");
-        addSVGImage ("device/device_generic.svg");
-        addSVGImage ("device/device_instrument.svg");
-        addSVGImage ("device/device_io.svg");
-        addSVGImage ("device/device_note.svg");
-        addSVGImage ("device/device_plugin.svg");
-
-        addSVGImage ("user.svg");
     }
 
 
     /**
-     * Get a SVG image as an Image object.
+     * Get a SVG image as an Image object in its original size.
      *
      * @param imageName The name of the image
      * @return The buffered image
      */
     public static IImage getSVGImage (final String imageName)
     {
-        return CACHE.get (imageName);
+        return getSVGImage (imageName, 1);
+    }
+
+
+    /**
+     * Get a SVG image as an Image object. The image is loaded (rasterized) on first use.
+     *
+     * @param imageName The name of the image
+     * @param scale The scaling factor of the image
+     * @return The buffered image
+     */
+    public static IImage getSVGImage (final String imageName, final int scale)
+    {
+        return CACHE.computeIfAbsent (createKey (imageName, scale), key -> theHost.loadSVG (imageName, scale));
     }
 
 
     /**
-     * Load and cache an image.
+     * Load and cache an image in its original size in advance.
      *
      * @param imageName The name (absolute path) of the image
      */
     public static void addSVGImage (final String imageName)
     {
-        CACHE.put (imageName, theHost.loadSVG (imageName, 1));
+        getSVGImage (imageName, 1);
+    }
+
+
+    private static String createKey (final String imageName, final int scale)
+    {
+        return scale == 1 ? imageName : imageName + "@" + scale;
     }
 
 
@@ -196,6 +196,24 @@ public interface IGraphicsContext
     void drawLine (double x1, double y1, double x2, double y2, ColorEx lineColor);
 
 
+    /**
+     * Restrict all following drawing operations to a rectangle. The clipping area is intersected
+     * with an already existing one.
+     *
+     * @param left The left position of the rectangle
+     * @param top The top position of the rectangle
+     * @param width The width of the rectangle
+     * @param height The height of the rectangle
+     */
+    void clip (double left, double top, double width, double height);
+
+
+    /**
+     * Remove the clipping area.
+     */
+    void resetClip ();
+
+
     /**
      * Calculates the maximum height of a text which needs to fit into a width.
      *
@@ -0,0 +1,205 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Caches the results of text measurements (text widths, font heights and fitting font sizes),
+ * which are expensive on the host graphics API but change rarely between frames since labels,
+ * track and parameter names are mostly static. The text widths are kept in a bounded LRU map. The
+ * cache is not thread-safe and must only be used from the rendering thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TextMeasureCache
+{
+    /** The default maximum number of text widths to cache. */
+    public static final int            DEFAULT_CAPACITY = 1024;
+
+    private final Map<TextKey, Double> widths;
+    private final Map<Double, Double>  heights          = new HashMap<> ();
+    private final Map<TextKey, Double> fontSizes        = new HashMap<> ();
+    private final TextKey              lookupKey        = new TextKey ();
+
+
+    /**
+     * Constructor with the default capacity.
+     */
+    public TextMeasureCache ()
+    {
+        this (DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum number of text widths to cache
+     */
+    public TextMeasureCache (final int capacity)
+    {
+        this.widths = new LinkedHashMap<TextKey, Double> (capacity, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean removeEldestEntry (final Map.Entry<TextKey, Double> eldest)
+            {
+                return this.size () > capacity;
+            }
+        };
+    }
+
+
+    /**
+     * Get the cached width of a text.
+     *
+     * @param text The text
+     * @param fontSize The font size
+     * @return The width or NaN if not cached
+     */
+    public double getTextWidth (final String text, final double fontSize)
+    {
+        final Double width = this.widths.get (this.lookupKey.set (text, fontSize));
+        return width == null ? Double.NaN : width.doubleValue ();
+    }
+
+
+    /**
+     * Store the width of a text.
+     *
+     * @param text The text
+     * @param fontSize The font size
+     * @param width The measured width
+     */
+    public void putTextWidth (final String text, final double fontSize, final double width)
+    {
+        this.widths.put (new TextKey ().set (text, fontSize), Double.valueOf (width));
+    }
+
+
+    /**
+     * Get the cached height of the capital letters (without descent) of a font size.
+     *
+     * @param fontSize The font size
+     * @return The height or NaN if not cached
+     */
+    public double getTextHeight (final double fontSize)
+    {
+        final Double height = this.heights.get (Double.valueOf (fontSize));
+        return height == null ? Double.NaN : height.doubleValue ();
+    }
+
+
+    /**
+     * Store the height of the capital letters (without descent) of a font size.
+     *
+     * @param fontSize The font size
+     * @param height The measured height
+     */
+    public void putTextHeight (final double fontSize, final double height)
+    {
+        this.heights.put (Double.valueOf (fontSize), Double.valueOf (height));
+    }
+
+
+    /**
+     * Get the cached result of a font size calculation.
+     *
+     * @param maxHeight The maximum height of the text
+     * @param maxWidth The maximum width
+     * @return The font size, -1 if no size fits or NaN if not cached
+     */
+    public double getFontSize (final double maxHeight, final double maxWidth)
+    {
+        final Double size = this.fontSizes.get (this.lookupKey.set (maxHeight, maxWidth));
+        return size == null ? Double.NaN : size.doubleValue ();
+    }
+
+
+    /**
+     * Store the result of a font size calculation.
+     *
+     * @param maxHeight The maximum height of the text
+     * @param maxWidth The maximum width
+     * @param fontSize The calculated font size
+     */
+    public void putFontSize (final double maxHeight, final double maxWidth, final double fontSize)
+    {
+        this.fontSizes.put (new TextKey ().set (maxHeight, maxWidth), Double.valueOf (fontSize));
+    }
+
+
+    /**
+     * Remove all cached measurements, e.g. if the font has changed.
+     */
+    public void clear ()
+    {
+        this.widths.clear ();
+        this.heights.clear ();
+        this.fontSizes.clear ();
+    }
+
+
+    /**
+     * A mutable key, which allows lookups without allocating a new key object.
+     */
+    private static final class TextKey
+    {
+        private String text;
+        private double value1;
+        private double value2;
+        private int    hash;
+
+
+        TextKey set (final String text, final double fontSize)
+        {
+            this.text = text;
+            this.value1 = fontSize;
+            this.value2 = 0;
+            this.hash = 31 * text.hashCode () + Double.hashCode (fontSize);
+            return this;
+        }
+
+
+        TextKey set (final double value1, final double value2)
+        {
+            this.text = null;
+            this.value1 = value1;
+            this.value2 = value2;
+            this.hash = 31 * Double.hashCode (value1) + Double.hashCode (value2);
+            return this;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return this.hash;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof TextKey))
+                return false;
+            final TextKey other = (TextKey) obj;
+            if (this.value1 != other.value1 || this.value2 != other.value2)
+                return false;
+            return this.text == null ? other.text == null : this.text.equals (other.text);
+        }
+    }
+}
@@ -8,6 +8,8 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.daw.resource.ResourceHandler;
 import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.DefaultBounds;
+import de.mossgrabers.framework.graphics.IBounds;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
@@ -20,7 +22,7 @@ import de.mossgrabers.framework.graphics.IImage;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class ChannelComponent extends ChannelSelectComponent
+public class ChannelComponent extends ChannelSelectComponent implements IMeterComponent
 {
     /** Edit volume. */
     public static final int   EDIT_TYPE_VOLUME     = 0;
@@ -48,6 +50,11 @@ public class ChannelComponent extends ChannelSelectComponent
     private final boolean     isActive;
     private final ChannelType type;
 
+    private double            meterLeft;
+    private double            meterRight;
+    private double            peakLeft             = -1;
+    private double            peakRight            = -1;
+
 
     /**
      * Constructor.
@@ -89,6 +96,8 @@ public class ChannelComponent extends ChannelSelectComponent
         this.panText = panText;
         this.vuValueLeft = vuValueLeft;
         this.vuValueRight = vuValueRight;
+        this.meterLeft = vuValueLeft;
+        this.meterRight = vuValueRight;
         this.isMute = isMute;
         this.isSolo = isSolo;
         this.isArm = isArm;
@@ -228,15 +237,7 @@ public class ChannelComponent extends ChannelSelectComponent
         }
 
         // VU
-        final double vuHeightLeft = this.vuValueLeft >= maxValue - 1 ? faderInnerHeight : faderInnerHeight * this.vuValueLeft / maxValue;
-        final double vuHeightRight = this.vuValueRight >= maxValue - 1 ? faderInnerHeight : faderInnerHeight * this.vuValueRight / maxValue;
-        final double vuOffsetLeft = faderInnerHeight - vuHeightLeft;
-        final double vuOffsetRight = faderInnerHeight - vuHeightRight;
-        final double vuWidth = faderOffset - separatorSize;
-        gc.fillRectangle (vuX, faderTop + separatorSize, vuWidth + 1, faderInnerHeight, backgroundDarker);
-        final ColorEx colorVu = this.modifyIfOff (configuration.getColorVu ());
-        gc.fillRectangle (vuX, faderTop + separatorSize + vuOffsetLeft, vuWidth / 2, vuHeightLeft, colorVu);
-        gc.fillRectangle (vuX + vuWidth / 2, faderTop + separatorSize + vuOffsetRight, vuWidth / 2, vuHeightRight, colorVu);
+        this.drawMeter (gc, configuration, getMeterBounds (info), maxValue);
 
         double buttonTop = faderTop;
 
@@ -273,6 +274,117 @@ public class ChannelComponent extends ChannelSelectComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public double getVuLeft ()
+    {
+        return this.vuValueLeft;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getVuRight ()
+    {
+        return this.vuValueRight;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMeterLevels (final double left, final double right, final double peakLeft, final double peakRight)
+    {
+        this.meterLeft = left;
+        this.meterRight = right;
+        this.peakLeft = peakLeft;
+        this.peakRight = peakRight;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMeterCovered ()
+    {
+        // The volume and panorama texts are drawn on top of the VU
+        return this.volumeText.length () > 0 || this.panText.length () > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawMeter (final IGraphicsInfo info)
+    {
+        // Element is off if the name is empty
+        final String name = this.footer.getText ();
+        if (name == null || name.length () == 0)
+            return;
+
+        this.drawMeter (info.getContext (), info.getConfiguration (), getMeterBounds (info), info.getDimensions ().getParameterUpperBound ());
+    }
+
+
+    /**
+     * Calculate the area of the VU meter, which is left of the volume fader.
+     *
+     * @param info All necessary information to draw the component
+     * @return The bounds of the meter
+     */
+    private static IBounds getMeterBounds (final IGraphicsInfo info)
+    {
+        final IGraphicsDimensions dimensions = info.getDimensions ();
+        final double left = info.getBounds ().getLeft ();
+        final double width = info.getBounds ().getWidth ();
+        final double height = info.getBounds ().getHeight ();
+
+        final double separatorSize = dimensions.getSeparatorSize ();
+        final double unit = dimensions.getUnit ();
+        final double halfUnit = dimensions.getHalfUnit ();
+        final double controlsTop = dimensions.getControlsTop ();
+        final double inset = dimensions.getInset ();
+
+        final int trackRowHeight = (int) (1.6 * unit);
+        final double trackRowTop = height - trackRowHeight - unit - separatorSize;
+        final double controlWidth = width / 2 - halfUnit - halfUnit / 2;
+        final double controlStart = left + width / 2 + halfUnit - halfUnit / 2;
+        final double panHeight = unit - separatorSize;
+        final double faderTop = controlsTop + 1.0 + panHeight + separatorSize + 1;
+        final double faderHeight = trackRowTop - faderTop - inset + 1;
+
+        return new DefaultBounds (controlStart + separatorSize, faderTop + separatorSize, controlWidth / 4 - separatorSize, faderHeight - 2 * separatorSize);
+    }
+
+
+    /**
+     * Draws the stereo VU meter with the current meter levels.
+     *
+     * @param gc The graphics context
+     * @param configuration The layout settings
+     * @param bounds The bounds of the meter
+     * @param maxValue The maximum value of the meter
+     */
+    private void drawMeter (final IGraphicsContext gc, final IGraphicsConfiguration configuration, final IBounds bounds, final double maxValue)
+    {
+        final double vuX = bounds.getLeft ();
+        final double vuTop = bounds.getTop ();
+        final double vuWidth = bounds.getWidth ();
+        final double vuHeight = bounds.getHeight ();
+        final double vuHeightLeft = this.meterLeft >= maxValue - 1 ? vuHeight : vuHeight * this.meterLeft / maxValue;
+        final double vuHeightRight = this.meterRight >= maxValue - 1 ? vuHeight : vuHeight * this.meterRight / maxValue;
+        final double vuOffsetLeft = vuHeight - vuHeightLeft;
+        final double vuOffsetRight = vuHeight - vuHeightRight;
+        gc.fillRectangle (vuX, vuTop, vuWidth + 1, vuHeight, this.modifyIfOff (configuration.getColorBackgroundDarker ()));
+        final ColorEx colorVu = this.modifyIfOff (configuration.getColorVu ());
+        gc.fillRectangle (vuX, vuTop + vuOffsetLeft, vuWidth / 2, vuHeightLeft, colorVu);
+        gc.fillRectangle (vuX + vuWidth / 2, vuTop + vuOffsetRight, vuWidth / 2, vuHeightRight, colorVu);
+
+        // Peak hold
+        if (this.peakLeft > this.meterLeft)
+            gc.fillRectangle (vuX, vuTop + vuHeight - Math.min (vuHeight, vuHeight * this.peakLeft / maxValue), vuWidth / 2, 1, colorVu);
+        if (this.peakRight > this.meterRight)
+            gc.fillRectangle (vuX + vuWidth / 2, vuTop + vuHeight - Math.min (vuHeight, vuHeight * this.peakRight / maxValue), vuWidth / 2, 1, colorVu);
+    }
+
+
     /**
      * Draws a button a gradient background.
      *
@@ -337,10 +449,7 @@ public class ChannelComponent extends ChannelSelectComponent
         result = prime * result + (this.volumeText == null ? 0 : this.volumeText.hashCode ());
         temp = Double.doubleToLongBits (this.volumeValue);
         result = prime * result + (int) (temp ^ temp >>> 32);
-        temp = Double.doubleToLongBits (this.vuValueLeft);
-        result = prime * result + (int) (temp ^ temp >>> 32);
-        temp = Double.doubleToLongBits (this.vuValueRight);
-        result = prime * result + (int) (temp ^ temp >>> 32);
+        // The VU values are not part of the equality since they are drawn as an overlay
         return result;
     }
 
@@ -390,12 +499,6 @@ public class ChannelComponent extends ChannelSelectComponent
         }
         else if (!this.volumeText.equals (other.volumeText))
             return false;
-        if (Double.doubleToLongBits (this.volumeValue) != Double.doubleToLongBits (other.volumeValue))
-            return false;
-        if (Double.doubleToLongBits (this.vuValueLeft) != Double.doubleToLongBits (other.vuValueLeft))
-            return false;
-        if (Double.doubleToLongBits (this.vuValueRight) != Double.doubleToLongBits (other.vuValueRight))
-            return false;
-        return true;
+        return Double.doubleToLongBits (this.volumeValue) == Double.doubleToLongBits (other.volumeValue);
     }
 }
@@ -0,0 +1,61 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.canvas.component;
+
+import de.mossgrabers.framework.graphics.IGraphicsInfo;
+
+
+/**
+ * A component which contains a stereo VU meter. The meter values are not part of the equality of
+ * the component. Instead, the meter can be drawn separately on top of an already rendered
+ * component.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IMeterComponent extends IComponent
+{
+    /**
+     * Get the value of the VU of the left channel.
+     *
+     * @return The value
+     */
+    double getVuLeft ();
+
+
+    /**
+     * Get the value of the VU of the right channel.
+     *
+     * @return The value
+     */
+    double getVuRight ();
+
+
+    /**
+     * Set the levels to use for drawing the meter.
+     *
+     * @param left The level of the left channel
+     * @param right The level of the right channel
+     * @param peakLeft The peak level of the left channel, -1 to not draw a peak
+     * @param peakRight The peak level of the right channel, -1 to not draw a peak
+     */
+    void setMeterLevels (double left, double right, double peakLeft, double peakRight);
+
+
+    /**
+     * Check if there is something drawn on top of the meter area, which prevents drawing the
+     * meter alone.
+     *
+     * @return True if covered
+     */
+    boolean isMeterCovered ();
+
+
+    /**
+     * Draw only the meter area of the component with the current meter levels.
+     *
+     * @param info All necessary information to draw the component
+     */
+    void drawMeter (IGraphicsInfo info);
+}
@@ -12,21 +12,42 @@ import de.mossgrabers.framework.graphics.IGraphicsInfo;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+
 
 /**
- * A component which displays the notes of a midi clip.
+ * A component which displays the notes of a midi clip. The state of the clip is captured on
+ * construction. The play cursor is not part of the equality of the component, so that a moving
+ * play cursor only repaints the affected columns (see {@link #drawPlayCursor}).
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class MidiClipComponent implements IComponent
 {
-    private static final ColorEx DIVIDERS_COLOR    = ColorEx.fromRGB (50, 50, 50);
-    private static final ColorEx NOTE_BACKGROUND   = ColorEx.fromRGB (100, 100, 100);
-    private static final ColorEx LOOP_BACKGROUND   = ColorEx.fromRGB (84, 84, 84);
-    private static final ColorEx HEADER_BACKGROUND = ColorEx.fromRGB (140, 140, 140);
+    private static final ColorEx          DIVIDERS_COLOR    = ColorEx.fromRGB (50, 50, 50);
+    private static final ColorEx          NOTE_BACKGROUND   = ColorEx.fromRGB (100, 100, 100);
+    private static final ColorEx          LOOP_BACKGROUND   = ColorEx.fromRGB (84, 84, 84);
+    private static final ColorEx          HEADER_BACKGROUND = ColorEx.fromRGB (140, 140, 140);
+
+    private static final int              TOP               = 14;
+
+    /** The measure labels of the last drawn page, they rarely change. */
+    private static volatile MeasureLabels lastMeasureLabels = null;
 
-    private final INoteClip      clip;
-    private int                  quartersPerMeasure;
+    private final int                     quartersPerMeasure;
+    private final int                     numSteps;
+    private final double                  stepLength;
+    private final int                     editPage;
+    private final boolean                 isLoopEnabled;
+    private final double                  loopStart;
+    private final double                  loopLength;
+    private final double                  playStart;
+    private final double                  playEnd;
+    private final double []               color;
+    private final int                     lowerRowWithData;
+    private final int                     upperRowWithData;
+    private final int []                  steps;
+    private final int                     playStep;
 
 
     /**
@@ -37,135 +58,313 @@ public class MidiClipComponent implements IComponent
      */
     public MidiClipComponent (final INoteClip clip, final int quartersPerMeasure)
     {
-        this.clip = clip;
         this.quartersPerMeasure = quartersPerMeasure;
+        this.numSteps = clip.getNumSteps ();
+        this.stepLength = clip.getStepLength ();
+        this.editPage = clip.getEditPage ();
+        this.isLoopEnabled = clip.isLoopEnabled ();
+        this.loopStart = clip.getLoopStart ();
+        this.loopLength = clip.getLoopLength ();
+        this.playStart = clip.getPlayStart ();
+        this.playEnd = clip.getPlayEnd ();
+        this.color = clip.getColor ();
+        this.playStep = clip.getCurrentStep ();
+
+        this.lowerRowWithData = clip.getLowerRowWithData ();
+        this.upperRowWithData = this.lowerRowWithData == -1 ? -1 : clip.getUpperRowWithData ();
+        final int range = this.lowerRowWithData == -1 ? 0 : 1 + this.upperRowWithData - this.lowerRowWithData;
+        this.steps = new int [range * this.numSteps];
+        for (int row = 0; row < range; row++)
+        {
+            final int note = this.lowerRowWithData + row;
+            for (int step = 0; step < this.numSteps; step++)
+                this.steps[row * this.numSteps + step] = clip.getStep (step, note);
+        }
     }
 
 
     /** {@inheritDoc} */
     @Override
     public void draw (final IGraphicsInfo info)
+    {
+        this.drawSteps (info, 0, this.numSteps - 1);
+
+        // Draw the play cursor
+        this.drawPlayCursor (info.getContext (), info.getBounds ().getLeft (), info.getBounds ().getWidth () / this.numSteps, info.getBounds ().getHeight ());
+    }
+
+
+    /**
+     * Draws only the play cursor. The area of the play cursor of the previous component is
+     * restored by repainting the two steps it covered.
+     *
+     * @param info All necessary information to draw the component
+     * @param previous The previously drawn component, which must be equal to this one
+     */
+    public void drawPlayCursor (final IGraphicsInfo info, final MidiClipComponent previous)
+    {
+        final IGraphicsContext gc = info.getContext ();
+        final double left = info.getBounds ().getLeft ();
+        final double stepWidth = info.getBounds ().getWidth () / this.numSteps;
+        final double height = info.getBounds ().getHeight ();
+
+        final int oldStep = previous.playStep;
+        if (oldStep >= 0 && this.lowerRowWithData != -1)
+        {
+            // Include one more pixel on each side to catch anti-aliasing of the cursor edges
+            final double x = left + oldStep * stepWidth - 2;
+            gc.clip (x, 0, 5, height);
+            gc.fillRectangle (x, 0, 5, height, info.getConfiguration ().getColorBorder ());
+            this.drawSteps (info, Math.max (0, oldStep - 1), Math.min (this.numSteps - 1, oldStep));
+            gc.resetClip ();
+        }
+
+        this.drawPlayCursor (gc, left, stepWidth, height);
+    }
+
+
+    /**
+     * Check if the play cursor position differs.
+     *
+     * @param other Another component
+     * @return True if the play cursor is at a different step
+     */
+    public boolean hasPlayCursorChanged (final MidiClipComponent other)
+    {
+        return this.playStep != other.playStep;
+    }
+
+
+    private void drawPlayCursor (final IGraphicsContext gc, final double left, final double stepWidth, final double height)
+    {
+        // The play cursor is only drawn if there are notes
+        if (this.playStep >= 0 && this.lowerRowWithData != -1)
+            gc.fillRectangle (left + this.playStep * stepWidth - 1, 0, 3, height, ColorEx.WHITE);
+    }
+
+
+    /**
+     * Draw everything except the play cursor. Only notes which overlap the given step range are
+     * drawn. Use clipping to restrict the background painting as well.
+     *
+     * @param info All necessary information to draw the component
+     * @param firstStep The first step to draw
+     * @param lastStep The last step to draw
+     */
+    private void drawSteps (final IGraphicsInfo info, final int firstStep, final int lastStep)
     {
         final IGraphicsContext gc = info.getContext ();
         final double left = info.getBounds ().getLeft ();
         final double width = info.getBounds ().getWidth ();
         final double height = info.getBounds ().getHeight ();
 
-        final int top = 14;
-        final double noteAreaHeight = height - top;
+        final double noteAreaHeight = height - TOP;
 
         // Draw the background
-        gc.fillRectangle (left, top, width, noteAreaHeight, HEADER_BACKGROUND);
+        gc.fillRectangle (left, TOP, width, noteAreaHeight, HEADER_BACKGROUND);
 
         // Draw the loop, if any and ...
-        final int numSteps = this.clip.getNumSteps ();
-        final double stepLength = this.clip.getStepLength ();
-        final double pageLength = numSteps * stepLength;
-        final int editPage = this.clip.getEditPage ();
-        final double startPos = editPage * pageLength;
-        final double endPos = (editPage + 1) * pageLength;
-        final int len = top - 1;
-        if (this.clip.isLoopEnabled ())
+        final double pageLength = this.numSteps * this.stepLength;
+        final double startPos = this.editPage * pageLength;
+        final double endPos = (this.editPage + 1) * pageLength;
+        final int len = TOP - 1;
+        if (this.isLoopEnabled)
         {
-            final double loopStart = this.clip.getLoopStart ();
-            final double loopLength = this.clip.getLoopLength ();
             // ... the loop is visible in the current page
-            if (loopStart < endPos && loopStart + loopLength > startPos)
+            if (this.loopStart < endPos && this.loopStart + this.loopLength > startPos)
             {
-                final double start = Math.max (0, loopStart - startPos);
-                final double end = Math.min (endPos, loopStart + loopLength) - startPos;
+                final double start = Math.max (0, this.loopStart - startPos);
+                final double end = Math.min (endPos, this.loopStart + this.loopLength) - startPos;
                 final double x = width * start / pageLength;
                 final double w = width * end / pageLength - x;
                 // The header loop
                 gc.fillRectangle (x + 1, 0, w, len, LOOP_BACKGROUND);
 
                 // Background in note area
-                gc.fillRectangle (x + 1, top, w, noteAreaHeight, NOTE_BACKGROUND);
+                gc.fillRectangle (x + 1, TOP, w, noteAreaHeight, NOTE_BACKGROUND);
             }
         }
         // Draw play start in header
-        final double [] clipColor = this.clip.getColor ();
-        final double playStart = this.clip.getPlayStart ();
-        final ColorEx noteColor = new ColorEx (clipColor[0], clipColor[1], clipColor[2]);
+        final ColorEx noteColor = new ColorEx (this.color[0], this.color[1], this.color[2]);
         final ColorEx lineColor = noteColor;
-        if (playStart >= startPos && playStart <= endPos)
+        if (this.playStart >= startPos && this.playStart <= endPos)
         {
-            final double start = playStart - startPos;
+            final double start = this.playStart - startPos;
             final double x = width * start / pageLength;
             gc.fillTriangle (x + 1, 0, x + 1 + len, len / 2.0, x + 1, len, lineColor);
         }
         // Draw play end in header
-        final double playEnd = this.clip.getPlayEnd ();
-        if (playEnd >= startPos && playEnd <= endPos)
+        if (this.playEnd >= startPos && this.playEnd <= endPos)
         {
-            final double end = playEnd - startPos;
+            final double end = this.playEnd - startPos;
             final double x = width * end / pageLength;
-            gc.fillTriangle (x + 1, 0, x + 1, len, x + 1 - top, len / 2.0, lineColor);
+            gc.fillTriangle (x + 1, 0, x + 1, len, x + 1 - TOP, len / 2.0, lineColor);
         }
 
         // Draw dividers
-        final double stepWidth = width / numSteps;
-        for (int step = 0; step <= numSteps; step++)
+        final double stepWidth = width / this.numSteps;
+        final String [] labels = this.getMeasureLabels (startPos);
+        for (int step = 0; step <= this.numSteps; step++)
         {
             final double x = left + step * stepWidth;
-            gc.fillRectangle (x, top, 1, noteAreaHeight, DIVIDERS_COLOR);
+            if (step >= firstStep && step <= lastStep + 1)
+                gc.fillRectangle (x, TOP, 1, noteAreaHeight, DIVIDERS_COLOR);
 
-            // Draw measure texts
-            if (step % 4 == 0)
-            {
-                final double time = startPos + step * stepLength;
-                final String measureText = StringUtils.formatMeasures (this.quartersPerMeasure, time, 1);
-                gc.drawTextInHeight (measureText, x, 0, top - 1.0, ColorEx.WHITE, top);
-            }
+            // Draw measure texts, they might reach into the drawn range
+            if (step % 4 == 0 && step <= lastStep + 1)
+                gc.drawTextInHeight (labels[step / 4], x, 0, TOP - 1.0, ColorEx.WHITE, TOP);
         }
 
         // Draw the notes
-        final int lowerRowWithData = this.clip.getLowerRowWithData ();
-        if (lowerRowWithData == -1)
+        if (this.lowerRowWithData == -1)
             return;
-        final int upperRowWithData = this.clip.getUpperRowWithData ();
-        final int range = 1 + upperRowWithData - lowerRowWithData;
+        final int range = 1 + this.upperRowWithData - this.lowerRowWithData;
         final double stepHeight = noteAreaHeight / range;
 
         final double fontSize = gc.calculateFontSize (stepHeight, stepWidth);
+        final ColorEx textColor = ColorEx.calcContrastColor (noteColor);
 
         for (int row = 0; row < range; row++)
         {
-            gc.fillRectangle (left, top + (range - row - 1) * stepHeight, width, 1, DIVIDERS_COLOR);
+            final double rowTop = TOP + (range - row - 1) * stepHeight;
+            gc.fillRectangle (left, rowTop, width, 1, DIVIDERS_COLOR);
 
-            for (int step = 0; step < numSteps; step++)
+            final int rowOffset = row * this.numSteps;
+            int step = 0;
+            while (step < this.numSteps)
             {
-                final int note = lowerRowWithData + row;
+                final int stepState = this.steps[rowOffset + step];
+                if (stepState == INoteClip.NOTE_OFF)
+                {
+                    step++;
+                    continue;
+                }
 
-                // Get step, check for length
-                final int stepState = this.clip.getStep (step, note);
-                if (stepState == 0)
+                // Coalesce the start and all continuation steps of a note into one rectangle
+                final int runStart = step;
+                step++;
+                while (step < this.numSteps && this.steps[rowOffset + step] == INoteClip.NOTE_CONTINUE)
+                    step++;
+                final int runEnd = step - 1;
+                if (runEnd < firstStep - 1 || runStart > lastStep + 1)
                     continue;
 
-                double x = left + step * stepWidth - 1;
-                double w = stepWidth + 2;
-                final boolean isStart = stepState == 2;
-                if (isStart)
-                {
-                    x += 2;
-                    w -= 2;
-                }
+                final boolean isStart = stepState == INoteClip.NOTE_START;
+                final double x = left + runStart * stepWidth + (isStart ? 1 : -1);
+                final double right = left + (runEnd + 1) * stepWidth;
+                final double fillX = isStart ? x : x - 2;
 
-                gc.strokeRectangle (x, top + (range - row - 1) * stepHeight + 2, w, stepHeight - 2, ColorEx.BLACK);
-                gc.fillRectangle (x + (isStart ? 0 : -2), top + (range - row - 1) * stepHeight + 2, w - 1 + (isStart ? 0 : 2), stepHeight - 3, noteColor);
+                gc.strokeRectangle (x, rowTop + 2, right + 1 - x, stepHeight - 2, ColorEx.BLACK);
+                gc.fillRectangle (fillX, rowTop + 2, right - fillX, stepHeight - 3, noteColor);
 
                 if (isStart && fontSize > 0)
                 {
-                    final String text = Scales.formatDrumNote (note);
-                    final ColorEx textColor = ColorEx.calcContrastColor (noteColor);
-                    gc.drawTextInBounds (text, x, top + (range - row - 1) * stepHeight + 2, w - 1, stepHeight - 3, Align.CENTER, textColor, fontSize);
+                    final String text = Scales.formatDrumNote (this.lowerRowWithData + row);
+                    gc.drawTextInBounds (text, x, rowTop + 2, stepWidth - 1, stepHeight - 3, Align.CENTER, textColor, fontSize);
                 }
             }
         }
+    }
 
-        // Draw the play cursor
-        final int playStep = this.clip.getCurrentStep ();
-        if (playStep >= 0)
-            gc.fillRectangle (left + playStep * stepWidth - 1, 0, 3, height, ColorEx.WHITE);
+
+    /**
+     * Get the measure labels for every 4th step of the page. The labels of the last page are
+     * cached.
+     *
+     * @param startPos The start position of the page
+     * @return The labels
+     */
+    private String [] getMeasureLabels (final double startPos)
+    {
+        final MeasureLabels labels = lastMeasureLabels;
+        if (labels != null && labels.matches (startPos, this.stepLength, this.numSteps, this.quartersPerMeasure))
+            return labels.texts;
+
+        final MeasureLabels newLabels = new MeasureLabels (startPos, this.stepLength, this.numSteps, this.quartersPerMeasure);
+        lastMeasureLabels = newLabels;
+        return newLabels.texts;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Arrays.hashCode (this.color);
+        result = prime * result + this.editPage;
+        result = prime * result + (this.isLoopEnabled ? 1231 : 1237);
+        long temp;
+        temp = Double.doubleToLongBits (this.loopLength);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        temp = Double.doubleToLongBits (this.loopStart);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        result = prime * result + this.lowerRowWithData;
+        result = prime * result + this.numSteps;
+        temp = Double.doubleToLongBits (this.playEnd);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        temp = Double.doubleToLongBits (this.playStart);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        result = prime * result + this.quartersPerMeasure;
+        temp = Double.doubleToLongBits (this.stepLength);
+        result = prime * result + (int) (temp ^ temp >>> 32);
+        result = prime * result + Arrays.hashCode (this.steps);
+        result = prime * result + this.upperRowWithData;
+        // The play cursor is not part of the equality since it is drawn separately
+        return result;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass () != obj.getClass ())
+            return false;
+        final MidiClipComponent other = (MidiClipComponent) obj;
+        if (this.editPage != other.editPage || this.isLoopEnabled != other.isLoopEnabled || this.lowerRowWithData != other.lowerRowWithData || this.upperRowWithData != other.upperRowWithData || this.numSteps != other.numSteps || this.quartersPerMeasure != other.quartersPerMeasure)
+            return false;
+        if (Double.doubleToLongBits (this.loopLength) != Double.doubleToLongBits (other.loopLength) || Double.doubleToLongBits (this.loopStart) != Double.doubleToLongBits (other.loopStart))
+            return false;
+        if (Double.doubleToLongBits (this.playEnd) != Double.doubleToLongBits (other.playEnd) || Double.doubleToLongBits (this.playStart) != Double.doubleToLongBits (other.playStart))
+            return false;
+        if (Double.doubleToLongBits (this.stepLength) != Double.doubleToLongBits (other.stepLength))
+            return false;
+        return Arrays.equals (this.color, other.color) && Arrays.equals (this.steps, other.steps);
+    }
+
+
+    /**
+     * The measure labels of a page.
+     */
+    private static final class MeasureLabels
+    {
+        private final double    startPos;
+        private final double    stepLength;
+        private final int       numSteps;
+        private final int       quartersPerMeasure;
+        private final String [] texts;
+
+
+        MeasureLabels (final double startPos, final double stepLength, final int numSteps, final int quartersPerMeasure)
+        {
+            this.startPos = startPos;
+            this.stepLength = stepLength;
+            this.numSteps = numSteps;
+            this.quartersPerMeasure = quartersPerMeasure;
+
+            this.texts = new String [numSteps / 4 + 1];
+            for (int i = 0; i < this.texts.length; i++)
+                this.texts[i] = StringUtils.formatMeasures (quartersPerMeasure, startPos + i * 4 * stepLength, 1);
+        }
+
+
+        boolean matches (final double startPos, final double stepLength, final int numSteps, final int quartersPerMeasure)
+        {
+            return this.startPos == startPos && this.stepLength == stepLength && this.numSteps == numSteps && this.quartersPerMeasure == quartersPerMeasure;
+        }
     }
 }
@@ -0,0 +1,188 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.display;
+
+import de.mossgrabers.framework.graphics.canvas.component.IComponent;
+import de.mossgrabers.framework.graphics.canvas.component.IMeterComponent;
+
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Calculates the levels of the VU meters of the components of a display, independently of the
+ * rest of the component content. The level falls back with a decay rate, the peak is held for
+ * some time and then decays as well. This allows to only redraw the meters if nothing else has
+ * changed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VuMeterOverlay
+{
+    /** The default time to hold a peak in milliseconds. */
+    public static final long DEFAULT_PEAK_HOLD_TIME = 1000;
+    /** The default time in milliseconds in which a level falls from the maximum to zero. */
+    public static final long DEFAULT_DECAY_TIME     = 750;
+
+    private final double     maxValue;
+    private final long       peakHoldTime;
+    private final double     decayPerMillisecond;
+
+    private int              size;
+    private boolean []       isMeter                = new boolean [0];
+    private double []        levels                 = new double [0];
+    private double []        peaks                  = new double [0];
+    private long []          peakTimes              = new long [0];
+    private double []        drawnLevels            = new double [0];
+    private double []        drawnPeaks             = new double [0];
+    private long             lastUpdate             = -1;
+
+
+    /**
+     * Constructor with default peak hold and decay times.
+     *
+     * @param maxValue The maximum value of a meter
+     */
+    public VuMeterOverlay (final double maxValue)
+    {
+        this (maxValue, DEFAULT_PEAK_HOLD_TIME, DEFAULT_DECAY_TIME);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxValue The maximum value of a meter
+     * @param peakHoldTime The time in milliseconds to hold a peak
+     * @param decayTime The time in milliseconds in which a level falls from the maximum to zero,
+     *            0 disables the decay
+     */
+    public VuMeterOverlay (final double maxValue, final long peakHoldTime, final long decayTime)
+    {
+        this.maxValue = maxValue;
+        this.peakHoldTime = peakHoldTime;
+        this.decayPerMillisecond = decayTime <= 0 ? maxValue : maxValue / decayTime;
+    }
+
+
+    /**
+     * Update the meter levels from the VU values of the meter components. The levels are applied
+     * to the meter components.
+     *
+     * @param components The components of the display
+     * @param now The current time in milliseconds
+     * @return True if a meter needs to be redrawn
+     */
+    public boolean update (final List<IComponent> components, final long now)
+    {
+        final int count = components.size ();
+        this.ensureCapacity (count);
+
+        final long elapsed = this.lastUpdate < 0 ? 0 : Math.max (0, now - this.lastUpdate);
+        this.lastUpdate = now;
+        final double decay = elapsed * this.decayPerMillisecond;
+
+        boolean hasChanged = false;
+        for (int i = 0; i < count; i++)
+        {
+            final IComponent component = components.get (i);
+            if (!(component instanceof IMeterComponent))
+            {
+                if (this.isMeter[i])
+                    this.reset (i);
+                continue;
+            }
+
+            final IMeterComponent meter = (IMeterComponent) component;
+            this.isMeter[i] = true;
+            this.updateChannel (2 * i, meter.getVuLeft (), decay, now);
+            this.updateChannel (2 * i + 1, meter.getVuRight (), decay, now);
+            this.apply (i, meter);
+
+            for (int c = 2 * i; c <= 2 * i + 1; c++)
+            {
+                if (this.drawnLevels[c] != this.levels[c] || this.drawnPeaks[c] != this.peaks[c])
+                    hasChanged = true;
+            }
+        }
+
+        for (int i = count; i < this.size; i++)
+            this.reset (i);
+        this.size = count;
+
+        return hasChanged;
+    }
+
+
+    /**
+     * Apply the current levels to a meter component.
+     *
+     * @param index The index of the component
+     * @param meter The meter component
+     */
+    public void apply (final int index, final IMeterComponent meter)
+    {
+        if (index >= this.isMeter.length)
+            return;
+        final int left = 2 * index;
+        final int right = left + 1;
+        meter.setMeterLevels (this.levels[left], this.levels[right], this.peaks[left], this.peaks[right]);
+    }
+
+
+    /**
+     * Mark all current levels as drawn.
+     */
+    public void markDrawn ()
+    {
+        System.arraycopy (this.levels, 0, this.drawnLevels, 0, this.levels.length);
+        System.arraycopy (this.peaks, 0, this.drawnPeaks, 0, this.peaks.length);
+    }
+
+
+    private void updateChannel (final int channel, final double value, final double decay, final long now)
+    {
+        final double v = Math.max (0, Math.min (this.maxValue, value));
+
+        // Level falls back with the decay rate
+        this.levels[channel] = Math.max (v, this.levels[channel] - decay);
+
+        // Hold the peak, afterwards let it decay
+        if (v >= this.peaks[channel])
+        {
+            this.peaks[channel] = v;
+            this.peakTimes[channel] = now;
+        }
+        else if (now - this.peakTimes[channel] > this.peakHoldTime)
+            this.peaks[channel] = Math.max (this.levels[channel], this.peaks[channel] - decay);
+    }
+
+
+    private void reset (final int index)
+    {
+        this.isMeter[index] = false;
+        for (int c = 2 * index; c <= 2 * index + 1; c++)
+        {
+            this.levels[c] = 0;
+            this.peaks[c] = 0;
+            this.peakTimes[c] = 0;
+            this.drawnLevels[c] = 0;
+            this.drawnPeaks[c] = 0;
+        }
+    }
+
+
+    private void ensureCapacity (final int count)
+    {
+        if (this.isMeter.length >= count)
+            return;
+        this.isMeter = Arrays.copyOf (this.isMeter, count);
+        this.levels = Arrays.copyOf (this.levels, 2 * count);
+        this.peaks = Arrays.copyOf (this.peaks, 2 * count);
+        this.peakTimes = Arrays.copyOf (this.peakTimes, 2 * count);
+        this.drawnLevels = Arrays.copyOf (this.drawnLevels, 2 * count);
+        this.drawnPeaks = Arrays.copyOf (this.drawnPeaks, 2 * count);
+    }
+}
@@ -9,8 +9,13 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IBank;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IItem;
+import de.mossgrabers.framework.observer.ObserverManagement;
+import de.mossgrabers.framework.observer.ObserverSubscriptions;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * Abstract class for all modes.
@@ -33,11 +38,14 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     /** Color identifier for a mode button which is hilighted (second row). */
     public static final String BUTTON_COLOR2_HI = "BUTTON_COLOR2_HI";
 
-    private final String       name;
-    protected final S          surface;
-    protected final IModel     model;
-    protected boolean          isTemporary;
-    protected boolean          isAbsolute;
+    private final String                   name;
+    protected final S                      surface;
+    protected final IModel                 model;
+    protected boolean                      isTemporary;
+    protected boolean                      isAbsolute;
+
+    private final List<ObserverManagement> observedComponents = new ArrayList<> ();
+    private boolean                        areComponentsObserved;
 
 
     /**
@@ -83,20 +91,79 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    public final void onActivate ()
     {
-        // Intentionally empty
+        this.setComponentsObserved (true);
+        this.onModeActivate ();
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void onDeactivate ()
+    public final void onDeactivate ()
+    {
+        this.onModeDeactivate ();
+        this.setComponentsObserved (false);
+    }
+
+
+    /**
+     * Called when the mode is activated. The observers of the registered components are already
+     * enabled.
+     */
+    protected void onModeActivate ()
     {
         // Intentionally empty
     }
 
 
+    /**
+     * Called when the mode is deactivated. The observers of the registered components are disabled
+     * afterwards.
+     */
+    protected void onModeDeactivate ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Register a model component, which is used by this mode. The observers of the component are
+     * only enabled while this mode (or another one using it) is active. Call it in the
+     * constructor. Null is ignored, e.g. for a component which is disabled in the model setup.
+     *
+     * @param component The component, may be null
+     */
+    protected void addObservedComponent (final ObserverManagement component)
+    {
+        if (component == null)
+            return;
+        this.observedComponents.add (component);
+        this.model.getObserverSubscriptions ().register (component);
+    }
+
+
+    /**
+     * Acquire or release all components used by this mode.
+     *
+     * @param isActive True to acquire, false to release
+     */
+    private void setComponentsObserved (final boolean isActive)
+    {
+        if (this.areComponentsObserved == isActive)
+            return;
+        this.areComponentsObserved = isActive;
+        final ObserverSubscriptions subscriptions = this.model.getObserverSubscriptions ();
+        for (final ObserverManagement component: this.observedComponents)
+        {
+            if (isActive)
+                subscriptions.acquire (component);
+            else
+                subscriptions.release (component);
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay ()
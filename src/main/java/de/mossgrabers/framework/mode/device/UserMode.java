@@ -37,6 +37,8 @@ public class UserMode<S extends IControlSurface<C>, C extends Configuration> ext
         super ("User Controls", surface, model);
 
         this.isTemporary = false;
+
+        this.addObservedComponent (model.getUserParameterBank ());
     }
 
 
@@ -0,0 +1,24 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+/**
+ * An observer for the quantized VU meter values of a VU meter reader.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IVuMeterObserver
+{
+    /**
+     * Called if the quantized level or peak of a meter has changed.
+     *
+     * @param index The index of the meter, for stereo readers the left meter of channel N has the
+     *            index 2 * N and the right meter 2 * N + 1
+     * @param value The new level in the range of the resolution of the reader
+     * @param peak The new peak in the range of the resolution of the reader
+     */
+    void update (int index, int value, int peak);
+}
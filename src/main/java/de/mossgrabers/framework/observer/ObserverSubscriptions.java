@@ -0,0 +1,84 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * Enables and disables the observers of model components depending on whether they are used. A
+ * component is registered by the views and modes which display it. Afterwards, its observers are
+ * only enabled as long as at least one of these views or modes is active. Components which were
+ * never registered are not touched and stay enabled.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ObserverSubscriptions
+{
+    private final Map<ObserverManagement, int []> counters = new IdentityHashMap<> ();
+
+
+    /**
+     * Register a component. The observers of the component are disabled, if it was not registered
+     * before. Null is ignored.
+     *
+     * @param component The component, may be null
+     */
+    public void register (final ObserverManagement component)
+    {
+        if (component == null || this.counters.containsKey (component))
+            return;
+        this.counters.put (component, new int [1]);
+        component.enableObservers (false);
+    }
+
+
+    /**
+     * Acquire a registered component. The observers of the component are enabled, if it is the
+     * first reference. Components which are not registered (or null) are ignored.
+     *
+     * @param component The component, may be null
+     */
+    public void acquire (final ObserverManagement component)
+    {
+        final int [] counter = this.counters.get (component);
+        if (counter == null)
+            return;
+        counter[0]++;
+        if (counter[0] == 1)
+            component.enableObservers (true);
+    }
+
+
+    /**
+     * Release a registered component. The observers of the component are disabled, if it was the
+     * last reference. Components which are not registered (or null) are ignored.
+     *
+     * @param component The component, may be null
+     */
+    public void release (final ObserverManagement component)
+    {
+        final int [] counter = this.counters.get (component);
+        if (counter == null || counter[0] == 0)
+            return;
+        counter[0]--;
+        if (counter[0] == 0)
+            component.enableObservers (false);
+    }
+
+
+    /**
+     * Check if the observers of a component are enabled.
+     *
+     * @param component The component
+     * @return True if the component was not registered or if it is referenced
+     */
+    public boolean isEnabled (final ObserverManagement component)
+    {
+        final int [] counter = this.counters.get (component);
+        return counter == null || counter[0] > 0;
+    }
+}
@@ -7,6 +7,7 @@ package de.mossgrabers.framework.osc;
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IEnumSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 
@@ -24,12 +25,15 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     public static final Integer   LOG_OUTPUT_COMMANDS       = Integer.valueOf (51);
     /** ID for filtering heartbeat OSC messages from logging. */
     public static final Integer   FILTER_HEARTBEAT_COMMANDS = Integer.valueOf (52);
+    /** ID for the OSC capture file setting. */
+    public static final Integer   CAPTURE_FILE              = Integer.valueOf (60);
 
     protected static final String DEFAULT_SERVER            = "127.0.0.1";
 
     private boolean               logInputCommands          = false;
     private boolean               logOutputCommands         = false;
     private boolean               filterHeartbeatCommands   = false;
+    private String                captureFile               = "";
 
 
     /**
@@ -66,6 +70,23 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
             this.filterHeartbeatCommands = "On".equals (value);
             this.notifyObservers (FILTER_HEARTBEAT_COMMANDS);
         });
+
+        final IStringSetting captureFileSetting = settingsUI.getStringSetting ("Capture messages to file", CATEGORY_DEBUG, 200, "");
+        captureFileSetting.addValueObserver (value -> {
+            this.captureFile = value.trim ();
+            this.notifyObservers (CAPTURE_FILE);
+        });
+    }
+
+
+    /**
+     * Get the file into which all incoming and outgoing messages are captured.
+     *
+     * @return The absolute path of the file, empty if nothing is captured
+     */
+    public String getCaptureFile ()
+    {
+        return this.captureFile;
     }
 
 
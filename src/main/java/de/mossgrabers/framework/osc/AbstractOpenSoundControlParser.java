@@ -30,6 +30,7 @@ public abstract class AbstractOpenSoundControlParser implements IOpenSoundContro
     protected final IMidiInput                     midiInput;
     protected final IOpenSoundControlConfiguration configuration;
     protected final IOpenSoundControlWriter        writer;
+    protected OpenSoundControlRecorder             recorder;
 
 
     /**
@@ -57,12 +58,26 @@ public abstract class AbstractOpenSoundControlParser implements IOpenSoundContro
 
 
     /**
-     * Log a OSC message.
+     * Set a recorder which captures all incoming messages.
+     *
+     * @param recorder The recorder, might be null
+     */
+    public void setRecorder (final OpenSoundControlRecorder recorder)
+    {
+        this.recorder = recorder;
+    }
+
+
+    /**
+     * Log a OSC message and capture it if a recorder is set.
      *
      * @param message The message to log
      */
     protected void logMessage (final IOpenSoundControlMessage message)
     {
+        if (this.recorder != null)
+            this.recorder.recordInput (message);
+
         if (!this.configuration.shouldLogInputCommands ())
             return;
 
@@ -10,27 +10,35 @@ import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 
 /**
- * Base class for sending OSC messages to an OSC server.
+ * Base class for sending OSC messages to OSC servers. The messages can be sent to several clients.
+ * Each client has its' own cache of the sent values and its' own subscriptions. The changes of the
+ * model are collected only once and are then handed to all clients, which did not receive the
+ * value yet.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
-    protected final IHost                          host;
-    protected final IModel                         model;
-    protected final IOpenSoundControlConfiguration configuration;
+    protected final IHost                             host;
+    protected final IModel                            model;
+    protected final IOpenSoundControlConfiguration    configuration;
 
-    protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    protected final OpenSoundControlAddresses         addresses    = new OpenSoundControlAddresses ();
+    protected final List<OpenSoundControlClientState> clients      = new ArrayList<> ();
+    protected final OpenSoundControlValueCache        state        = new OpenSoundControlValueCache ();
+    protected final OpenSoundControlJournal           journal      = new OpenSoundControlJournal (OpenSoundControlJournal.DEFAULT_CAPACITY);
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private final int                                 versionSlot;
+    private OpenSoundControlRecorder                  recorder;
+    private IOpenSoundControlMessage []               lastMessages = new IOpenSoundControlMessage [0];
+    private int                                       cacheEpoch;
 
 
     /**
@@ -38,15 +46,57 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      *
      * @param host The host
      * @param model The model
-     * @param oscClient The OSC client to write to
+     * @param oscClient The first OSC client to write to, might be null
      * @param configuration The OSC configuration
      */
     protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final IOpenSoundControlConfiguration configuration)
     {
         this.host = host;
         this.model = model;
-        this.oscClient = oscClient;
         this.configuration = configuration;
+        this.versionSlot = this.addresses.getSlot ("/version");
+
+        if (oscClient != null)
+            this.addClient (oscClient);
+    }
+
+
+    /**
+     * Add a further client to which all messages are sent as well.
+     *
+     * @param oscClient The OSC client to write to
+     * @return The index of the client
+     */
+    public int addClient (final IOpenSoundControlClient oscClient)
+    {
+        this.clients.add (new OpenSoundControlClientState (oscClient, this.addresses));
+        this.cacheEpoch++;
+        return this.clients.size () - 1;
+    }
+
+
+    /**
+     * Clear the value cache of a client, which sends the whole state to it with the next flush.
+     * Use this if messages were lost, e.g. dropped by a client which could not keep up.
+     *
+     * @param client The index of the client or {@link #ALL_CLIENTS}
+     */
+    public void clearCache (final int client)
+    {
+        for (final OpenSoundControlClientState state: this.getClients (client))
+            state.getCache ().clear ();
+        this.cacheEpoch++;
+    }
+
+
+    /**
+     * Set a recorder which captures all outgoing messages.
+     *
+     * @param recorder The recorder, might be null
+     */
+    public void setRecorder (final OpenSoundControlRecorder recorder)
+    {
+        this.recorder = recorder;
     }
 
 
@@ -55,19 +105,27 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     public void flush ()
     {
-        synchronized (this.messages)
+        if (this.journal.commit () && this.markSubscribers (this.versionSlot))
+            this.addMessage (this.versionSlot, Integer.valueOf (this.journal.getVersion ()));
+
+        for (int i = 0; i < this.clients.size (); i++)
         {
+            final OpenSoundControlClientState client = this.clients.get (i);
             try
             {
-                this.logMessages (this.messages);
-                this.oscClient.sendBundle (this.messages);
+                final List<IOpenSoundControlMessage> messages = client.getMessages ();
+                synchronized (messages)
+                {
+                    this.logMessages (messages);
+                    if (this.recorder != null)
+                        this.recorder.recordOutput (i, messages);
+                }
+                client.send ();
             }
             catch (final IOException ex)
             {
                 this.model.getHost ().error ("Could not send UDP message.", ex);
             }
-
-            this.messages.clear ();
         }
     }
 
@@ -76,10 +134,8 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void fastSendOSC (final String address, final int [] numbers)
     {
-        final List<Object> params = new ArrayList<> ();
-        for (final int number: numbers)
-            params.add (Integer.valueOf (number));
-        this.fastSendOSC (address, params);
+        this.sendOSCValues (this.getSlot (address), numbers);
+        this.flush ();
     }
 
 
@@ -87,159 +143,351 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void fastSendOSC (final String address)
     {
-        this.fastSendOSC (address, Collections.emptyList ());
+        this.fastSendOSC (address, new int [0]);
     }
 
 
-    protected void fastSendOSC (final String address, final List<Object> parameters)
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCColor (final String address, final double red, final double green, final double blue, final boolean dump)
     {
-        this.sendOSC (address, parameters, true);
-        this.flush ();
+        this.sendOSCColor (this.getSlot (address), red, green, blue, dump);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void sendOSCColor (final String address, final double red, final double green, final double blue, final boolean dump)
+    public void sendOSC (final String address, final boolean value, final boolean dump)
+    {
+        this.sendOSC (this.getSlot (address), value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final String address, final double value, final boolean dump)
+    {
+        this.sendOSC (this.getSlot (address), value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final String address, final int value, final boolean dump)
+    {
+        this.sendOSC (this.getSlot (address), value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final String address, final String value, final boolean dump)
+    {
+        this.sendOSC (this.getSlot (address), value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getSlot (final String address)
+    {
+        return this.addresses.getSlot (address);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getContainerSlot (final String address)
+    {
+        return this.addresses.getContainerSlot (address);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCColor (final int slot, final double red, final double green, final double blue, final boolean dump)
     {
         final int r = (int) Math.round (red * 255.0);
         final int g = (int) Math.round (green * 255.0);
         final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+        final long rgb = (r & 0xFFFFL) << 32 | (g & 0xFFFFL) << 16 | b & 0xFFFFL;
+        if (this.updateNumber (slot, rgb, dump))
+            this.addMessage (slot, "rgb(" + r + "," + g + "," + b + ")");
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void sendOSC (final String address, final boolean value, final boolean dump)
+    public void sendOSC (final int slot, final boolean value, final boolean dump)
     {
-        this.sendOSC (address, Boolean.valueOf (value), dump);
+        // Booleans are sent as integers
+        final int v = value ? 1 : 0;
+        if (this.updateNumber (slot, v, dump))
+            this.addMessage (slot, Integer.valueOf (v));
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void sendOSC (final String address, final double value, final boolean dump)
+    public void sendOSC (final int slot, final double value, final boolean dump)
     {
         // Using float here since Double seems to be always received as 0 in Max.
-        this.sendOSC (address, Float.valueOf ((float) value), dump);
+        final float v = (float) value;
+        if (this.updateNumber (slot, Float.floatToIntBits (v), dump))
+            this.addMessage (slot, Float.valueOf (v));
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void sendOSC (final String address, final int value, final boolean dump)
+    public void sendOSC (final int slot, final int value, final boolean dump)
     {
-        this.sendOSC (address, Integer.valueOf (value), dump);
+        if (this.updateNumber (slot, value, dump))
+            this.addMessage (slot, Integer.valueOf (value));
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void sendOSC (final String address, final String value, final boolean dump)
+    public void sendOSC (final int slot, final String value, final boolean dump)
     {
-        this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
+        boolean hasReceiver = false;
+        if (this.state.updateText (slot, value))
+        {
+            this.journal.add (slot);
+            hasReceiver = true;
+        }
+        for (final OpenSoundControlClientState client: this.clients)
+        {
+            final boolean isReceiver = client.getSubscriptions ().isSubscribed (slot) && (client.getCache ().updateText (slot, value) || dump);
+            client.setReceiver (isReceiver);
+            hasReceiver |= isReceiver;
+        }
+        if (hasReceiver)
+            this.addMessage (slot, StringUtils.fixASCII (value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCValues (final int slot, final int [] values)
+    {
+        if (!this.markSubscribers (slot))
+            return;
+
+        final List<Object> params = new ArrayList<> (values.length);
+        for (final int value: values)
+            params.add (Integer.valueOf (value));
+        this.addMessage (slot, params);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCBlob (final int slot, final byte [] data)
+    {
+        if (this.markSubscribers (slot))
+            this.addMessage (slot, data);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVersion ()
+    {
+        return this.journal.getVersion ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resync (final int client, final int version)
+    {
+        final BitSet changes = this.journal.getChanges (version);
+        for (final OpenSoundControlClientState state: this.getClients (client))
+        {
+            if (changes == null)
+            {
+                // The changes are not available any more, send everything
+                state.getCache ().clear ();
+                this.cacheEpoch++;
+                continue;
+            }
+
+            final OpenSoundControlSubscriptions subscriptions = state.getSubscriptions ();
+            final OpenSoundControlValueCache cache = state.getCache ();
+            for (int slot = changes.nextSetBit (0); slot >= 0; slot = changes.nextSetBit (slot + 1))
+            {
+                if (slot < this.lastMessages.length && this.lastMessages[slot] != null && subscriptions.isSubscribed (slot))
+                {
+                    state.addMessage (this.lastMessages[slot]);
+                    cache.copy (slot, this.state);
+                }
+            }
+            if (subscriptions.isSubscribed (this.versionSlot))
+                state.addMessage (this.host.createOSCMessage (this.addresses.getAddress (this.versionSlot), Collections.singletonList (Integer.valueOf (this.journal.getVersion ()))));
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getClientCount ()
+    {
+        return this.clients.size ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe (final int client, final String pattern)
+    {
+        for (final OpenSoundControlClientState state: this.getClients (client))
+        {
+            state.getSubscriptions ().subscribe (pattern);
+            // Send all subscribed values again with the next flush
+            state.getCache ().clear ();
+            this.cacheEpoch++;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unsubscribe (final int client, final String pattern)
+    {
+        for (final OpenSoundControlClientState state: this.getClients (client))
+        {
+            if (pattern == null)
+                state.getSubscriptions ().unsubscribeAll ();
+            else
+                state.getSubscriptions ().unsubscribe (pattern);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSubscribed (final int slot)
+    {
+        for (final OpenSoundControlClientState client: this.clients)
+        {
+            if (client.getSubscriptions ().isSubscribed (slot))
+                return true;
+        }
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCacheEpoch ()
+    {
+        return this.cacheEpoch;
     }
 
 
     /**
-     * Send an OSC message with an object value. Tests if the value(s) of given message is identical
-     * to that of the cache. If this is not the case or if dump is true, the message is added to the
-     * messages list.The message will be sent when flush gets called.
+     * Get the state of one or all clients.
      *
-     * @param address The address of the OSC message
-     * @param value The value to send
-     * @param dump True to dump (ignore cache)
+     * @param client The index of the client or {@link #ALL_CLIENTS}
+     * @return The states
      */
-    protected void sendOSC (final String address, final Object value, final boolean dump)
+    private List<OpenSoundControlClientState> getClients (final int client)
     {
-        this.sendOSC (address, address, value, value, dump);
+        if (client == ALL_CLIENTS)
+            return this.clients;
+        if (client < 0 || client >= this.clients.size ())
+            return Collections.emptyList ();
+        return Collections.singletonList (this.clients.get (client));
     }
 
 
     /**
-     * Tests if the value(s) of given message is identical to that of the cache. If this is not the
-     * case or if dump is true, the message is added to the messages list.The message will be sent
-     * when flush gets called.
+     * Store a numeric value in the caches of all clients, which subscribed to the slot. Marks the
+     * clients, which need to receive the value.
      *
-     * @param cacheAddress The address under which to cache the message
-     * @param address The address of the OSC message
-     * @param testValue The value(s) to use for testing
-     * @param value The value(s) of the OSC message
-     * @param dump True to dump (ignore cache)
+     * @param slot The slot of the address
+     * @param value The value
+     * @param dump True to mark all subscribed clients, even if their value did not change
+     * @return True if at least one client needs to receive the value or the value changed
      */
-    @SuppressWarnings("unchecked")
-    protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
+    private boolean updateNumber (final int slot, final long value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
-            return;
-        this.oldValues.put (cacheAddress, testValue);
-        synchronized (this.messages)
+        boolean hasReceiver = false;
+        if (this.state.updateNumber (slot, value))
         {
-            final Object converted = convertBooleanToInt (value);
-            this.messages.add (this.host.createOSCMessage (address, converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted)));
+            this.journal.add (slot);
+            // Create the message even if no client receives it, it might be re-sent later
+            hasReceiver = true;
         }
+        for (final OpenSoundControlClientState client: this.clients)
+        {
+            final boolean isReceiver = client.getSubscriptions ().isSubscribed (slot) && (client.getCache ().updateNumber (slot, value) || dump);
+            client.setReceiver (isReceiver);
+            hasReceiver |= isReceiver;
+        }
+        return hasReceiver;
     }
 
 
-    protected boolean isConnected ()
+    /**
+     * Marks all clients, which subscribed to the slot, as receivers.
+     *
+     * @param slot The slot of the address
+     * @return True if at least one client subscribed to the slot
+     */
+    private boolean markSubscribers (final int slot)
     {
-        return this.oscClient != null;
+        boolean hasReceiver = false;
+        for (final OpenSoundControlClientState client: this.clients)
+        {
+            final boolean isReceiver = client.getSubscriptions ().isSubscribed (slot);
+            client.setReceiver (isReceiver);
+            hasReceiver |= isReceiver;
+        }
+        return hasReceiver;
     }
 
 
     /**
-     * Convert the value to a list in case it is not already one. Also converts Boolean to Integer.
+     * Add a message for the address of a slot with a single value to all clients, which were
+     * marked as receivers. The message is created only once and shared by the clients. The
+     * message will be sent when flush gets called.
      *
-     * @param value The value to convert
-     * @return The converted value
+     * @param slot The slot of the address
+     * @param value The value of the message
      */
-    @SuppressWarnings("unchecked")
-    protected static List<Object> convertToList (final Object value)
+    protected void addMessage (final int slot, final Object value)
     {
-        if (value instanceof List)
-            return List.class.cast (value);
-        if (value instanceof Boolean)
-            return Collections.singletonList (Integer.valueOf (((Boolean) value).booleanValue () ? 1 : 0));
-        return Collections.singletonList (value);
+        this.addMessage (slot, Collections.singletonList (value));
     }
 
 
     /**
-     * Compares two values. Additionally checks for list values.
+     * Add a message for the address of a slot with several values to all clients, which were
+     * marked as receivers.
      *
-     * @param value1 The first value
-     * @param value2 The second value
-     * @return True if equal
+     * @param slot The slot of the address
+     * @param values The values of the message
      */
-    protected static boolean compareValues (final Object value1, final Object value2)
+    protected void addMessage (final int slot, final List<Object> values)
     {
-        if (value1 == null)
-            return value2 == null;
-
-        if (value1 instanceof List && value2 instanceof List)
+        final IOpenSoundControlMessage message = this.host.createOSCMessage (this.addresses.getAddress (slot), values);
+        if (slot >= this.lastMessages.length)
+            this.lastMessages = Arrays.copyOf (this.lastMessages, Math.max (slot + 1, this.addresses.size ()));
+        this.lastMessages[slot] = message;
+        for (final OpenSoundControlClientState client: this.clients)
         {
-            final List<?> l1 = List.class.cast (value1);
-            final List<?> l2 = List.class.cast (value2);
-            final int size1 = l1.size ();
-            final int size2 = l2.size ();
-            if (size1 != size2)
-                return false;
-            for (int i = 0; i < size1; i++)
-            {
-                if (!l1.get (i).equals (l2.get (i)))
-                    return false;
-            }
-            return true;
+            if (client.isReceiver ())
+                client.addMessage (message);
         }
-
-        return value1.equals (value2);
     }
 
 
-    private static Object convertBooleanToInt (final Object value)
+    protected boolean isConnected ()
     {
-        return value instanceof Boolean ? Integer.valueOf (((Boolean) value).booleanValue () ? 1 : 0) : value;
+        return !this.clients.isEmpty ();
     }
 
 
@@ -11,6 +11,10 @@ package de.mossgrabers.framework.osc;
  */
 public interface IOpenSoundControlWriter
 {
+    /** Index to address all clients. */
+    int ALL_CLIENTS = -1;
+
+
     /**
      * Flush out all values.
      *
@@ -96,4 +100,172 @@ public interface IOpenSoundControlWriter
      * @param dump True to dump (ignore cache)
      */
     void sendOSC (String address, String value, boolean dump);
+
+
+    /**
+     * Get the slot of an OSC address. The slot can be used to send values to the address without
+     * any string handling and boxing. Register the slots once and keep them.
+     *
+     * @param address The OSC address
+     * @return The slot
+     */
+    int getSlot (String address);
+
+
+    /**
+     * Get the slot of an OSC address, which is the root of a sub-tree of addresses, e.g.
+     * "/track/1" or "/track/1/clip". In contrast to a slot of {@link #getSlot(String)}, it is
+     * subscribed if any address below it is subscribed (see {@link #isSubscribed(int)}).
+     *
+     * @param address The OSC address
+     * @return The slot
+     */
+    int getContainerSlot (String address);
+
+
+    /**
+     * Send an OSC message with a color value to the address of a slot, if the value differs from
+     * the cached one or if dump is true.
+     *
+     * @param slot The slot of the address (see {@link #getSlot(String)})
+     * @param red The red component of the color [0-1]
+     * @param green The green component of the color [0-1]
+     * @param blue The blue component of the color [0-1]
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSCColor (int slot, double red, double green, double blue, boolean dump);
+
+
+    /**
+     * Send an OSC message with a boolean value to the address of a slot, if the value differs from
+     * the cached one or if dump is true.
+     *
+     * @param slot The slot of the address (see {@link #getSlot(String)})
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, boolean value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a double value to the address of a slot, if the value differs from
+     * the cached one or if dump is true.
+     *
+     * @param slot The slot of the address (see {@link #getSlot(String)})
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, double value, boolean dump);
+
+
+    /**
+     * Send an OSC message with an integer value to the address of a slot, if the value differs
+     * from the cached one or if dump is true.
+     *
+     * @param slot The slot of the address (see {@link #getSlot(String)})
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, int value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a string value to the address of a slot, if the value differs from
+     * the cached one or if dump is true.
+     *
+     * @param slot The slot of the address (see {@link #getSlot(String)})
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int slot, String value, boolean dump);
+
+
+    /**
+     * Send an OSC message with several integer values to the address of a slot. The values are
+     * not cached, the message is sent to all clients which subscribed to the address.
+     *
+     * @param slot The slot of the address (see {@link #getSlot(String)})
+     * @param values The values to send
+     */
+    void sendOSCValues (int slot, int [] values);
+
+
+    /**
+     * Send an OSC message with a blob value to the address of a slot. The value is not cached,
+     * the message is sent to all clients which subscribed to the address.
+     *
+     * @param slot The slot of the address (see {@link #getSlot(String)})
+     * @param data The data to send, must not be changed afterwards
+     */
+    void sendOSCBlob (int slot, byte [] data);
+
+
+    /**
+     * Get the current version of the sent state. The version is increased with each flush, which
+     * sent at least one changed value, and is sent to the address "/version". The versions start
+     * at a random number to distinguish them from the versions before a restart.
+     *
+     * @return The version
+     */
+    int getVersion ();
+
+
+    /**
+     * Send all values to a client again, which changed after the given version. If these changes
+     * are not known any more or the version is from before a restart, all values are sent to the
+     * client. The values are sent with the next flush.
+     *
+     * @param client The index of the client or {@link #ALL_CLIENTS}
+     * @param version The version, which the client received last
+     */
+    void resync (int client, int version);
+
+
+    /**
+     * Get the number of clients to which the messages are sent.
+     *
+     * @return The number of clients
+     */
+    int getClientCount ();
+
+
+    /**
+     * Subscribe a client to all addresses which match the given pattern. Values of addresses
+     * without a subscription are not sent to the client. By default everything is subscribed. The
+     * values of the subscribed addresses are sent again with the next flush.
+     *
+     * @param client The index of the client or {@link #ALL_CLIENTS}
+     * @param pattern The pattern, e.g. "/track/*&#47;volume", "/" subscribes to everything
+     */
+    void subscribe (int client, String pattern);
+
+
+    /**
+     * Remove a subscription of a client.
+     *
+     * @param client The index of the client or {@link #ALL_CLIENTS}
+     * @param pattern The pattern of the subscription, null removes all subscriptions
+     */
+    void unsubscribe (int client, String pattern);
+
+
+    /**
+     * Test if the address of a slot is subscribed by at least one client. The slot of a container
+     * is also subscribed if any address below it is subscribed. Use this to skip the collection of
+     * values for whole sub-trees, e.g. the clips of a track.
+     *
+     * @param slot The slot of the address (see {@link #getSlot(String)})
+     * @return True if subscribed
+     */
+    boolean isSubscribed (int slot);
+
+
+    /**
+     * Get a counter, which is increased every time the cache of a client was cleared, e.g. a
+     * client was added or subscribed to new addresses. Modules which skip unchanged values
+     * themselves, must send all values again, if the counter changed.
+     *
+     * @return The counter
+     */
+    int getCacheEpoch ();
 }
@@ -0,0 +1,94 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Registry which assigns a fixed integer index (slot) to each OSC address. Allows to keep the
+ * values of the addresses in arrays instead of maps.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlAddresses
+{
+    private final Map<String, Integer> slots      = new HashMap<> ();
+    private final List<String>         addresses  = new ArrayList<> ();
+    private final BitSet               containers = new BitSet ();
+
+
+    /**
+     * Get the slot of an address. Registers the address if it is not already registered.
+     *
+     * @param address The OSC address
+     * @return The slot
+     */
+    public int getSlot (final String address)
+    {
+        final Integer slot = this.slots.get (address);
+        if (slot != null)
+            return slot.intValue ();
+
+        final int newSlot = this.addresses.size ();
+        this.addresses.add (address);
+        this.slots.put (address, Integer.valueOf (newSlot));
+        return newSlot;
+    }
+
+
+    /**
+     * Get the slot of an address, which is the root of a sub-tree of addresses, e.g. "/track/1"
+     * or "/track/1/clip". Registers the address if it is not already registered.
+     *
+     * @param address The OSC address
+     * @return The slot
+     */
+    public int getContainerSlot (final String address)
+    {
+        final int slot = this.getSlot (address);
+        this.containers.set (slot);
+        return slot;
+    }
+
+
+    /**
+     * Test if the address of a slot is the root of a sub-tree of addresses.
+     *
+     * @param slot The slot
+     * @return True if it was registered with {@link #getContainerSlot(String)}
+     */
+    public boolean isContainer (final int slot)
+    {
+        return this.containers.get (slot);
+    }
+
+
+    /**
+     * Get the address of a slot.
+     *
+     * @param slot The slot
+     * @return The OSC address
+     */
+    public String getAddress (final int slot)
+    {
+        return this.addresses.get (slot);
+    }
+
+
+    /**
+     * Get the number of registered addresses.
+     *
+     * @return The number of addresses
+     */
+    public int size ()
+    {
+        return this.addresses.size ();
+    }
+}
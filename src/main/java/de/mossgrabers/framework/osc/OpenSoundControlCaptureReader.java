@@ -0,0 +1,165 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Reads the records of a capture file written by {@link OpenSoundControlRecorder}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlCaptureReader implements Closeable
+{
+    private final IHost                          host;
+    private final DataInputStream                in;
+    private final List<IOpenSoundControlMessage> messages = new ArrayList<> ();
+    private long                                 time;
+    private byte                                 source;
+
+
+    /**
+     * Constructor. Reads the header of the capture.
+     *
+     * @param host The host for creating the messages
+     * @param input The stream to read from
+     * @throws IOException The stream could not be read or is not a capture
+     */
+    public OpenSoundControlCaptureReader (final IHost host, final InputStream input) throws IOException
+    {
+        this.host = host;
+        this.in = new DataInputStream (new BufferedInputStream (input));
+
+        if (this.in.readInt () != OpenSoundControlRecorder.MAGIC)
+            throw new IOException ("Not an OSC capture.");
+        final int version = this.in.readInt ();
+        if (version != OpenSoundControlRecorder.FORMAT_VERSION)
+            throw new IOException ("Unsupported OSC capture version: " + version);
+    }
+
+
+    /**
+     * Read the next record.
+     *
+     * @return False if there are no more records
+     * @throws IOException The record could not be read
+     */
+    public boolean next () throws IOException
+    {
+        this.messages.clear ();
+        try
+        {
+            this.time = this.in.readLong ();
+        }
+        catch (final EOFException ex)
+        {
+            return false;
+        }
+        this.source = this.in.readByte ();
+        final int count = this.in.readInt ();
+        for (int i = 0; i < count; i++)
+            this.messages.add (this.readMessage ());
+        return true;
+    }
+
+
+    /**
+     * Get the time of the current record.
+     *
+     * @return The time in nanoseconds since the start of the capture
+     */
+    public long getTime ()
+    {
+        return this.time;
+    }
+
+
+    /**
+     * Get the source of the current record.
+     *
+     * @return {@link OpenSoundControlRecorder#SOURCE_INPUT} for incoming messages, otherwise the
+     *         index of the client to which the messages were sent
+     */
+    public byte getSource ()
+    {
+        return this.source;
+    }
+
+
+    /**
+     * Get the messages of the current record.
+     *
+     * @return The messages
+     */
+    public List<IOpenSoundControlMessage> getMessages ()
+    {
+        return this.messages;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close () throws IOException
+    {
+        this.in.close ();
+    }
+
+
+    private IOpenSoundControlMessage readMessage () throws IOException
+    {
+        final String address = this.in.readUTF ();
+        final int count = this.in.readShort ();
+        final List<Object> values = new ArrayList<> (count);
+        for (int i = 0; i < count; i++)
+        {
+            final int tag = this.in.readByte ();
+            switch (tag)
+            {
+                case 'N':
+                    values.add (null);
+                    break;
+                case 'i':
+                    values.add (Integer.valueOf (this.in.readInt ()));
+                    break;
+                case 'h':
+                    values.add (Long.valueOf (this.in.readLong ()));
+                    break;
+                case 'f':
+                    values.add (Float.valueOf (this.in.readFloat ()));
+                    break;
+                case 'd':
+                    values.add (Double.valueOf (this.in.readDouble ()));
+                    break;
+                case 'T':
+                    values.add (Boolean.TRUE);
+                    break;
+                case 'F':
+                    values.add (Boolean.FALSE);
+                    break;
+                case 'b':
+                    final byte [] data = new byte [this.in.readInt ()];
+                    this.in.readFully (data);
+                    values.add (data);
+                    break;
+                case 's':
+                    values.add (this.in.readUTF ());
+                    break;
+                default:
+                    throw new IOException ("Unknown value type: " + tag);
+            }
+        }
+        return this.host.createOSCMessage (address, values);
+    }
+}
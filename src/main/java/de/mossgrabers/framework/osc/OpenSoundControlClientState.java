@@ -0,0 +1,129 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The state of one OSC client, which receives the messages of a writer: The client which sends
+ * the messages, the values last sent to the client, its' subscriptions and the messages collected
+ * for the next flush.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlClientState
+{
+    private final IOpenSoundControlClient        client;
+    private final OpenSoundControlValueCache     cache    = new OpenSoundControlValueCache ();
+    private final OpenSoundControlSubscriptions  subscriptions;
+    private final List<IOpenSoundControlMessage> messages = new ArrayList<> ();
+    private boolean                              isReceiver;
+
+
+    /**
+     * Constructor.
+     *
+     * @param client The client which sends the messages
+     * @param addresses The registered addresses
+     */
+    public OpenSoundControlClientState (final IOpenSoundControlClient client, final OpenSoundControlAddresses addresses)
+    {
+        this.client = client;
+        this.subscriptions = new OpenSoundControlSubscriptions (addresses);
+    }
+
+
+    /**
+     * Get the values which were last sent to the client.
+     *
+     * @return The cache
+     */
+    public OpenSoundControlValueCache getCache ()
+    {
+        return this.cache;
+    }
+
+
+    /**
+     * Get the subscriptions of the client.
+     *
+     * @return The subscriptions
+     */
+    public OpenSoundControlSubscriptions getSubscriptions ()
+    {
+        return this.subscriptions;
+    }
+
+
+    /**
+     * Mark the client as a receiver of the next added message.
+     *
+     * @param isReceiver True if the client receives the message
+     */
+    public void setReceiver (final boolean isReceiver)
+    {
+        this.isReceiver = isReceiver;
+    }
+
+
+    /**
+     * Test if the client is a receiver of the next added message.
+     *
+     * @return True if the client receives the message
+     */
+    public boolean isReceiver ()
+    {
+        return this.isReceiver;
+    }
+
+
+    /**
+     * Add a message, which will be sent with the next call to {@link #send()}.
+     *
+     * @param message The message
+     */
+    public void addMessage (final IOpenSoundControlMessage message)
+    {
+        synchronized (this.messages)
+        {
+            this.messages.add (message);
+        }
+    }
+
+
+    /**
+     * Get the collected messages. Synchronize on the returned list while accessing it.
+     *
+     * @return The messages
+     */
+    public List<IOpenSoundControlMessage> getMessages ()
+    {
+        return this.messages;
+    }
+
+
+    /**
+     * Send all collected messages as a bundle.
+     *
+     * @throws IOException Could not send the messages
+     */
+    public void send () throws IOException
+    {
+        synchronized (this.messages)
+        {
+            try
+            {
+                this.client.sendBundle (this.messages);
+            }
+            finally
+            {
+                this.messages.clear ();
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.BitSet;
+import java.util.Random;
+
+
+/**
+ * Records which address slots changed in which version of the state. The version is increased
+ * with each commit, which follows at least one change. The journal is a ring buffer of a fixed
+ * size, if it is full the oldest changes are overwritten.
+ * <p>
+ * The versions of a journal start at a random number. Therefore, a version which a client
+ * received before the extension was restarted is (almost certainly) unknown to the new journal
+ * and the client gets a full update instead of the changes of a different session.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlJournal
+{
+    /** The default number of changes, which are kept. */
+    public static final int  DEFAULT_CAPACITY  = 8192;
+
+    // Leave enough room for the versions of a long session
+    private static final int MAX_FIRST_VERSION = Integer.MAX_VALUE / 2;
+
+    private final int []     slots;
+    private final int []     versions;
+    private int              start;
+    private int              size;
+    private int              version;
+    private int              droppedVersion;
+    private boolean          hasChanges;
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum number of changes, which are kept
+     */
+    public OpenSoundControlJournal (final int capacity)
+    {
+        this (capacity, new Random ().nextInt (MAX_FIRST_VERSION));
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum number of changes, which are kept
+     * @param firstVersion The version before the first commit, older versions are unknown
+     */
+    public OpenSoundControlJournal (final int capacity, final int firstVersion)
+    {
+        this.slots = new int [capacity];
+        this.versions = new int [capacity];
+        this.version = firstVersion;
+        this.droppedVersion = firstVersion;
+    }
+
+
+    /**
+     * Record a change of a slot. The change belongs to the version, which is created with the next
+     * commit.
+     *
+     * @param slot The slot of the address
+     */
+    public void add (final int slot)
+    {
+        final int capacity = this.slots.length;
+        if (this.size == capacity)
+        {
+            // Overwrite the oldest change
+            this.droppedVersion = this.versions[this.start];
+            this.start = (this.start + 1) % capacity;
+            this.size--;
+        }
+
+        final int pos = (this.start + this.size) % capacity;
+        this.slots[pos] = slot;
+        this.versions[pos] = this.version + 1;
+        this.size++;
+        this.hasChanges = true;
+    }
+
+
+    /**
+     * Creates a new version if there were changes since the last commit.
+     *
+     * @return True if a new version was created
+     */
+    public boolean commit ()
+    {
+        if (!this.hasChanges)
+            return false;
+        this.hasChanges = false;
+        this.version++;
+        return true;
+    }
+
+
+    /**
+     * Get the current version.
+     *
+     * @return The version
+     */
+    public int getVersion ()
+    {
+        return this.version;
+    }
+
+
+    /**
+     * Get all slots which changed after the given version.
+     *
+     * @param since The version
+     * @return The changed slots or null if the changes are no longer available in the journal or
+     *         the version is unknown
+     */
+    public BitSet getChanges (final int since)
+    {
+        if (since < this.droppedVersion || since > this.version)
+            return null;
+
+        final BitSet changes = new BitSet ();
+        final int capacity = this.slots.length;
+        for (int i = 0; i < this.size; i++)
+        {
+            final int pos = (this.start + i) % capacity;
+            // Ignore the changes of the upcoming version, they are sent with the next flush anyway
+            if (this.versions[pos] > since && this.versions[pos] <= this.version)
+                changes.set (this.slots[pos]);
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,238 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Records incoming and outgoing OSC messages with timestamps into a binary capture file. The
+ * messages are written from a background thread, so that the caller is never blocked by the file
+ * system. A capture can be read with {@link OpenSoundControlCaptureReader}.<br>
+ * <br>
+ * The format of the file (all numbers big-endian):
+ *
+ * <pre>
+ * Header: 4 bytes magic "DBMO", int format version
+ * Record: long time in nanoseconds since the start of the capture,
+ *         byte source (-1 for incoming messages, otherwise the index of the client),
+ *         int number of messages,
+ *         the messages
+ * Message: UTF address, short number of values, the values
+ * Value: byte type tag, followed by the data of the value:
+ *        'i' int, 'h' long, 'f' float, 'd' double, 's' UTF string,
+ *        'b' int length and bytes, 'T' true, 'F' false, 'N' null
+ * </pre>
+ *
+ * Values of other types are stored as strings.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlRecorder
+{
+    /** The magic bytes at the start of a capture file. */
+    public static final int  MAGIC          = 0x44424D4F;
+    /** The version of the file format. */
+    public static final int  FORMAT_VERSION = 1;
+    /** The source of incoming messages. */
+    public static final byte SOURCE_INPUT   = -1;
+
+    private final IHost      host;
+    private ExecutorService  executor;
+    private DataOutputStream out;
+    private long             startTime;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for logging
+     */
+    public OpenSoundControlRecorder (final IHost host)
+    {
+        this.host = host;
+    }
+
+
+    /**
+     * Start recording into a file. A running recording is stopped.
+     *
+     * @param file The file to write to, it is overwritten
+     */
+    public synchronized void start (final File file)
+    {
+        this.stop ();
+
+        try
+        {
+            this.out = new DataOutputStream (new BufferedOutputStream (new FileOutputStream (file)));
+            this.out.writeInt (MAGIC);
+            this.out.writeInt (FORMAT_VERSION);
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not create OSC capture file.", ex);
+            this.out = null;
+            return;
+        }
+
+        this.startTime = System.nanoTime ();
+        this.executor = Executors.newSingleThreadExecutor ();
+        this.host.println ("Recording OSC messages to " + file.getAbsolutePath ());
+    }
+
+
+    /**
+     * Stops the recording. Waits until all recorded messages are written.
+     */
+    public synchronized void stop ()
+    {
+        if (this.executor == null)
+            return;
+
+        final DataOutputStream stream = this.out;
+        this.executor.execute ( () -> {
+            try
+            {
+                stream.close ();
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not close OSC capture file.", ex);
+            }
+        });
+        this.executor.shutdown ();
+        try
+        {
+            if (!this.executor.awaitTermination (5, TimeUnit.SECONDS))
+                this.host.error ("Not all OSC messages could be written to the capture file.");
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+        this.executor = null;
+        this.out = null;
+    }
+
+
+    /**
+     * Is a recording running?
+     *
+     * @return True if running
+     */
+    public synchronized boolean isRecording ()
+    {
+        return this.executor != null;
+    }
+
+
+    /**
+     * Record an incoming message.
+     *
+     * @param message The message
+     */
+    public void recordInput (final IOpenSoundControlMessage message)
+    {
+        this.record (SOURCE_INPUT, Collections.singletonList (message));
+    }
+
+
+    /**
+     * Record the messages which are sent to a client. The list is copied, therefore it can be
+     * changed after the call.
+     *
+     * @param client The index of the client
+     * @param messages The messages
+     */
+    public void recordOutput (final int client, final List<IOpenSoundControlMessage> messages)
+    {
+        if (!messages.isEmpty ())
+            this.record ((byte) client, new ArrayList<> (messages));
+    }
+
+
+    private synchronized void record (final byte source, final List<IOpenSoundControlMessage> messages)
+    {
+        if (this.executor == null)
+            return;
+
+        final long time = System.nanoTime () - this.startTime;
+        final DataOutputStream stream = this.out;
+        this.executor.execute ( () -> {
+            try
+            {
+                stream.writeLong (time);
+                stream.writeByte (source);
+                stream.writeInt (messages.size ());
+                for (final IOpenSoundControlMessage message: messages)
+                    writeMessage (stream, message);
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not write to OSC capture file.", ex);
+            }
+        });
+    }
+
+
+    private static void writeMessage (final DataOutputStream stream, final IOpenSoundControlMessage message) throws IOException
+    {
+        stream.writeUTF (message.getAddress ());
+        final Object [] values = message.getValues ();
+        stream.writeShort (values.length);
+        for (final Object value: values)
+        {
+            if (value == null)
+                stream.writeByte ('N');
+            else if (value instanceof Integer)
+            {
+                stream.writeByte ('i');
+                stream.writeInt (((Integer) value).intValue ());
+            }
+            else if (value instanceof Long)
+            {
+                stream.writeByte ('h');
+                stream.writeLong (((Long) value).longValue ());
+            }
+            else if (value instanceof Float)
+            {
+                stream.writeByte ('f');
+                stream.writeFloat (((Float) value).floatValue ());
+            }
+            else if (value instanceof Double)
+            {
+                stream.writeByte ('d');
+                stream.writeDouble (((Double) value).doubleValue ());
+            }
+            else if (value instanceof Boolean)
+                stream.writeByte (((Boolean) value).booleanValue () ? 'T' : 'F');
+            else if (value instanceof byte [])
+            {
+                final byte [] data = (byte []) value;
+                stream.writeByte ('b');
+                stream.writeInt (data.length);
+                stream.write (data);
+            }
+            else
+            {
+                stream.writeByte ('s');
+                stream.writeUTF (value.toString ());
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+
+
+/**
+ * Routes OSC addresses to handlers. The routes are compiled into a tree of address segments. A
+ * route pattern consists of literal segments and numeric segments (written as '#'), e.g.
+ * "/track/#/send/#/volume". The numbers of the numeric segments are parsed in place and handed to
+ * the handler. Matching an address neither splits the address nor creates any objects.
+ *
+ * @param <H> The type of the handlers
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlRouter<H>
+{
+    /** The segment of a route pattern, which matches a positive number. */
+    public static final String NUMBER       = "#";
+
+    /** The maximum number of numeric segments of a route. */
+    public static final int    MAX_CAPTURES = 8;
+
+    private static final int   MAX_DIGITS   = 9;
+
+    private final Node<H>      root         = new Node<> ();
+
+
+    /**
+     * Add a route.
+     *
+     * @param pattern The pattern of the route, e.g. "/track/#/volume"
+     * @param handler The handler to call if an address matches the pattern
+     */
+    public void addRoute (final String pattern, final H handler)
+    {
+        if (pattern.isEmpty () || pattern.charAt (0) != '/')
+            throw new IllegalArgumentException ("Route must start with a slash: " + pattern);
+
+        Node<H> node = this.root;
+        int captures = 0;
+        for (final String segment: pattern.substring (1).split ("/"))
+        {
+            if (segment.isEmpty ())
+                throw new IllegalArgumentException ("Route contains an empty segment: " + pattern);
+            if (NUMBER.equals (segment))
+            {
+                captures++;
+                if (node.number == null)
+                    node.number = new Node<> ();
+                node = node.number;
+            }
+            else
+                node = node.getOrCreateChild (segment);
+        }
+        if (captures > MAX_CAPTURES)
+            throw new IllegalArgumentException ("Route contains more than " + MAX_CAPTURES + " numbers: " + pattern);
+        node.handler = handler;
+    }
+
+
+    /**
+     * Find the handler of an address.
+     *
+     * @param address The OSC address, e.g. "/track/1/volume"
+     * @param numbers Array in which the numbers of the numeric segments are stored, must have a
+     *            size of at least {@link #MAX_CAPTURES}
+     * @return The handler or null if no route matches the address
+     */
+    public H match (final String address, final int [] numbers)
+    {
+        if (address.isEmpty () || address.charAt (0) != '/')
+            return null;
+        return match (this.root, address, 1, numbers, 0);
+    }
+
+
+    private static <H> H match (final Node<H> node, final String address, final int start, final int [] numbers, final int captures)
+    {
+        if (start > address.length ())
+            return node.handler;
+
+        int end = address.indexOf ('/', start);
+        if (end < 0)
+            end = address.length ();
+        final int length = end - start;
+        if (length == 0)
+            return null;
+
+        final Node<H> child = node.getChild (address, start, length);
+        if (child != null)
+        {
+            final H handler = match (child, address, end + 1, numbers, captures);
+            if (handler != null)
+                return handler;
+        }
+
+        if (node.number == null || length > MAX_DIGITS)
+            return null;
+        int number = 0;
+        for (int i = start; i < end; i++)
+        {
+            final char c = address.charAt (i);
+            if (c < '0' || c > '9')
+                return null;
+            number = number * 10 + c - '0';
+        }
+        numbers[captures] = number;
+        return match (node.number, address, end + 1, numbers, captures + 1);
+    }
+
+
+    /**
+     * A node of the route tree.
+     *
+     * @param <H> The type of the handlers
+     */
+    private static class Node<H>
+    {
+        private String []   segments = new String [0];
+        private Node<H> []  children = newArray (0);
+        private Node<H>     number;
+        private H           handler;
+
+
+        Node<H> getChild (final String address, final int start, final int length)
+        {
+            for (int i = 0; i < this.segments.length; i++)
+            {
+                final String segment = this.segments[i];
+                if (segment.length () == length && address.regionMatches (start, segment, 0, length))
+                    return this.children[i];
+            }
+            return null;
+        }
+
+
+        Node<H> getOrCreateChild (final String segment)
+        {
+            for (int i = 0; i < this.segments.length; i++)
+            {
+                if (this.segments[i].equals (segment))
+                    return this.children[i];
+            }
+
+            final int size = this.segments.length;
+            this.segments = Arrays.copyOf (this.segments, size + 1);
+            this.children = Arrays.copyOf (this.children, size + 1);
+            this.segments[size] = segment;
+            this.children[size] = new Node<> ();
+            return this.children[size];
+        }
+
+
+        private static <H> Node<H> [] newArray (final int size)
+        {
+            @SuppressWarnings(
+            {
+                "rawtypes",
+                "unchecked"
+            })
+            final Node<H> [] nodes = new Node [size];
+            return nodes;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Sends OSC messages in packets which are spread over time, so that the caller (e.g. the flush of
+ * the writer) is never blocked. The queued messages are packed into bundles which fit into one UDP
+ * packet of the configured maximum size (MTU). The bundles are sent with the configured maximum
+ * number of packets per second, which prevents that slow clients drop messages. Sending is done
+ * from tasks scheduled with the host, therefore the host API is only accessed from the controller
+ * thread. If the client cannot keep up at all and the queue is full, older messages are discarded
+ * which are superseded by a newer message to the same address. If this is not sufficient, the
+ * oldest messages are dropped and the overflow handler is notified, which needs to send the whole
+ * state again, e.g. by clearing the value cache of the client in the writer.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlSender implements IOpenSoundControlClient
+{
+    /** The default maximum size of a packet, the Ethernet MTU minus the IP and UDP headers. */
+    public static final int                       DEFAULT_PACKET_SIZE        = 1472;
+    /** The default maximum number of packets per second. */
+    public static final int                       DEFAULT_PACKETS_PER_SECOND = 500;
+    /** The maximum number of messages which wait to be sent. */
+    public static final int                       MAX_QUEUE_DEPTH            = 10000;
+
+    private static final int                      BUNDLE_HEADER_SIZE         = 16;
+
+    private final IHost                           host;
+    private final IOpenSoundControlClient         client;
+    private final Deque<IOpenSoundControlMessage> queue                      = new ArrayDeque<> ();
+    private final List<IOpenSoundControlMessage>  packet                     = new ArrayList<> ();
+    private final Set<String>                     newerAddresses             = new HashSet<> ();
+    private Runnable                              overflowHandler;
+    private int                                   maxPacketSize              = DEFAULT_PACKET_SIZE;
+    private long                                  packetInterval;
+    private long                                  nextPacketTime;
+    private int                                   maxQueueDepth;
+    private long                                  sentPackets;
+    private long                                  droppedMessages;
+    private boolean                               isDrainScheduled;
+    private boolean                               hasWarned;
+    private boolean                               isShutdown;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for logging and scheduling the sending of the packets
+     * @param client The client which sends the packets
+     */
+    public OpenSoundControlSender (final IHost host, final IOpenSoundControlClient client)
+    {
+        this.host = host;
+        this.client = client;
+
+        this.setPacketsPerSecond (DEFAULT_PACKETS_PER_SECOND);
+    }
+
+
+    /**
+     * Set the maximum size of a packet.
+     *
+     * @param maxPacketSize The maximum size in bytes
+     */
+    public void setMaxPacketSize (final int maxPacketSize)
+    {
+        this.maxPacketSize = Math.max (BUNDLE_HEADER_SIZE + 4, maxPacketSize);
+    }
+
+
+    /**
+     * Set the maximum number of packets which are sent per second.
+     *
+     * @param packetsPerSecond The number of packets
+     */
+    public void setPacketsPerSecond (final int packetsPerSecond)
+    {
+        this.packetInterval = TimeUnit.SECONDS.toNanos (1) / Math.max (1, packetsPerSecond);
+    }
+
+
+    /**
+     * Set a handler which is notified if messages were dropped since the queue was full.
+     *
+     * @param overflowHandler The handler, might be null
+     */
+    public void setOverflowHandler (final Runnable overflowHandler)
+    {
+        this.overflowHandler = overflowHandler;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMessage (final IOpenSoundControlMessage message) throws IOException
+    {
+        this.sendBundle (Collections.singletonList (message));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
+    {
+        if (messages.isEmpty () || this.isShutdown)
+            return;
+
+        this.queue.addAll (messages);
+        if (this.queue.size () > MAX_QUEUE_DEPTH)
+            this.coalesce ();
+
+        final int depth = this.queue.size ();
+        if (depth > this.maxQueueDepth)
+            this.maxQueueDepth = Math.min (depth, MAX_QUEUE_DEPTH);
+        if (depth > MAX_QUEUE_DEPTH)
+        {
+            final int dropped = depth - MAX_QUEUE_DEPTH;
+            for (int i = 0; i < dropped; i++)
+                this.queue.poll ();
+            this.droppedMessages += dropped;
+            if (!this.hasWarned)
+            {
+                this.hasWarned = true;
+                this.host.println ("OSC client cannot keep up, dropped the oldest " + dropped + " messages.");
+            }
+
+            // The dropped values are missing on the client, therefore it needs the whole state
+            if (this.overflowHandler != null)
+                this.overflowHandler.run ();
+        }
+
+        if (!this.isDrainScheduled)
+            this.drain ();
+    }
+
+
+    /**
+     * Stops sending. Messages which were not sent yet are discarded.
+     */
+    public void shutdown ()
+    {
+        this.isShutdown = true;
+        this.hasWarned = false;
+        this.queue.clear ();
+
+        if (this.droppedMessages > 0)
+            this.logStatistics ();
+    }
+
+
+    /**
+     * Sends all packets which are due. If there are more messages waiting, sending is continued
+     * from a task which is scheduled for the time the next packet is allowed to be sent.
+     */
+    private void drain ()
+    {
+        this.isDrainScheduled = false;
+
+        while (!this.isShutdown && !this.queue.isEmpty ())
+        {
+            final long delay = this.nextPacketTime - System.nanoTime ();
+            if (delay > 0)
+            {
+                this.isDrainScheduled = true;
+                this.host.scheduleTask (this::drain, Math.max (1, TimeUnit.NANOSECONDS.toMillis (delay)));
+                return;
+            }
+
+            this.fillPacket ();
+            try
+            {
+                this.client.sendBundle (this.packet);
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not send UDP message.", ex);
+            }
+            this.sentPackets++;
+            this.nextPacketTime = Math.max (this.nextPacketTime, System.nanoTime ()) + this.packetInterval;
+        }
+
+        // The client caught up again
+        if (this.hasWarned)
+        {
+            this.hasWarned = false;
+            this.logStatistics ();
+        }
+    }
+
+
+    /**
+     * Log the number of sent packets, the maximum queue depth and the number of dropped messages.
+     */
+    private void logStatistics ()
+    {
+        this.host.println ("OSC sender statistics: " + this.sentPackets + " packets sent, maximum queue depth " + this.maxQueueDepth + ", " + this.droppedMessages + " messages dropped.");
+    }
+
+
+    /**
+     * Removes all queued messages which are followed by a newer message to the same address.
+     * Outgoing messages always contain the current value of their address, therefore only the
+     * newest one needs to be sent.
+     */
+    private void coalesce ()
+    {
+        final Iterator<IOpenSoundControlMessage> iterator = this.queue.descendingIterator ();
+        while (iterator.hasNext ())
+        {
+            if (!this.newerAddresses.add (iterator.next ().getAddress ()))
+                iterator.remove ();
+        }
+        this.newerAddresses.clear ();
+    }
+
+
+    /**
+     * Moves as many messages from the queue into the packet as fit into the maximum packet size.
+     * At least one message is added, even if it is too large.
+     */
+    private void fillPacket ()
+    {
+        this.packet.clear ();
+
+        int size = BUNDLE_HEADER_SIZE;
+        while (!this.queue.isEmpty ())
+        {
+            // Each element of a bundle is preceded by its size
+            final int messageSize = 4 + getSize (this.queue.peek ());
+            if (!this.packet.isEmpty () && size + messageSize > this.maxPacketSize)
+                break;
+            size += messageSize;
+            this.packet.add (this.queue.poll ());
+        }
+    }
+
+
+    /**
+     * Calculates the size of an encoded OSC message.
+     *
+     * @param message The message
+     * @return The size in bytes
+     */
+    private static int getSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        // Address and type tags (comma + one tag per value), both are null terminated
+        int size = getPaddedSize (message.getAddress ().length () + 1) + getPaddedSize (values.length + 2);
+        for (final Object value: values)
+        {
+            if (value instanceof Long || value instanceof Double)
+                size += 8;
+            else if (value instanceof String)
+                size += getPaddedSize (((String) value).getBytes (StandardCharsets.UTF_8).length + 1);
+            else if (value instanceof byte [])
+                size += 4 + getPaddedSize (((byte []) value).length);
+            else if (value != null && !(value instanceof Boolean))
+                size += 4;
+        }
+        return size;
+    }
+
+
+    /**
+     * OSC aligns all elements to 4 bytes.
+     *
+     * @param size The size of an element
+     * @return The size padded to a multiple of 4
+     */
+    private static int getPaddedSize (final int size)
+    {
+        return size + 3 & ~3;
+    }
+}
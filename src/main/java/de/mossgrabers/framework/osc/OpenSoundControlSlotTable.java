@@ -0,0 +1,71 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+
+
+/**
+ * The slots of the OSC addresses of a list of items, which all have the same attributes, e.g.
+ * "/track/1/volume", "/track/1/pan", "/track/2/volume", ... The addresses of an item are
+ * registered when the item is used for the first time. Afterwards, no strings need to be created.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlSlotTable
+{
+    private final IOpenSoundControlWriter writer;
+    private final String                  prefix;
+    private final String []               attributes;
+    private int [] []                     slots = new int [0] [];
+
+
+    /**
+     * Constructor.
+     *
+     * @param writer The writer where to register the addresses
+     * @param prefix The start of the addresses, the item number and a slash get added to it
+     * @param attributes The attributes of an item
+     */
+    public OpenSoundControlSlotTable (final IOpenSoundControlWriter writer, final String prefix, final String... attributes)
+    {
+        this.writer = writer;
+        this.prefix = prefix;
+        this.attributes = attributes;
+    }
+
+
+    /**
+     * Get the slots of an item.
+     *
+     * @param index The index of the item, the item number in the address is index + 1
+     * @return The slots of the item in the order of the attributes
+     */
+    public int [] getSlots (final int index)
+    {
+        if (index >= this.slots.length)
+            this.slots = Arrays.copyOf (this.slots, index + 1);
+        if (this.slots[index] == null)
+            this.slots[index] = register (this.writer, this.prefix + (index + 1) + "/", this.attributes);
+        return this.slots[index];
+    }
+
+
+    /**
+     * Register the slots of the addresses of one item.
+     *
+     * @param writer The writer where to register the addresses
+     * @param prefix The start of the addresses
+     * @param attributes The attributes of the item, they are appended to the prefix
+     * @return The slots of the item in the order of the attributes
+     */
+    public static int [] register (final IOpenSoundControlWriter writer, final String prefix, final String... attributes)
+    {
+        final int [] result = new int [attributes.length];
+        for (int i = 0; i < attributes.length; i++)
+            result[i] = writer.getSlot (prefix + attributes[i]);
+        return result;
+    }
+}
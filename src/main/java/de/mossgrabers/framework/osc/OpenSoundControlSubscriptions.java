@@ -0,0 +1,173 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * The address patterns an OSC client is interested in, e.g. "/track/*&#47;volume". A pattern
+ * consists of literal segments and wildcard segments ('*'), which match any segment. A pattern
+ * subscribes to all addresses below it, e.g. "/track" subscribes to all track addresses. The empty
+ * pattern "/" subscribes to everything, which is the default. The root of a sub-tree of addresses
+ * (a container, e.g. "/track/1") is subscribed as well, if a pattern subscribes to any address
+ * below it. This allows to skip the collection of the values of whole sub-trees. Other (leaf)
+ * addresses need to be covered by a pattern.<br>
+ * The result of matching is cached per address slot, therefore testing a slot is only an array
+ * look-up.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlSubscriptions
+{
+    /** The segment of a pattern, which matches any segment. */
+    public static final String              WILDCARD       = "*";
+
+    private static final byte               STATE_UNKNOWN  = 0;
+    private static final byte               STATE_ACTIVE   = 1;
+    private static final byte               STATE_INACTIVE = 2;
+
+    private final OpenSoundControlAddresses addresses;
+    private final List<String []>           patterns       = new ArrayList<> ();
+    private byte []                         states         = new byte [0];
+
+
+    /**
+     * Constructor. Subscribes to everything.
+     *
+     * @param addresses The registered addresses
+     */
+    public OpenSoundControlSubscriptions (final OpenSoundControlAddresses addresses)
+    {
+        this.addresses = addresses;
+
+        this.subscribeAll ();
+    }
+
+
+    /**
+     * Subscribe to all addresses which match the given pattern.
+     *
+     * @param pattern The pattern, e.g. "/track/*&#47;clip"
+     */
+    public void subscribe (final String pattern)
+    {
+        final String [] segments = split (pattern);
+        for (final String [] p: this.patterns)
+        {
+            if (Arrays.equals (p, segments))
+                return;
+        }
+        this.patterns.add (segments);
+        this.reset ();
+    }
+
+
+    /**
+     * Remove a subscription. The pattern must be identical to the subscribed one.
+     *
+     * @param pattern The pattern, e.g. "/track/*&#47;clip"
+     */
+    public void unsubscribe (final String pattern)
+    {
+        final String [] segments = split (pattern);
+        if (this.patterns.removeIf (p -> Arrays.equals (p, segments)))
+            this.reset ();
+    }
+
+
+    /**
+     * Subscribe to everything.
+     */
+    public void subscribeAll ()
+    {
+        this.patterns.clear ();
+        this.patterns.add (new String [0]);
+        this.reset ();
+    }
+
+
+    /**
+     * Remove all subscriptions.
+     */
+    public void unsubscribeAll ()
+    {
+        this.patterns.clear ();
+        this.reset ();
+    }
+
+
+    /**
+     * Test if the address of a slot is subscribed. The address of a container slot is also
+     * subscribed if any address below it is subscribed.
+     *
+     * @param slot The slot of the address
+     * @return True if subscribed
+     */
+    public boolean isSubscribed (final int slot)
+    {
+        if (slot >= this.states.length)
+            this.states = Arrays.copyOf (this.states, Math.max (slot + 1, this.addresses.size ()));
+
+        if (this.states[slot] == STATE_UNKNOWN)
+            this.states[slot] = this.matches (this.addresses.getAddress (slot), this.addresses.isContainer (slot)) ? STATE_ACTIVE : STATE_INACTIVE;
+        return this.states[slot] == STATE_ACTIVE;
+    }
+
+
+    /**
+     * Test if the address matches one of the patterns.
+     *
+     * @param address The OSC address
+     * @param isContainer If true, the address also matches if any address below it matches
+     * @return True if it matches
+     */
+    public boolean matches (final String address, final boolean isContainer)
+    {
+        final String [] segments = split (address);
+        for (final String [] pattern: this.patterns)
+        {
+            if (matches (pattern, segments, isContainer))
+                return true;
+        }
+        return false;
+    }
+
+
+    private static boolean matches (final String [] pattern, final String [] segments, final boolean isContainer)
+    {
+        // Either the pattern covers the address or the address is the root of a subscribed
+        // sub-tree, a leaf address must be covered
+        if (segments.length < pattern.length && !isContainer)
+            return false;
+        final int length = Math.min (pattern.length, segments.length);
+        for (int i = 0; i < length; i++)
+        {
+            if (!WILDCARD.equals (pattern[i]) && !pattern[i].equals (segments[i]))
+                return false;
+        }
+        return true;
+    }
+
+
+    private void reset ()
+    {
+        Arrays.fill (this.states, STATE_UNKNOWN);
+    }
+
+
+    private static String [] split (final String address)
+    {
+        final List<String> segments = new ArrayList<> ();
+        for (final String segment: address.split ("/"))
+        {
+            if (!segment.isEmpty ())
+                segments.add (segment);
+        }
+        return segments.toArray (new String [segments.size ()]);
+    }
+}
@@ -0,0 +1,97 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * Caches the last sent values of OSC address slots (see {@link OpenSoundControlAddresses}) in
+ * primitive arrays. Numeric values (integers, booleans, floats and colors) are stored as long
+ * values, texts are stored as strings. Testing a value for a change neither boxes nor allocates.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlValueCache
+{
+    private boolean [] isSet   = new boolean [0];
+    private long []    numbers = new long [0];
+    private String []  texts   = new String [0];
+
+
+    /**
+     * Store a numeric value.
+     *
+     * @param slot The slot of the address
+     * @param value The value
+     * @return True if the value differs from the cached one
+     */
+    public boolean updateNumber (final int slot, final long value)
+    {
+        this.ensureCapacity (slot);
+        if (this.isSet[slot] && this.numbers[slot] == value)
+            return false;
+        this.isSet[slot] = true;
+        this.numbers[slot] = value;
+        this.texts[slot] = null;
+        return true;
+    }
+
+
+    /**
+     * Store a text value. A null value is treated as equal to a slot which was never set.
+     *
+     * @param slot The slot of the address
+     * @param value The value, might be null
+     * @return True if the value differs from the cached one
+     */
+    public boolean updateText (final int slot, final String value)
+    {
+        this.ensureCapacity (slot);
+        if (this.isSet[slot] ? Objects.equals (this.texts[slot], value) : value == null)
+            return false;
+        this.isSet[slot] = true;
+        this.texts[slot] = value;
+        return true;
+    }
+
+
+    /**
+     * Copy the value of a slot from another cache.
+     *
+     * @param slot The slot of the address
+     * @param source The cache from which to copy the value
+     */
+    public void copy (final int slot, final OpenSoundControlValueCache source)
+    {
+        this.ensureCapacity (slot);
+        final boolean isSourceSet = slot < source.isSet.length && source.isSet[slot];
+        this.isSet[slot] = isSourceSet;
+        this.numbers[slot] = isSourceSet ? source.numbers[slot] : 0;
+        this.texts[slot] = isSourceSet ? source.texts[slot] : null;
+    }
+
+
+    /**
+     * Remove all cached values.
+     */
+    public void clear ()
+    {
+        Arrays.fill (this.isSet, false);
+        Arrays.fill (this.texts, null);
+    }
+
+
+    private void ensureCapacity (final int slot)
+    {
+        if (slot < this.isSet.length)
+            return;
+        final int size = Math.max (slot + 1, 2 * this.isSet.length);
+        this.isSet = Arrays.copyOf (this.isSet, size);
+        this.numbers = Arrays.copyOf (this.numbers, size);
+        this.texts = Arrays.copyOf (this.texts, size);
+    }
+}
@@ -0,0 +1,44 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+/**
+ * A HID callback which decodes the received input reports with a decoder and hands the resulting
+ * batches to a handler. Reports without any changes are dropped.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HidInputDecoderCallback implements IHidCallback
+{
+    private final IHidInputDecoder decoder;
+    private final IHidInputHandler handler;
+
+
+    /**
+     * Constructor.
+     *
+     * @param decoder The decoder for the input reports
+     * @param handler The handler for the decoded changes
+     */
+    public HidInputDecoderCallback (final IHidInputDecoder decoder, final IHidInputHandler handler)
+    {
+        this.decoder = decoder;
+        this.handler = handler;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void process (final byte reportID, final byte [] data, final int length)
+    {
+        if (length < 0)
+            return;
+
+        final HidInputEvents events = this.decoder.createEvents ();
+        this.decoder.decode (reportID, data, length, events);
+        if (!events.isEmpty ())
+            this.handler.handle (events);
+    }
+}
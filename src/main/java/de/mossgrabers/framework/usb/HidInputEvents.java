@@ -0,0 +1,195 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+import java.util.Arrays;
+
+
+/**
+ * A compact batch of the UI changes decoded from one (or several) HID input reports. Encoder
+ * movements are summed up per encoder, button changes are stored as edge bit masks (max. 64
+ * buttons) and other values (e.g. a keyboard transposition) are stored with a change mask (max.
+ * 64 values).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HidInputEvents
+{
+    /** The maximum number of buttons and values, which can be stored. */
+    public static final int MAX_BITS = 64;
+
+    private final int []    encoderDeltas;
+    private final int []    values;
+    private long            pressedButtons;
+    private long            releasedButtons;
+    private long            changedValues;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numEncoders The number of encoders
+     * @param numValues The number of values (max. 64)
+     */
+    public HidInputEvents (final int numEncoders, final int numValues)
+    {
+        if (numValues > MAX_BITS)
+            throw new IllegalArgumentException ("Maximum number of values is " + MAX_BITS);
+
+        this.encoderDeltas = new int [numEncoders];
+        this.values = new int [numValues];
+    }
+
+
+    /**
+     * Get the number of encoders.
+     *
+     * @return The number of encoders
+     */
+    public int getNumEncoders ()
+    {
+        return this.encoderDeltas.length;
+    }
+
+
+    /**
+     * Add a movement to an encoder.
+     *
+     * @param index The index of the encoder
+     * @param delta The number of steps, negative values for counter-clockwise movements
+     */
+    public void addEncoderDelta (final int index, final int delta)
+    {
+        this.encoderDeltas[index] += delta;
+    }
+
+
+    /**
+     * Get the summed up movement of an encoder.
+     *
+     * @param index The index of the encoder
+     * @return The number of steps, negative values for counter-clockwise movements
+     */
+    public int getEncoderDelta (final int index)
+    {
+        return this.encoderDeltas[index];
+    }
+
+
+    /**
+     * Store a button change. Pressing and releasing a button in the same batch cancel each other
+     * out.
+     *
+     * @param index The index of the button (0-63)
+     * @param isPressed True if the button was pressed otherwise released
+     */
+    public void setButton (final int index, final boolean isPressed)
+    {
+        final long bit = 1L << index;
+        if (isPressed)
+        {
+            if ((this.releasedButtons & bit) != 0)
+                this.releasedButtons &= ~bit;
+            else
+                this.pressedButtons |= bit;
+        }
+        else
+        {
+            if ((this.pressedButtons & bit) != 0)
+                this.pressedButtons &= ~bit;
+            else
+                this.releasedButtons |= bit;
+        }
+    }
+
+
+    /**
+     * Get the buttons which were pressed.
+     *
+     * @return A bit mask with the bits of the pressed buttons set
+     */
+    public long getPressedButtons ()
+    {
+        return this.pressedButtons;
+    }
+
+
+    /**
+     * Get the buttons which were released.
+     *
+     * @return A bit mask with the bits of the released buttons set
+     */
+    public long getReleasedButtons ()
+    {
+        return this.releasedButtons;
+    }
+
+
+    /**
+     * Set a value.
+     *
+     * @param index The index of the value
+     * @param value The new value
+     */
+    public void setValue (final int index, final int value)
+    {
+        this.values[index] = value;
+        this.changedValues |= 1L << index;
+    }
+
+
+    /**
+     * Test if a value was set.
+     *
+     * @param index The index of the value
+     * @return True if it was set
+     */
+    public boolean hasValueChanged (final int index)
+    {
+        return (this.changedValues & 1L << index) != 0;
+    }
+
+
+    /**
+     * Get a value.
+     *
+     * @param index The index of the value
+     * @return The value
+     */
+    public int getValue (final int index)
+    {
+        return this.values[index];
+    }
+
+
+    /**
+     * Test if the batch contains any changes.
+     *
+     * @return True if there are no changes
+     */
+    public boolean isEmpty ()
+    {
+        if (this.pressedButtons != 0 || this.releasedButtons != 0 || this.changedValues != 0)
+            return false;
+        for (final int delta: this.encoderDeltas)
+        {
+            if (delta != 0)
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Remove all changes.
+     */
+    public void clear ()
+    {
+        Arrays.fill (this.encoderDeltas, 0);
+        this.pressedButtons = 0;
+        this.releasedButtons = 0;
+        this.changedValues = 0;
+    }
+}
@@ -22,6 +22,16 @@ public interface IHidDevice
     void setCallback (final IHidCallback callback);
 
 
+    /**
+     * Set a decoder which turns every received input report into a batch of UI changes, which are
+     * then handed to the handler. Replaces a callback set with {@link #setCallback(IHidCallback)}.
+     *
+     * @param decoder The decoder for the input reports
+     * @param handler The handler for the decoded changes
+     */
+    void setInputDecoder (final IHidInputDecoder decoder, final IHidInputHandler handler);
+
+
     /**
      * Sends an output report to the device. If numbered reports are used (see USB HID specification
      * for explanation about numbered reports) the reportID needs to be specified otherwise pass
@@ -0,0 +1,34 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+/**
+ * Interface for decoding HID input reports of a specific device into a batch of UI changes. The
+ * decoder keeps the state of the previous report to detect the changes. It is called from the
+ * thread which receives the HID data.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IHidInputDecoder
+{
+    /**
+     * Create an empty batch for the decoded changes with the number of encoders and values which
+     * are supported by the device.
+     *
+     * @return The new batch
+     */
+    HidInputEvents createEvents ();
+
+
+    /**
+     * Decode a received input report.
+     *
+     * @param reportID The report (= function/method) number
+     * @param data The received data
+     * @param length The length of the received data
+     * @param events Where to add the decoded changes
+     */
+    void decode (byte reportID, byte [] data, int length, HidInputEvents events);
+}
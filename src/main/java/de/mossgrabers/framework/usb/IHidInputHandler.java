@@ -0,0 +1,22 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+/**
+ * Interface for a handler of the decoded UI changes of a HID device.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IHidInputHandler
+{
+    /**
+     * Called for every received input report which contained changes. This is called from the
+     * thread which receives the HID data, the handler needs to hand over the batch to the host
+     * thread, e.g. with a single scheduled task.
+     *
+     * @param events The decoded changes, the batch is not reused by the caller
+     */
+    void handle (HidInputEvents events);
+}
@@ -19,8 +19,9 @@ public interface IUsbEndpoint
      *
      * @param memoryBlock The memory block with the data to send
      * @param timeout Timeout for the sending task
+     * @return The number of sent bytes, -1 if sending failed
      */
-    void send (IMemoryBlock memoryBlock, int timeout);
+    int send (IMemoryBlock memoryBlock, int timeout);
 
 
     /**
@@ -0,0 +1,25 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+import de.mossgrabers.framework.daw.IMemoryBlock;
+
+
+/**
+ * Interface for a synchronous transfer of a memory block to a device, e.g. sending to an USB
+ * endpoint or sending a HID output report. It is executed by a {@link UsbTransferQueue}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IUsbTransfer
+{
+    /**
+     * Transfer the data. Might block.
+     *
+     * @param memoryBlock The memory block with the data to send
+     * @return The number of transfered bytes, -1 if the transfer failed
+     */
+    int transfer (IMemoryBlock memoryBlock);
+}
@@ -0,0 +1,363 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IMemoryBlock;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Executes the transfers to an USB endpoint or HID device asynchronously in a separate thread, so
+ * that a stalling device never blocks the caller (e.g. the flush thread). Transfers are executed
+ * in the order they were submitted. The number of transfers in flight (waiting or executing) is
+ * limited, further transfers are rejected. A transfer which is submitted with the same key as a
+ * waiting transfer replaces the data of the waiting one (the callback of the replaced transfer is
+ * not called). The data is sent from pooled memory blocks, which are re-used after the transfer.
+ * The host is only accessed from the calling thread: errors of the transfer thread and a saturated
+ * device are logged on the next submit, the statistics are logged on shutdown if there were
+ * problems.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class UsbTransferQueue
+{
+    private final IHost                             host;
+    private final String                            name;
+    private final int                               maxInFlight;
+    private final long                              timeout;
+    private final UsbTransferStatistics             statistics = new UsbTransferStatistics ();
+    private final ExecutorService                   executor   = Executors.newSingleThreadExecutor ();
+    private final Deque<Transfer>                   pending    = new ArrayDeque<> ();
+    private final Map<Integer, Deque<IMemoryBlock>> bufferPool = new HashMap<> ();
+    private int                                     inFlight;
+    private boolean                                 isShutdown;
+    private boolean                                 isSaturationLogged;
+    private RuntimeException                        transferError;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for creating memory blocks and logging
+     * @param name The name of the device for logging
+     * @param maxInFlight The maximum number of transfers which might wait or execute at the same
+     *            time
+     * @param timeout A transfer which takes longer than this timeout (in milliseconds) is counted
+     *            as a timeout
+     */
+    public UsbTransferQueue (final IHost host, final String name, final int maxInFlight, final int timeout)
+    {
+        this.host = host;
+        this.name = name;
+        this.maxInFlight = maxInFlight;
+        this.timeout = TimeUnit.MILLISECONDS.toNanos (timeout);
+    }
+
+
+    /**
+     * Get a memory block from the pool. The block needs to be handed back by submitting it. The
+     * content of the block is undefined.
+     *
+     * @param size The size of the memory block
+     * @return The memory block
+     */
+    public IMemoryBlock acquireBuffer (final int size)
+    {
+        synchronized (this.bufferPool)
+        {
+            final Deque<IMemoryBlock> buffers = this.bufferPool.get (Integer.valueOf (size));
+            if (buffers != null && !buffers.isEmpty ())
+                return buffers.pop ();
+        }
+        return this.host.createMemoryBlock (size);
+    }
+
+
+    /**
+     * Submit a transfer. The memory block must have been retrieved with
+     * {@link #acquireBuffer(int)} and must not be used by the caller afterwards.
+     *
+     * @param key If not null, a waiting transfer with the same key is replaced by this one
+     * @param buffer The memory block with the data to send
+     * @param transfer Executes the transfer
+     * @param callback Called after the transfer has finished, might be null
+     * @return False if the transfer was rejected since too many transfers are in flight or the
+     *         queue was shutdown
+     */
+    public boolean submit (final Object key, final IMemoryBlock buffer, final IUsbTransfer transfer, final IUsbCallback callback)
+    {
+        final int size = buffer.createByteBuffer ().capacity ();
+
+        synchronized (this.pending)
+        {
+            this.logTransferError ();
+
+            if (this.isShutdown)
+            {
+                this.releaseBuffer (buffer, size);
+                return false;
+            }
+
+            if (key != null)
+            {
+                for (final Transfer waiting: this.pending)
+                {
+                    if (key.equals (waiting.key))
+                    {
+                        this.releaseBuffer (waiting.buffer, waiting.size);
+                        waiting.set (buffer, size, transfer, callback);
+                        this.statistics.addCoalesced ();
+                        return true;
+                    }
+                }
+            }
+
+            if (this.inFlight >= this.maxInFlight)
+            {
+                this.releaseBuffer (buffer, size);
+                this.statistics.addRejected ();
+                this.logSaturation ();
+                return false;
+            }
+
+            this.inFlight++;
+            final Transfer t = new Transfer (key);
+            t.set (buffer, size, transfer, callback);
+            this.pending.add (t);
+        }
+
+        this.executor.execute (this::executeNext);
+        return true;
+    }
+
+
+    /**
+     * Submit a transfer with a copy of the given data.
+     *
+     * @param key If not null, a waiting transfer with the same key is replaced by this one
+     * @param data The memory block with the data to send, it can be re-used after the call
+     * @param transfer Executes the transfer
+     * @param callback Called after the transfer has finished, might be null
+     * @return False if the transfer was rejected since too many transfers are in flight or the
+     *         queue was shutdown
+     */
+    public boolean submitCopy (final Object key, final IMemoryBlock data, final IUsbTransfer transfer, final IUsbCallback callback)
+    {
+        final ByteBuffer source = data.createByteBuffer ();
+        final IMemoryBlock buffer = this.acquireBuffer (source.capacity ());
+        final ByteBuffer target = buffer.createByteBuffer ();
+        source.rewind ();
+        target.clear ();
+        target.put (source);
+        return this.submit (key, buffer, transfer, callback);
+    }
+
+
+    /**
+     * Get the transfer counters.
+     *
+     * @return The statistics
+     */
+    public UsbTransferStatistics getStatistics ()
+    {
+        return this.statistics;
+    }
+
+
+    /**
+     * Get the number of waiting and executing transfers.
+     *
+     * @return The number of transfers in flight
+     */
+    public int getInFlight ()
+    {
+        synchronized (this.pending)
+        {
+            return this.inFlight;
+        }
+    }
+
+
+    /**
+     * Test if the maximum number of transfers is in flight, which means that the device cannot
+     * keep up with the data.
+     *
+     * @return True if saturated
+     */
+    public boolean isSaturated ()
+    {
+        return this.getInFlight () >= this.maxInFlight;
+    }
+
+
+    /**
+     * Test if the device is saturated. If true, the caller should skip the transfer (e.g. drop a
+     * frame and send a newer one later), which is counted as skipped. The saturation is logged
+     * once until all transfers in flight are finished.
+     *
+     * @return True if the transfer should be skipped
+     */
+    public boolean skipIfSaturated ()
+    {
+        synchronized (this.pending)
+        {
+            this.logTransferError ();
+
+            if (this.inFlight < this.maxInFlight)
+                return false;
+            this.statistics.addSkipped ();
+            this.logSaturation ();
+            return true;
+        }
+    }
+
+
+    /**
+     * Stops accepting new transfers. Waits until the waiting transfers are executed but not
+     * longer than the timeout.
+     */
+    public void shutdown ()
+    {
+        synchronized (this.pending)
+        {
+            this.isShutdown = true;
+        }
+
+        this.executor.shutdown ();
+        try
+        {
+            if (!this.executor.awaitTermination (this.timeout, TimeUnit.NANOSECONDS))
+                this.host.error (this.name + ": Not all USB transfers could be finished.");
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+
+        synchronized (this.pending)
+        {
+            this.logTransferError ();
+        }
+        if (this.statistics.hasProblems ())
+            this.host.println (this.name + ": " + this.statistics);
+    }
+
+
+    private void executeNext ()
+    {
+        final Transfer t;
+        synchronized (this.pending)
+        {
+            t = this.pending.poll ();
+        }
+        if (t == null)
+            return;
+
+        final long start = System.nanoTime ();
+        int result;
+        try
+        {
+            result = t.transfer.transfer (t.buffer);
+        }
+        catch (final RuntimeException ex)
+        {
+            synchronized (this.pending)
+            {
+                this.transferError = ex;
+            }
+            result = -1;
+        }
+        final long end = System.nanoTime ();
+        this.statistics.addTransfer (result, end - t.submitTime, end - start > this.timeout);
+
+        this.releaseBuffer (t.buffer, t.size);
+        synchronized (this.pending)
+        {
+            this.inFlight--;
+            if (this.inFlight == 0)
+                this.isSaturationLogged = false;
+        }
+
+        if (t.callback != null)
+            t.callback.process (result);
+    }
+
+
+    /**
+     * Log that the device is saturated, if not already done. Must be called while holding the
+     * pending lock.
+     */
+    private void logSaturation ()
+    {
+        if (this.isSaturationLogged)
+            return;
+        this.isSaturationLogged = true;
+        this.host.println (this.name + ": The device cannot keep up, transfers are dropped.");
+    }
+
+
+    /**
+     * Log the last error of the transfer thread, if any. Must be called while holding the pending
+     * lock.
+     */
+    private void logTransferError ()
+    {
+        if (this.transferError == null)
+            return;
+        this.host.error (this.name + ": USB transfer failed.", this.transferError);
+        this.transferError = null;
+    }
+
+
+    private void releaseBuffer (final IMemoryBlock buffer, final int size)
+    {
+        synchronized (this.bufferPool)
+        {
+            this.bufferPool.computeIfAbsent (Integer.valueOf (size), s -> new ArrayDeque<> ()).push (buffer);
+        }
+    }
+
+
+    /** A waiting transfer. */
+    private static class Transfer
+    {
+        private final Object key;
+        private IMemoryBlock buffer;
+        private int          size;
+        private IUsbTransfer transfer;
+        private IUsbCallback callback;
+        private long         submitTime;
+
+
+        /**
+         * Constructor.
+         *
+         * @param key The key for coalescing, might be null
+         */
+        Transfer (final Object key)
+        {
+            this.key = key;
+        }
+
+
+        void set (final IMemoryBlock buffer, final int size, final IUsbTransfer transfer, final IUsbCallback callback)
+        {
+            this.buffer = buffer;
+            this.size = size;
+            this.transfer = transfer;
+            this.callback = callback;
+            this.submitTime = System.nanoTime ();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.usb;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Counters for the transfers of a {@link UsbTransferQueue}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class UsbTransferStatistics
+{
+    private final AtomicLong transfers  = new AtomicLong ();
+    private final AtomicLong bytes      = new AtomicLong ();
+    private final AtomicLong failures   = new AtomicLong ();
+    private final AtomicLong timeouts   = new AtomicLong ();
+    private final AtomicLong coalesced  = new AtomicLong ();
+    private final AtomicLong rejected   = new AtomicLong ();
+    private final AtomicLong skipped    = new AtomicLong ();
+    private final AtomicLong latencySum = new AtomicLong ();
+    private final AtomicLong maxLatency = new AtomicLong ();
+
+
+    /**
+     * Record a finished transfer.
+     *
+     * @param transferred The number of transfered bytes, -1 if the transfer failed
+     * @param latency The time from submitting the transfer until it finished in nanoseconds
+     * @param isTimeout True if the transfer took longer than the timeout
+     */
+    void addTransfer (final int transferred, final long latency, final boolean isTimeout)
+    {
+        this.transfers.incrementAndGet ();
+        if (transferred < 0)
+            this.failures.incrementAndGet ();
+        else
+            this.bytes.addAndGet (transferred);
+        if (isTimeout)
+            this.timeouts.incrementAndGet ();
+        this.latencySum.addAndGet (latency);
+        this.maxLatency.accumulateAndGet (latency, Math::max);
+    }
+
+
+    /**
+     * Record a transfer which was replaced by a newer one before it was started.
+     */
+    void addCoalesced ()
+    {
+        this.coalesced.incrementAndGet ();
+    }
+
+
+    /**
+     * Record a transfer which was not accepted since too many transfers were in flight.
+     */
+    void addRejected ()
+    {
+        this.rejected.incrementAndGet ();
+    }
+
+
+    /**
+     * Record a transfer which was skipped by the caller since the device was saturated.
+     */
+    void addSkipped ()
+    {
+        this.skipped.incrementAndGet ();
+    }
+
+
+    /**
+     * Get the number of executed transfers.
+     *
+     * @return The number of transfers
+     */
+    public long getTransfers ()
+    {
+        return this.transfers.get ();
+    }
+
+
+    /**
+     * Get the number of successfully transfered bytes.
+     *
+     * @return The number of bytes
+     */
+    public long getBytes ()
+    {
+        return this.bytes.get ();
+    }
+
+
+    /**
+     * Get the number of failed transfers.
+     *
+     * @return The number of failures
+     */
+    public long getFailures ()
+    {
+        return this.failures.get ();
+    }
+
+
+    /**
+     * Get the number of transfers which took longer than the timeout.
+     *
+     * @return The number of timeouts
+     */
+    public long getTimeouts ()
+    {
+        return this.timeouts.get ();
+    }
+
+
+    /**
+     * Get the number of transfers which were replaced by a newer one before they were started.
+     *
+     * @return The number of coalesced transfers
+     */
+    public long getCoalesced ()
+    {
+        return this.coalesced.get ();
+    }
+
+
+    /**
+     * Get the number of transfers which were not accepted since the device was saturated.
+     *
+     * @return The number of rejected transfers
+     */
+    public long getRejected ()
+    {
+        return this.rejected.get ();
+    }
+
+
+    /**
+     * Get the number of transfers which were skipped by the caller since the device was saturated.
+     *
+     * @return The number of skipped transfers
+     */
+    public long getSkipped ()
+    {
+        return this.skipped.get ();
+    }
+
+
+    /**
+     * Test if there were transfers which failed, timed out, were rejected or skipped.
+     *
+     * @return True if there were problems
+     */
+    public boolean hasProblems ()
+    {
+        return this.failures.get () + this.timeouts.get () + this.rejected.get () + this.skipped.get () > 0;
+    }
+
+
+    /**
+     * Get the average time a transfer took, including the time it waited in the queue.
+     *
+     * @return The average latency in milliseconds
+     */
+    public double getAverageLatency ()
+    {
+        final long count = this.transfers.get ();
+        return count == 0 ? 0 : this.latencySum.get () / (count * 1000000.0);
+    }
+
+
+    /**
+     * Get the longest time a transfer took, including the time it waited in the queue.
+     *
+     * @return The maximum latency in milliseconds
+     */
+    public double getMaxLatency ()
+    {
+        return this.maxLatency.get () / 1000000.0;
+    }
+
+
+    /**
+     * Reset all counters.
+     */
+    public void reset ()
+    {
+        this.transfers.set (0);
+        this.bytes.set (0);
+        this.failures.set (0);
+        this.timeouts.set (0);
+        this.coalesced.set (0);
+        this.rejected.set (0);
+        this.skipped.set (0);
+        this.latencySum.set (0);
+        this.maxLatency.set (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return String.format ("Transfers: %d, Bytes: %d, Failures: %d, Timeouts: %d, Coalesced: %d, Rejected: %d, Skipped: %d, Latency: %.2f ms (max %.2f ms)", Long.valueOf (this.getTransfers ()), Long.valueOf (this.getBytes ()), Long.valueOf (this.getFailures ()), Long.valueOf (this.getTimeouts ()), Long.valueOf (this.getCoalesced ()), Long.valueOf (this.getRejected ()), Long.valueOf (this.getSkipped ()), Double.valueOf (this.getAverageLatency ()), Double.valueOf (this.getMaxLatency ()));
+    }
+}
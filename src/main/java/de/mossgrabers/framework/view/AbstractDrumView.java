@@ -83,24 +83,32 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         final ITrackBank tb = model.getTrackBank ();
         tb.addSelectionObserver ( (index, isSelected) -> this.keyManager.clearPressedKeys ());
         tb.addNoteObserver (this::updateNote);
+
+        final ICursorDevice primary = model.getInstrumentDevice ();
+        if (primary != null)
+            this.addObservedComponent (primary.getDrumPadBank ());
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onViewActivate ()
     {
-        super.onActivate ();
-        this.model.getInstrumentDevice ().getDrumPadBank ().setIndication (true);
+        super.onViewActivate ();
+        final ICursorDevice primary = this.model.getInstrumentDevice ();
+        if (primary != null)
+            primary.getDrumPadBank ().setIndication (true);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void onDeactivate ()
+    protected void onViewDeactivate ()
     {
-        super.onDeactivate ();
-        this.model.getInstrumentDevice ().getDrumPadBank ().setIndication (false);
+        super.onViewDeactivate ();
+        final ICursorDevice primary = this.model.getInstrumentDevice ();
+        if (primary != null)
+            primary.getDrumPadBank ().setIndication (false);
     }
 
 
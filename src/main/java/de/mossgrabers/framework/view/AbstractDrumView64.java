@@ -77,6 +77,8 @@ public abstract class AbstractDrumView64<S extends IControlSurface<C>, C extends
         final ITrackBank tb = model.getTrackBank ();
         tb.addSelectionObserver ( (final int index, final boolean isSelected) -> this.clearPressedKeys ());
         tb.addNoteObserver (this::updateNote);
+
+        this.addObservedComponent (model.getDrumDevice64 ());
     }
 
 
@@ -90,23 +92,25 @@ public abstract class AbstractDrumView64<S extends IControlSurface<C>, C extends
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onViewActivate ()
     {
-        super.onActivate ();
+        super.onViewActivate ();
 
         final ICursorDevice drumDevice64 = this.model.getDrumDevice64 ();
-        drumDevice64.getDrumPadBank ().setIndication (true);
+        if (drumDevice64 != null)
+            drumDevice64.getDrumPadBank ().setIndication (true);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void onDeactivate ()
+    protected void onViewDeactivate ()
     {
-        super.onDeactivate ();
+        super.onViewDeactivate ();
 
         final ICursorDevice drumDevice64 = this.model.getDrumDevice64 ();
-        drumDevice64.getDrumPadBank ().setIndication (false);
+        if (drumDevice64 != null)
+            drumDevice64.getDrumPadBank ().setIndication (false);
     }
 
 
@@ -68,10 +68,10 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onViewActivate ()
     {
         this.updateScale ();
-        super.onActivate ();
+        super.onViewActivate ();
     }
 
 
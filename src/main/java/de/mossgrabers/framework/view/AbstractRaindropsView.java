@@ -59,10 +59,10 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onViewActivate ()
     {
         this.updateScale ();
-        super.onActivate ();
+        super.onViewActivate ();
     }
 
 
@@ -200,21 +200,12 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
 
     protected int getNoteDistance (final int row, final int length)
     {
-        int step;
         final INoteClip clip = this.getClip ();
-        for (step = 0; step < length; step++)
-        {
-            if (clip.getStep (step, row) > 0)
-                break;
-        }
-        if (step >= length)
+        final int step = clip.getNextStepWithData (row, 0);
+        if (step < 0 || step >= length)
             return -1;
-        for (int step2 = step + 1; step2 < length; step2++)
-        {
-            if (clip.getStep (step2, row) > 0)
-                return step2 - step;
-        }
-        return -1;
+        final int step2 = clip.getNextStepWithData (row, step + 1);
+        return step2 < 0 || step2 >= length ? -1 : step2 - step;
     }
 
 
@@ -222,19 +213,13 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
     {
         if (start < 0 || start >= length)
             return -1;
-        int step = start;
-        int counter = 0;
         final INoteClip clip = this.getClip ();
-        do
-        {
-            if (clip.getStep (step, row) > 0)
-                return counter;
-            step++;
-            counter++;
-            if (step >= length)
-                step = 0;
-        } while (step != start);
-        return -1;
+        int step = clip.getNextStepWithData (row, start);
+        if (step >= 0 && step < length)
+            return step - start;
+        // Wrap around
+        step = clip.getNextStepWithData (row, 0);
+        return step >= 0 && step < start ? length - start + step : -1;
     }
 
 
@@ -243,19 +228,13 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
         if (start < 0 || start >= length)
             return -1;
         final int s = start == 0 ? length - 1 : start - 1;
-        int step = s;
-        int counter = 0;
         final INoteClip clip = this.getClip ();
-        do
-        {
-            if (clip.getStep (step, row) > 0)
-                return counter;
-            step--;
-            counter++;
-            if (step < 0)
-                step = length - 1;
-        } while (step != s);
-        return -1;
+        int step = clip.getPreviousStepWithData (row, s);
+        if (step >= 0)
+            return s - step;
+        // Wrap around
+        step = clip.getPreviousStepWithData (row, length - 1);
+        return step > s ? s + length - step : -1;
     }
 
 
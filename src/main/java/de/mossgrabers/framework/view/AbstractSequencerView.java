@@ -97,15 +97,15 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
 
         this.numSequencerRows = numSequencerRows;
 
-        this.getClip ();
+        this.addObservedComponent (this.getClip ());
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    protected void onViewActivate ()
     {
-        super.onActivate ();
+        super.onViewActivate ();
 
         this.getClip ().setStepLength (Resolution.getValueAt (this.selectedResolutionIndex));
     }
@@ -16,11 +16,15 @@ import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.mode.Mode;
+import de.mossgrabers.framework.observer.ObserverManagement;
+import de.mossgrabers.framework.observer.ObserverSubscriptions;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.KeyManager;
 
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 
 
@@ -55,6 +59,9 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     protected boolean                                         canScrollUp;
     protected boolean                                         canScrollDown;
 
+    private final List<ObserverManagement>                    observedComponents = new ArrayList<> ();
+    private boolean                                           areComponentsObserved;
+
 
     /**
      * Constructor.
@@ -88,20 +95,79 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
 
     /** {@inheritDoc} */
     @Override
-    public void onActivate ()
+    public final void onActivate ()
     {
-        this.updateNoteMapping ();
+        this.setComponentsObserved (true);
+        this.onViewActivate ();
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void onDeactivate ()
+    public final void onDeactivate ()
+    {
+        this.onViewDeactivate ();
+        this.setComponentsObserved (false);
+    }
+
+
+    /**
+     * Called when the view is activated. The observers of the registered components are already
+     * enabled.
+     */
+    protected void onViewActivate ()
+    {
+        this.updateNoteMapping ();
+    }
+
+
+    /**
+     * Called when the view is deactivated. The observers of the registered components are disabled
+     * afterwards.
+     */
+    protected void onViewDeactivate ()
     {
         // Intentionally empty
     }
 
 
+    /**
+     * Register a model component, which is used by this view. The observers of the component are
+     * only enabled while this view (or another one using it) is active. Call it in the
+     * constructor. Null is ignored, e.g. for a component which is disabled in the model setup.
+     *
+     * @param component The component, may be null
+     */
+    protected void addObservedComponent (final ObserverManagement component)
+    {
+        if (component == null)
+            return;
+        this.observedComponents.add (component);
+        this.model.getObserverSubscriptions ().register (component);
+    }
+
+
+    /**
+     * Acquire or release all components used by this view.
+     *
+     * @param isActive True to acquire, false to release
+     */
+    private void setComponentsObserved (final boolean isActive)
+    {
+        if (this.areComponentsObserved == isActive)
+            return;
+        this.areComponentsObserved = isActive;
+        final ObserverSubscriptions subscriptions = this.model.getObserverSubscriptions ();
+        for (final ObserverManagement component: this.observedComponents)
+        {
+            if (isActive)
+                subscriptions.acquire (component);
+            else
+                subscriptions.release (component);
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void selectTrack (final int index)
@@ -0,0 +1,437 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.benchmark;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
+import de.mossgrabers.framework.controller.display.IGraphicDisplay;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.INoteClip;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
+import de.mossgrabers.framework.graphics.canvas.utils.SendData;
+import de.mossgrabers.headless.framework.daw.HeadlessHost;
+import de.mossgrabers.headless.framework.graphics.PngEncoder;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+
+
+/**
+ * Renders representative Push 2 display frames (mixer, sends, device parameters and options)
+ * without a DAW and reports the frames per second and the allocated memory per frame. Every frame
+ * changes some values (VU meters, parameter values) to force a rendering pass, like it happens
+ * during playback.
+ *
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes de.mossgrabers.headless.benchmark.DisplayRenderBenchmark [frames] [png output folder]
+ * </pre>
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DisplayRenderBenchmark
+{
+    private static final int        WIDTH              = 960;
+    private static final int        HEIGHT             = 160;
+    private static final int        MAX_VALUE          = 1024;
+    private static final int        DEFAULT_FRAMES     = 1000;
+
+    private static final double []  TRACK_COLOR        =
+    {
+        0.85,
+        0.46,
+        0.08
+    };
+
+    private static final String []  TRACK_NAMES        =
+    {
+        "Drums",
+        "Bass",
+        "Lead Synth",
+        "Pad",
+        "Vocals",
+        "FX Return",
+        "Piano",
+        "Strings"
+    };
+
+    private static final Scenario[] SCENARIOS          =
+    {
+        new Scenario ("Mixer", DisplayRenderBenchmark::fillMixer),
+        new Scenario ("Sends", DisplayRenderBenchmark::fillSends),
+        new Scenario ("Device", DisplayRenderBenchmark::fillDevice),
+        new Scenario ("Options", DisplayRenderBenchmark::fillOptions),
+        new Scenario ("Clip", DisplayRenderBenchmark::fillClip)
+    };
+
+    private static final String []  SCENARIO_HEADER    =
+    {
+        "Scenario",
+        "Frames",
+        "FPS",
+        "ms/frame",
+        "Bytes/frame"
+    };
+
+    private static final String     FORMAT             = "%-10s %8s %10s %10s %12s%n";
+
+    private static final int        CLIP_STEPS         = 32;
+    private static int              clipPlayStep       = 0;
+    private static final INoteClip  CLIP               = createClip ();
+
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args Optional number of frames and optional folder to write the last frame of each
+     *            scenario as a PNG file
+     */
+    public static void main (final String [] args)
+    {
+        System.setProperty ("java.awt.headless", "true");
+
+        final int frames = args.length > 0 ? Integer.parseInt (args[0]) : DEFAULT_FRAMES;
+        final File outputFolder = args.length > 1 ? new File (args[1]) : null;
+        if (outputFolder != null && !outputFolder.exists () && !outputFolder.mkdirs ())
+            System.err.println ("Could not create output folder: " + outputFolder);
+
+        final HeadlessHost host = new HeadlessHost ();
+        final BenchmarkDisplay display = new BenchmarkDisplay (host);
+
+        System.out.printf (Locale.US, FORMAT, (Object []) SCENARIO_HEADER);
+        for (final Scenario scenario: SCENARIOS)
+        {
+            // Warm up
+            run (display, scenario, Math.max (1, frames / 10));
+
+            final long [] result = run (display, scenario, frames);
+            final double seconds = result[0] / 1000000000.0;
+            final String allocated = result[1] < 0 ? "n/a" : Long.toString (result[1] / frames);
+            System.out.printf (Locale.US, FORMAT, scenario.name, Integer.toString (frames), String.format (Locale.US, "%.1f", frames / seconds), String.format (Locale.US, "%.3f", seconds * 1000.0 / frames), allocated);
+
+            if (outputFolder != null)
+                display.getBitmap ().encode (new PngEncoder (new File (outputFolder, scenario.name.toLowerCase (Locale.US) + ".png")));
+        }
+
+        display.shutdown ();
+    }
+
+
+    /**
+     * Render a number of frames of a scenario.
+     *
+     * @param display The display to render
+     * @param scenario The scenario which fills the display
+     * @param frames The number of frames to render
+     * @return The elapsed time in nano-seconds and the allocated bytes or -1 if not supported by
+     *         the JVM
+     */
+    private static long [] run (final BenchmarkDisplay display, final Scenario scenario, final int frames)
+    {
+        final long startAllocated = getAllocatedBytes ();
+        final long start = System.nanoTime ();
+        for (int frame = 0; frame < frames; frame++)
+        {
+            scenario.filler.fill (display, frame);
+            display.send ();
+        }
+        final long elapsed = System.nanoTime () - start;
+        final long endAllocated = getAllocatedBytes ();
+        return new long []
+        {
+            elapsed,
+            startAllocated < 0 ? -1 : endAllocated - startAllocated
+        };
+    }
+
+
+    private static void fillMixer (final IGraphicDisplay display, final int frame)
+    {
+        for (int i = 0; i < 8; i++)
+        {
+            final int vu = wave (frame, i);
+            display.addChannelElement (AbstractGraphicDisplay.GRID_ELEMENT_CHANNEL_VOLUME, i == 0 ? "Volume" : "", false, TRACK_NAMES[i], ChannelType.AUDIO, TRACK_COLOR, i == 2, 700, -1, "", MAX_VALUE / 2, -1, "", vu, Math.max (0, vu - 40), i == 3, i == 4, i == 5, true, 1);
+        }
+    }
+
+
+    private static void fillSends (final IGraphicDisplay display, final int frame)
+    {
+        for (int i = 0; i < 8; i++)
+        {
+            final SendData [] sendData = new SendData [4];
+            for (int s = 0; s < sendData.length; s++)
+                sendData[s] = new SendData ("Send " + (s + 1), "", wave (frame + s, i), -1, s == 0);
+            display.addSendsElement (i == 0 ? "Sends" : "", false, TRACK_NAMES[i], ChannelType.AUDIO, TRACK_COLOR, i == 2, sendData, true, true, true);
+        }
+    }
+
+
+    private static void fillDevice (final IGraphicDisplay display, final int frame)
+    {
+        for (int i = 0; i < 8; i++)
+        {
+            final int value = wave (frame, i);
+            display.addParameterElement ("Page " + (i + 1), i == 0, "", "Polysynth", TRACK_COLOR, i == 0, "Param " + (i + 1), value, Integer.toString (value), true, -1);
+        }
+    }
+
+
+    private static void fillOptions (final IGraphicDisplay display, final int frame)
+    {
+        for (int i = 0; i < 8; i++)
+            display.addOptionElement (i == 0 ? "Options" : "", "Item " + (i + frame % 8), i == frame % 8, "", TRACK_NAMES[i], i == 1, false);
+    }
+
+
+    private static void fillClip (final IGraphicDisplay display, final int frame)
+    {
+        // The play cursor moves every 4th frame
+        clipPlayStep = frame / 4 % CLIP_STEPS;
+        display.setMidiClipElement (CLIP, 4);
+    }
+
+
+    /**
+     * Creates a clip with a fixed drum pattern and some longer notes. Only the methods required
+     * for displaying the clip are supported.
+     *
+     * @return The clip
+     */
+    private static INoteClip createClip ()
+    {
+        return (INoteClip) Proxy.newProxyInstance (INoteClip.class.getClassLoader (), new Class<?> []
+        {
+            INoteClip.class
+        }, (proxy, method, args) -> {
+            switch (method.getName ())
+            {
+                case "getNumSteps":
+                    return Integer.valueOf (CLIP_STEPS);
+                case "getStepLength":
+                    return Double.valueOf (0.25);
+                case "getEditPage":
+                    return Integer.valueOf (0);
+                case "isLoopEnabled":
+                    return Boolean.TRUE;
+                case "getLoopStart":
+                case "getPlayStart":
+                    return Double.valueOf (0);
+                case "getLoopLength":
+                case "getPlayEnd":
+                    return Double.valueOf (CLIP_STEPS * 0.25);
+                case "getColor":
+                    return TRACK_COLOR;
+                case "getCurrentStep":
+                    return Integer.valueOf (clipPlayStep);
+                case "getLowerRowWithData":
+                    return Integer.valueOf (36);
+                case "getUpperRowWithData":
+                    return Integer.valueOf (43);
+                case "getStep":
+                    final int step = ((Integer) args[0]).intValue ();
+                    final int row = ((Integer) args[1]).intValue ();
+                    if (row == 43)
+                        return Integer.valueOf (step % 8 == 0 ? INoteClip.NOTE_START : INoteClip.NOTE_CONTINUE);
+                    return Integer.valueOf ((step + row) % (row - 34) == 0 ? INoteClip.NOTE_START : INoteClip.NOTE_OFF);
+                default:
+                    throw new UnsupportedOperationException (method.getName ());
+            }
+        });
+    }
+
+
+    private static int wave (final int frame, final int index)
+    {
+        return (int) ((Math.sin ((frame + index * 7) / 10.0) + 1) / 2 * (MAX_VALUE - 1));
+    }
+
+
+    private static long getAllocatedBytes ()
+    {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean ();
+        if (bean instanceof com.sun.management.ThreadMXBean)
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes (Thread.currentThread ().getId ());
+        return -1;
+    }
+
+
+    /**
+     * Fills the display with the components of one frame.
+     */
+    @FunctionalInterface
+    private interface Filler
+    {
+        void fill (IGraphicDisplay display, int frame);
+    }
+
+
+    /**
+     * A named benchmark scenario.
+     */
+    private static class Scenario
+    {
+        final String name;
+        final Filler filler;
+
+
+        Scenario (final String name, final Filler filler)
+        {
+            this.name = name;
+            this.filler = filler;
+        }
+    }
+
+
+    /**
+     * A display in the size of the Push 2 display, which converts the image into the Push 2 pixel
+     * format on sending but does not transfer it anywhere.
+     */
+    private static class BenchmarkDisplay extends AbstractGraphicDisplay
+    {
+        private final ByteBuffer pixelBuffer = ByteBuffer.allocateDirect (WIDTH * HEIGHT * 2);
+
+
+        BenchmarkDisplay (final IHost host)
+        {
+            super (host, new BenchmarkConfiguration (), new DefaultGraphicsDimensions (WIDTH, HEIGHT, MAX_VALUE), "Benchmark");
+        }
+
+
+        IBitmap getBitmap ()
+        {
+            return this.image;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void notify (final String message)
+        {
+            this.setNotificationMessage (message);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected void send (final IBitmap image)
+        {
+            image.encode ( (imageBuffer, width, height) -> {
+                this.pixelBuffer.clear ();
+                final int size = width * height;
+                for (int i = 0; i < size; i++)
+                {
+                    final int blue = imageBuffer.get () & 0xF8;
+                    final int green = imageBuffer.get () & 0xFC;
+                    final int red = imageBuffer.get () & 0xF8;
+                    imageBuffer.get ();
+                    this.pixelBuffer.putShort ((short) (blue << 8 | green << 3 | red >> 3));
+                }
+                imageBuffer.rewind ();
+            });
+        }
+    }
+
+
+    /**
+     * The default colors of the Push 2 display.
+     */
+    private static class BenchmarkConfiguration implements IGraphicsConfiguration
+    {
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorText ()
+        {
+            return ColorEx.WHITE;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorBackground ()
+        {
+            return ColorEx.fromRGB (83, 83, 83);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorBackgroundDarker ()
+        {
+            return ColorEx.fromRGB (39, 39, 39);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorBackgroundLighter ()
+        {
+            return ColorEx.fromRGB (118, 118, 118);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorBorder ()
+        {
+            return ColorEx.BLACK;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorEdit ()
+        {
+            return ColorEx.fromRGB (240, 127, 17);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorFader ()
+        {
+            return ColorEx.fromRGB (69, 44, 19);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorVu ()
+        {
+            return ColorEx.GREEN;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorRecord ()
+        {
+            return ColorEx.RED;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorSolo ()
+        {
+            return ColorEx.YELLOW;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ColorEx getColorMute ()
+        {
+            return ColorEx.fromRGB (245, 129, 17);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.benchmark;
+
+import de.mossgrabers.controller.osc.OSCConfiguration;
+import de.mossgrabers.controller.osc.OSCControlSurface;
+import de.mossgrabers.controller.osc.module.BrowserModule;
+import de.mossgrabers.controller.osc.module.DeviceModule;
+import de.mossgrabers.controller.osc.module.GlobalModule;
+import de.mossgrabers.controller.osc.module.IModule;
+import de.mossgrabers.controller.osc.module.LayoutModule;
+import de.mossgrabers.controller.osc.module.MarkerModule;
+import de.mossgrabers.controller.osc.module.MidiModule;
+import de.mossgrabers.controller.osc.module.ProjectModule;
+import de.mossgrabers.controller.osc.module.SceneModule;
+import de.mossgrabers.controller.osc.module.TrackModule;
+import de.mossgrabers.controller.osc.module.TransportModule;
+import de.mossgrabers.controller.osc.module.UserModule;
+import de.mossgrabers.controller.osc.module.VuMeterModule;
+import de.mossgrabers.controller.osc.protocol.OSCParser;
+import de.mossgrabers.controller.osc.protocol.OSCWriter;
+import de.mossgrabers.framework.controller.DefaultValueChanger;
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.VuMeterValues;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.OpenSoundControlCaptureReader;
+import de.mossgrabers.framework.osc.OpenSoundControlRecorder;
+import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.framework.utils.KeyManager;
+import de.mossgrabers.headless.framework.daw.HeadlessHost;
+import de.mossgrabers.headless.framework.daw.StandIn;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Replays an OSC capture (see {@link OpenSoundControlRecorder}) into the OSC parser and writer,
+ * which are wired to a stand-in model. The incoming messages are handed to the parser, the
+ * recorded flushes of the first client are replayed as flushes of the writer. Reports the
+ * throughput of the routing and the flushes. The capture is replayed in real-time (1x) or as fast
+ * as possible.
+ *
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes de.mossgrabers.headless.benchmark.OSCReplayer capture-file [fast] [bank page size]
+ * </pre>
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCReplayer
+{
+    private static final int   DEFAULT_PAGE_SIZE = 8;
+
+    private final HeadlessHost host;
+    private final OSCParser    parser;
+    private final OSCWriter    writer;
+    private long               sentMessages;
+
+
+    /**
+     * Run the replay.
+     *
+     * @param args The capture file, optional "fast" and the page size of the banks
+     * @throws IOException Could not read the capture
+     */
+    public static void main (final String [] args) throws IOException
+    {
+        if (args.length == 0)
+        {
+            System.out.println ("Usage: OSCReplayer capture-file [fast] [bank page size]");
+            return;
+        }
+
+        final boolean isFast = args.length > 1 && "fast".equals (args[1]);
+        final int pageSize = args.length > 2 ? Integer.parseInt (args[2]) : DEFAULT_PAGE_SIZE;
+        new OSCReplayer (pageSize).replay (args[0], isFast);
+    }
+
+
+    /**
+     * Constructor. Wires the OSC parser, writer and all modules to a stand-in model.
+     *
+     * @param pageSize The page size of all banks
+     */
+    public OSCReplayer (final int pageSize)
+    {
+        this.host = new HeadlessHost ();
+
+        final DefaultValueChanger valueChanger = new DefaultValueChanger (128, 1, 0.5);
+        final Scales scales = new Scales (valueChanger, 0, 128, 128, 1);
+        scales.setChromatic (true);
+
+        final StandIn standIn = new StandIn (pageSize);
+        standIn.register (IHost.class, this.host);
+        standIn.register (IValueChanger.class, valueChanger);
+        standIn.register (Scales.class, scales);
+        standIn.register (VuMeterValues.class, new VuMeterValues (pageSize, 16384));
+        final IModel model = standIn.create (IModel.class);
+        final IMidiInput input = standIn.create (IMidiInput.class);
+
+        final OSCConfiguration configuration = new OSCConfiguration (this.host, valueChanger);
+        final OSCControlSurface surface = new OSCControlSurface (this.host, configuration, new ColorManager (), input);
+        final KeyManager keyManager = new KeyManager (model, surface.getPadGrid ());
+
+        this.writer = new OSCWriter (this.host, model, new IOpenSoundControlClient ()
+        {
+            /** {@inheritDoc} */
+            @Override
+            public void sendMessage (final IOpenSoundControlMessage message)
+            {
+                OSCReplayer.this.sentMessages++;
+            }
+
+
+            /** {@inheritDoc} */
+            @Override
+            public void sendBundle (final List<IOpenSoundControlMessage> messages)
+            {
+                OSCReplayer.this.sentMessages += messages.size ();
+            }
+        }, configuration);
+        this.parser = new OSCParser (this.host, surface, model, configuration, this.writer, input, keyManager);
+
+        final List<IModule> modules = new ArrayList<> ();
+        modules.add (new TransportModule (this.host, model, surface, this.writer));
+        modules.add (new GlobalModule (this.host, model, this.writer));
+        modules.add (new LayoutModule (this.host, model, this.writer));
+        modules.add (new MarkerModule (this.host, model, this.writer));
+        modules.add (new ProjectModule (this.host, model, this.writer));
+        modules.add (new TrackModule (this.host, model, this.writer, configuration));
+        modules.add (new VuMeterModule (this.host, model, this.writer, configuration));
+        modules.add (new SceneModule (this.host, model, this.writer));
+        modules.add (new DeviceModule (this.host, model, this.writer, configuration));
+        modules.add (new BrowserModule (this.host, model, this.writer));
+        modules.add (new MidiModule (this.host, model, surface, this.writer, keyManager));
+        modules.add (new UserModule (this.host, model, this.writer));
+        modules.forEach (module -> {
+            this.writer.registerModule (module);
+            this.parser.registerModule (module);
+        });
+    }
+
+
+    /**
+     * Replay a capture.
+     *
+     * @param filename The capture file
+     * @param isFast Replay as fast as possible if true, otherwise in real-time
+     * @throws IOException Could not read the capture
+     */
+    public void replay (final String filename, final boolean isFast) throws IOException
+    {
+        long inputMessages = 0;
+        long inputTime = 0;
+        long flushes = 0;
+        long flushTime = 0;
+        long recordedMessages = 0;
+
+        // Initial dump, like on startup
+        this.writer.flush (true);
+        this.sentMessages = 0;
+
+        final long start = System.nanoTime ();
+        try (final OpenSoundControlCaptureReader reader = new OpenSoundControlCaptureReader (this.host, new FileInputStream (filename)))
+        {
+            while (reader.next ())
+            {
+                if (!isFast)
+                    waitUntil (start + reader.getTime ());
+
+                final long time = System.nanoTime ();
+                if (reader.getSource () == OpenSoundControlRecorder.SOURCE_INPUT)
+                {
+                    for (final IOpenSoundControlMessage message: reader.getMessages ())
+                        this.parser.handle (message);
+                    inputMessages += reader.getMessages ().size ();
+                    inputTime += System.nanoTime () - time;
+                }
+                else if (reader.getSource () == 0)
+                {
+                    this.parser.executePendingRoutes ();
+                    this.writer.flush (false);
+                    flushes++;
+                    flushTime += System.nanoTime () - time;
+                    recordedMessages += reader.getMessages ().size ();
+                }
+            }
+        }
+        final long duration = System.nanoTime () - start;
+
+        System.out.printf (Locale.US, "Replay time:       %.1f ms%n", Double.valueOf (duration / 1000000.0));
+        System.out.printf (Locale.US, "Input messages:    %d (%.0f msg/s, %.2f us/msg)%n", Long.valueOf (inputMessages), Double.valueOf (perSecond (inputMessages, inputTime)), Double.valueOf (perItem (inputTime, inputMessages)));
+        System.out.printf (Locale.US, "Flushes:           %d (%.0f flushes/s, %.2f us/flush)%n", Long.valueOf (flushes), Double.valueOf (perSecond (flushes, flushTime)), Double.valueOf (perItem (flushTime, flushes)));
+        System.out.printf (Locale.US, "Sent messages:     %d (recorded: %d)%n", Long.valueOf (this.sentMessages), Long.valueOf (recordedMessages));
+    }
+
+
+    private static void waitUntil (final long time)
+    {
+        final long delay = time - System.nanoTime ();
+        if (delay <= 0)
+            return;
+        try
+        {
+            TimeUnit.NANOSECONDS.sleep (delay);
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+    }
+
+
+    private static double perSecond (final long count, final long nanos)
+    {
+        return nanos == 0 ? 0 : count / (nanos / 1000000000.0);
+    }
+
+
+    private static double perItem (final long nanos, final long count)
+    {
+        return count == 0 ? 0 : nanos / 1000.0 / count;
+    }
+}
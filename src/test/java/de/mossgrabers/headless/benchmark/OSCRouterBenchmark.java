@@ -0,0 +1,254 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.benchmark;
+
+import de.mossgrabers.framework.osc.OpenSoundControlRouter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * Routes typical fader addresses (as sent by TouchOSC or Lemur layouts) and reports the messages
+ * routed per second and the allocated memory per message. The route tree is compared with the
+ * previous approach, which splits the address into a linked list and walks it with string
+ * switches.
+ *
+ * <pre>
+ * mvn test-compile
+ * java -cp target/classes:target/test-classes de.mossgrabers.headless.benchmark.OSCRouterBenchmark [messages]
+ * </pre>
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCRouterBenchmark
+{
+    private static final int       DEFAULT_MESSAGES = 5000000;
+
+    private static final String [] ADDRESSES        =
+    {
+        "/track/1/volume",
+        "/track/3/pan",
+        "/track/8/volume",
+        "/track/2/send/1/volume",
+        "/track/selected/volume",
+        "/device/param/4/value",
+        "/master/volume",
+        "/device/layer/2/pan"
+    };
+
+    private static final String [] HEADER           =
+    {
+        "Router",
+        "Messages",
+        "Msg/s",
+        "ns/msg",
+        "Bytes/msg"
+    };
+
+    private static final String    FORMAT           = "%-10s %10s %12s %8s %10s%n";
+
+    private static long            checksum;
+
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args Optional number of messages
+     */
+    public static void main (final String [] args)
+    {
+        final int messages = args.length > 0 ? Integer.parseInt (args[0]) : DEFAULT_MESSAGES;
+
+        final OpenSoundControlRouter<Handler> router = createRouter ();
+        final int [] numbers = new int [OpenSoundControlRouter.MAX_CAPTURES];
+        final Map<String, Handler> modules = createModules ();
+
+        final Runnable [] benchmarks =
+        {
+            () -> routeTree (router, numbers, messages),
+            () -> routeSplit (modules, messages)
+        };
+        final String [] names =
+        {
+            "Trie",
+            "Split"
+        };
+
+        System.out.printf (Locale.US, FORMAT, (Object []) HEADER);
+        for (int i = 0; i < benchmarks.length; i++)
+        {
+            // Warm up
+            benchmarks[i].run ();
+
+            final long startAllocated = getAllocatedBytes ();
+            final long start = System.nanoTime ();
+            benchmarks[i].run ();
+            final long duration = System.nanoTime () - start;
+            final long endAllocated = getAllocatedBytes ();
+
+            final String allocated = startAllocated < 0 ? "n/a" : String.format (Locale.US, "%.1f", (endAllocated - startAllocated) / (double) messages);
+            System.out.printf (Locale.US, FORMAT, names[i], Integer.toString (messages), String.format (Locale.US, "%.0f", messages / (duration / 1000000000.0)), String.format (Locale.US, "%.1f", duration / (double) messages), allocated);
+        }
+
+        // Prevent that the work gets optimized away
+        if (checksum == 42)
+            System.out.println ();
+    }
+
+
+    private static void routeTree (final OpenSoundControlRouter<Handler> router, final int [] numbers, final int messages)
+    {
+        for (int i = 0; i < messages; i++)
+        {
+            final Handler handler = router.match (ADDRESSES[i % ADDRESSES.length], numbers);
+            if (handler != null)
+                handler.handle (numbers, i);
+        }
+    }
+
+
+    private static void routeSplit (final Map<String, Handler> modules, final int messages)
+    {
+        final int [] numbers = new int [OpenSoundControlRouter.MAX_CAPTURES];
+        for (int i = 0; i < messages; i++)
+        {
+            final LinkedList<String> path = new LinkedList<> ();
+            Collections.addAll (path, ADDRESSES[i % ADDRESSES.length].split ("/"));
+            path.removeFirst ();
+            final String command = path.removeFirst ();
+            final Handler module = modules.get (command);
+            if (module != null && parsePath (command, path, numbers))
+                module.handle (numbers, i);
+        }
+    }
+
+
+    /**
+     * Walks the path like the OSC modules do.
+     *
+     * @param command The first part of the address
+     * @param path The rest of the address
+     * @param numbers Where to store the numbers
+     * @return True if the address is valid
+     */
+    private static boolean parsePath (final String command, final LinkedList<String> path, final int [] numbers)
+    {
+        switch (command)
+        {
+            case "track":
+                final String subCommand = path.removeFirst ();
+                try
+                {
+                    numbers[0] = Integer.parseInt (subCommand);
+                }
+                catch (final NumberFormatException ex)
+                {
+                    if (!"selected".equals (subCommand))
+                        return false;
+                }
+                return parseChannel (path, numbers);
+
+            case "master":
+                return parseChannel (path, numbers);
+
+            case "device":
+                final String deviceCommand = path.removeFirst ();
+                numbers[0] = Integer.parseInt (path.removeFirst ());
+                switch (deviceCommand)
+                {
+                    case "param":
+                        return "value".equals (path.removeFirst ());
+                    case "layer":
+                        return parseChannel (path, numbers);
+                    default:
+                        return false;
+                }
+
+            default:
+                return false;
+        }
+    }
+
+
+    private static boolean parseChannel (final LinkedList<String> path, final int [] numbers)
+    {
+        final String command = path.removeFirst ();
+        switch (command)
+        {
+            case "volume":
+            case "pan":
+                return path.isEmpty ();
+            case "send":
+                numbers[1] = Integer.parseInt (path.removeFirst ());
+                return "volume".equals (path.removeFirst ());
+            default:
+                return false;
+        }
+    }
+
+
+    private static OpenSoundControlRouter<Handler> createRouter ()
+    {
+        final Handler handler = OSCRouterBenchmark::handle;
+        final OpenSoundControlRouter<Handler> router = new OpenSoundControlRouter<> ();
+        router.addRoute ("/track/#/volume", handler);
+        router.addRoute ("/track/#/pan", handler);
+        router.addRoute ("/track/#/send/#/volume", handler);
+        router.addRoute ("/track/selected/volume", handler);
+        router.addRoute ("/track/selected/pan", handler);
+        router.addRoute ("/device/param/#/value", handler);
+        router.addRoute ("/device/layer/#/volume", handler);
+        router.addRoute ("/device/layer/#/pan", handler);
+        router.addRoute ("/master/volume", handler);
+        router.addRoute ("/master/pan", handler);
+        return router;
+    }
+
+
+    private static Map<String, Handler> createModules ()
+    {
+        final Handler handler = OSCRouterBenchmark::handle;
+        final Map<String, Handler> modules = new HashMap<> ();
+        modules.put ("track", handler);
+        modules.put ("master", handler);
+        modules.put ("device", handler);
+        return modules;
+    }
+
+
+    private static void handle (final int [] numbers, final int value)
+    {
+        checksum += numbers[0] + value;
+    }
+
+
+    private static long getAllocatedBytes ()
+    {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean ();
+        if (bean instanceof com.sun.management.ThreadMXBean)
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes (Thread.currentThread ().getId ());
+        return -1;
+    }
+
+
+    /** Dummy handler. */
+    @FunctionalInterface
+    private interface Handler
+    {
+        /**
+         * Handle a message.
+         *
+         * @param numbers The numbers of the address
+         * @param value The value of the message
+         */
+        void handle (int [] numbers, int value);
+    }
+}
@@ -0,0 +1,290 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.framework.daw;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.usb.IUsbDevice;
+import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.headless.framework.graphics.HeadlessBitmap;
+import de.mossgrabers.headless.framework.graphics.HeadlessImage;
+import de.mossgrabers.headless.framework.osc.HeadlessOpenSoundControlMessage;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+/**
+ * A host which runs without a DAW. Supports everything which is required for rendering displays
+ * offline. Scheduled tasks are queued and executed when calling {@link #executeScheduledTasks()},
+ * which makes the execution deterministic. OSC messages can be created but there is no OSC network
+ * connection. USB is not available.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessHost implements IHost
+{
+    private static final Pattern WIDTH_PATTERN  = Pattern.compile ("<svg[^>]*?\\swidth=\"([0-9.]+)", Pattern.DOTALL);
+    private static final Pattern HEIGHT_PATTERN = Pattern.compile ("<svg[^>]*?\\sheight=\"([0-9.]+)", Pattern.DOTALL);
+    private static final int     DEFAULT_SIZE   = 16;
+
+    private final List<Runnable> tasks          = new ArrayList<> ();
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return "Headless";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasPinning ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasCrossfader ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasDrumDevice ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasUserParameters ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasSlotChains ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canEditMarkers ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scheduleTask (final Runnable task, final long delay)
+    {
+        synchronized (this.tasks)
+        {
+            this.tasks.add (task);
+        }
+    }
+
+
+    /**
+     * Execute all tasks which were scheduled since the last call. The delay of the tasks is
+     * ignored.
+     *
+     * @return The number of executed tasks
+     */
+    public int executeScheduledTasks ()
+    {
+        final List<Runnable> pending;
+        synchronized (this.tasks)
+        {
+            if (this.tasks.isEmpty ())
+                return 0;
+            pending = new ArrayList<> (this.tasks);
+            this.tasks.clear ();
+        }
+        for (final Runnable task: pending)
+            task.run ();
+        return pending.size ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text)
+    {
+        System.err.println (text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text, final Throwable ex)
+    {
+        System.err.println (text);
+        ex.printStackTrace ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void println (final String text)
+    {
+        System.out.println (text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showNotification (final String message)
+    {
+        this.println (message);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
+    {
+        throw new UnsupportedOperationException ("OSC is not available in headless mode.");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlServer createOSCServer (final IOpenSoundControlCallback callback)
+    {
+        throw new UnsupportedOperationException ("OSC is not available in headless mode.");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlMessage createOSCMessage (final String address, final List<Object> values)
+    {
+        return new HeadlessOpenSoundControlMessage (address, values);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseOSC ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Loads the SVG from the class path. Since Java2D cannot render SVG files, the image is
+     * approximated by an opaque mask in the size of the SVG document.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public IImage loadSVG (final String imageName, final int scale)
+    {
+        int width = DEFAULT_SIZE;
+        int height = DEFAULT_SIZE;
+
+        try (final InputStream in = HeadlessHost.class.getResourceAsStream ("/images/" + imageName))
+        {
+            if (in == null)
+                this.error ("Could not find image: " + imageName);
+            else
+            {
+                final String content = readAll (in);
+                width = parseSize (WIDTH_PATTERN, content, width);
+                height = parseSize (HEIGHT_PATTERN, content, height);
+            }
+        }
+        catch (final IOException ex)
+        {
+            this.error ("Could not load image: " + imageName, ex);
+        }
+
+        final BufferedImage image = new BufferedImage (width * scale, height * scale, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g = image.createGraphics ();
+        g.fillRect (0, 0, image.getWidth (), image.getHeight ());
+        g.dispose ();
+        return new HeadlessImage (image);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IBitmap createBitmap (final int width, final int height)
+    {
+        return new HeadlessBitmap (width, height);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMemoryBlock createMemoryBlock (final int size)
+    {
+        return new HeadlessMemoryBlock (size);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IUsbDevice getUsbDevice (final int index) throws UsbException
+    {
+        throw new UsbException ("USB is not available in headless mode.");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseUsbDevices ()
+    {
+        // Intentionally empty
+    }
+
+
+    private static String readAll (final InputStream in) throws IOException
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream ();
+        final byte [] buffer = new byte [4096];
+        int length;
+        while ((length = in.read (buffer)) > 0)
+            out.write (buffer, 0, length);
+        return new String (out.toByteArray (), StandardCharsets.UTF_8);
+    }
+
+
+    private static int parseSize (final Pattern pattern, final String content, final int defaultSize)
+    {
+        final Matcher matcher = pattern.matcher (content);
+        if (!matcher.find ())
+            return defaultSize;
+        return Math.max (1, (int) Math.round (Double.parseDouble (matcher.group (1))));
+    }
+}
@@ -0,0 +1,42 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.framework.daw;
+
+import de.mossgrabers.framework.daw.IMemoryBlock;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+
+/**
+ * A block of memory which is backed by a direct byte buffer.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessMemoryBlock implements IMemoryBlock
+{
+    private final ByteBuffer buffer;
+
+
+    /**
+     * Constructor.
+     *
+     * @param size The size of the memory block
+     */
+    public HeadlessMemoryBlock (final int size)
+    {
+        this.buffer = ByteBuffer.allocateDirect (size).order (ByteOrder.LITTLE_ENDIAN);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ByteBuffer createByteBuffer ()
+    {
+        final ByteBuffer view = this.buffer.duplicate ();
+        view.clear ();
+        return view;
+    }
+}
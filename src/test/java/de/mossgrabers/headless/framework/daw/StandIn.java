@@ -0,0 +1,249 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.framework.daw;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Creates stand-ins for interfaces of the DAW model, which allow to run controller code without a
+ * DAW. All setters do nothing. Getters return default values: false, 0, empty strings, empty
+ * arrays and collections, the first constant of enumerations and further stand-ins for
+ * interfaces. The same getter with the same parameters always returns the same stand-in. Banks
+ * have the configured page size and all items exist. Colors (double arrays) are black. Instances
+ * of classes, which are not interfaces (e.g. the scales), can be registered, all other classes are
+ * returned as null.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StandIn
+{
+    private final int                   pageSize;
+    private final Map<Class<?>, Object> instances = new HashMap<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param pageSize The page size of all banks
+     */
+    public StandIn (final int pageSize)
+    {
+        this.pageSize = pageSize;
+    }
+
+
+    /**
+     * Register an instance, which is returned by all getters with the given type.
+     *
+     * @param type The type
+     * @param instance The instance
+     * @param <T> The type
+     */
+    public <T> void register (final Class<T> type, final T instance)
+    {
+        this.instances.put (type, instance);
+    }
+
+
+    /**
+     * Create a stand-in for an interface.
+     *
+     * @param type The interface
+     * @return The stand-in
+     * @param <T> The type of the interface
+     */
+    public <T> T create (final Class<T> type)
+    {
+        return type.cast (Proxy.newProxyInstance (type.getClassLoader (), new Class<?> []
+        {
+            type
+        }, new Handler (type)));
+    }
+
+
+    /**
+     * Get the default value for a return type.
+     *
+     * @param method The called method
+     * @param type The resolved return type
+     * @return The value
+     */
+    private Object getDefaultValue (final Method method, final Class<?> type)
+    {
+        final Object instance = this.instances.get (type);
+        if (instance != null)
+            return instance;
+
+        final String name = method.getName ();
+        if (type == boolean.class)
+            return Boolean.valueOf ("doesExist".equals (name));
+        if (type == int.class)
+            return Integer.valueOf ("getPageSize".equals (name) ? this.pageSize : 0);
+        if (type == long.class)
+            return Long.valueOf (0);
+        if (type == double.class)
+            return Double.valueOf (0);
+        if (type == float.class)
+            return Float.valueOf (0);
+        if (type == short.class)
+            return Short.valueOf ((short) 0);
+        if (type == byte.class)
+            return Byte.valueOf ((byte) 0);
+        if (type == char.class)
+            return Character.valueOf ((char) 0);
+        if (type == String.class)
+            return "";
+        if (type == double [].class)
+            return new double [3];
+        if (type.isArray ())
+            return Array.newInstance (type.getComponentType (), 0);
+        if (type.isEnum ())
+            return type.getEnumConstants ()[0];
+        if (type == List.class || type == Collection.class || type == Iterable.class)
+            return Collections.emptyList ();
+        if (type == Set.class)
+            return Collections.emptySet ();
+        if (type == Map.class)
+            return Collections.emptyMap ();
+        if (type.isInterface () && !type.getName ().startsWith ("java."))
+            return this.create (type);
+        return null;
+    }
+
+
+    /**
+     * Resolve a (generic) type to a class.
+     *
+     * @param type The type
+     * @param owner The interface of the stand-in
+     * @return The class
+     */
+    private static Class<?> resolve (final Type type, final Class<?> owner)
+    {
+        if (type instanceof Class)
+            return (Class<?>) type;
+        if (type instanceof ParameterizedType)
+            return (Class<?>) ((ParameterizedType) type).getRawType ();
+        if (type instanceof GenericArrayType)
+            return Array.newInstance (resolve (((GenericArrayType) type).getGenericComponentType (), owner), 0).getClass ();
+        if (type instanceof WildcardType)
+            return resolve (((WildcardType) type).getUpperBounds ()[0], owner);
+        if (type instanceof TypeVariable)
+        {
+            final TypeVariable<?> variable = (TypeVariable<?>) type;
+            final Type binding = findBinding (owner, variable);
+            return resolve (binding == null ? variable.getBounds ()[0] : binding, owner);
+        }
+        return Object.class;
+    }
+
+
+    /**
+     * Find the type, which is bound to a type variable in the hierarchy of an interface.
+     *
+     * @param type The interface
+     * @param variable The type variable
+     * @return The bound type or null if the variable is not bound in the hierarchy
+     */
+    private static Type findBinding (final Class<?> type, final TypeVariable<?> variable)
+    {
+        for (final Type superType: type.getGenericInterfaces ())
+        {
+            if (!(superType instanceof ParameterizedType))
+            {
+                final Type binding = findBinding ((Class<?>) superType, variable);
+                if (binding != null)
+                    return binding;
+                continue;
+            }
+
+            final ParameterizedType parameterized = (ParameterizedType) superType;
+            final Class<?> raw = (Class<?>) parameterized.getRawType ();
+            final List<TypeVariable<?>> parameters = Arrays.asList (raw.getTypeParameters ());
+            final Type [] arguments = parameterized.getActualTypeArguments ();
+            int index = parameters.indexOf (variable);
+            if (index >= 0)
+                return arguments[index];
+
+            // The variable might be bound further up and be handed down as a parameter of raw
+            final Type binding = findBinding (raw, variable);
+            if (binding == null)
+                continue;
+            index = binding instanceof TypeVariable ? parameters.indexOf (binding) : -1;
+            return index >= 0 ? arguments[index] : binding;
+        }
+        return null;
+    }
+
+
+    /** Handles the calls to a stand-in. */
+    private class Handler implements InvocationHandler
+    {
+        private final Class<?>                  type;
+        private final Map<List<Object>, Object> values = new HashMap<> ();
+
+
+        /**
+         * Constructor.
+         *
+         * @param type The interface of the stand-in
+         */
+        Handler (final Class<?> type)
+        {
+            this.type = type;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public Object invoke (final Object proxy, final Method method, final Object [] args)
+        {
+            switch (method.getName ())
+            {
+                case "equals":
+                    if (args != null && args.length == 1 && method.getParameterTypes ()[0] == Object.class)
+                        return Boolean.valueOf (proxy == args[0]);
+                    break;
+                case "hashCode":
+                    if (args == null)
+                        return Integer.valueOf (System.identityHashCode (proxy));
+                    break;
+                case "toString":
+                    if (args == null)
+                        return "StandIn " + this.type.getSimpleName ();
+                    break;
+                default:
+                    break;
+            }
+
+            final Class<?> returnType = resolve (method.getGenericReturnType (), this.type);
+            if (returnType == void.class)
+                return null;
+
+            final List<Object> key = new ArrayList<> ();
+            key.add (method.getName ());
+            if (args != null)
+                Collections.addAll (key, args);
+            return this.values.computeIfAbsent (key, k -> StandIn.this.getDefaultValue (method, returnType));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.framework.graphics;
+
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IEncoder;
+import de.mossgrabers.framework.graphics.IRenderer;
+import de.mossgrabers.framework.graphics.TextMeasureCache;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+
+/**
+ * Implementation of a bitmap, which is backed by a Java2D buffered image. Can be used to render
+ * displays without a running DAW. The encoded image data has the same memory layout as the ARGB32
+ * bitmaps of Bitwig (blue, green, red, alpha on little endian).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessBitmap implements IBitmap
+{
+    private final BufferedImage    image;
+    private final int []           pixels;
+    private final ByteBuffer       imageBuffer;
+    private final IntBuffer        pixelBuffer;
+    private final TextMeasureCache textCache = new TextMeasureCache ();
+    private String                 title;
+
+
+    /**
+     * Constructor.
+     *
+     * @param width The width of the bitmap
+     * @param height The height of the bitmap
+     */
+    public HeadlessBitmap (final int width, final int height)
+    {
+        this.image = new BufferedImage (width, height, BufferedImage.TYPE_INT_ARGB);
+        this.pixels = ((DataBufferInt) this.image.getRaster ().getDataBuffer ()).getData ();
+        this.imageBuffer = ByteBuffer.allocateDirect (width * height * 4).order (ByteOrder.LITTLE_ENDIAN);
+        this.pixelBuffer = this.imageBuffer.asIntBuffer ();
+    }
+
+
+    /**
+     * Get the encapsulated buffered image.
+     *
+     * @return The image
+     */
+    public BufferedImage getImage ()
+    {
+        return this.image;
+    }
+
+
+    /**
+     * Get the title which was set for the display window.
+     *
+     * @return The title, might be null
+     */
+    public String getDisplayWindowTitle ()
+    {
+        return this.title;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDisplayWindowTitle (final String title)
+    {
+        this.title = title;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showDisplayWindow ()
+    {
+        // There is no window in headless mode
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void render (final IRenderer renderer)
+    {
+        final Graphics2D g = this.image.createGraphics ();
+        try
+        {
+            renderer.render (new HeadlessGraphicsContext (g, this.textCache));
+        }
+        finally
+        {
+            g.dispose ();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void encode (final IEncoder encoder)
+    {
+        this.pixelBuffer.clear ();
+        this.pixelBuffer.put (this.pixels);
+        this.imageBuffer.clear ();
+        encoder.encode (this.imageBuffer, this.image.getWidth (), this.image.getHeight ());
+    }
+}
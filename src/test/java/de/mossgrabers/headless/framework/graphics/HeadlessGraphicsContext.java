@@ -0,0 +1,367 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.framework.graphics;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
+import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.graphics.TextMeasureCache;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+
+
+/**
+ * Implementation for the graphics context based on Java2D.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessGraphicsContext implements IGraphicsContext
+{
+    private static final Font        BASE_FONT   = new Font (Font.SANS_SERIF, Font.PLAIN, 12);
+    private static final BasicStroke LINE_STROKE = new BasicStroke (1);
+
+    private final Graphics2D         gc;
+    private final TextMeasureCache   textCache;
+    private final Rectangle2D        rectangle   = new Rectangle2D.Double ();
+    private final Line2D             line        = new Line2D.Double ();
+    private final Ellipse2D          ellipse     = new Ellipse2D.Double ();
+    private final RoundRectangle2D   roundRect   = new RoundRectangle2D.Double ();
+    private final Path2D             path        = new Path2D.Double ();
+    private BasicStroke              stroke      = LINE_STROKE;
+
+
+    /**
+     * Constructor.
+     *
+     * @param gc The Java2D graphics context
+     * @param textCache The cache for text measurements, which outlives a single rendering pass
+     */
+    public HeadlessGraphicsContext (final Graphics2D gc, final TextMeasureCache textCache)
+    {
+        this.gc = gc;
+        this.textCache = textCache;
+
+        this.gc.setRenderingHint (RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        this.gc.setRenderingHint (RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        this.gc.setFont (BASE_FONT);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawLine (final double x1, final double y1, final double x2, final double y2, final ColorEx color)
+    {
+        this.setColor (color);
+        this.gc.setStroke (LINE_STROKE);
+        this.line.setLine (x1, y1, x2, y2);
+        this.gc.draw (this.line);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRectangle (final double x, final double y, final double width, final double height, final ColorEx color)
+    {
+        this.setColor (color);
+        this.rectangle.setRect (x, y, Math.max (0, width), Math.max (0, height));
+        this.gc.fill (this.rectangle);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color)
+    {
+        this.strokeRectangle (left, top, width, height, color, 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color, final double lineWidth)
+    {
+        // Turn off antialias or otherwise we do not get a single line
+        this.gc.setRenderingHint (RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        this.setColor (color);
+        this.gc.setStroke (this.getStroke ((float) lineWidth));
+        this.rectangle.setRect (left, top, width, height);
+        this.gc.draw (this.rectangle);
+        this.gc.setRenderingHint (RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx backgroundColor)
+    {
+        this.setColor (backgroundColor);
+        this.roundRect.setRoundRect (left, top, width, height, 2 * radius, 2 * radius);
+        this.gc.fill (this.roundRect);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillGradientRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx color1, final ColorEx color2)
+    {
+        final Paint oldPaint = this.gc.getPaint ();
+        this.gc.setPaint (new GradientPaint (0, (float) top, toColor (color1), 0, (float) (top + height), toColor (color2)));
+        this.roundRect.setRoundRect (left, top, width, height, 2 * radius, 2 * radius);
+        this.gc.fill (this.roundRect);
+        this.gc.setPaint (oldPaint);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3, final ColorEx lineColor)
+    {
+        this.setColor (lineColor);
+        this.path.reset ();
+        this.path.moveTo (x1, y1);
+        this.path.lineTo (x2, y2);
+        this.path.lineTo (x3, y3);
+        this.path.closePath ();
+        this.gc.fill (this.path);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillCircle (final double x, final double y, final double radius, final ColorEx fillColor)
+    {
+        this.setColor (fillColor);
+        final double r = Math.max (0, radius);
+        this.ellipse.setFrame (x - r, y - r, 2 * r, 2 * r);
+        this.gc.fill (this.ellipse);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInBounds (text, x, y, width, height, alignment, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final Font oldFont = this.gc.getFont ();
+        this.gc.setFont (BASE_FONT.deriveFont ((float) fontSize));
+
+        // We need to calculate the text height from a character which has no ascent, since
+        // drawString always draws the text on the baseline of the font!
+        final double h = this.getTextHeight (fontSize);
+        final double w = this.getTextWidth (text, fontSize);
+        final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
+        final double posY = y + (height + h) / 2;
+
+        final Shape oldClip = this.gc.getClip ();
+        this.gc.clip (new Rectangle2D.Double (x, y, width, height));
+
+        if (backgroundColor != null)
+        {
+            final double inset = 12.0;
+            this.fillRoundedRectangle (posX - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
+        }
+
+        this.setColor (color);
+        this.gc.drawString (text, (float) posX, (float) posY);
+        this.gc.setClip (oldClip);
+        this.gc.setFont (oldFont);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInHeight (text, x, y, height, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final Font oldFont = this.gc.getFont ();
+        this.gc.setFont (BASE_FONT.deriveFont ((float) fontSize));
+
+        final double h = this.getTextHeight (fontSize);
+        final double posY = y + (height + h) / 2;
+
+        if (backgroundColor != null)
+        {
+            final double w = this.getTextWidth (text, fontSize);
+            final double inset = 12.0;
+            this.fillRoundedRectangle (x - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
+        }
+
+        this.setColor (color);
+        this.gc.drawString (text, (float) x, (float) posY);
+        this.gc.setFont (oldFont);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawImage (final IImage icon, final double x, final double y)
+    {
+        this.gc.drawImage (((HeadlessImage) icon).getImage (), (int) Math.round (x), (int) Math.round (y), null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void maskImage (final IImage icon, final double x, final double y, final ColorEx maskColor)
+    {
+        final BufferedImage tinted = ((HeadlessImage) icon).getTintedImage (maskColor, toColor (maskColor));
+        final Composite oldComposite = this.gc.getComposite ();
+        this.gc.setComposite (AlphaComposite.SrcOver);
+        this.gc.drawImage (tinted, (int) Math.round (x), (int) Math.round (y), null);
+        this.gc.setComposite (oldComposite);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clip (final double left, final double top, final double width, final double height)
+    {
+        this.gc.clip (new Rectangle2D.Double (left, top, width, height));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetClip ()
+    {
+        this.gc.setClip (null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double calculateFontSize (final double maxHeight, final double maxWidth)
+    {
+        final double cachedSize = this.textCache.getFontSize (maxHeight, maxWidth);
+        if (!Double.isNaN (cachedSize))
+            return cachedSize;
+
+        final String maxString = "G#5";
+        final double minSize = 12.0;
+
+        final Font oldFont = this.gc.getFont ();
+        double size = minSize;
+        double fittingSize = -1;
+        while (size < maxHeight)
+        {
+            this.gc.setFont (BASE_FONT.deriveFont ((float) size));
+            final double width = this.getTextWidth (maxString, size);
+            if (width > maxWidth)
+                break;
+            fittingSize = size;
+            size += 1.0;
+        }
+        this.gc.setFont (oldFont);
+
+        this.textCache.putFontSize (maxHeight, maxWidth, fittingSize);
+        return fittingSize;
+    }
+
+
+    /**
+     * Get the width of a text. The font must already be set on the graphics context.
+     *
+     * @param text The text
+     * @param fontSize The current font size
+     * @return The width of the text
+     */
+    private double getTextWidth (final String text, final double fontSize)
+    {
+        double width = this.textCache.getTextWidth (text, fontSize);
+        if (Double.isNaN (width))
+        {
+            width = this.gc.getFont ().getStringBounds (text, this.gc.getFontRenderContext ()).getWidth ();
+            this.textCache.putTextWidth (text, fontSize, width);
+        }
+        return width;
+    }
+
+
+    /**
+     * Get the height of a character which has no descent. The font must already be set on the
+     * graphics context.
+     *
+     * @param fontSize The current font size
+     * @return The height
+     */
+    private double getTextHeight (final double fontSize)
+    {
+        double height = this.textCache.getTextHeight (fontSize);
+        if (Double.isNaN (height))
+        {
+            height = this.gc.getFont ().createGlyphVector (this.gc.getFontRenderContext (), "T").getVisualBounds ().getHeight ();
+            this.textCache.putTextHeight (fontSize, height);
+        }
+        return height;
+    }
+
+
+    private void setColor (final ColorEx color)
+    {
+        this.gc.setColor (toColor (color));
+    }
+
+
+    private static Color toColor (final ColorEx color)
+    {
+        return new Color (clamp (color.getRed ()), clamp (color.getGreen ()), clamp (color.getBlue ()));
+    }
+
+
+    private static float clamp (final double value)
+    {
+        return (float) Math.max (0, Math.min (1, value));
+    }
+
+
+    /**
+     * Get a stroke of the given width. The last one is re-used, since the width rarely changes.
+     *
+     * @param lineWidth The width of the stroke
+     * @return The stroke
+     */
+    private BasicStroke getStroke (final float lineWidth)
+    {
+        if (this.stroke.getLineWidth () != lineWidth)
+            this.stroke = new BasicStroke (lineWidth);
+        return this.stroke;
+    }
+}
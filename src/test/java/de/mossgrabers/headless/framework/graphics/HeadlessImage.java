@@ -0,0 +1,91 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.framework.graphics;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.graphics.IImage;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * An implementation for an image, which is backed by a Java2D buffered image.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessImage implements IImage
+{
+    private final BufferedImage               image;
+    private final Map<ColorEx, BufferedImage> tintedImages = new HashMap<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param image The buffered image, should be of type ARGB to be usable as a mask
+     */
+    public HeadlessImage (final BufferedImage image)
+    {
+        this.image = image;
+    }
+
+
+    /**
+     * Get the encapsulated buffered image.
+     *
+     * @return The image
+     */
+    public BufferedImage getImage ()
+    {
+        return this.image;
+    }
+
+
+    /**
+     * Get a version of the image, which uses the alpha channel of the image as a mask for the given
+     * color. The tinted image is created on first use and then cached.
+     *
+     * @param color The color to use
+     * @param awtColor The same color as a Java2D color
+     * @return The tinted image
+     */
+    public BufferedImage getTintedImage (final ColorEx color, final Color awtColor)
+    {
+        synchronized (this.tintedImages)
+        {
+            return this.tintedImages.computeIfAbsent (color, key -> {
+                final BufferedImage tinted = new BufferedImage (this.image.getWidth (), this.image.getHeight (), BufferedImage.TYPE_INT_ARGB);
+                final Graphics2D g = tinted.createGraphics ();
+                g.drawImage (this.image, 0, 0, null);
+                g.setComposite (AlphaComposite.SrcIn);
+                g.setColor (awtColor);
+                g.fillRect (0, 0, tinted.getWidth (), tinted.getHeight ());
+                g.dispose ();
+                return tinted;
+            });
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getWidth ()
+    {
+        return this.image.getWidth ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHeight ()
+    {
+        return this.image.getHeight ();
+    }
+}
@@ -0,0 +1,67 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.framework.graphics;
+
+import de.mossgrabers.framework.graphics.IEncoder;
+
+import javax.imageio.ImageIO;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+
+/**
+ * Encodes the bitmap data (blue, green, red, alpha) into a PNG file. Useful for comparing
+ * rendering results of the display components.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PngEncoder implements IEncoder
+{
+    private final File file;
+
+
+    /**
+     * Constructor.
+     *
+     * @param file The file to write to
+     */
+    public PngEncoder (final File file)
+    {
+        this.file = file;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void encode (final ByteBuffer imageBuffer, final int width, final int height)
+    {
+        final BufferedImage image = new BufferedImage (width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++)
+        {
+            for (int x = 0; x < width; x++)
+            {
+                final int blue = imageBuffer.get () & 0xFF;
+                final int green = imageBuffer.get () & 0xFF;
+                final int red = imageBuffer.get () & 0xFF;
+                imageBuffer.get (); // Drop unused Alpha
+                image.setRGB (x, y, red << 16 | green << 8 | blue);
+            }
+        }
+        imageBuffer.rewind ();
+
+        try
+        {
+            ImageIO.write (image, "png", this.file);
+        }
+        catch (final IOException ex)
+        {
+            throw new UncheckedIOException ("Could not write image " + this.file, ex);
+        }
+    }
+}
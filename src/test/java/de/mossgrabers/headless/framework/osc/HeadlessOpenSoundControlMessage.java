@@ -0,0 +1,50 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.headless.framework.osc;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+import java.util.List;
+
+
+/**
+ * Data class for storing the values of an OSC message.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessOpenSoundControlMessage implements IOpenSoundControlMessage
+{
+    private final String    address;
+    private final Object [] values;
+
+
+    /**
+     * Constructor.
+     *
+     * @param address The OSC address
+     * @param values The values
+     */
+    public HeadlessOpenSoundControlMessage (final String address, final List<Object> values)
+    {
+        this.address = address;
+        this.values = values == null ? new Object [0] : values.toArray ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getAddress ()
+    {
+        return this.address;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object [] getValues ()
+    {
+        return this.values;
+    }
+}